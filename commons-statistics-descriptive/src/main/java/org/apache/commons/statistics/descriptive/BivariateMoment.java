@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Computes the first moments (arithmetic means) of paired values {@code (x, y)} and the
+ * sum of the products of the deviations from the means. Optionally computes the sums of
+ * squared deviations of {@code x} and {@code y}.
+ *
+ * <p>Uses the updating formulas of {@link FirstMoment} and {@link SumOfSquaredDeviations}
+ * extended to the co-moment:
+ *
+ * <p>Let
+ * <ul>
+ *  <li> dx = x - (previous mean of x)
+ *  <li> n = number of pairs (including the current pair)
+ * </ul>
+ * <p>Then
+ * <ul>
+ *  <li> mx = mx + dx / n
+ *  <li> my = my + dy / n
+ *  <li> Cxy = Cxy + dx * (y - my)
+ * </ul>
+ *
+ * <p>Combination of two instances uses the pairwise formula of Chan et al (1979).
+ * The means are computed using scaling to protect from overflow for all finite input.
+ *
+ * <p>References:
+ * <ul>
+ *   <li>Chan, T. F., Golub, G. H. and LeVeque, R. J. (1979)
+ *       Updating formulae and a pairwise algorithm for computing sample variances.
+ *       Technical Report STAN-CS-79-773,
+ *       Department of Computer Science, Stanford University.
+ *   <li>Pébay, P. (2008)
+ *       Formulas for Robust, One-Pass Parallel Computation of Covariances and Arbitrary-Order
+ *       Statistical Moments.
+ *       Technical Report SAND2008-6212, Sandia National Laboratories.
+ *       <a href="https://doi.org/10.2172/1028931">doi: 10.2172/1028931</a>
+ * </ul>
+ *
+ * @since 1.2
+ */
+final class BivariateMoment {
+    /** The downscale constant. Used to avoid overflow for all finite input. */
+    private static final double DOWNSCALE = 0.5;
+    /** The rescale constant for the product of two half deviations. */
+    private static final double RESCALE_SQUARED = 4;
+
+    /** Set to true to compute the sums of squared deviations. */
+    private final boolean squares;
+    /** Count of pairs that have been added. */
+    private long n;
+    /** Mean of the x values. Stored as a half value to prevent overflow. */
+    private double mx;
+    /** Mean of the y values. Stored as a half value to prevent overflow. */
+    private double my;
+    /** Sum of the products of the deviations from the means. */
+    private double cxy;
+    /** Sum of the squared deviations of the x values. */
+    private double cxx;
+    /** Sum of the squared deviations of the y values. */
+    private double cyy;
+
+    /**
+     * Create an instance.
+     *
+     * @param squares Set to true to compute the sums of squared deviations.
+     */
+    BivariateMoment(boolean squares) {
+        this.squares = squares;
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the pair {@code (x, y)}.
+     *
+     * @param x Value.
+     * @param y Value.
+     */
+    void accept(double x, double y) {
+        final double hx = x * DOWNSCALE;
+        final double hy = y * DOWNSCALE;
+        // Half deviations from the previous means
+        final double dx = hx - mx;
+        final double dy = hy - my;
+        final double nn = ++n;
+        mx += dx / nn;
+        my += dy / nn;
+        // Note: The full deviation products may overflow; the sums will be non-finite.
+        cxy += dx * (hy - my) * RESCALE_SQUARED;
+        if (squares) {
+            cxx += dx * (hx - mx) * RESCALE_SQUARED;
+            cyy += dy * (hy - my) * RESCALE_SQUARED;
+        }
+    }
+
+    /**
+     * Combines the state of another {@code BivariateMoment} into this one.
+     * The other instance must compute the same moments.
+     *
+     * @param other Another {@code BivariateMoment} to be combined.
+     * @return {@code this} instance after combining {@code other}.
+     */
+    BivariateMoment combine(BivariateMoment other) {
+        final long nb = other.n;
+        if (nb == 0) {
+            return this;
+        }
+        final long na = n;
+        if (na == 0) {
+            n = nb;
+            mx = other.mx;
+            my = other.my;
+            cxy = other.cxy;
+            cxx = other.cxx;
+            cyy = other.cyy;
+            return this;
+        }
+        final double nn = (double) na + nb;
+        n = na + nb;
+        // Half representation ensures the differences are finite
+        final double dx = other.mx - mx;
+        final double dy = other.my - my;
+        final double r = nb / nn;
+        mx += dx * r;
+        my += dy * r;
+        // Factor na * nb / n
+        final double f = na * r;
+        cxy += other.cxy + dx * dy * f * RESCALE_SQUARED;
+        if (squares) {
+            cxx += other.cxx + dx * dx * f * RESCALE_SQUARED;
+            cyy += other.cyy + dy * dy * f * RESCALE_SQUARED;
+        }
+        return this;
+    }
+
+    /**
+     * Gets the number of pairs that have been added.
+     *
+     * @return the count
+     */
+    long getN() {
+        return n;
+    }
+
+    /**
+     * Returns {@code true} if the means of {@code x} and {@code y} are finite.
+     * This is {@code false} if any value is non-finite.
+     *
+     * @return true if the means are finite
+     */
+    boolean isFinite() {
+        // Means are half values so any finite mean can be rescaled.
+        return Double.isFinite(mx + my);
+    }
+
+    /**
+     * Gets the sum of the products of the deviations from the means.
+     *
+     * @return the sum of the products of the deviations
+     */
+    double getSumOfProducts() {
+        return cxy;
+    }
+
+    /**
+     * Gets the sum of the squared deviations of the {@code x} values.
+     * This is zero if the sums of squared deviations are not computed.
+     *
+     * @return the sum of the squared deviations of x
+     */
+    double getSumOfSquaredDeviationsX() {
+        return cxx;
+    }
+
+    /**
+     * Gets the sum of the squared deviations of the {@code y} values.
+     * This is zero if the sums of squared deviations are not computed.
+     *
+     * @return the sum of the squared deviations of y
+     */
+    double getSumOfSquaredDeviationsY() {
+        return cyy;
+    }
+}
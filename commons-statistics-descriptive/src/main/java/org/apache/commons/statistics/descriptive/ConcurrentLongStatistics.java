@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Records {@code long} values for {@link LongStatistics} from multiple threads.
+ *
+ * <p>Values are recorded in a table of cells. Each cell holds a {@link LongStatistics}
+ * instance guarded by its own lock. A thread records a value in a cell selected
+ * using the thread identity; if the cell is in use by another thread then another
+ * cell is used. Contention between threads is thus spread across the cells and
+ * throughput scales with the number of threads.
+ *
+ * <p>The statistics are computed from a {@link #snapshot() snapshot} that
+ * {@link LongStatistics#combine(LongStatistics) combines} the cells. The
+ * snapshot is not atomic: values recorded concurrently may or may not be included.
+ * The result may differ from a single {@link LongStatistics} instance that
+ * records the same values due to the combination of partial results. The difference
+ * is expected to be within the rounding error of the computation of each statistic.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see LongStatistics
+ * @since 1.2
+ */
+public final class ConcurrentLongStatistics implements LongConsumer {
+    /** Builder for empty statistics. */
+    private final LongStatistics.Builder builder;
+    /** Cells. */
+    private final StripedCells<LongStatistics> cells;
+
+    /**
+     * Create an instance.
+     *
+     * @param builder Builder for empty statistics.
+     */
+    private ConcurrentLongStatistics(LongStatistics.Builder builder) {
+        this.builder = builder;
+        cells = new StripedCells<>(builder::build);
+    }
+
+    /**
+     * Returns a new instance configured to compute the specified {@code statistics}.
+     *
+     * @param statistics Statistics to compute.
+     * @return the instance
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute.
+     */
+    public static ConcurrentLongStatistics of(Statistic... statistics) {
+        return new ConcurrentLongStatistics(LongStatistics.builder(statistics));
+    }
+
+    /**
+     * Returns a concurrent {@link Collector} that computes the specified
+     * {@code statistics} of the {@code long} values extracted from the input
+     * elements using the {@code mapper}.
+     *
+     * <p>The collector is {@link Collector.Characteristics#CONCURRENT concurrent}
+     * and {@link Collector.Characteristics#UNORDERED unordered}: on a parallel
+     * stream all threads record values in a single container and partial results
+     * are not combined. The result is a {@link #snapshot() snapshot} of the
+     * container.
+     *
+     * @param <T> the type of the input elements
+     * @param mapper Function to extract the value from an element.
+     * @param statistics Statistics to compute.
+     * @return the collector
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute.
+     * @see LongStatistics#collector(ToLongFunction, Statistic...)
+     */
+    public static <T> Collector<T, ConcurrentLongStatistics, LongStatistics> collector(ToLongFunction<? super T> mapper,
+                                                                                       Statistic... statistics) {
+        Objects.requireNonNull(mapper, "mapper");
+        final LongStatistics.Builder b = LongStatistics.builder(statistics);
+        return Collector.of(() -> new ConcurrentLongStatistics(b),
+            (s, t) -> s.accept(mapper.applyAsLong(t)),
+            ConcurrentLongStatistics::combine,
+            ConcurrentLongStatistics::snapshot,
+            Collector.Characteristics.CONCURRENT,
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Updates the state of the statistics to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(long value) {
+        final int i = cells.acquire();
+        try {
+            cells.get(i).accept(value);
+        } finally {
+            cells.release(i);
+        }
+    }
+
+    /**
+     * Updates the state of the statistics to reflect the addition of the specified
+     * range of {@code values}. The values are recorded in a single cell.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public void accept(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        final int i = cells.acquire();
+        try {
+            cells.get(i).accept(values, from, to);
+        } finally {
+            cells.release(i);
+        }
+    }
+
+    /**
+     * Combines the state of the {@code other} instance into this instance.
+     * The values of the other instance are recorded in a single cell.
+     *
+     * @param other Other instance.
+     * @return {@code this} instance
+     */
+    ConcurrentLongStatistics combine(ConcurrentLongStatistics other) {
+        final LongStatistics s = other.snapshot();
+        final int i = cells.acquire();
+        try {
+            cells.get(i).combine(s);
+        } finally {
+            cells.release(i);
+        }
+        return this;
+    }
+
+    /**
+     * Return the count of values recorded.
+     *
+     * @return the count of values
+     */
+    public long getCount() {
+        return cells.collect(new long[1], (c, s) -> c[0] += s.getCount())[0];
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the values recorded.
+     *
+     * <p>The snapshot is a new instance; it is not updated by values recorded after
+     * this method returns.
+     *
+     * @return the statistics
+     */
+    public LongStatistics snapshot() {
+        return cells.collect(builder.build(), LongStatistics::combine);
+    }
+}
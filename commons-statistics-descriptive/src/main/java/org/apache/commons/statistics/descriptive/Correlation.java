@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Computes the Pearson product-moment correlation coefficient of the available paired
+ * values:
+ *
+ * <p>\[ r = \frac{\sum_{i=1}^n (x_i-\overline{x})(y_i-\overline{y})}
+ *                {\sqrt{\sum_{i=1}^n (x_i-\overline{x})^2} \sqrt{\sum_{i=1}^n (y_i-\overline{y})^2}} \]
+ *
+ * <p>where \( \overline{x} \) and \( \overline{y} \) are the sample means, and \( n \) is
+ * the number of pairs.
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if less than two pairs are added.
+ *   <li>The result is {@code NaN} if any of the values is {@code NaN} or infinite.
+ *   <li>The result is {@code NaN} if the {@code x} or {@code y} values have zero variance.
+ *   <li>The result is {@code NaN} if any sum of deviations is infinite.
+ *   <li>The result is in the range {@code [-1, 1]}.
+ * </ul>
+ *
+ * <p>The means and the sums of the squared and product deviations are computed in a single
+ * pass using the updating formulas of {@link Variance}. The means are computed using
+ * scaling to protect from overflow for all finite input.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>Note that this instance is not synchronized.</strong> If
+ * multiple threads access an instance of this class concurrently, and at least
+ * one of the threads invokes the {@link #accept(double, double) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as the {@code combiner} function of a {@link java.util.stream.Collector Collector} on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Pearson_correlation_coefficient">
+ *   Pearson correlation coefficient (Wikipedia)</a>
+ * @see Covariance
+ * @since 1.2
+ */
+public final class Correlation implements StatisticResult, StatisticAccumulator<Correlation> {
+    /** Moments of the paired values. */
+    private final BivariateMoment moment = new BivariateMoment(true);
+
+    /**
+     * Create an instance.
+     */
+    private Correlation() {
+        // No-op
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @return {@code Correlation} instance.
+     */
+    public static Correlation create() {
+        return new Correlation();
+    }
+
+    /**
+     * Returns an instance populated using the paired values {@code (x[i], y[i])}.
+     *
+     * @param x Values.
+     * @param y Values.
+     * @return {@code Correlation} instance.
+     * @throws IllegalArgumentException if the values have different lengths
+     */
+    public static Correlation of(double[] x, double[] y) {
+        Statistics.checkPairedLength(x.length, y.length);
+        final Correlation s = new Correlation();
+        for (int i = 0; i < x.length; i++) {
+            s.accept(x[i], y[i]);
+        }
+        return s;
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the pair {@code (x, y)}.
+     *
+     * @param x Value.
+     * @param y Value.
+     */
+    public void accept(double x, double y) {
+        moment.accept(x, y);
+    }
+
+    /**
+     * Gets the number of pairs that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return moment.getN();
+    }
+
+    /**
+     * Gets the correlation of all input pairs.
+     *
+     * <p>When less than two pairs have been added, the result is {@code NaN}.
+     *
+     * @return correlation of all pairs.
+     */
+    @Override
+    public double getAsDouble() {
+        if (moment.getN() < 2 || !moment.isFinite()) {
+            return Double.NaN;
+        }
+        return compute(moment.getSumOfProducts(),
+                       moment.getSumOfSquaredDeviationsX(),
+                       moment.getSumOfSquaredDeviationsY());
+    }
+
+    /**
+     * Compute the correlation from the sums of the product and squared deviations.
+     * The sums may be scaled by the same factor.
+     *
+     * @param sxy Sum of the products of the deviations.
+     * @param sxx Sum of the squared deviations of x.
+     * @param syy Sum of the squared deviations of y.
+     * @return the correlation
+     */
+    static double compute(double sxy, double sxx, double syy) {
+        // Zero or non-finite variance (NaN fails the comparison)
+        if (!(sxx > 0 && syy > 0 && sxx < Double.POSITIVE_INFINITY &&
+              syy < Double.POSITIVE_INFINITY && Double.isFinite(sxy))) {
+            return Double.NaN;
+        }
+        // Separate square roots avoid overflow of the product
+        final double r = sxy / Math.sqrt(sxx) / Math.sqrt(syy);
+        // Clip round-off
+        return Math.max(-1, Math.min(1, r));
+    }
+
+    @Override
+    public Correlation combine(Correlation other) {
+        moment.combine(other.moment);
+        return this;
+    }
+}
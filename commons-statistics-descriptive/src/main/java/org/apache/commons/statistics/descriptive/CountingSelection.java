@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+
+/**
+ * Selection of the values at sorted indices using a histogram of counts.
+ *
+ * <p>The minimum and maximum of the values are computed. If the range of the
+ * values is small then the count of each value is computed and the values at the
+ * sorted indices are found using the cumulative count. The selection is
+ * {@code O(n)} and the values are not modified.
+ *
+ * <p>The range is small if it is not larger than the number of values, and not
+ * larger than a fixed limit so the histogram remains in the processor cache. The
+ * scan for the minimum and maximum stops as soon as the range is too large; data
+ * with a wide range is typically rejected after a few values.
+ * Small data is not supported as it is faster to partition the values.
+ *
+ * @since 1.2
+ */
+final class CountingSelection {
+    /** Minimum size of data to use a histogram. */
+    static final int MIN_SIZE = 64;
+    /** Maximum range of the values to use a histogram. */
+    static final int MAX_RANGE = 1 << 16;
+
+    /** No instances. */
+    private CountingSelection() {}
+
+    /**
+     * Gets the values at the indices {@code k} in the equivalent fully sorted range
+     * {@code [from, to)}. The values are not modified.
+     *
+     * <p>Returns {@code null} if the size of the data is too small, or the range
+     * of the values is too large, to use a histogram.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param x Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param k Indices.
+     * @return the values at the indices (or null)
+     */
+    static int[] select(int[] x, int from, int to, int... k) {
+        if (to - from < MIN_SIZE) {
+            return null;
+        }
+        // Maximum of (max - min). The scan stops when the range is too large.
+        final long limit = Math.min(to - from, MAX_RANGE) - 1;
+        int min = x[from];
+        int max = min;
+        for (int i = from + 1; i < to; i++) {
+            final int v = x[i];
+            if (v < min) {
+                min = v;
+            } else if (v > max) {
+                max = v;
+            } else {
+                continue;
+            }
+            if ((long) max - min > limit) {
+                return null;
+            }
+        }
+        final int[] counts = new int[max - min + 1];
+        for (int i = from; i < to; i++) {
+            counts[x[i] - min]++;
+        }
+        // Sorted unique targets relative to the start of the range
+        final int[] targets = Arrays.stream(k).map(i -> i - from).sorted().distinct().toArray();
+        final int[] values = new int[targets.length];
+        // Walk the cumulative count
+        int t = 0;
+        long sum = 0;
+        for (int j = 0; j < counts.length && t < targets.length; j++) {
+            sum += counts[j];
+            while (t < targets.length && targets[t] < sum) {
+                values[t++] = min + j;
+            }
+        }
+        final int[] result = new int[k.length];
+        for (int i = 0; i < k.length; i++) {
+            result[i] = values[Arrays.binarySearch(targets, k[i] - from)];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Computes the covariance of the available paired values. The default implementation
+ * uses the following definition of the <em>sample covariance</em>:
+ *
+ * <p>\[ \tfrac{1}{n-1} \sum_{i=1}^n (x_i-\overline{x})(y_i-\overline{y}) \]
+ *
+ * <p>where \( \overline{x} \) and \( \overline{y} \) are the sample means, and \( n \) is
+ * the number of pairs. If the {@link #setBiased(boolean) biased} option is enabled the
+ * normalisation factor is changed to \( \frac{1}{n} \).
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ *   <li>The result is {@code NaN} if any of the values is {@code NaN} or infinite.
+ *   <li>The result is {@code NaN} if the sum of the products of the deviations from the
+ *       means is infinite.
+ *   <li>The result is zero if there is one pair in the data set.
+ * </ul>
+ *
+ * <p>The means and the sum of the products of the deviations are computed in a single pass
+ * using the updating formulas of {@link Variance}. The means are computed using scaling
+ * to protect from overflow for all finite input.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>Note that this instance is not synchronized.</strong> If
+ * multiple threads access an instance of this class concurrently, and at least
+ * one of the threads invokes the {@link #accept(double, double) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as the {@code combiner} function of a {@link java.util.stream.Collector Collector} on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Covariance">Covariance (Wikipedia)</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Covariance">
+ *   Algorithms for computing the covariance (Wikipedia)</a>
+ * @see Correlation
+ * @since 1.2
+ */
+public final class Covariance implements StatisticResult, StatisticAccumulator<Covariance> {
+    /** Moments of the paired values. */
+    private final BivariateMoment moment = new BivariateMoment(false);
+    /** Flag to control if the statistic is biased, or should use a bias correction. */
+    private boolean biased;
+
+    /**
+     * Create an instance.
+     */
+    private Covariance() {
+        // No-op
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @return {@code Covariance} instance.
+     */
+    public static Covariance create() {
+        return new Covariance();
+    }
+
+    /**
+     * Returns an instance populated using the paired values {@code (x[i], y[i])}.
+     *
+     * @param x Values.
+     * @param y Values.
+     * @return {@code Covariance} instance.
+     * @throws IllegalArgumentException if the values have different lengths
+     */
+    public static Covariance of(double[] x, double[] y) {
+        Statistics.checkPairedLength(x.length, y.length);
+        final Covariance s = new Covariance();
+        for (int i = 0; i < x.length; i++) {
+            s.accept(x[i], y[i]);
+        }
+        return s;
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the pair {@code (x, y)}.
+     *
+     * @param x Value.
+     * @param y Value.
+     */
+    public void accept(double x, double y) {
+        moment.accept(x, y);
+    }
+
+    /**
+     * Gets the number of pairs that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return moment.getN();
+    }
+
+    /**
+     * Gets the covariance of all input pairs.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return covariance of all pairs.
+     */
+    @Override
+    public double getAsDouble() {
+        // This method checks the sum of products is finite
+        // to provide a consistent NaN when the computation is not possible.
+        final long n = moment.getN();
+        if (n == 0 || !moment.isFinite()) {
+            return Double.NaN;
+        }
+        final double c = moment.getSumOfProducts();
+        if (!Double.isFinite(c)) {
+            return Double.NaN;
+        }
+        if (biased) {
+            return c / n;
+        }
+        // Avoid a divide by zero
+        return n == 1 ? 0 : c / (n - 1);
+    }
+
+    @Override
+    public Covariance combine(Covariance other) {
+        moment.combine(other.moment);
+        return this;
+    }
+
+    /**
+     * Sets the value of the biased flag. The default value is {@code false}.
+     *
+     * <p>If {@code false} the sum of the products of the deviations from the sample means is
+     * normalised by {@code n - 1} where {@code n} is the number of pairs. This is Bessel's
+     * correction for an unbiased estimator of the covariance of a hypothetical infinite
+     * population.
+     *
+     * <p>If {@code true} the sum is normalised by the number of pairs {@code n}.
+     *
+     * <p>Note: This option only applies when {@code n > 1}. The covariance of {@code n = 1} is
+     * always 0.
+     *
+     * <p>This flag only controls the final computation of the statistic. The value of this flag
+     * will not affect compatibility between instances during a {@link #combine(Covariance) combine}
+     * operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     */
+    public Covariance setBiased(boolean v) {
+        biased = v;
+        return this;
+    }
+}
@@ -0,0 +1,479 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+
+/**
+ * Computes the covariance matrix of the available {@code k}-dimensional observations.
+ * The default implementation uses the following definition of the
+ * <em>sample covariance</em> of dimensions \( a \) and \( b \):
+ *
+ * <p>\[ \tfrac{1}{n-1} \sum_{i=1}^n (x_{ia}-\overline{x}_a)(x_{ib}-\overline{x}_b) \]
+ *
+ * <p>where \( \overline{x}_a \) is the sample mean of dimension \( a \), and \( n \) is
+ * the number of observations. If the {@link #setBiased(boolean) biased} option is
+ * enabled the normalisation factor is changed to \( \frac{1}{n} \).
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ *   <li>The result for a pair of dimensions is {@code NaN} if any of the values of either
+ *       dimension is {@code NaN} or infinite.
+ *   <li>The result is zero if there is one observation in the data set.
+ * </ul>
+ *
+ * <p>The matrix is symmetric and the sums of the products of the deviations from the means
+ * are stored using packed upper-triangular storage of {@code k (k + 1) / 2} values.
+ * Each observation is added using a rank-1 update of the sums (see {@link Covariance}).
+ * A batch of observations is processed by computing the means and sums of the batch in
+ * two passes and combining the result with the current state using the pairwise formula
+ * of Chan et al (1979). The inner loops iterate over contiguous storage.
+ *
+ * <p>The means are computed using scaling to protect from overflow for all finite input.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>Note that this instance is not synchronized.</strong> If
+ * multiple threads access an instance of this class concurrently, and at least
+ * one of the threads invokes the {@link #accept(double[]) accept} or
+ * {@link #combine(CovarianceMatrix) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link #accept(double[]) accept} and
+ * {@link #combine(CovarianceMatrix) combine} as {@code accumulator} and {@code combiner}
+ * functions of {@link java.util.stream.Collector Collector} on a parallel stream,
+ * because the parallel implementation of {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution.
+ *
+ * <p>References:
+ * <ul>
+ *   <li>Chan, T. F., Golub, G. H. and LeVeque, R. J. (1979)
+ *       Updating formulae and a pairwise algorithm for computing sample variances.
+ *       Technical Report STAN-CS-79-773,
+ *       Department of Computer Science, Stanford University.
+ * </ul>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Covariance_matrix">Covariance matrix (Wikipedia)</a>
+ * @see Covariance
+ * @since 1.2
+ */
+public final class CovarianceMatrix {
+    /** The downscale constant. Used to avoid overflow for all finite input. */
+    private static final double DOWNSCALE = 0.5;
+    /** The rescale constant. */
+    private static final double RESCALE = 2;
+    /** The rescale constant for the product of two half deviations. */
+    private static final double RESCALE_SQUARED = 4;
+    /** Error message for an invalid dimension. */
+    private static final String INVALID_DIMENSION = "Invalid dimension: ";
+    /** Error message for a dimension mismatch. */
+    private static final String DIMENSION_MISMATCH = "Dimension mismatch: %d != %d";
+
+    /** Dimension. */
+    private final int k;
+    /** Means of each dimension. Stored as half values to prevent overflow. */
+    private final double[] mean;
+    /** Packed upper-triangular sums of the products of the half deviations from the means. */
+    private final double[] sum;
+    /** Work space for the deviations of an observation. */
+    private final double[] dev;
+    /** Work space for a batch of observations. Allocated when required. */
+    private CovarianceMatrix batch;
+    /** Count of observations that have been added. */
+    private long n;
+    /** Flag to control if the statistic is biased, or should use a bias correction. */
+    private boolean biased;
+
+    /**
+     * Create an instance.
+     *
+     * @param k Dimension.
+     */
+    private CovarianceMatrix(int k) {
+        this.k = k;
+        mean = new double[k];
+        sum = new double[(int) packedLength(k)];
+        dev = new double[k];
+    }
+
+    /**
+     * Creates an instance for observations of the specified dimension.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @param dimension Dimension of the observations.
+     * @return {@code CovarianceMatrix} instance.
+     * @throws IllegalArgumentException if {@code dimension < 1}; or the packed storage
+     * length exceeds the maximum array size
+     */
+    public static CovarianceMatrix create(int dimension) {
+        if (dimension < 1 || packedLength(dimension) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(INVALID_DIMENSION + dimension);
+        }
+        return new CovarianceMatrix(dimension);
+    }
+
+    /**
+     * Returns an instance populated using the input observations.
+     *
+     * @param dimension Dimension of the observations.
+     * @param observations Observations.
+     * @return {@code CovarianceMatrix} instance.
+     * @throws IllegalArgumentException if {@code dimension < 1}; or any observation does not
+     * have the specified dimension
+     */
+    public static CovarianceMatrix of(int dimension, double[]... observations) {
+        final CovarianceMatrix s = create(dimension);
+        s.accept(observations, 0, observations.length);
+        return s;
+    }
+
+    /**
+     * Returns an instance populated using the input observations. The observations are
+     * processed using parallel tasks and the partial results are combined.
+     *
+     * <p>If called from within a {@link java.util.concurrent.ForkJoinPool ForkJoinPool}
+     * the tasks are executed in that pool; otherwise the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} is used.
+     * The result may differ from {@link #of(int, double[]...)} due to the different order
+     * of the floating-point operations.
+     *
+     * @param dimension Dimension of the observations.
+     * @param observations Observations.
+     * @return {@code CovarianceMatrix} instance.
+     * @throws IllegalArgumentException if {@code dimension < 1}; or any observation does not
+     * have the specified dimension
+     */
+    public static CovarianceMatrix ofParallel(int dimension, double[]... observations) {
+        // Validate the dimension before starting any tasks
+        create(dimension);
+        return Statistics.evaluateInParallel(observations, 0, observations.length,
+            (values, from, to) -> {
+                final CovarianceMatrix s = new CovarianceMatrix(dimension);
+                s.accept(values, from, to);
+                return s;
+            },
+            CovarianceMatrix::combine);
+    }
+
+    /**
+     * Compute the length of the packed upper-triangular storage for a symmetric matrix.
+     *
+     * @param k Dimension.
+     * @return the length
+     */
+    private static long packedLength(long k) {
+        return k * (k + 1) / 2;
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the {@code observation}.
+     *
+     * @param observation Observation.
+     * @throws IllegalArgumentException if the observation does not have the
+     * dimension of this instance
+     */
+    public void accept(double[] observation) {
+        checkDimension(observation.length);
+        final double[] m = mean;
+        final double[] d = dev;
+        final double nn = ++n;
+        // Half deviations from the previous mean
+        for (int i = 0; i < k; i++) {
+            final double h = observation[i] * DOWNSCALE;
+            final double di = h - m[i];
+            d[i] = di;
+            m[i] += di / nn;
+        }
+        // Rank-1 update: S_ij += dx_i * (x_j - new mean_j)
+        // Note: (x_j - new mean_j) = d_j * (n - 1) / n
+        final double f = (nn - 1) / nn;
+        final double[] s = sum;
+        int p = 0;
+        for (int i = 0; i < k; i++) {
+            final double di = d[i] * f;
+            for (int j = i; j < k; j++) {
+                s[p++] += di * d[j];
+            }
+        }
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the {@code observations}.
+     *
+     * @param observations Observations.
+     * @throws IllegalArgumentException if any observation does not have the
+     * dimension of this instance
+     */
+    public void accept(double[][] observations) {
+        accept(observations, 0, observations.length);
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code observations}.
+     *
+     * @param observations Observations.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @throws IllegalArgumentException if any observation does not have the
+     * dimension of this instance
+     */
+    public void accept(double[][] observations, int from, int to) {
+        Statistics.checkFromToIndex(from, to, observations.length);
+        for (int r = from; r < to; r++) {
+            checkDimension(observations[r].length);
+        }
+        if (to - from <= 1) {
+            if (from < to) {
+                accept(observations[from]);
+            }
+            return;
+        }
+        if (n == 0) {
+            computeBatch(observations, from, to);
+            return;
+        }
+        CovarianceMatrix b = batch;
+        if (b == null) {
+            b = new CovarianceMatrix(k);
+            batch = b;
+        }
+        b.computeBatch(observations, from, to);
+        combine(b);
+    }
+
+    /**
+     * Sets the state of this instance to the statistic of the specified range of
+     * {@code observations} using a two-pass algorithm.
+     *
+     * <p>Warning: No range or dimension checks are performed.
+     *
+     * @param observations Observations.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     */
+    private void computeBatch(double[][] observations, int from, int to) {
+        final double[] m = mean;
+        final double[] d = dev;
+        final double[] s = sum;
+        final int size = to - from;
+        // First pass: mean of the half values using the mean of the first observation
+        // as an offset. This is exact for constant data.
+        final double[] first = observations[from];
+        for (int i = 0; i < k; i++) {
+            m[i] = first[i] * DOWNSCALE;
+            d[i] = 0;
+        }
+        for (int r = from + 1; r < to; r++) {
+            final double[] x = observations[r];
+            for (int i = 0; i < k; i++) {
+                d[i] += x[i] * DOWNSCALE - m[i];
+            }
+        }
+        for (int i = 0; i < k; i++) {
+            m[i] += d[i] / size;
+        }
+        // Second pass: sums of the products of the half deviations
+        Arrays.fill(s, 0);
+        for (int r = from; r < to; r++) {
+            final double[] x = observations[r];
+            for (int i = 0; i < k; i++) {
+                d[i] = x[i] * DOWNSCALE - m[i];
+            }
+            int p = 0;
+            for (int i = 0; i < k; i++) {
+                final double di = d[i];
+                for (int j = i; j < k; j++) {
+                    s[p++] += di * d[j];
+                }
+            }
+        }
+        n = size;
+    }
+
+    /**
+     * Combines the state of another {@code CovarianceMatrix} into this one.
+     *
+     * @param other Another {@code CovarianceMatrix} to be combined.
+     * @return {@code this} instance after combining {@code other}.
+     * @throws IllegalArgumentException if the other instance has a different dimension
+     */
+    public CovarianceMatrix combine(CovarianceMatrix other) {
+        checkDimension(other.k);
+        final long nb = other.n;
+        if (nb == 0) {
+            return this;
+        }
+        final long na = n;
+        if (na == 0) {
+            n = nb;
+            System.arraycopy(other.mean, 0, mean, 0, k);
+            System.arraycopy(other.sum, 0, sum, 0, sum.length);
+            return this;
+        }
+        final double nn = (double) na + nb;
+        n = na + nb;
+        final double r = nb / nn;
+        // Factor na * nb / n
+        final double f = na * r;
+        final double[] m = mean;
+        final double[] mb = other.mean;
+        final double[] d = dev;
+        // Half representation ensures the differences are finite
+        for (int i = 0; i < k; i++) {
+            final double di = mb[i] - m[i];
+            d[i] = di;
+            m[i] += di * r;
+        }
+        final double[] s = sum;
+        final double[] sb = other.sum;
+        int p = 0;
+        for (int i = 0; i < k; i++) {
+            final double di = d[i] * f;
+            for (int j = i; j < k; j++) {
+                s[p] += sb[p] + di * d[j];
+                p++;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Check the dimension matches the dimension of this instance.
+     *
+     * @param dimension Dimension.
+     * @throws IllegalArgumentException if the dimension does not match
+     */
+    private void checkDimension(int dimension) {
+        if (dimension != k) {
+            throw new IllegalArgumentException(String.format(DIMENSION_MISMATCH, dimension, k));
+        }
+    }
+
+    /**
+     * Gets the number of observations that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return n;
+    }
+
+    /**
+     * Gets the dimension of the observations.
+     *
+     * @return the dimension
+     */
+    public int getDimension() {
+        return k;
+    }
+
+    /**
+     * Gets the mean of each dimension of the observations.
+     *
+     * <p>When no values have been added, the result is {@code NaN}. The mean of a dimension
+     * is {@code NaN} if any of the values of the dimension is non-finite.
+     *
+     * @return the mean
+     */
+    public double[] getMean() {
+        final double[] m = new double[k];
+        for (int i = 0; i < k; i++) {
+            m[i] = getMean(i);
+        }
+        return m;
+    }
+
+    /**
+     * Gets the mean of the specified dimension.
+     *
+     * @param i Dimension.
+     * @return the mean
+     */
+    private double getMean(int i) {
+        if (n == 0) {
+            return Double.NaN;
+        }
+        final double m = mean[i] * RESCALE;
+        return Double.isFinite(m) ? m : Double.NaN;
+    }
+
+    /**
+     * Gets the covariance matrix of all input observations. The matrix is returned as
+     * a new {@code k x k} array.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return the covariance matrix
+     */
+    public double[][] getCovariance() {
+        final double[][] c = new double[k][k];
+        final double div;
+        if (n == 0) {
+            div = Double.NaN;
+        } else if (biased || n == 1) {
+            div = n;
+        } else {
+            div = n - 1.0;
+        }
+        final double scale = RESCALE_SQUARED / div;
+        int p = 0;
+        for (int i = 0; i < k; i++) {
+            final boolean finite = Double.isFinite(mean[i]);
+            for (int j = i; j < k; j++) {
+                double v = sum[p++] * scale;
+                if (!(finite && Double.isFinite(mean[j]) && Double.isFinite(v))) {
+                    v = Double.NaN;
+                }
+                c[i][j] = v;
+                c[j][i] = v;
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Sets the value of the biased flag. The default value is {@code false}.
+     *
+     * <p>If {@code false} the sums of the products of the deviations from the sample means
+     * are normalised by {@code n - 1} where {@code n} is the number of observations. This
+     * is Bessel's correction for an unbiased estimator of the covariance of a hypothetical
+     * infinite population.
+     *
+     * <p>If {@code true} the sums are normalised by the number of observations {@code n}.
+     *
+     * <p>Note: This option only applies when {@code n > 1}. The covariance of {@code n = 1} is
+     * always 0.
+     *
+     * <p>This flag only controls the final computation of the statistic. The value of this flag
+     * will not affect compatibility between instances during a {@link #combine(CovarianceMatrix) combine}
+     * operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     */
+    public CovarianceMatrix setBiased(boolean v) {
+        biased = v;
+        return this;
+    }
+}
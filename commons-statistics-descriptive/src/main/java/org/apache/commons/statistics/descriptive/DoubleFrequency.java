@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Counts the frequency of {@code double} values.
+ *
+ * <p>The frequency of each distinct value is stored in an open-addressing hash table
+ * of primitive keys and counts; values are not boxed. Recording a value is an
+ * expected constant time operation. The memory is proportional to the number of
+ * distinct values.
+ *
+ * <p>The frequencies can be used to compute:
+ *
+ * <ul>
+ *   <li>The {@link #getModes() modes}: the values with the highest frequency.
+ *   <li>The {@link #getMostFrequent(int) most frequent} {@code k} values.
+ *   <li>The {@link #getDistinctCount() number of distinct values}.
+ * </ul>
+ *
+ * <p>Values are distinct using the equality of {@link Double#equals(Object)}:
+ * all {@code NaN} values are equal, and {@code -0.0} is not equal to {@code 0.0}.
+ * Values are ordered using {@link Double#compare(double, double)}: {@code -0.0}
+ * is less than {@code 0.0} and {@code NaN} is greater than any other value.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ * Supports up to 2<sup>30</sup> - 1 distinct values; adding a further distinct value
+ * raises an {@link IllegalStateException}.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link #accept(double) accept} or
+ * {@link #combine(DoubleFrequency) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link #accept(double) accept}
+ * and {@link #combine(DoubleFrequency) combine}
+ * as {@code accumulator} and {@code combiner} functions of
+ * {@link java.util.stream.Collector Collector} on a parallel stream,
+ * because the parallel implementation of {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Mode_(statistics)">Mode (Wikipedia)</a>
+ * @since 1.2
+ */
+public final class DoubleFrequency implements DoubleConsumer {
+    /** Frequency of the keys of each value. */
+    private final FrequencyTable table = new FrequencyTable();
+
+    /**
+     * Create an instance.
+     */
+    private DoubleFrequency() {
+        // No-op
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * <p>The initial result is empty.
+     *
+     * @return {@code DoubleFrequency} instance.
+     */
+    public static DoubleFrequency create() {
+        return new DoubleFrequency();
+    }
+
+    /**
+     * Returns an instance populated using the input {@code values}.
+     *
+     * @param values Values.
+     * @return {@code DoubleFrequency} instance.
+     */
+    public static DoubleFrequency of(double... values) {
+        final DoubleFrequency f = new DoubleFrequency();
+        for (final double x : values) {
+            f.accept(x);
+        }
+        return f;
+    }
+
+    /**
+     * Updates the frequency to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(double value) {
+        table.add(toKey(value));
+    }
+
+    /**
+     * Updates the frequency to reflect the addition of the specified range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            table.add(toKey(values[i]));
+        }
+    }
+
+    /**
+     * Gets the number of values that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return table.total();
+    }
+
+    /**
+     * Gets the number of times the {@code value} has been added.
+     *
+     * @param value Value.
+     * @return the count
+     */
+    public long getCount(double value) {
+        return table.get(toKey(value));
+    }
+
+    /**
+     * Gets the number of distinct values that have been added.
+     *
+     * @return the count of distinct values
+     */
+    public int getDistinctCount() {
+        return table.size();
+    }
+
+    /**
+     * Gets the count of the mode(s), i.e. the highest frequency of any value.
+     *
+     * <p>When no values have been added, the result is zero.
+     *
+     * @return the count of the mode
+     */
+    public long getModeCount() {
+        return table.maxCount();
+    }
+
+    /**
+     * Gets the mode(s): the values with the highest frequency.
+     * If several values have the same highest frequency they are returned in
+     * ascending order.
+     *
+     * <p>When no values have been added, the result is an empty array.
+     *
+     * @return the modes
+     */
+    public double[] getModes() {
+        return toValues(table.modes());
+    }
+
+    /**
+     * Gets the {@code k} most frequent values. The values are in descending order
+     * of frequency; values with the same frequency are in ascending order.
+     * If there are fewer than {@code k} distinct values then all distinct values
+     * are returned.
+     *
+     * @param k Number of values.
+     * @return the most frequent values
+     * @throws IllegalArgumentException if {@code k < 0}
+     */
+    public double[] getMostFrequent(int k) {
+        return toValues(table.top(k));
+    }
+
+    /**
+     * Combines the state of the {@code other} frequency into this one.
+     * Only {@code this} instance is modified by the {@code combine} operation.
+     *
+     * @param other Another frequency to be combined.
+     * @return {@code this} instance after combining {@code other}.
+     */
+    public DoubleFrequency combine(DoubleFrequency other) {
+        table.combine(other.table);
+        return this;
+    }
+
+    /**
+     * Convert the value to a key. The unsigned order of the keys is the
+     * order imposed by {@link Double#compare(double, double)}.
+     *
+     * @param value Value.
+     * @return the key
+     */
+    private static long toKey(double value) {
+        // Map to an unsigned key: flip all bits of negative values;
+        // flip the sign bit of positive values.
+        final long b = Double.doubleToLongBits(value);
+        return b ^ ((b >> 63) | Long.MIN_VALUE);
+    }
+
+    /**
+     * Convert the keys to values.
+     *
+     * @param keys Keys.
+     * @return the values
+     */
+    private static double[] toValues(long[] keys) {
+        final double[] values = new double[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            final long k = keys[i];
+            values[i] = Double.longBitsToDouble(k < 0 ? k ^ Long.MIN_VALUE : ~k);
+        }
+        return values;
+    }
+}
@@ -24,5 +24,24 @@ import java.util.function.DoubleConsumer;
  * @since 1.1
  */
 public interface DoubleStatistic extends DoubleConsumer, StatisticResult {
-    // Composite interface
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * <p>The result is the same as calling {@link #accept(double) accept} for each value
+     * in the range in order. The default implementation does exactly that;
+     * implementations should override this with a more efficient method.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    default void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            accept(values[i]);
+        }
+    }
 }
@@ -16,11 +16,14 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiFunction;
 import java.util.function.DoubleConsumer;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+import org.apache.commons.statistics.descriptive.Statistics.RangeFunction;
 
 /**
  * Statistics for {@code double} values.
@@ -68,19 +71,19 @@ public final class DoubleStatistics implements DoubleConsumer {
         private static final double[] NO_VALUES = {};
 
         /** The {@link Min} constructor. */
-        private Function<double[], Min> min;
+        private RangeFunction<double[], Min> min;
         /** The {@link Max} constructor. */
-        private Function<double[], Max> max;
+        private RangeFunction<double[], Max> max;
         /** The moment constructor. May return any instance of {@link FirstMoment}. */
-        private BiFunction<org.apache.commons.numbers.core.Sum, double[], FirstMoment> moment;
+        private MomentFunction moment;
         /** The {@link Sum} constructor. */
         private Function<org.apache.commons.numbers.core.Sum, Sum> sum;
         /** The {@link Product} constructor. */
-        private Function<double[], Product> product;
+        private RangeFunction<double[], Product> product;
         /** The {@link SumOfSquares} constructor. */
-        private Function<double[], SumOfSquares> sumOfSquares;
+        private RangeFunction<double[], SumOfSquares> sumOfSquares;
         /** The {@link SumOfLogs} constructor. */
-        private Function<double[], SumOfLogs> sumOfLogs;
+        private RangeFunction<double[], SumOfLogs> sumOfLogs;
         /** The order of the moment. It corresponds to the power computed by the {@link FirstMoment}
          * instance constructed by {@link #moment}. This should only be increased from the default
          * of zero (corresponding to no moment computation). */
@@ -88,6 +91,24 @@ public final class DoubleStatistics implements DoubleConsumer {
         /** Configuration options for computation of statistics. */
         private StatisticsConfiguration config = StatisticsConfiguration.withDefaults();
 
+        /**
+         * Represents a function that creates a moment from the sum of a range of values,
+         * and the range of values.
+         */
+        @FunctionalInterface
+        private interface MomentFunction {
+            /**
+             * Creates the moment.
+             *
+             * @param sum Sum of the values.
+             * @param values Values.
+             * @param from Inclusive start of the range.
+             * @param to Exclusive end of the range.
+             * @return the moment
+             */
+            FirstMoment apply(org.apache.commons.numbers.core.Sum sum, double[] values, int from, int to);
+        }
+
         /**
          * Create an instance.
          */
@@ -105,22 +126,22 @@ public final class DoubleStatistics implements DoubleConsumer {
             switch (statistic) {
             case GEOMETRIC_MEAN:
             case SUM_OF_LOGS:
-                sumOfLogs = SumOfLogs::of;
+                sumOfLogs = SumOfLogs::createFromRange;
                 break;
             case KURTOSIS:
                 createMoment(4);
                 break;
             case MAX:
-                max = Max::of;
+                max = Max::createFromRange;
                 break;
             case MEAN:
                 createMoment(1);
                 break;
             case MIN:
-                min = Min::of;
+                min = Min::createFromRange;
                 break;
             case PRODUCT:
-                product = Product::of;
+                product = Product::createFromRange;
                 break;
             case SKEWNESS:
                 createMoment(3);
@@ -133,7 +154,7 @@ public final class DoubleStatistics implements DoubleConsumer {
                 sum = Sum::new;
                 break;
             case SUM_OF_SQUARES:
-                sumOfSquares = SumOfSquares::of;
+                sumOfSquares = SumOfSquares::createFromRange;
                 break;
             default:
                 throw new IllegalArgumentException(UNSUPPORTED_STATISTIC + statistic);
@@ -196,57 +217,98 @@ public final class DoubleStatistics implements DoubleConsumer {
          */
         public DoubleStatistics build(double... values) {
             Objects.requireNonNull(values, "values");
+            return createFromRange(values, 0, values.length);
+        }
+
+        /**
+         * Builds a {@code DoubleStatistics} instance using the input {@code values}.
+         *
+         * <p>The values are divided into sub-ranges that are processed in parallel using
+         * {@link java.util.concurrent.ForkJoinTask fork-join tasks}; the partial results
+         * are {@link DoubleStatistics#combine(DoubleStatistics) combined}. If called from
+         * within a {@link java.util.concurrent.ForkJoinPool ForkJoinPool} the tasks are
+         * executed in that pool; otherwise the
+         * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} is used.
+         * Small arrays are processed in the calling thread.
+         *
+         * <p>Note: {@code DoubleStatistics} computed using this method may be
+         * different from the instance computed using {@link #build(double...) build}
+         * due to the combination of partial results. The difference is expected to be
+         * within the rounding error of the computation of each statistic.
+         *
+         * @param values Values.
+         * @return {@code DoubleStatistics} instance.
+         */
+        public DoubleStatistics buildParallel(double... values) {
+            Objects.requireNonNull(values, "values");
+            return Statistics.evaluateInParallel(values, 0, values.length,
+                this::createFromRange, DoubleStatistics::combine);
+        }
+
+        /**
+         * Builds a {@code DoubleStatistics} instance using the specified range of {@code values}.
+         *
+         * @param values Values.
+         * @param from Inclusive start of the range.
+         * @param to Exclusive end of the range.
+         * @return {@code DoubleStatistics} instance.
+         * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+         * @since 1.2
+         */
+        public DoubleStatistics build(double[] values, int from, int to) {
+            Statistics.checkFromToIndex(from, to, values.length);
+            return createFromRange(values, from, to);
+        }
+
+        /**
+         * Builds a {@code DoubleStatistics} instance using the specified range of {@code values}.
+         *
+         * <p>Warning: No range checks are performed.
+         *
+         * @param values Values.
+         * @param from Inclusive start of the range.
+         * @param to Exclusive end of the range.
+         * @return {@code DoubleStatistics} instance.
+         */
+        private DoubleStatistics createFromRange(double[] values, int from, int to) {
             // Create related statistics
             FirstMoment m = null;
             Sum sumStat = null;
             if (moment != null || sum != null) {
-                final org.apache.commons.numbers.core.Sum s =
-                    org.apache.commons.numbers.core.Sum.of(values);
-                m = create(moment, s, values);
-                sumStat = create(sum, s);
+                final org.apache.commons.numbers.core.Sum s = Statistics.sum(values, from, to);
+                if (moment != null) {
+                    m = moment.apply(s, values, from, to);
+                }
+                if (sum != null) {
+                    sumStat = sum.apply(s);
+                }
             }
             return new DoubleStatistics(
-                values.length,
-                create(min, values),
-                create(max, values),
+                to - from,
+                create(min, values, from, to),
+                create(max, values, from, to),
                 m,
                 sumStat,
-                create(product, values),
-                create(sumOfSquares, values),
-                create(sumOfLogs, values),
+                create(product, values, from, to),
+                create(sumOfSquares, values, from, to),
+                create(sumOfLogs, values, from, to),
                 config);
         }
 
         /**
-         * Creates the object from the {@code values}.
+         * Creates the object from the specified range of {@code values}.
          *
-         * @param <S> value type
          * @param <T> object type
          * @param constructor Constructor.
          * @param values Values
+         * @param from Inclusive start of the range.
+         * @param to Exclusive end of the range.
          * @return the instance
          */
-        private static <S, T> T create(Function<S, T> constructor, S values) {
+        private static <T> T create(RangeFunction<double[], T> constructor,
+                                    double[] values, int from, int to) {
             if (constructor != null) {
-                return constructor.apply(values);
-            }
-            return null;
-        }
-
-        /**
-         * Creates the object from the values {@code r} and {@code s}.
-         *
-         * @param <R> value type
-         * @param <S> value type
-         * @param <T> object type
-         * @param constructor Constructor.
-         * @param r Value.
-         * @param s Value.
-         * @return the instance
-         */
-        private static <R, S, T> T create(BiFunction<R, S, T> constructor, R r, S s) {
-            if (constructor != null) {
-                return constructor.apply(r, s);
+                return constructor.apply(values, from, to);
             }
             return null;
         }
@@ -289,7 +351,8 @@ public final class DoubleStatistics implements DoubleConsumer {
      *
      * @param statistics Statistics to compute.
      * @return the instance
-     * @throws IllegalArgumentException if there are no {@code statistics} to compute.
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute;
+     * or a statistic is not supported (e.g. {@link Statistic#DISTINCT_COUNT}).
      */
     public static DoubleStatistics of(Statistic... statistics) {
         return builder(statistics).build();
@@ -311,7 +374,8 @@ public final class DoubleStatistics implements DoubleConsumer {
      * @param statistics Statistics to compute.
      * @param values Values.
      * @return the instance
-     * @throws IllegalArgumentException if there are no {@code statistics} to compute.
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute;
+     * or a statistic is not supported (e.g. {@link Statistic#DISTINCT_COUNT}).
      */
     public static DoubleStatistics of(Set<Statistic> statistics, double... values) {
         if (statistics.isEmpty()) {
@@ -322,6 +386,39 @@ public final class DoubleStatistics implements DoubleConsumer {
         return b.build(values);
     }
 
+    /**
+     * Returns a new instance configured to compute the specified {@code statistics}
+     * populated using the specified range of {@code values}.
+     *
+     * <p>Use this method to create an instance populated with part of an array of
+     * {@code double[]} data without copying the data:
+     *
+     * <pre>
+     * double[] data = ...
+     * DoubleStatistics stats = DoubleStatistics.ofRange(
+     *     EnumSet.of(Statistic.MIN, Statistic.MAX),
+     *     data, from, to);
+     * </pre>
+     *
+     * @param statistics Statistics to compute.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the instance
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute;
+     * or a statistic is not supported (e.g. {@link Statistic#DISTINCT_COUNT}).
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static DoubleStatistics ofRange(Set<Statistic> statistics, double[] values, int from, int to) {
+        if (statistics.isEmpty()) {
+            throw new IllegalArgumentException(NO_CONFIGURED_STATISTICS);
+        }
+        final Builder b = new Builder();
+        statistics.forEach(b::add);
+        return b.build(values, from, to);
+    }
+
     /**
      * Returns a new builder configured to create instances to compute the specified
      * {@code statistics}.
@@ -369,7 +466,8 @@ public final class DoubleStatistics implements DoubleConsumer {
      *
      * @param statistics Statistics to compute.
      * @return the builder
-     * @throws IllegalArgumentException if there are no {@code statistics} to compute.
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute;
+     * or a statistic is not supported (e.g. {@link Statistic#DISTINCT_COUNT}).
      */
     public static Builder builder(Statistic... statistics) {
         if (statistics.length == 0) {
@@ -382,6 +480,60 @@ public final class DoubleStatistics implements DoubleConsumer {
         return b;
     }
 
+    /**
+     * Returns a {@link Collector} that computes the specified {@code statistics}
+     * of the input {@code Double} values.
+     *
+     * <p>The collector is equivalent to
+     * {@link #collector(ToDoubleFunction, Statistic...) collector(Double::doubleValue, statistics)}.
+     *
+     * @param statistics Statistics to compute.
+     * @return the collector
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute;
+     * or a statistic is not supported (e.g. {@link Statistic#DISTINCT_COUNT}).
+     * @since 1.2
+     */
+    public static Collector<Double, DoubleStatistics, DoubleStatistics> collector(Statistic... statistics) {
+        return collector(Double::doubleValue, statistics);
+    }
+
+    /**
+     * Returns a {@link Collector} that computes the specified {@code statistics}
+     * of the {@code double} values extracted from the input elements using the
+     * {@code mapper}.
+     *
+     * <p>The collector creates a {@code DoubleStatistics} for each partition of the input;
+     * partial results are {@link #combine(DoubleStatistics) combined}. It can be used on a
+     * parallel stream, and as the downstream collector of
+     * {@link java.util.stream.Collectors#groupingBy(Function, Collector) groupingBy}:
+     *
+     * <pre>{@code
+     * Map<String, DoubleStatistics> stats = people.parallelStream()
+     *     .collect(Collectors.groupingBy(Person::getCity,
+     *         DoubleStatistics.collector(Person::getAge, Statistic.MEAN, Statistic.MAX)));
+     * }</pre>
+     *
+     * <p>For a concurrent collector that does not combine partial results see
+     * {@link ConcurrentDoubleStatistics#collector(ToDoubleFunction, Statistic...)}.
+     *
+     * @param <T> the type of the input elements
+     * @param mapper Function to extract the value from an element.
+     * @param statistics Statistics to compute.
+     * @return the collector
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute;
+     * or a statistic is not supported (e.g. {@link Statistic#DISTINCT_COUNT}).
+     * @since 1.2
+     */
+    public static <T> Collector<T, DoubleStatistics, DoubleStatistics> collector(ToDoubleFunction<? super T> mapper,
+                                                                                 Statistic... statistics) {
+        Objects.requireNonNull(mapper, "mapper");
+        final Builder b = builder(statistics);
+        return Collector.of(b::build,
+            (s, t) -> s.accept(mapper.applyAsDouble(t)),
+            DoubleStatistics::combine,
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
     /**
      * Updates the state of the statistics to reflect the addition of {@code value}.
      *
@@ -393,6 +545,47 @@ public final class DoubleStatistics implements DoubleConsumer {
         consumer.accept(value);
     }
 
+    /**
+     * Updates the state of the statistics to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * <p>The result is the same as calling {@link #accept(double) accept} for each value
+     * in the range in order. Each configured statistic processes the entire range
+     * in turn; this avoids the per-value call through the composed consumer of
+     * all statistics.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        count += to - from;
+        if (min != null) {
+            min.accept(values, from, to);
+        }
+        if (max != null) {
+            max.accept(values, from, to);
+        }
+        if (moment != null) {
+            moment.accept(values, from, to);
+        }
+        if (sum != null) {
+            sum.accept(values, from, to);
+        }
+        if (product != null) {
+            product.accept(values, from, to);
+        }
+        if (sumOfSquares != null) {
+            sumOfSquares.accept(values, from, to);
+        }
+        if (sumOfLogs != null) {
+            sumOfLogs.accept(values, from, to);
+        }
+    }
+
     /**
      * Return the count of values recorded.
      *
@@ -662,4 +855,74 @@ public final class DoubleStatistics implements DoubleConsumer {
         config = Objects.requireNonNull(v);
         return this;
     }
+
+    /**
+     * Writes the state of the statistics to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer. The state includes
+     * the configured statistics and the {@link StatisticsConfiguration}.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.DOUBLE_STATISTICS);
+        buffer.putLong(count);
+        buffer.put((byte) StatisticState.flags(min, max, sum, product, sumOfSquares, sumOfLogs));
+        StatisticState.write(buffer, moment);
+        if (min != null) {
+            min.write(buffer);
+        }
+        if (max != null) {
+            max.write(buffer);
+        }
+        if (sum != null) {
+            sum.write(buffer);
+        }
+        if (product != null) {
+            product.write(buffer);
+        }
+        if (sumOfSquares != null) {
+            sumOfSquares.write(buffer);
+        }
+        if (sumOfLogs != null) {
+            sumOfLogs.write(buffer);
+        }
+        StatisticState.write(buffer, config.isBiased());
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state: it supports the same statistics and can be
+     * {@link #combine(DoubleStatistics) combined} with compatible instances.
+     *
+     * @param buffer Buffer.
+     * @return {@code DoubleStatistics} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code DoubleStatistics}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static DoubleStatistics readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.DOUBLE_STATISTICS);
+        final long count = buffer.getLong();
+        final int flags = buffer.get();
+        final FirstMoment moment = StatisticState.readMoment(buffer, FirstMoment.class, true);
+        if (flags == 0 && moment == null) {
+            throw new IllegalArgumentException(NO_CONFIGURED_STATISTICS);
+        }
+        final Min min = StatisticState.isSet(flags, 0) ? Min.read(buffer) : null;
+        final Max max = StatisticState.isSet(flags, 1) ? Max.read(buffer) : null;
+        final Sum sum = StatisticState.isSet(flags, 2) ? Sum.read(buffer) : null;
+        final Product product = StatisticState.isSet(flags, 3) ? Product.read(buffer) : null;
+        final SumOfSquares sumOfSquares = StatisticState.isSet(flags, 4) ? SumOfSquares.read(buffer) : null;
+        final SumOfLogs sumOfLogs = StatisticState.isSet(flags, 5) ? SumOfLogs.read(buffer) : null;
+        final StatisticsConfiguration config = StatisticsConfiguration.withDefaults()
+            .withBiased(StatisticState.readBoolean(buffer));
+        return new DoubleStatistics(count, min, max, moment, sum, product, sumOfSquares, sumOfLogs, config);
+    }
 }
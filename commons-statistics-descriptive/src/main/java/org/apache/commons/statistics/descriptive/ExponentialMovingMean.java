@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Computes the exponentially weighted moving average of the available values.
+ *
+ * <p>The mean is initialized using the first value. Each additional value is added
+ * using the recursive updating formula:
+ *
+ * <p>\[ m_{i+1} = m_i + \alpha (x - m_i) \]
+ *
+ * <p>where \( \alpha \) is the smoothing factor in {@code (0, 1]}. The weight of each
+ * value decays geometrically by a factor of \( 1 - \alpha \) per subsequent value.
+ * The smoothing factor can be specified using a half-life \( h \) in units of
+ * observations: \( \alpha = 1 - 2^{-1/h} \).
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ *   <li>The result is {@code NaN} if any of the values is {@code NaN}, or the values include
+ *       infinite values of opposite sign.
+ *   <li>The result is {@code +/-infinity} if values include infinite values of same sign.
+ *   <li>The result is finite if all input values are finite.
+ * </ul>
+ *
+ * <p>The mean is computed using scaling to protect from overflow for all finite input.
+ * The state uses constant memory and the {@link #accept(double)} method does not allocate.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}. The result is dependent on the order of the
+ * values and instances cannot be combined.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link java.util.function.DoubleConsumer#accept(double) accept}
+ * method, it must be synchronized externally.
+ *
+ * @see ExponentialMovingVariance
+ * @see Mean
+ * @see <a href="https://en.wikipedia.org/wiki/Exponential_smoothing">Exponential smoothing (Wikipedia)</a>
+ * @since 1.2
+ */
+public final class ExponentialMovingMean implements DoubleStatistic {
+    /** The downscale constant. Used to avoid overflow for all finite input. */
+    private static final double DOWNSCALE = 0.5;
+    /** The rescale constant. */
+    private static final double RESCALE = 2;
+
+    /** Smoothing factor. */
+    private final double alpha;
+    /** Count of values that have been added. */
+    private long n;
+    /** Mean of the values that have been added.
+     * This is stored as a half value to prevent overflow for any finite input. */
+    private double m1;
+    /**
+     * Running sum of values seen so far. Used as a return value for the mean when
+     * it is non-finite.
+     */
+    private double nonFiniteValue;
+
+    /**
+     * Create an instance.
+     *
+     * @param alpha Smoothing factor.
+     */
+    private ExponentialMovingMean(double alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * Creates an instance with the specified smoothing factor.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @param alpha Smoothing factor.
+     * @return {@code ExponentialMovingMean} instance.
+     * @throws IllegalArgumentException if {@code alpha} is not in the range {@code (0, 1]}
+     */
+    public static ExponentialMovingMean create(double alpha) {
+        return new ExponentialMovingMean(Statistics.checkSmoothingFactor(alpha));
+    }
+
+    /**
+     * Creates an instance with the smoothing factor specified using the half-life,
+     * i.e. the number of values after which the weight of a value is halved.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @param halfLife Half-life.
+     * @return {@code ExponentialMovingMean} instance.
+     * @throws IllegalArgumentException if {@code halfLife} is not finite and strictly positive
+     */
+    public static ExponentialMovingMean withHalfLife(double halfLife) {
+        return new ExponentialMovingMean(Statistics.smoothingFactor(halfLife));
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(double value) {
+        // Note: Maintain the correct non-finite result.
+        // Scaling down values prevents overflow of finites.
+        nonFiniteValue += value * Double.MIN_NORMAL;
+        if (n++ == 0) {
+            m1 = value * DOWNSCALE;
+        } else {
+            m1 += alpha * (value * DOWNSCALE - m1);
+        }
+    }
+
+    /**
+     * Gets the exponentially weighted mean of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return mean of all values.
+     */
+    @Override
+    public double getAsDouble() {
+        // Scale back to the original magnitude
+        final double m = m1 * RESCALE;
+        if (Double.isFinite(m)) {
+            return n == 0 ? Double.NaN : m;
+        }
+        // A non-finite value must have been encountered
+        return nonFiniteValue;
+    }
+
+    /**
+     * Gets the number of values that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return n;
+    }
+
+    /**
+     * Gets the smoothing factor.
+     *
+     * @return the smoothing factor
+     */
+    public double getAlpha() {
+        return alpha;
+    }
+}
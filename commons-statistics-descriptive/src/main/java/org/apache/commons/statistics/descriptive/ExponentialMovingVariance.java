@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Computes the exponentially weighted moving variance of the available values.
+ *
+ * <p>The mean is initialized using the first value and the variance is zero. Each
+ * additional value is added using the recursive updating formulas:
+ *
+ * <p>\[ \begin{aligned}
+ *       \delta &amp;= x - m_i \\
+ *       m_{i+1} &amp;= m_i + \alpha \delta \\
+ *       v_{i+1} &amp;= (1 - \alpha) (v_i + \alpha \delta^2)
+ *       \end{aligned} \]
+ *
+ * <p>where \( \alpha \) is the smoothing factor in {@code (0, 1]}. The mean is the
+ * {@linkplain ExponentialMovingMean exponentially weighted moving average} and the
+ * variance is the weighted mean of the squared deviations from the mean using the
+ * same exponentially decaying weights. No correction is made for bias. The smoothing
+ * factor can be specified using a half-life \( h \) in units of observations:
+ * \( \alpha = 1 - 2^{-1/h} \).
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ *   <li>The result is {@code NaN} if any of the values is {@code NaN} or infinite.
+ *   <li>The result is zero if there is one value in the data set.
+ * </ul>
+ *
+ * <p>The mean is computed using scaling to protect from overflow for all finite input.
+ * The state uses constant memory and the {@link #accept(double)} method does not allocate.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}. The result is dependent on the order of the
+ * values and instances cannot be combined.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link java.util.function.DoubleConsumer#accept(double) accept}
+ * method, it must be synchronized externally.
+ *
+ * <p>References:
+ * <ul>
+ *   <li>Finch, T. (2009)
+ *       Incremental calculation of weighted mean and variance.
+ *       University of Cambridge Computing Service, February 2009.
+ * </ul>
+ *
+ * @see ExponentialMovingMean
+ * @see Variance
+ * @since 1.2
+ */
+public final class ExponentialMovingVariance implements DoubleStatistic {
+    /** The downscale constant. Used to avoid overflow of the mean for all finite input. */
+    private static final double DOWNSCALE = 0.5;
+    /** The rescale constant for the variance. */
+    private static final double RESCALE_SQUARED = 4;
+
+    /** Smoothing factor. */
+    private final double alpha;
+    /** Count of values that have been added. */
+    private long n;
+    /** Mean of the values that have been added.
+     * This is stored as a half value to prevent overflow for any finite input. */
+    private double m1;
+    /** Variance of the half values that have been added. */
+    private double m2;
+
+    /**
+     * Create an instance.
+     *
+     * @param alpha Smoothing factor.
+     */
+    private ExponentialMovingVariance(double alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * Creates an instance with the specified smoothing factor.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @param alpha Smoothing factor.
+     * @return {@code ExponentialMovingVariance} instance.
+     * @throws IllegalArgumentException if {@code alpha} is not in the range {@code (0, 1]}
+     */
+    public static ExponentialMovingVariance create(double alpha) {
+        return new ExponentialMovingVariance(Statistics.checkSmoothingFactor(alpha));
+    }
+
+    /**
+     * Creates an instance with the smoothing factor specified using the half-life,
+     * i.e. the number of values after which the weight of a value is halved.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @param halfLife Half-life.
+     * @return {@code ExponentialMovingVariance} instance.
+     * @throws IllegalArgumentException if {@code halfLife} is not finite and strictly positive
+     */
+    public static ExponentialMovingVariance withHalfLife(double halfLife) {
+        return new ExponentialMovingVariance(Statistics.smoothingFactor(halfLife));
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(double value) {
+        if (n++ == 0) {
+            m1 = value * DOWNSCALE;
+        } else {
+            // Half deviation from the previous mean
+            final double dev = value * DOWNSCALE - m1;
+            final double incr = alpha * dev;
+            m1 += incr;
+            m2 = (1 - alpha) * (m2 + dev * incr);
+        }
+    }
+
+    /**
+     * Gets the exponentially weighted variance of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return variance of all values.
+     */
+    @Override
+    public double getAsDouble() {
+        // This method checks the mean and variance are finite
+        // to provide a consistent NaN when the computation is not possible.
+        if (n == 0 || !Double.isFinite(m1)) {
+            return Double.NaN;
+        }
+        // Scale back to the original magnitude
+        final double v = m2 * RESCALE_SQUARED;
+        return Double.isFinite(v) ? v : Double.NaN;
+    }
+
+    /**
+     * Gets the number of values that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return n;
+    }
+
+    /**
+     * Gets the smoothing factor.
+     *
+     * @return the smoothing factor
+     */
+    public double getAlpha() {
+        return alpha;
+    }
+}
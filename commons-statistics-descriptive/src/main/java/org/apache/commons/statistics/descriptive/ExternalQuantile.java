@@ -0,0 +1,463 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import org.apache.commons.numbers.arrays.Selection;
+import org.apache.commons.statistics.descriptive.Quantile.EstimationMethod;
+
+/**
+ * Computes exact quantiles of values in a {@link DoubleBuffer} using a bounded amount
+ * of heap memory.
+ *
+ * <p>The values are never copied in full. The value at a rank is found by repeated
+ * passes through the data:
+ *
+ * <ol>
+ * <li>A sample of the values within the current bounds is sorted and used to choose
+ * a narrower range {@code [L, U]} that is expected to contain the rank.
+ * <li>A counting pass determines the number of values below {@code L}, equal to
+ * {@code L}, between {@code L} and {@code U}, and equal to {@code U}. The values
+ * strictly between the bounds are collected if there are few enough to hold in memory;
+ * otherwise they are sampled for the next iteration.
+ * <li>The rank is either resolved by the counts, selected from the collected
+ * candidates, or the bounds are narrowed and the process repeats.
+ * </ol>
+ *
+ * <p>The sample is taken using a uniform stride through the values. The range
+ * {@code [L, U]} is widened around the expected position of the rank to allow for
+ * sampling error. If the rank falls outside the range then the bounds are updated
+ * using the exact counts; the result is always exact.
+ *
+ * <p>Each pass reduces the number of candidate values by a factor proportional to
+ * the square root of the sample size. Repeated values are counted and do not
+ * require storage.
+ *
+ * <p>This implementation respects the ordering imposed by
+ * {@link Double#compare(double, double)}.
+ *
+ * @since 1.2
+ */
+final class ExternalQuantile {
+    /** Default size of the sample used to choose the bounds. */
+    static final int DEFAULT_SAMPLE_SIZE = 1 << 16;
+    /** Default maximum number of values to hold in memory. */
+    static final int DEFAULT_MAX_SIZE = 1 << 20;
+    /** Width (in standard deviations of the sample rank) to widen the bounds. */
+    private static final double WIDTH = 3;
+
+    /** Estimation type used to determine the value from the quantile. */
+    private final EstimationMethod estimationType;
+    /** NaN policy for floating point data. */
+    private final NaNPolicy nanPolicy;
+    /** Size of the sample used to choose the bounds. */
+    private final int sampleSize;
+    /** Maximum number of values to hold in memory. */
+    private final int maxSize;
+
+    /**
+     * Counts of the values within the bounds {@code [lo, hi]} relative to the
+     * range {@code [L, U]}.
+     */
+    private static final class Counts {
+        /** Count of values below {@code L}. */
+        private long below;
+        /** Count of values equal to {@code L}. */
+        private long lower;
+        /** Count of values strictly between {@code L} and {@code U}. */
+        private long inside;
+        /** Count of values equal to {@code U} (when {@code U != L}). */
+        private long upper;
+        /** Values strictly between {@code L} and {@code U}; or null if too many. */
+        private double[] data;
+        /** Sample of values strictly between {@code L} and {@code U}. */
+        private Sample sample;
+    }
+
+    /**
+     * A sample of values taken using a uniform stride. The stride is doubled and the
+     * sample decimated if the capacity is exceeded.
+     */
+    private static final class Sample {
+        /** Values. */
+        private double[] values;
+        /** Size. */
+        private int size;
+        /** Stride between sampled values. */
+        private long step;
+        /** Countdown to the next sampled value. */
+        private long next = 1;
+
+        /**
+         * @param capacity Capacity.
+         * @param step Stride between sampled values.
+         */
+        Sample(int capacity, long step) {
+            values = new double[capacity];
+            this.step = step;
+        }
+
+        /**
+         * Offer the value to the sample.
+         *
+         * @param v Value.
+         */
+        void add(double v) {
+            if (--next > 0) {
+                return;
+            }
+            if (size == values.length) {
+                // Keep every other value
+                final double[] a = values;
+                for (int i = 1; i < size; i += 2) {
+                    a[i >> 1] = a[i];
+                }
+                size >>= 1;
+                step <<= 1;
+            }
+            next = step;
+            values[size++] = v;
+        }
+
+        /**
+         * Sort the sample.
+         *
+         * @return this instance
+         */
+        Sample sort() {
+            Arrays.sort(values, 0, size);
+            return this;
+        }
+    }
+
+    /**
+     * @param estimationType Estimation type used to determine the value from the quantile.
+     * This is not used for the {@link #median(DoubleBuffer) median} and may be {@code null}.
+     * @param nanPolicy NaN policy.
+     * @param sampleSize Size of the sample used to choose the bounds.
+     * @param maxSize Maximum number of values to hold in memory.
+     */
+    ExternalQuantile(EstimationMethod estimationType, NaNPolicy nanPolicy, int sampleSize, int maxSize) {
+        this.estimationType = estimationType;
+        this.nanPolicy = nanPolicy;
+        this.sampleSize = sampleSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Compute the {@code p}-th quantiles of the remaining values in the buffer.
+     * The buffer is not modified.
+     *
+     * <p>Warning: The probabilities are not checked.
+     *
+     * @param values Values.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if the values contain {@code NaN} and the
+     * NaN policy is {@link NaNPolicy#ERROR error}
+     */
+    double[] evaluate(DoubleBuffer values, double[] p) {
+        final Sample sample = new Sample(sampleSize << 1, Math.max(1, values.remaining() / sampleSize));
+        final long size = values.remaining() - scan(values, sample);
+        final long n = nanPolicy == NaNPolicy.EXCLUDE ? size : values.remaining();
+
+        final double[] q = new double[p.length];
+        if (n <= 1) {
+            Arrays.fill(q, n == 0 || size == 0 ? Double.NaN : sample.values[0]);
+            return q;
+        }
+        final long[] ranks = new long[2];
+        final double[] result = new double[2];
+        for (int k = 0; k < p.length; k++) {
+            final double pos = estimationType.index(p[k], n);
+            final long i = (long) pos;
+            ranks[0] = i;
+            ranks[1] = pos > i ? i + 1 : i;
+            // NaN are above all other values
+            if (ranks[1] >= size) {
+                q[k] = Double.NaN;
+                continue;
+            }
+            select(values, size, sample, ranks, result);
+            q[k] = pos > i ?
+                Interpolation.interpolate(result[0], result[1], pos - i) :
+                result[0];
+        }
+        return q;
+    }
+
+    /**
+     * Compute the median of the remaining values in the buffer.
+     * The buffer is not modified.
+     *
+     * @param values Values.
+     * @return the median
+     * @throws IllegalArgumentException if the values contain {@code NaN} and the
+     * NaN policy is {@link NaNPolicy#ERROR error}
+     * @see Median
+     */
+    double median(DoubleBuffer values) {
+        final Sample sample = new Sample(sampleSize << 1, Math.max(1, values.remaining() / sampleSize));
+        final long size = values.remaining() - scan(values, sample);
+        final long n = nanPolicy == NaNPolicy.EXCLUDE ? size : values.remaining();
+        if (n <= 1) {
+            return n == 0 || size == 0 ? Double.NaN : sample.values[0];
+        }
+        final long m = n >>> 1;
+        // Even: require (m-1, m)
+        final long[] ranks = {(n & 0x1) == 1 ? m : m - 1, m};
+        // NaN are above all other values
+        if (ranks[1] >= size) {
+            return Double.NaN;
+        }
+        final double[] result = new double[2];
+        select(values, size, sample, ranks, result);
+        return Interpolation.mean(result[0], result[1]);
+    }
+
+    /**
+     * Scan the values to count {@code NaN} and sample the non-NaN values.
+     *
+     * @param values Values.
+     * @param sample Sample of the non-NaN values (sorted on output).
+     * @return the count of {@code NaN} values
+     * @throws IllegalArgumentException if the values contain {@code NaN} and the
+     * NaN policy is {@link NaNPolicy#ERROR error}
+     */
+    private long scan(DoubleBuffer values, Sample sample) {
+        long nan = 0;
+        for (int i = values.position(), to = values.limit(); i < to; i++) {
+            final double v = values.get(i);
+            if (v != v) {
+                if (nanPolicy == NaNPolicy.ERROR) {
+                    throw new IllegalArgumentException("NaN at " + i);
+                }
+                nan++;
+            } else {
+                sample.add(v);
+            }
+        }
+        sample.sort();
+        return nan;
+    }
+
+    /**
+     * Find the values at the sorted ranks {@code r0 <= r1} of the non-NaN values.
+     *
+     * @param values Values.
+     * @param size Number of non-NaN values.
+     * @param initial Sample of the non-NaN values.
+     * @param ranks Ranks [r0, r1].
+     * @param result Values at the ranks.
+     */
+    private void select(DoubleBuffer values, long size, Sample initial, long[] ranks, double[] result) {
+        // Current bounds [lo, hi] of the values that contain the unresolved ranks
+        double lo = Double.NEGATIVE_INFINITY;
+        double hi = Double.POSITIVE_INFINITY;
+        // Number of values below lo, and within [lo, hi]
+        long offset = 0;
+        long count = size;
+        Sample sample = initial;
+        // Unresolved ranks: r0 and r1 are resolved together when equal
+        long r0 = ranks[0];
+        long r1 = ranks[1];
+        boolean done0 = false;
+        boolean done1 = false;
+        while (true) {
+            final double lower;
+            final double upper;
+            final long step;
+            if (count <= maxSize) {
+                // Collect all values within the bounds
+                lower = lo;
+                upper = hi;
+                step = count;
+            } else {
+                if (sample == null) {
+                    sample = samplePass(values, lo, hi, Math.max(1, count / sampleSize));
+                }
+                final int s = sample.size;
+                final double width = WIDTH * Math.sqrt(s) + 1;
+                final long t0 = (done0 ? r1 : r0) - offset;
+                final long t1 = (done1 ? r0 : r1) - offset;
+                final double scale = (double) s / count;
+                final long j0 = (long) Math.floor(t0 * scale - width);
+                final long j1 = (long) Math.ceil((t1 + 1) * scale + width);
+                lower = j0 <= 0 ? lo : sample.values[(int) j0];
+                upper = j1 >= s - 1 ? hi : sample.values[(int) j1];
+                // Estimated number of values within the bounds
+                final long estimate = (long) Math.ceil(count * (Math.min(j1, s) - Math.max(j0, 0)) / (double) s);
+                step = Math.max(1, estimate / sampleSize);
+            }
+            final Counts c = countPass(values, lo, hi, lower, upper, step);
+
+            // Resolve the ranks using the counts.
+            // Regions: [lo, L) [L] (L, U) [U] (U, hi]
+            final long[] region = {
+                c.below,
+                c.below + c.lower,
+                c.below + c.lower + c.inside,
+                c.below + c.lower + c.inside + c.upper,
+            };
+            final int g0 = done0 ? -1 : region(region, r0 - offset);
+            final int g1 = done1 ? -1 : region(region, r1 - offset);
+            // Collected values
+            if (c.data != null) {
+                final int k0 = g0 == 2 ? (int) (r0 - offset - region[1]) : -1;
+                final int k1 = g1 == 2 ? (int) (r1 - offset - region[1]) : -1;
+                if (k0 >= 0 && k1 >= 0) {
+                    Selection.select(c.data, 0, (int) c.inside, new int[] {k0, k1});
+                } else if (k0 >= 0 || k1 >= 0) {
+                    Selection.select(c.data, 0, (int) c.inside, Math.max(k0, k1));
+                }
+                if (k0 >= 0) {
+                    result[0] = c.data[k0];
+                    done0 = true;
+                }
+                if (k1 >= 0) {
+                    result[1] = c.data[k1];
+                    done1 = true;
+                }
+            }
+            if (g0 == 1 || g0 == 3) {
+                result[0] = g0 == 1 ? lower : upper;
+                done0 = true;
+            }
+            if (g1 == 1 || g1 == 3) {
+                result[1] = g1 == 1 ? lower : upper;
+                done1 = true;
+            }
+            if (done0 && done1) {
+                return;
+            }
+
+            // Narrow the bounds to the regions of the unresolved ranks
+            final int a = Math.min(done0 ? 4 : g0, done1 ? 4 : g1);
+            final int b = Math.max(done0 ? 0 : g0, done1 ? 0 : g1);
+            // Region 0 is [lo, L]; region 2 is [L, U]; region 4 is [U, hi]
+            final double newLo = a == 0 ? lo : a == 2 ? lower : upper;
+            final double newHi = b == 0 ? lower : b == 2 ? upper : hi;
+            // Values below the new lower bound
+            final long skip = a == 0 ? 0 : a == 2 ? c.below : region[Double.compare(lower, upper) == 0 ? 0 : 2];
+            // Values within the new bounds
+            final long end = b == 0 ? region[1] : b == 2 ? region[3] : count;
+            offset += skip;
+            count = end - skip;
+            sample = a == 2 && b == 2 ? c.sample.sort() : null;
+            lo = newLo;
+            hi = newHi;
+        }
+    }
+
+    /**
+     * Gets the region of the rank. Regions are:
+     * <pre>
+     * 0: [lo, L)
+     * 1: L
+     * 2: (L, U)
+     * 3: U
+     * 4: (U, hi]
+     * </pre>
+     *
+     * @param region Cumulative counts at the end of each region.
+     * @param r Rank.
+     * @return the region
+     */
+    private static int region(long[] region, long r) {
+        int i = 0;
+        while (i < region.length && r >= region[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Sample the values within the bounds {@code [lo, hi]}.
+     *
+     * @param values Values.
+     * @param lo Lower bound.
+     * @param hi Upper bound.
+     * @param step Stride between sampled values.
+     * @return the sorted sample
+     */
+    private Sample samplePass(DoubleBuffer values, double lo, double hi, long step) {
+        final Sample sample = new Sample(sampleSize << 1, step);
+        for (int i = values.position(), to = values.limit(); i < to; i++) {
+            final double v = values.get(i);
+            if (Double.compare(v, lo) >= 0 && Double.compare(v, hi) <= 0) {
+                sample.add(v);
+            }
+        }
+        return sample.sort();
+    }
+
+    /**
+     * Count the values within the bounds {@code [lo, hi]} relative to the
+     * range {@code [L, U]}. Values strictly inside the range are collected if the
+     * count does not exceed the maximum size; they are also sampled.
+     *
+     * @param values Values.
+     * @param lo Lower bound.
+     * @param hi Upper bound.
+     * @param lower Lower bound of the range {@code L}.
+     * @param upper Upper bound of the range {@code U}.
+     * @param step Stride between sampled values.
+     * @return the counts
+     */
+    private Counts countPass(DoubleBuffer values, double lo, double hi,
+                             double lower, double upper, long step) {
+        final Counts c = new Counts();
+        final Sample sample = new Sample(sampleSize << 1, step);
+        double[] data = new double[16];
+        long inside = 0;
+        for (int i = values.position(), to = values.limit(); i < to; i++) {
+            final double v = values.get(i);
+            // Note: NaN is above hi
+            if (Double.compare(v, lo) < 0 || Double.compare(v, hi) > 0) {
+                continue;
+            }
+            final int cmp = Double.compare(v, lower);
+            if (cmp < 0) {
+                c.below++;
+            } else if (cmp == 0) {
+                c.lower++;
+            } else {
+                final int cmp2 = Double.compare(v, upper);
+                if (cmp2 < 0) {
+                    if (data != null) {
+                        if (inside == data.length) {
+                            data = inside == maxSize ? null :
+                                Arrays.copyOf(data, (int) Math.min(maxSize, inside * 2));
+                        }
+                        if (data != null) {
+                            data[(int) inside] = v;
+                        }
+                    }
+                    inside++;
+                    sample.add(v);
+                } else if (cmp2 == 0) {
+                    c.upper++;
+                }
+            }
+        }
+        c.inside = inside;
+        c.data = data;
+        c.sample = sample;
+        return c;
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
 import java.util.function.DoubleConsumer;
 
 /**
@@ -65,7 +66,7 @@ import java.util.function.DoubleConsumer;
  */
 class FirstMoment implements DoubleConsumer {
     /** The downscale constant. Used to avoid overflow for all finite input. */
-    private static final double DOWNSCALE = 0.5;
+    protected static final double DOWNSCALE = 0.5;
     /** The rescale constant. */
     private static final double RESCALE = 2;
 
@@ -98,14 +99,14 @@ class FirstMoment implements DoubleConsumer {
     /** First moment of values that have been added.
      * This is stored as a half value to prevent overflow for any finite input.
      * Benchmarks show this has negligible performance impact. */
-    private double m1;
+    protected double m1;
 
     /**
      * Running sum of values seen so far.
      * This is not used in the computation of mean. Used as a return value for first moment when
      * it is non-finite.
      */
-    private double nonFiniteValue;
+    protected double nonFiniteValue;
 
     /**
      * Create an instance.
@@ -148,12 +149,29 @@ class FirstMoment implements DoubleConsumer {
      * @return {@code FirstMoment} instance.
      */
     static FirstMoment of(double... values) {
-        if (values.length == 0) {
+        return ofRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code FirstMoment} computed using {@link #accept} may be different from
+     * this instance.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code FirstMoment} instance.
+     */
+    static FirstMoment ofRange(double[] values, int from, int to) {
+        if (from == to) {
             return new FirstMoment();
         }
         // In the typical use-case a sum of values will not overflow and
         // is faster than the rolling algorithm
-        return create(org.apache.commons.numbers.core.Sum.of(values), values);
+        return create(Statistics.sum(values, from, to), values, from, to);
     }
 
     /**
@@ -165,38 +183,43 @@ class FirstMoment implements DoubleConsumer {
      * <p>This method is used by {@link DoubleStatistics} using a sum that can be reused
      * for the {@link Sum} statistic.
      *
+     * <p>Warning: No range checks are performed.
+     *
      * @param sum Sum of the values.
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @return {@code FirstMoment} instance.
      */
-    static FirstMoment create(org.apache.commons.numbers.core.Sum sum, double[] values) {
+    static FirstMoment create(org.apache.commons.numbers.core.Sum sum, double[] values, int from, int to) {
         // Protect against empty values
-        if (values.length == 0) {
+        if (from == to) {
             return new FirstMoment();
         }
 
+        final int n = to - from;
         final double s = sum.getAsDouble();
         if (Double.isFinite(s)) {
-            return new FirstMoment(s / values.length, values.length);
+            return new FirstMoment(s / n, n);
         }
 
         // "Corrected two-pass algorithm"
 
         // First pass
-        final FirstMoment m1 = create(values);
+        final FirstMoment m1 = create(values, from, to);
         final double xbar = m1.getFirstMoment();
         if (!Double.isFinite(xbar)) {
             return m1;
         }
         // Second pass
         double correction = 0;
-        for (final double x : values) {
-            correction += x - xbar;
+        for (int i = from; i < to; i++) {
+            correction += values[i] - xbar;
         }
         // Note: Correction may be infinite
         if (Double.isFinite(correction)) {
             // Down scale the correction to the half representation
-            m1.m1 += DOWNSCALE * correction / values.length;
+            m1.m1 += DOWNSCALE * correction / n;
         }
         return m1;
     }
@@ -212,14 +235,16 @@ class FirstMoment implements DoubleConsumer {
      * </ul>
      *
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @return the first moment
      */
-    private static FirstMoment create(double[] values) {
+    private static FirstMoment create(double[] values, int from, int to) {
         double m1 = 0;
         int n = 0;
-        for (final double x : values) {
+        for (int i = from; i < to; i++) {
             // Downscale to avoid overflow for all finite input
-            m1 += (x * DOWNSCALE - m1) / ++n;
+            m1 += (values[i] * DOWNSCALE - m1) / ++n;
         }
         final FirstMoment m = new FirstMoment();
         m.n = n;
@@ -227,7 +252,7 @@ class FirstMoment implements DoubleConsumer {
         m.m1 = m1;
         // The non-finite value is only relevant if the data contains inf/nan
         if (!Double.isFinite(m1 * RESCALE)) {
-            m.nonFiniteValue = computeNonFiniteValue(values);
+            m.nonFiniteValue = computeNonFiniteValue(values, from, to);
         }
         return m;
     }
@@ -236,13 +261,15 @@ class FirstMoment implements DoubleConsumer {
      * Compute the result in the event of non-finite values.
      *
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @return the non-finite result
      */
-    private static double computeNonFiniteValue(double[] values) {
+    private static double computeNonFiniteValue(double[] values, int from, int to) {
         double sum = 0;
-        for (final double x : values) {
+        for (int i = from; i < to; i++) {
             // Scaling down values prevents overflow of finites.
-            sum += x * Double.MIN_NORMAL;
+            sum += values[i] * Double.MIN_NORMAL;
         }
         return sum;
     }
@@ -270,6 +297,68 @@ class FirstMoment implements DoubleConsumer {
         m1 += nDev;
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * <p>This is equivalent to calling {@link #accept(double)} for each value in the
+     * range. Sub-classes that update further moments must override this method and
+     * duplicate their own {@code accept} method using local variables.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     */
+    void accept(double[] values, int from, int to) {
+        // Duplicate the accept(double) method using local variables
+        double m = m1;
+        double d = dev;
+        double nd = nDev;
+        double nf = nonFiniteValue;
+        long c = n;
+        for (int i = from; i < to; i++) {
+            final double value = values[i];
+            nf += value * Double.MIN_NORMAL;
+            d = value * DOWNSCALE - m;
+            nd = d / ++c;
+            m += nd;
+        }
+        m1 = m;
+        dev = d;
+        nDev = nd;
+        nonFiniteValue = nf;
+        n = c;
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the removal of {@code value}.
+     * This reverses the update of {@link #accept(double)}.
+     *
+     * <p>On return the {@link #dev} is the half deviation of the value from the
+     * first moment before removal. Sub-classes can use this with the updated first
+     * moment to reverse their own update. The {@link #nDev} is not updated; higher order
+     * moments that require it do not support removal.
+     *
+     * <p>Warning: The value must be finite and have been added to the statistic.
+     * No checks are performed.
+     *
+     * @param value Value.
+     */
+    void remove(double value) {
+        // Reverse of the "updating one-pass algorithm":
+        // m_{i-1} = m_i - (x - m_i) / (i - 1)
+        nonFiniteValue -= value * Double.MIN_NORMAL;
+        dev = value * DOWNSCALE - m1;
+        if (--n == 0) {
+            m1 = 0;
+            nonFiniteValue = 0;
+        } else {
+            m1 -= dev / n;
+        }
+    }
+
     /**
      * Gets the first moment of all input values.
      *
@@ -355,4 +444,35 @@ class FirstMoment implements DoubleConsumer {
     double getFirstMomentHalfDifference(FirstMoment other) {
         return m1 - other.m1;
     }
+
+    /**
+     * Gets half the deviation of the {@code value} from the first moment.
+     * This is provided for sub-classes.
+     *
+     * @param value Value.
+     * @return the half deviation
+     */
+    double getFirstMomentHalfDeviation(double value) {
+        return value * DOWNSCALE - m1;
+    }
+
+    /**
+     * Writes the state of the moment to the buffer.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putLong(n).putDouble(m1).putDouble(nonFiniteValue);
+    }
+
+    /**
+     * Reads the state of the moment from the buffer.
+     *
+     * @param buffer Buffer.
+     */
+    void read(ByteBuffer buffer) {
+        n = buffer.getLong();
+        m1 = buffer.getDouble();
+        nonFiniteValue = buffer.getDouble();
+    }
 }
@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+
+/**
+ * Counts the frequency of {@code long} keys using an open-addressing hash table.
+ *
+ * <p>The keys and counts are stored in parallel primitive arrays. Collisions are
+ * resolved using linear probing. A slot is empty if the count is zero; this allows
+ * any key to be stored without a sentinel value. The capacity is a power of 2 and
+ * the table is resized when it is half full. At the maximum capacity of 2<sup>30</sup>
+ * the table fills and can store up to 2<sup>30</sup> - 1 distinct keys.
+ *
+ * <p>Keys are ordered as unsigned values. Callers map values to keys that preserve
+ * the natural ordering of the values.
+ *
+ * @since 1.2
+ */
+final class FrequencyTable {
+    /** Error message for an invalid number of values. */
+    private static final String INVALID_K = "Invalid number of values: ";
+    /** Error message when the table is full. */
+    private static final String TABLE_IS_FULL = "Table is full";
+    /** Initial capacity. */
+    private static final int INITIAL_CAPACITY = 16;
+    /** Maximum capacity. */
+    private static final int MAX_CAPACITY = 1 << 30;
+    /** Multiplier for Fibonacci hashing: 2^64 / phi. */
+    private static final long PHI = 0x9e3779b97f4a7c15L;
+
+    /** Keys. */
+    private long[] keys;
+    /** Counts. A zero count is an empty slot. */
+    private long[] counts;
+    /** Shift to map a hash to an index of the table. */
+    private int shift;
+    /** Number of distinct keys. */
+    private int size;
+    /** Total count. */
+    private long total;
+    /** Maximum capacity. */
+    private final int maxCapacity;
+
+    /**
+     * Create an instance.
+     */
+    FrequencyTable() {
+        this(MAX_CAPACITY);
+    }
+
+    /**
+     * Create an instance with the specified maximum capacity.
+     *
+     * @param maxCapacity Maximum capacity (must be a power of 2 of at least 16).
+     */
+    FrequencyTable(int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+        keys = new long[INITIAL_CAPACITY];
+        counts = new long[INITIAL_CAPACITY];
+        shift = Long.SIZE - Integer.numberOfTrailingZeros(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds one to the count of the key.
+     *
+     * @param key Key.
+     */
+    void add(long key) {
+        add(key, 1);
+    }
+
+    /**
+     * Adds the count to the count of the key.
+     *
+     * @param key Key.
+     * @param count Count (must be positive).
+     * @throws IllegalStateException if the key is new and the table is full
+     */
+    void add(long key, long count) {
+        final long[] k = keys;
+        final long[] c = counts;
+        final int mask = c.length - 1;
+        int i = index(key);
+        while (c[i] != 0) {
+            if (k[i] == key) {
+                c[i] += count;
+                total += count;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        // At the maximum capacity one slot is always left empty. This ensures
+        // the probe for a key that is not present terminates.
+        if (size == mask) {
+            throw new IllegalStateException(TABLE_IS_FULL);
+        }
+        k[i] = key;
+        c[i] = count;
+        total += count;
+        if (++size > (c.length >>> 1)) {
+            resize();
+        }
+    }
+
+    /**
+     * Gets the count of the key.
+     *
+     * @param key Key.
+     * @return the count
+     */
+    long get(long key) {
+        final long[] k = keys;
+        final long[] c = counts;
+        final int mask = c.length - 1;
+        int i = index(key);
+        while (c[i] != 0) {
+            if (k[i] == key) {
+                return c[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the number of distinct keys.
+     *
+     * @return the size
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the total count of all keys.
+     *
+     * @return the total
+     */
+    long total() {
+        return total;
+    }
+
+    /**
+     * Gets the maximum count of any key.
+     *
+     * @return the maximum count (or zero if empty)
+     */
+    long maxCount() {
+        long max = 0;
+        for (final long c : counts) {
+            max = Math.max(max, c);
+        }
+        return max;
+    }
+
+    /**
+     * Gets the keys with the maximum count in ascending order.
+     *
+     * @return the keys
+     */
+    long[] modes() {
+        final long max = maxCount();
+        if (max == 0) {
+            return new long[0];
+        }
+        final long[] c = counts;
+        int n = 0;
+        for (final long v : c) {
+            if (v == max) {
+                n++;
+            }
+        }
+        final long[] result = new long[n];
+        n = 0;
+        for (int i = 0; i < c.length; i++) {
+            if (c[i] == max) {
+                result[n++] = keys[i];
+            }
+        }
+        sortUnsigned(result);
+        return result;
+    }
+
+    /**
+     * Gets the {@code k} most frequent keys. The keys are ordered by descending
+     * count; keys with the same count are in ascending order. If there are fewer
+     * than {@code k} keys then all keys are returned.
+     *
+     * @param k Number of keys.
+     * @return the keys
+     * @throws IllegalArgumentException if {@code k < 0}
+     */
+    long[] top(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException(INVALID_K + k);
+        }
+        // Heap of slot indices with the least frequent key at the root.
+        // This is a bounded selection of the k most frequent keys.
+        final int m = Math.min(k, size);
+        final int[] heap = new int[m];
+        int n = 0;
+        final long[] c = counts;
+        for (int i = 0; i < c.length && m != 0; i++) {
+            if (c[i] == 0) {
+                continue;
+            }
+            if (n < m) {
+                heap[n] = i;
+                siftUp(heap, n++);
+            } else if (before(i, heap[0])) {
+                heap[0] = i;
+                siftDown(heap, 0, n);
+            }
+        }
+        // Remove the least frequent key to the end of the result
+        final long[] result = new long[m];
+        while (n > 0) {
+            result[--n] = keys[heap[0]];
+            heap[0] = heap[n];
+            siftDown(heap, 0, n);
+        }
+        return result;
+    }
+
+    /**
+     * Combines the counts of the {@code other} table into this table.
+     *
+     * @param other Other table.
+     */
+    void combine(FrequencyTable other) {
+        final long[] k = other.keys;
+        final long[] c = other.counts;
+        for (int i = 0; i < c.length; i++) {
+            if (c[i] != 0) {
+                add(k[i], c[i]);
+            }
+        }
+    }
+
+    /**
+     * Test if the key in slot {@code i} is ordered before the key in slot {@code j},
+     * i.e. it has a higher count, or the same count and a lower key.
+     *
+     * @param i Slot i.
+     * @param j Slot j.
+     * @return true if {@code i} is before {@code j}
+     */
+    private boolean before(int i, int j) {
+        final int cmp = Long.compare(counts[i], counts[j]);
+        return cmp > 0 || (cmp == 0 && Long.compareUnsigned(keys[i], keys[j]) < 0);
+    }
+
+    /**
+     * Move the element at index {@code i} up the heap. The root of the heap
+     * is the element ordered last.
+     *
+     * @param heap Heap.
+     * @param i Index.
+     */
+    private void siftUp(int[] heap, int i) {
+        final int x = heap[i];
+        int j = i;
+        while (j > 0) {
+            final int parent = (j - 1) >>> 1;
+            if (!before(heap[parent], x)) {
+                break;
+            }
+            heap[j] = heap[parent];
+            j = parent;
+        }
+        heap[j] = x;
+    }
+
+    /**
+     * Move the element at index {@code i} down the heap. The root of the heap
+     * is the element ordered last.
+     *
+     * @param heap Heap.
+     * @param i Index.
+     * @param n Size of the heap.
+     */
+    private void siftDown(int[] heap, int i, int n) {
+        final int x = heap[i];
+        int j = i;
+        int child;
+        while ((child = (j << 1) + 1) < n) {
+            // Select the child ordered last
+            if (child + 1 < n && before(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!before(x, heap[child])) {
+                break;
+            }
+            heap[j] = heap[child];
+            j = child;
+        }
+        heap[j] = x;
+    }
+
+    /**
+     * Double the capacity of the table.
+     */
+    private void resize() {
+        final long[] k = keys;
+        final long[] c = counts;
+        if (c.length == maxCapacity) {
+            // Allow the table to fill. This occurs for more than 2^29 distinct keys
+            // at the default maximum capacity, which is possible for int keys.
+            // The size is limited in add.
+            return;
+        }
+        keys = new long[c.length << 1];
+        counts = new long[c.length << 1];
+        shift--;
+        final int mask = counts.length - 1;
+        for (int j = 0; j < c.length; j++) {
+            if (c[j] != 0) {
+                int i = index(k[j]);
+                while (counts[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = k[j];
+                counts[i] = c[j];
+            }
+        }
+    }
+
+    /**
+     * Compute the index of the key in the table.
+     *
+     * @param key Key.
+     * @return the index
+     */
+    private int index(long key) {
+        return (int) ((key * PHI) >>> shift);
+    }
+
+    /**
+     * Sort the keys into ascending unsigned order.
+     *
+     * @param a Keys.
+     */
+    private static void sortUnsigned(long[] a) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] ^= Long.MIN_VALUE;
+        }
+        Arrays.sort(a);
+        for (int i = 0; i < a.length; i++) {
+            a[i] ^= Long.MIN_VALUE;
+        }
+    }
+}
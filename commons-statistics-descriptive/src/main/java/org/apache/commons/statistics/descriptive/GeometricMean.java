@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Computes the geometric mean of the available values. Uses the following definition
  * of the geometric mean:
@@ -111,6 +113,23 @@ public final class GeometricMean implements DoubleStatistic, StatisticAccumulato
         return new GeometricMean(SumOfLogs.of(values), values.length);
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>When the range is empty, the result is {@code NaN}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code GeometricMean} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static GeometricMean ofRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return new GeometricMean(SumOfLogs.createFromRange(values, from, to), to - from);
+    }
+
     /**
      * Returns an instance populated using the input {@code values}.
      *
@@ -123,6 +142,23 @@ public final class GeometricMean implements DoubleStatistic, StatisticAccumulato
         return new GeometricMean(SumOfLogs.of(values), values.length);
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>When the range is empty, the result is {@code NaN}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code GeometricMean} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static GeometricMean ofRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return new GeometricMean(SumOfLogs.createFromRange(values, from, to), to - from);
+    }
+
     /**
      * Returns an instance populated using the input {@code values}.
      *
@@ -135,6 +171,23 @@ public final class GeometricMean implements DoubleStatistic, StatisticAccumulato
         return new GeometricMean(SumOfLogs.of(values), values.length);
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>When the range is empty, the result is {@code NaN}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code GeometricMean} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static GeometricMean ofRange(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return new GeometricMean(SumOfLogs.createFromRange(values, from, to), to - from);
+    }
+
     /**
      * Updates the state of the statistic to reflect the addition of {@code value}.
      *
@@ -146,6 +199,23 @@ public final class GeometricMean implements DoubleStatistic, StatisticAccumulato
         sumOfLogs.accept(value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        n += to - from;
+        sumOfLogs.accept(values, from, to);
+    }
+
     /**
      * Gets the geometric mean of all input values.
      *
@@ -177,4 +247,58 @@ public final class GeometricMean implements DoubleStatistic, StatisticAccumulato
             Double.NaN :
             Math.exp(sumOfLogs.getAsDouble() / n);
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.GEOMETRIC_MEAN);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code GeometricMean} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code GeometricMean}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static GeometricMean readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.GEOMETRIC_MEAN);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putLong(n);
+        sumOfLogs.write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static GeometricMean read(ByteBuffer buffer) {
+        final long n = buffer.getLong();
+        return new GeometricMean(SumOfLogs.read(buffer), n);
+    }
 }
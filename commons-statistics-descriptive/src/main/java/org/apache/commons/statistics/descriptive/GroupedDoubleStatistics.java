@@ -0,0 +1,701 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Statistics for {@code double} values partitioned into groups.
+ *
+ * <p>Each value is recorded for a group identified by a non-negative {@code int}
+ * group id. Group ids are expected to be dense: the state of each group is stored
+ * at the index of the group id in parallel primitive arrays, one array per component
+ * of the statistics. The arrays are expanded as required when a new group id is
+ * recorded. This avoids the creation of a {@link DoubleStatistics} instance (and
+ * the objects of its underlying implementations) per group.
+ *
+ * <p>The supported statistics are {@link Statistic#MIN MIN}, {@link Statistic#MAX MAX},
+ * {@link Statistic#SUM SUM}, {@link Statistic#MEAN MEAN},
+ * {@link Statistic#VARIANCE VARIANCE} and
+ * {@link Statistic#STANDARD_DEVIATION STANDARD_DEVIATION}. The count of values
+ * is always recorded.
+ *
+ * <p>The result of each statistic for a group matches the result of the
+ * corresponding statistic in a {@link DoubleStatistics} instance that records
+ * the same values, including the handling of non-finite values.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@code accept} or
+ * {@link #combine(GroupedDoubleStatistics) combine} method, it must be
+ * synchronized externally.
+ *
+ * @see DoubleStatistics
+ * @since 1.2
+ */
+public final class GroupedDoubleStatistics {
+    /** Error message for no configured statistics. */
+    private static final String NO_CONFIGURED_STATISTICS = "No configured statistics";
+    /** Error message for an unsupported statistic. */
+    private static final String UNSUPPORTED_STATISTIC = "Unsupported statistic: ";
+    /** Error message for an incompatible statistics. */
+    private static final String INCOMPATIBLE_STATISTICS = "Incompatible statistics";
+    /** Error message for an invalid group. */
+    private static final String INVALID_GROUP = "Invalid group: ";
+    /** Initial capacity for the number of groups. */
+    private static final int INITIAL_CAPACITY = 16;
+    /** Maximum capacity for the number of groups. Some VMs reserve header words in an array. */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    /** The downscale constant for the first moment. Used to avoid overflow for all finite input. */
+    private static final double DOWNSCALE = 0.5;
+    /** The rescale constant for the first moment. */
+    private static final double RESCALE = 2;
+
+    /** Number of groups. */
+    private int size;
+    /** Count of values in each group. */
+    private long[] count;
+    /** Minimum of each group (or null). */
+    private double[] min;
+    /** Maximum of each group (or null). */
+    private double[] max;
+    /** High part of the extended precision sum of each group (or null). */
+    private double[] sum;
+    /** Low part of the extended precision sum of each group (or null). */
+    private double[] sumLow;
+    /** Half the first moment of each group (or null).
+     * This is stored as a half value to prevent overflow for any finite input. */
+    private double[] m1;
+    /** Sum of values scaled by {@link Double#MIN_NORMAL} of each group (or null).
+     * Used as the first moment when it is non-finite. */
+    private double[] nonFinite;
+    /** Sum of squared deviations of each group (or null). */
+    private double[] m2;
+    /** Configuration options for computation of statistics. */
+    private StatisticsConfiguration config = StatisticsConfiguration.withDefaults();
+
+    /**
+     * Create an instance.
+     *
+     * @param minimum Set to true to compute the minimum.
+     * @param maximum Set to true to compute the maximum.
+     * @param total Set to true to compute the sum.
+     * @param order Order of the moment to compute.
+     */
+    private GroupedDoubleStatistics(boolean minimum, boolean maximum, boolean total, int order) {
+        count = new long[INITIAL_CAPACITY];
+        if (minimum) {
+            min = new double[INITIAL_CAPACITY];
+            Arrays.fill(min, Double.POSITIVE_INFINITY);
+        }
+        if (maximum) {
+            max = new double[INITIAL_CAPACITY];
+            Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        }
+        if (total) {
+            sum = new double[INITIAL_CAPACITY];
+            sumLow = new double[INITIAL_CAPACITY];
+        }
+        if (order > 0) {
+            m1 = new double[INITIAL_CAPACITY];
+            nonFinite = new double[INITIAL_CAPACITY];
+            if (order > 1) {
+                m2 = new double[INITIAL_CAPACITY];
+            }
+        }
+    }
+
+    /**
+     * Returns a new instance configured to compute the specified {@code statistics}
+     * for each group.
+     *
+     * <p>The initial result for each group is the same as if no values were recorded
+     * for the group.
+     *
+     * @param statistics Statistics to compute.
+     * @return the instance
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute,
+     * or a {@code statistic} is not supported (e.g. {@link Statistic#DISTINCT_COUNT}).
+     */
+    public static GroupedDoubleStatistics of(Statistic... statistics) {
+        if (statistics.length == 0) {
+            throw new IllegalArgumentException(NO_CONFIGURED_STATISTICS);
+        }
+        boolean minimum = false;
+        boolean maximum = false;
+        boolean total = false;
+        int order = 0;
+        for (final Statistic statistic : statistics) {
+            switch (statistic) {
+            case MAX:
+                maximum = true;
+                break;
+            case MEAN:
+                order = Math.max(order, 1);
+                break;
+            case MIN:
+                minimum = true;
+                break;
+            case STANDARD_DEVIATION:
+            case VARIANCE:
+                order = 2;
+                break;
+            case SUM:
+                total = true;
+                break;
+            default:
+                throw new IllegalArgumentException(UNSUPPORTED_STATISTIC + statistic);
+            }
+        }
+        return new GroupedDoubleStatistics(minimum, maximum, total, order);
+    }
+
+    /**
+     * Updates the state of the statistics of the {@code group} to reflect the addition
+     * of {@code value}.
+     *
+     * @param group Group.
+     * @param value Value.
+     * @throws IllegalArgumentException if the {@code group} is negative
+     */
+    public void accept(int group, double value) {
+        ensureCapacity(group);
+        add(group, value);
+    }
+
+    /**
+     * Updates the state of the statistics to reflect the addition of the {@code values}
+     * to the corresponding {@code groups}.
+     *
+     * @param groups Groups.
+     * @param values Values.
+     * @throws IllegalArgumentException if the arrays have different lengths, or any
+     * {@code group} is negative
+     */
+    public void accept(int[] groups, double[] values) {
+        Statistics.checkPairedLength(groups.length, values.length);
+        add(groups, values, 0, values.length);
+    }
+
+    /**
+     * Updates the state of the statistics to reflect the addition of the specified
+     * range of {@code values} to the corresponding range of {@code groups}.
+     *
+     * <p>The values are processed as a column: each component of the statistics
+     * is updated for the entire range in turn.
+     *
+     * @param groups Groups.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IllegalArgumentException if the arrays have different lengths, or any
+     * {@code group} is negative
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public void accept(int[] groups, double[] values, int from, int to) {
+        Statistics.checkPairedLength(groups.length, values.length);
+        Statistics.checkFromToIndex(from, to, values.length);
+        add(groups, values, from, to);
+    }
+
+    /**
+     * Adds the value to the group. The capacity must be sufficient for the group.
+     *
+     * @param g Group.
+     * @param x Value.
+     */
+    private void add(int g, double x) {
+        if (min != null) {
+            min[g] = Math.min(min[g], x);
+        }
+        if (max != null) {
+            max[g] = Math.max(max[g], x);
+        }
+        if (sum != null) {
+            addSum(g, x);
+        }
+        if (m1 == null) {
+            count[g]++;
+            return;
+        }
+        // "Updating one-pass algorithm"
+        // See: Chan et al (1983) Equation 1.3a and 1.3b
+        // This is modified with scaling to avoid overflow for all finite input.
+        nonFinite[g] += x * Double.MIN_NORMAL;
+        final long n = ++count[g];
+        final double dev = x * DOWNSCALE - m1[g];
+        final double nDev = dev / n;
+        m1[g] += nDev;
+        if (m2 != null) {
+            // Note: account for the half-deviation representation by scaling by 4=2^2
+            m2[g] += (n - 1) * dev * nDev * 4;
+        }
+    }
+
+    /**
+     * Adds the range of values to the groups.
+     *
+     * @param groups Groups.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     */
+    private void add(int[] groups, double[] values, int from, int to) {
+        if (from == to) {
+            return;
+        }
+        // Expand the arrays once for the range
+        int maxGroup = groups[from];
+        for (int i = from; i < to; i++) {
+            final int g = groups[i];
+            if (g < 0) {
+                throw new IllegalArgumentException(INVALID_GROUP + g);
+            }
+            maxGroup = Math.max(maxGroup, g);
+        }
+        ensureCapacity(maxGroup);
+        // Update each component as a column
+        if (min != null) {
+            final double[] a = min;
+            for (int i = from; i < to; i++) {
+                final int g = groups[i];
+                a[g] = Math.min(a[g], values[i]);
+            }
+        }
+        if (max != null) {
+            final double[] a = max;
+            for (int i = from; i < to; i++) {
+                final int g = groups[i];
+                a[g] = Math.max(a[g], values[i]);
+            }
+        }
+        if (sum != null) {
+            for (int i = from; i < to; i++) {
+                addSum(groups[i], values[i]);
+            }
+        }
+        if (m1 == null) {
+            final long[] n = count;
+            for (int i = from; i < to; i++) {
+                n[groups[i]]++;
+            }
+        } else if (m2 == null) {
+            final long[] n = count;
+            final double[] a = m1;
+            final double[] b = nonFinite;
+            for (int i = from; i < to; i++) {
+                final int g = groups[i];
+                final double x = values[i];
+                b[g] += x * Double.MIN_NORMAL;
+                a[g] += (x * DOWNSCALE - a[g]) / ++n[g];
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                // Moments are updated together
+                final int g = groups[i];
+                final double x = values[i];
+                nonFinite[g] += x * Double.MIN_NORMAL;
+                final long n = ++count[g];
+                final double dev = x * DOWNSCALE - m1[g];
+                final double nDev = dev / n;
+                m1[g] += nDev;
+                m2[g] += (n - 1) * dev * nDev * 4;
+            }
+        }
+    }
+
+    /**
+     * Adds the value to the extended precision sum of the group.
+     *
+     * @param g Group.
+     * @param x Value.
+     */
+    private void addSum(int g, double x) {
+        final double a = sum[g];
+        final double s = a + x;
+        // Two-sum round-off
+        final double bVirtual = s - a;
+        sumLow[g] += (a - (s - bVirtual)) + (x - bVirtual);
+        sum[g] = s;
+    }
+
+    /**
+     * Ensure the capacity of the arrays is sufficient to store the {@code group}.
+     * The number of groups is updated to include the {@code group}.
+     *
+     * @param group Group.
+     * @throws IllegalArgumentException if the {@code group} is negative
+     */
+    private void ensureCapacity(int group) {
+        if (group < size) {
+            if (group < 0) {
+                throw new IllegalArgumentException(INVALID_GROUP + group);
+            }
+            return;
+        }
+        final int length = count.length;
+        if (group >= length) {
+            // Double the capacity; limit to the maximum supported
+            final int capacity = (int) Math.max(group + 1L, Math.min(length * 2L, MAX_CAPACITY));
+            count = Arrays.copyOf(count, capacity);
+            min = expand(min, capacity, Double.POSITIVE_INFINITY);
+            max = expand(max, capacity, Double.NEGATIVE_INFINITY);
+            sum = expand(sum, capacity, 0);
+            sumLow = expand(sumLow, capacity, 0);
+            m1 = expand(m1, capacity, 0);
+            nonFinite = expand(nonFinite, capacity, 0);
+            m2 = expand(m2, capacity, 0);
+        }
+        size = group + 1;
+    }
+
+    /**
+     * Expand the array to the specified capacity. New elements are set to the
+     * initial value.
+     *
+     * @param a Array (can be null).
+     * @param capacity Capacity.
+     * @param initialValue Initial value.
+     * @return the expanded array (or null)
+     */
+    private static double[] expand(double[] a, int capacity, double initialValue) {
+        if (a == null) {
+            return null;
+        }
+        final double[] b = Arrays.copyOf(a, capacity);
+        if (initialValue != 0) {
+            Arrays.fill(b, a.length, capacity, initialValue);
+        }
+        return b;
+    }
+
+    /**
+     * Gets the number of groups. This is one more than the largest group recorded
+     * by the statistics.
+     *
+     * <p>Groups that have not recorded a value have a count of zero.
+     *
+     * @return the number of groups
+     */
+    public int getGroupCount() {
+        return size;
+    }
+
+    /**
+     * Return the count of values recorded for the {@code group}.
+     *
+     * @param group Group.
+     * @return the count of values
+     * @throws IllegalArgumentException if the {@code group} is negative
+     */
+    public long getCount(int group) {
+        return checkGroup(group) < size ? count[group] : 0;
+    }
+
+    /**
+     * Return the count of values recorded for each group.
+     *
+     * <p>The length of the result is the {@link #getGroupCount() number of groups}.
+     *
+     * @return the count of values of each group
+     */
+    public long[] getCounts() {
+        return Arrays.copyOf(count, size);
+    }
+
+    /**
+     * Check if the specified {@code statistic} is supported.
+     *
+     * <p>Note: This method will not return {@code false} if the argument is {@code null}.
+     *
+     * @param statistic Statistic.
+     * @return {@code true} if supported
+     * @throws NullPointerException if the {@code statistic} is {@code null}
+     * @see #getAsDouble(Statistic, int)
+     */
+    public boolean isSupported(Statistic statistic) {
+        switch (statistic) {
+        case MAX:
+            return max != null;
+        case MEAN:
+            return m1 != null;
+        case MIN:
+            return min != null;
+        case STANDARD_DEVIATION:
+        case VARIANCE:
+            return m2 != null;
+        case SUM:
+            return sum != null;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Gets the value of the specified {@code statistic} as a {@code double}
+     * for the {@code group}.
+     *
+     * @param statistic Statistic.
+     * @param group Group.
+     * @return the value
+     * @throws IllegalArgumentException if the {@code statistic} is not supported,
+     * or the {@code group} is negative
+     * @see #isSupported(Statistic)
+     */
+    public double getAsDouble(Statistic statistic, int group) {
+        checkSupported(statistic);
+        return checkGroup(group) < size ? compute(statistic, group) : empty(statistic);
+    }
+
+    /**
+     * Gets the value of the specified {@code statistic} as a {@code double}
+     * for each group.
+     *
+     * <p>The length of the result is the {@link #getGroupCount() number of groups}.
+     *
+     * @param statistic Statistic.
+     * @return the value of each group
+     * @throws IllegalArgumentException if the {@code statistic} is not supported
+     * @see #isSupported(Statistic)
+     */
+    public double[] getAsDoubleArray(Statistic statistic) {
+        checkSupported(statistic);
+        final double[] result = new double[size];
+        for (int g = 0; g < result.length; g++) {
+            result[g] = compute(statistic, g);
+        }
+        return result;
+    }
+
+    /**
+     * Check the {@code statistic} is supported.
+     *
+     * @param statistic Statistic.
+     * @throws IllegalArgumentException if the {@code statistic} is not supported
+     */
+    private void checkSupported(Statistic statistic) {
+        if (!isSupported(statistic)) {
+            throw new IllegalArgumentException(UNSUPPORTED_STATISTIC + statistic);
+        }
+    }
+
+    /**
+     * Check the {@code group} is not negative.
+     *
+     * @param group Group.
+     * @return the group
+     * @throws IllegalArgumentException if the {@code group} is negative
+     */
+    private static int checkGroup(int group) {
+        if (group < 0) {
+            throw new IllegalArgumentException(INVALID_GROUP + group);
+        }
+        return group;
+    }
+
+    /**
+     * Compute the supported {@code statistic} for the group.
+     *
+     * @param statistic Statistic.
+     * @param g Group.
+     * @return the value
+     */
+    private double compute(Statistic statistic, int g) {
+        switch (statistic) {
+        case MAX:
+            return max[g];
+        case MEAN:
+            return getMean(g);
+        case MIN:
+            return min[g];
+        case STANDARD_DEVIATION:
+            return Math.sqrt(getVariance(g));
+        case VARIANCE:
+            return getVariance(g);
+        default:
+            // SUM
+            final double result = sum[g] + sumLow[g];
+            return Double.isFinite(result) ? result : sum[g];
+        }
+    }
+
+    /**
+     * Gets the value of the supported {@code statistic} when no values have been recorded.
+     *
+     * @param statistic Statistic.
+     * @return the value
+     */
+    private static double empty(Statistic statistic) {
+        switch (statistic) {
+        case MAX:
+            return Double.NEGATIVE_INFINITY;
+        case MIN:
+            return Double.POSITIVE_INFINITY;
+        case SUM:
+            return 0;
+        default:
+            // Moments
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Gets the mean of the group.
+     *
+     * @param g Group.
+     * @return the mean
+     */
+    private double getMean(int g) {
+        // Scale back to the original magnitude
+        final double m = m1[g] * RESCALE;
+        if (Double.isFinite(m)) {
+            return count[g] == 0 ? Double.NaN : m;
+        }
+        // A non-finite value must have been encountered
+        return nonFinite[g];
+    }
+
+    /**
+     * Gets the variance of the group.
+     *
+     * @param g Group.
+     * @return the variance
+     */
+    private double getVariance(int g) {
+        // Note: The mean is NaN for n=0
+        if (!Double.isFinite(getMean(g))) {
+            return Double.NaN;
+        }
+        final double ss = m2[g];
+        if (!Double.isFinite(ss)) {
+            return Double.NaN;
+        }
+        final long n = count[g];
+        // Avoid a divide by zero
+        if (n == 1) {
+            return 0;
+        }
+        return config.isBiased() ? ss / n : ss / (n - 1);
+    }
+
+    /**
+     * Combines the state of the {@code other} statistics into this one.
+     * The statistics of each group of the {@code other} instance are combined
+     * with the statistics of the same group.
+     * Only {@code this} instance is modified by the {@code combine} operation.
+     *
+     * <p>The {@code other} instance must be <em>compatible</em>. This is {@code true} if the
+     * {@code other} instance returns {@code true} for {@link #isSupported(Statistic)} for
+     * all values of the {@link Statistic} enum which are supported by {@code this}
+     * instance. In the event that the {@code other} instance is not compatible then
+     * an exception is raised before any state is modified.
+     *
+     * @param other Another set of statistics to be combined.
+     * @return {@code this} instance after combining {@code other}.
+     * @throws IllegalArgumentException if the {@code other} is not compatible
+     */
+    public GroupedDoubleStatistics combine(GroupedDoubleStatistics other) {
+        if ((min != null && other.min == null) ||
+            (max != null && other.max == null) ||
+            (sum != null && other.sum == null) ||
+            (m1 != null && other.m1 == null) ||
+            (m2 != null && other.m2 == null)) {
+            throw new IllegalArgumentException(INCOMPATIBLE_STATISTICS);
+        }
+        if (other.size == 0) {
+            return this;
+        }
+        ensureCapacity(other.size - 1);
+        for (int g = 0; g < other.size; g++) {
+            final long n2 = other.count[g];
+            if (n2 != 0) {
+                combine(g, other, n2);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Combines the state of the group of the {@code other} statistics into the
+     * same group of this instance.
+     *
+     * @param g Group.
+     * @param other Other statistics.
+     * @param n2 Count of the other group.
+     */
+    private void combine(int g, GroupedDoubleStatistics other, long n2) {
+        if (min != null) {
+            min[g] = Math.min(min[g], other.min[g]);
+        }
+        if (max != null) {
+            max[g] = Math.max(max[g], other.max[g]);
+        }
+        if (sum != null) {
+            addSum(g, other.sum[g]);
+            // The low part is added directly. It is NaN if the high part is non-finite.
+            sumLow[g] += other.sumLow[g];
+        }
+        final long n1 = count[g];
+        count[g] = n1 + n2;
+        if (m1 == null) {
+            return;
+        }
+        nonFinite[g] += other.nonFinite[g];
+        final double mu1 = m1[g];
+        final double mu2 = other.m1[g];
+        if (m2 != null) {
+            if (n1 == 0) {
+                m2[g] = other.m2[g];
+            } else {
+                // "Updating one-pass algorithm"
+                // See: Chan et al (1983) Equation 1.5b (modified for the mean)
+                final double diffOfMean = (mu1 - mu2) * RESCALE;
+                final double sqDiffOfMean = diffOfMean * diffOfMean;
+                // Enforce symmetry
+                m2[g] = (m2[g] + other.m2[g]) +
+                    sqDiffOfMean * (((double) n1 * n2) / ((double) n1 + n2));
+            }
+        }
+        // Adjust the mean with the weighted difference:
+        // m1 = m1 + (m2 - m1) * n2 / (n1 + n2)
+        // The half-representation ensures the difference of means is at most MAX_VALUE.
+        if (n1 == n2) {
+            m1[g] = (mu1 + mu2) * 0.5;
+        } else {
+            m1[g] = n2 < n1 ?
+                mu1 + (mu2 - mu1) * ((double) n2 / (n1 + n2)) :
+                mu2 + (mu1 - mu2) * ((double) n1 / (n1 + n2));
+        }
+    }
+
+    /**
+     * Sets the statistics configuration.
+     *
+     * <p>These options only control the final computation of statistics. The configuration
+     * will not affect compatibility between instances during a
+     * {@link #combine(GroupedDoubleStatistics) combine} operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     * @throws NullPointerException if the value is null
+     */
+    public GroupedDoubleStatistics setConfiguration(StatisticsConfiguration v) {
+        config = Objects.requireNonNull(v);
+        return this;
+    }
+}
@@ -0,0 +1,442 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Objects;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Computes a histogram of the available values using bins of equal width over a
+ * fixed range {@code [lower, upper]}.
+ *
+ * <p>Each bin is a half-open interval {@code [a, b)}; the final bin includes the
+ * {@code upper} bound. Values below {@code lower} and above {@code upper} are counted
+ * as underflow and overflow respectively. Recording a value is a constant time
+ * operation that increments a {@code long} count.
+ *
+ * <p>The quantile is estimated using the {@link Quantile.EstimationMethod} to compute
+ * the (real-valued) rank of the quantile within the sorted values. The value is
+ * interpolated between the values at the adjacent integer ranks; these are estimated
+ * from the cumulative counts. The values in a bin are assumed to be uniformly
+ * distributed: each value is positioned at the centre of an equal part of the bin.
+ * The error of the estimate is at most the width of the bin. Underflow and overflow
+ * values are interpolated using the exact minimum and maximum of the values. The
+ * quantile is always within the exact range of the values; the quantiles {@code p=0}
+ * and {@code p=1} are exact. The rank is computed in the same way by
+ * {@link LogHistogram} and {@link LongHistogram}; these differ only in the value
+ * used for a rank within a bucket.
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ *   <li>{@code NaN} values are ignored. This is the behaviour of {@link NaNPolicy#EXCLUDE}.
+ * </ul>
+ *
+ * <p>The {@link #getAsDouble() result} is the median. Other quantiles can be obtained
+ * using {@link #getQuantile(double)}. The {@link #getMean() mean} is computed from all
+ * recorded values and does not depend on the bins.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link java.util.function.DoubleConsumer#accept(double) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link java.util.function.DoubleConsumer#accept(double) accept}
+ * and {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as {@code accumulator} and {@code combiner} functions of
+ * {@link java.util.stream.Collector Collector} on a parallel stream,
+ * because the parallel implementation of {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Histogram">Histogram (Wikipedia)</a>
+ * @see LogHistogram
+ * @since 1.2
+ */
+public final class Histogram implements DoubleStatistic, StatisticAccumulator<Histogram> {
+    /** The downscale constant. Used to avoid overflow of the range for all finite bounds. */
+    private static final double DOWNSCALE = 0.5;
+    /** Probability of the median. */
+    private static final double MEDIAN = 0.5;
+
+    /** Lower bound. */
+    private final double lower;
+    /** Upper bound. */
+    private final double upper;
+    /** Scale factor applied to the values to avoid overflow of the range. */
+    private final double factor;
+    /** Scaled lower bound. */
+    private final double offset;
+    /** Number of bins per unit of the scaled values. */
+    private final double scale;
+    /** Bin counts. */
+    private final long[] counts;
+    /** Count of values below the lower bound. */
+    private long underflow;
+    /** Count of values above the upper bound. */
+    private long overflow;
+    /** Count of (non-NaN) values that have been added. */
+    private long n;
+    /** Minimum (non-NaN) value. */
+    private double min = Double.POSITIVE_INFINITY;
+    /** Maximum (non-NaN) value. */
+    private double max = Double.NEGATIVE_INFINITY;
+    /** First moment of the (non-NaN) values. */
+    private final FirstMoment moment = new FirstMoment();
+    /** Estimation type used to determine the rank of the quantile. */
+    private Quantile.EstimationMethod estimationType = Quantile.EstimationMethod.HF8;
+
+    /**
+     * Create an instance.
+     *
+     * @param lower Lower bound.
+     * @param upper Upper bound.
+     * @param bins Number of bins.
+     */
+    private Histogram(double lower, double upper, int bins) {
+        this.lower = lower;
+        this.upper = upper;
+        // Only downscale when required to avoid loss of precision for sub-normal values
+        factor = Double.isFinite(upper - lower) ? 1 : DOWNSCALE;
+        offset = lower * factor;
+        scale = bins / (upper * factor - offset);
+        counts = new long[bins];
+    }
+
+    /**
+     * Creates an instance with the specified number of bins of equal width spanning the
+     * range {@code [lower, upper]}.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @param lower Lower bound.
+     * @param upper Upper bound.
+     * @param bins Number of bins.
+     * @return {@code Histogram} instance.
+     * @throws IllegalArgumentException if the bounds are not finite; {@code lower >= upper};
+     * or {@code bins < 1}
+     */
+    public static Histogram create(double lower, double upper, int bins) {
+        // Logic negation will detect NaN
+        if (!(lower < upper && Double.isFinite(lower) && Double.isFinite(upper))) {
+            throw new IllegalArgumentException("Invalid range: [" + lower + ", " + upper + "]");
+        }
+        if (bins < 1) {
+            throw new IllegalArgumentException("Invalid number of bins: " + bins);
+        }
+        return new Histogram(lower, upper, bins);
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(double value) {
+        if (value >= lower) {
+            if (value <= upper) {
+                // Clip the index: values close to the upper bound may round to the end
+                counts[Math.min((int) ((value * factor - offset) * scale), counts.length - 1)]++;
+            } else {
+                overflow++;
+            }
+        } else if (value < lower) {
+            underflow++;
+        } else {
+            // NaN
+            return;
+        }
+        n++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        moment.accept(value);
+    }
+
+    /**
+     * Gets the number of (non-NaN) values that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return n;
+    }
+
+    /**
+     * Gets the lower bound of the histogram.
+     *
+     * @return the lower bound
+     */
+    public double getLowerBound() {
+        return lower;
+    }
+
+    /**
+     * Gets the upper bound of the histogram.
+     *
+     * @return the upper bound
+     */
+    public double getUpperBound() {
+        return upper;
+    }
+
+    /**
+     * Gets the count of values in each bin. Bin {@code i} contains values in the interval
+     * {@code [lower + i * w, lower + (i + 1) * w)} where {@code w} is the bin width.
+     * The final bin includes the upper bound.
+     *
+     * @return the counts
+     */
+    public long[] getCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * Gets the count of values below the lower bound.
+     *
+     * @return the count
+     */
+    public long getUnderflowCount() {
+        return underflow;
+    }
+
+    /**
+     * Gets the count of values above the upper bound.
+     *
+     * @return the count
+     */
+    public long getOverflowCount() {
+        return overflow;
+    }
+
+    /**
+     * Gets the mean of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return the mean
+     * @see Mean
+     */
+    public double getMean() {
+        return moment.getFirstMoment();
+    }
+
+    /**
+     * Gets the estimated median of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return the median
+     * @see #getQuantile(double)
+     */
+    @Override
+    public double getAsDouble() {
+        return quantile(MEDIAN);
+    }
+
+    /**
+     * Gets the estimated {@code p}-th quantile of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     */
+    public double getQuantile(double p) {
+        Quantile.checkProbability(p);
+        return quantile(p);
+    }
+
+    /**
+     * Gets the estimated {@code p}-th quantiles of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     */
+    public double[] getQuantiles(double... p) {
+        Quantile.checkProbabilities(p);
+        final double[] q = new double[p.length];
+        for (int i = 0; i < p.length; i++) {
+            q[i] = quantile(p[i]);
+        }
+        return q;
+    }
+
+    /**
+     * Compute the {@code p}-th quantile.
+     *
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     */
+    private double quantile(double p) {
+        return quantile(estimationType, p, n, this::value);
+    }
+
+    /**
+     * Compute the {@code p}-th quantile of {@code n} values. The estimation method is used
+     * to compute the (real-valued) rank of the quantile; the result is interpolated
+     * between the values at the adjacent integer ranks.
+     *
+     * <p>This is the quantile definition shared by the histograms.
+     *
+     * @param method Estimation method.
+     * @param p Probability for the quantile to compute.
+     * @param n Count of values.
+     * @param value Function to compute the value at a zero-based rank in {@code [0, n)}.
+     * @return the quantile
+     */
+    static double quantile(Quantile.EstimationMethod method, double p, long n, LongToDoubleFunction value) {
+        if (n == 0) {
+            return Double.NaN;
+        }
+        final double pos = method.index(p, n);
+        final long k = (long) pos;
+        final double v = value.applyAsDouble(k);
+        final double g = pos - k;
+        if (g == 0) {
+            return v;
+        }
+        return Interpolation.interpolate(v, value.applyAsDouble(k + 1), g);
+    }
+
+    /**
+     * Gets the estimated value with the zero-based rank {@code k} in the sorted values.
+     *
+     * @param k Rank in {@code [0, n)}.
+     * @return the value
+     */
+    private double value(long k) {
+        // The extreme values are exact
+        if (k == 0) {
+            return min;
+        }
+        if (k == n - 1) {
+            return max;
+        }
+        if (k < underflow) {
+            // Position the values uniformly in [min, lower)
+            return interpolate(min, lower, k, underflow);
+        }
+        long cumulative = underflow;
+        final int bins = counts.length;
+        for (int i = 0; i < bins; i++) {
+            final long c = counts[i];
+            if (k < cumulative + c) {
+                // Position the values at the centre of c equal parts of the bin
+                return clip(interpolate(getBinBound(i), getBinBound(i + 1), k - cumulative + 0.5, c));
+            }
+            cumulative += c;
+        }
+        // Position the values uniformly in (upper, max]
+        return interpolate(upper, max, k - cumulative + 1, overflow);
+    }
+
+    /**
+     * Gets the bound of the bin. This is the lower bound of bin {@code i} and the
+     * upper bound of bin {@code i - 1}.
+     *
+     * @param i Bin index in {@code [0, bins]}.
+     * @return the bound
+     */
+    private double getBinBound(int i) {
+        if (i == counts.length) {
+            return upper;
+        }
+        return (offset + i / scale) / factor;
+    }
+
+    /**
+     * Clip the value to the range of the added values.
+     *
+     * @param x Value.
+     * @return the clipped value
+     */
+    private double clip(double x) {
+        return Math.min(max, Math.max(min, x));
+    }
+
+    /**
+     * Interpolate the value at the position {@code r} in the interval {@code [a, b]}
+     * containing {@code c} values.
+     *
+     * @param a Lower bound.
+     * @param b Upper bound.
+     * @param r Rank within the interval in {@code [0, c]}.
+     * @param c Count.
+     * @return the value
+     */
+    static double interpolate(double a, double b, double r, long c) {
+        if (r <= 0 || c == 0) {
+            return a;
+        }
+        if (r >= c) {
+            return b;
+        }
+        return Interpolation.interpolate(a, b, r / c);
+    }
+
+    /**
+     * Sets the {@link Quantile.EstimationMethod} used to compute the rank of the quantile.
+     * The default is {@link Quantile.EstimationMethod#HF8 HF8}.
+     *
+     * <p>This only controls the final computation of the statistic. The value
+     * will not affect compatibility between instances during a
+     * {@link #combine(Histogram) combine} operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     */
+    public Histogram setEstimationMethod(Quantile.EstimationMethod v) {
+        estimationType = Objects.requireNonNull(v);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the {@code other} histogram does not have
+     * the same bins
+     */
+    @Override
+    public Histogram combine(Histogram other) {
+        if (lower != other.lower || upper != other.upper || counts.length != other.counts.length) {
+            throw new IllegalArgumentException("Incompatible histogram bins");
+        }
+        final long[] c = counts;
+        final long[] oc = other.counts;
+        for (int i = 0; i < c.length; i++) {
+            c[i] += oc[i];
+        }
+        underflow += other.underflow;
+        overflow += other.overflow;
+        n += other.n;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        moment.combine(other.moment);
+        return this;
+    }
+}
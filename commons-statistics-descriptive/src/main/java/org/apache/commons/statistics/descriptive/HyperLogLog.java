@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.nio.ByteBuffer;
+
+/**
+ * HyperLogLog sketch to estimate the number of distinct {@code long} values.
+ *
+ * <p>Each value is hashed to 64-bits. The upper {@code p} bits of the hash select
+ * one of {@code m = 2^p} registers; the register records the maximum position of
+ * the first 1-bit in the remaining bits. The number of distinct values is estimated
+ * from the histogram of the registers using the improved estimator of Ertl (2017).
+ * This does not require empirical bias correction and is accurate for the entire
+ * range of cardinalities. The relative standard error is approximately
+ * {@code 1.04 / sqrt(m)}.
+ *
+ * <p>Sketches with the same precision are merged by taking the maximum of each
+ * register. The result is identical to a sketch that recorded all the values.
+ *
+ * <p>References:
+ * <ol>
+ *   <li>Flajolet, Fusy, Gandouet and Meunier (2007)
+ *       HyperLogLog: the analysis of a near-optimal cardinality estimation algorithm.
+ *       Discrete Mathematics and Theoretical Computer Science Proceedings, pp. 137-156.
+ *   <li>Ertl (2017)
+ *       New cardinality estimation algorithms for HyperLogLog sketches.
+ *       <a href="https://arxiv.org/abs/1702.01284">arXiv:1702.01284</a>.
+ * </ol>
+ *
+ * @since 1.2
+ */
+final class HyperLogLog {
+    /** Minimum precision. */
+    static final int MIN_PRECISION = 4;
+    /** Maximum precision. */
+    static final int MAX_PRECISION = 18;
+    /** Default precision. This uses 4 KiB of registers for a relative standard error of 1.6%. */
+    static final int DEFAULT_PRECISION = 12;
+    /** Error message for an invalid precision. */
+    private static final String INVALID_PRECISION = "Invalid precision: ";
+    /** Error message for incompatible sketches. */
+    private static final String INCOMPATIBLE_PRECISION = "Incompatible precision: %d != %d";
+    /** Constant for the estimator: 1 / (2 ln 2). */
+    private static final double ALPHA_INF = 0.7213475204444817;
+    /** Increment for the hash function: 2^64 / phi. */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /** Precision. */
+    private final int p;
+    /** Registers. */
+    private final byte[] registers;
+
+    /**
+     * Create an instance.
+     *
+     * @param p Precision.
+     */
+    private HyperLogLog(int p) {
+        this.p = p;
+        registers = new byte[1 << p];
+    }
+
+    /**
+     * Creates an instance with the specified precision.
+     *
+     * @param precision Precision.
+     * @return the instance
+     * @throws IllegalArgumentException if the precision is not in
+     * {@code [MIN_PRECISION, MAX_PRECISION]}
+     */
+    static HyperLogLog create(int precision) {
+        return new HyperLogLog(checkPrecision(precision));
+    }
+
+    /**
+     * Check the precision is in {@code [MIN_PRECISION, MAX_PRECISION]}.
+     *
+     * @param precision Precision.
+     * @return the precision
+     * @throws IllegalArgumentException if the precision is not in
+     * {@code [MIN_PRECISION, MAX_PRECISION]}
+     */
+    static int checkPrecision(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(INVALID_PRECISION + precision);
+        }
+        return precision;
+    }
+
+    /**
+     * Gets the precision.
+     *
+     * @return the precision
+     */
+    int getPrecision() {
+        return p;
+    }
+
+    /**
+     * Adds the value.
+     *
+     * @param value Value.
+     */
+    void add(long value) {
+        final long hash = hash(value);
+        final int i = (int) (hash >>> (Long.SIZE - p));
+        // Position of the first 1-bit in the remaining bits. A sentinel bit limits
+        // the rank to 64 - p + 1.
+        final int rank = Long.numberOfLeadingZeros((hash << p) | (1L << (p - 1))) + 1;
+        if (rank > registers[i]) {
+            registers[i] = (byte) rank;
+        }
+    }
+
+    /**
+     * Merges the {@code other} sketch into this sketch.
+     *
+     * @param other Other sketch.
+     * @throws IllegalArgumentException if the precision is different
+     */
+    void combine(HyperLogLog other) {
+        if (p != other.p) {
+            throw new IllegalArgumentException(String.format(INCOMPATIBLE_PRECISION, p, other.p));
+        }
+        final byte[] a = registers;
+        final byte[] b = other.registers;
+        for (int i = 0; i < a.length; i++) {
+            if (b[i] > a[i]) {
+                a[i] = b[i];
+            }
+        }
+    }
+
+    /**
+     * Estimate the number of distinct values.
+     *
+     * @return the estimate
+     */
+    double estimate() {
+        // Improved raw estimator of Ertl (2017), Algorithm 6
+        final int q = Long.SIZE - p;
+        final int[] c = new int[q + 2];
+        for (final byte r : registers) {
+            c[r]++;
+        }
+        final double m = registers.length;
+        if (c[0] == registers.length) {
+            return 0;
+        }
+        double z = m * tau(1 - c[q + 1] / m);
+        for (int k = q; k >= 1; k--) {
+            z += c[k];
+            z *= 0.5;
+        }
+        z += m * sigma(c[0] / m);
+        return ALPHA_INF * m * m / z;
+    }
+
+    /**
+     * Writes the state of the sketch to the buffer.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.put((byte) p).put(registers);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     * @throws IllegalArgumentException if the precision is invalid
+     */
+    static HyperLogLog read(ByteBuffer buffer) {
+        final HyperLogLog h = create(buffer.get());
+        buffer.get(h.registers);
+        return h;
+    }
+
+    /**
+     * Hash the value to 64-bits. This is a bijection using the mixing function
+     * of the SplitMix64 generator; the increment prevents zero mapping to zero.
+     *
+     * @param value Value.
+     * @return the hash
+     */
+    private static long hash(long value) {
+        long z = value + GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Compute the sigma function used for the correction of registers with a value
+     * of zero.
+     *
+     * @param x Fraction of registers with a value of zero.
+     * @return sigma(x)
+     */
+    private static double sigma(double x) {
+        if (x == 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double xx = x;
+        double y = 1;
+        double z = x;
+        double zPrev;
+        do {
+            xx *= xx;
+            zPrev = z;
+            z += xx * y;
+            y += y;
+        } while (z != zPrev);
+        return z;
+    }
+
+    /**
+     * Compute the tau function used for the correction of registers with the
+     * maximum value.
+     *
+     * @param x One minus the fraction of registers with the maximum value.
+     * @return tau(x)
+     */
+    private static double tau(double x) {
+        if (x == 0 || x == 1) {
+            return 0;
+        }
+        double xx = x;
+        double y = 1;
+        double z = 1 - x;
+        double zPrev;
+        do {
+            xx = Math.sqrt(xx);
+            zPrev = z;
+            y *= 0.5;
+            final double d = 1 - xx;
+            z -= d * d * y;
+        } while (z != zPrev);
+        return z / 3;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.math.BigInteger;
+
+/**
+ * Computes the covariance of the available paired values. The default implementation
+ * uses the following definition of the <em>sample covariance</em>:
+ *
+ * <p>\[ \tfrac{1}{n-1} \sum_{i=1}^n (x_i-\overline{x})(y_i-\overline{y}) \]
+ *
+ * <p>where \( \overline{x} \) and \( \overline{y} \) are the sample means, and \( n \) is
+ * the number of pairs. If the {@link #setBiased(boolean) biased} option is enabled the
+ * normalisation factor is changed to \( \frac{1}{n} \).
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ *   <li>The result is zero if there is one pair in the data set.
+ * </ul>
+ *
+ * <p>The implementation uses exact integer sums to compute the scaled (by \( n \))
+ * sum of the products of the deviations from the means; this is normalised by the scaled
+ * correction factor.
+ *
+ * <p>\[ \frac {n \times \sum_{i=1}^n x_i y_i - \sum_{i=1}^n x_i \sum_{i=1}^n y_i}{n \times (n - 1)} \]
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link #accept(int, int) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as the {@code combiner} function of a {@link java.util.stream.Collector Collector} on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Covariance">Covariance (Wikipedia)</a>
+ * @see Covariance
+ * @see IntCorrelation
+ * @since 1.2
+ */
+public final class IntCovariance implements StatisticResult, StatisticAccumulator<IntCovariance> {
+    /** Sum of the x values. */
+    private final Int128 sumX = Int128.create();
+    /** Sum of the y values. */
+    private final Int128 sumY = Int128.create();
+    /** Sum of the products x * y. */
+    private final Int128 sumXY = Int128.create();
+    /** Count of pairs that have been added. */
+    private long n;
+
+    /** Flag to control if the statistic is biased, or should use a bias correction. */
+    private boolean biased;
+
+    /**
+     * Create an instance.
+     */
+    private IntCovariance() {
+        // No-op
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @return {@code IntCovariance} instance.
+     */
+    public static IntCovariance create() {
+        return new IntCovariance();
+    }
+
+    /**
+     * Returns an instance populated using the paired values {@code (x[i], y[i])}.
+     *
+     * @param x Values.
+     * @param y Values.
+     * @return {@code IntCovariance} instance.
+     * @throws IllegalArgumentException if the values have different lengths
+     */
+    public static IntCovariance of(int[] x, int[] y) {
+        Statistics.checkPairedLength(x.length, y.length);
+        final IntCovariance s = new IntCovariance();
+        for (int i = 0; i < x.length; i++) {
+            s.accept(x[i], y[i]);
+        }
+        return s;
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the pair {@code (x, y)}.
+     *
+     * @param x Value.
+     * @param y Value.
+     */
+    public void accept(int x, int y) {
+        sumX.add(x);
+        sumY.add(y);
+        sumXY.add((long) x * y);
+        n++;
+    }
+
+    /**
+     * Gets the number of pairs that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return n;
+    }
+
+    /**
+     * Gets the covariance of all input pairs.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return covariance of all pairs.
+     */
+    @Override
+    public double getAsDouble() {
+        return computeCovariance(sumXY.toBigInteger(), sumX, sumY, n, biased);
+    }
+
+    /**
+     * Compute the covariance.
+     *
+     * @param sumXY Sum of the products x * y.
+     * @param sumX Sum of the x values.
+     * @param sumY Sum of the y values.
+     * @param n Count of pairs that have been added.
+     * @param biased Flag to control if the statistic is biased, or should use a bias correction.
+     * @return the covariance
+     */
+    static double computeCovariance(BigInteger sumXY, Int128 sumX, Int128 sumY, long n, boolean biased) {
+        if (n == 0) {
+            return Double.NaN;
+        }
+        // Avoid a divide by zero
+        if (n == 1) {
+            return 0;
+        }
+        // The precursor is computed in integer precision.
+        // The divide uses double precision.
+        final double diff = computeSumOfProductsN(sumXY, sumX.toBigInteger(), sumY.toBigInteger(), n);
+        final long n0 = biased ? n : n - 1;
+        return diff / IntMath.unsignedMultiplyToDouble(n, n0);
+    }
+
+    /**
+     * Compute the sum of the products of the deviations from the means multiplied by the
+     * count of values: {@code n * sum(x * y) - sum(x) * sum(y)}.
+     *
+     * <p>This is exact before the final conversion to a {@code double}. It can be used
+     * to compute the scaled sum of squared deviations using {@code x == y}.
+     *
+     * @param sumXY Sum of the products x * y.
+     * @param sumX Sum of the x values.
+     * @param sumY Sum of the y values.
+     * @param n Count of pairs that have been added.
+     * @return the sum of the products of the deviations precursor
+     */
+    static double computeSumOfProductsN(BigInteger sumXY, BigInteger sumX, BigInteger sumY, long n) {
+        return sumXY.multiply(BigInteger.valueOf(n))
+            .subtract(sumX.multiply(sumY)).doubleValue();
+    }
+
+    @Override
+    public IntCovariance combine(IntCovariance other) {
+        sumX.add(other.sumX);
+        sumY.add(other.sumY);
+        sumXY.add(other.sumXY);
+        n += other.n;
+        return this;
+    }
+
+    /**
+     * Sets the value of the biased flag. The default value is {@code false}.
+     *
+     * <p>If {@code false} the sum of the products of the deviations from the sample means is
+     * normalised by {@code n - 1} where {@code n} is the number of pairs. This is Bessel's
+     * correction for an unbiased estimator of the covariance of a hypothetical infinite
+     * population.
+     *
+     * <p>If {@code true} the sum is normalised by the number of pairs {@code n}.
+     *
+     * <p>Note: This option only applies when {@code n > 1}. The covariance of {@code n = 1} is
+     * always 0.
+     *
+     * <p>This flag only controls the final computation of the statistic. The value of this flag
+     * will not affect compatibility between instances during a {@link #combine(IntCovariance) combine}
+     * operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     */
+    public IntCovariance setBiased(boolean v) {
+        biased = v;
+        return this;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Counts the frequency of {@code int} values.
+ *
+ * <p>The frequency of each distinct value is stored in an open-addressing hash table
+ * of primitive keys and counts; values are not boxed. Recording a value is an
+ * expected constant time operation. The memory is proportional to the number of
+ * distinct values.
+ *
+ * <p>The frequencies can be used to compute:
+ *
+ * <ul>
+ *   <li>The {@link #getModes() modes}: the values with the highest frequency.
+ *   <li>The {@link #getMostFrequent(int) most frequent} {@code k} values.
+ *   <li>The {@link #getDistinctCount() number of distinct values}.
+ * </ul>
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ * Supports up to 2<sup>30</sup> - 1 distinct values; adding a further distinct value
+ * raises an {@link IllegalStateException}.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link #accept(int) accept} or
+ * {@link #combine(IntFrequency) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link #accept(int) accept}
+ * and {@link #combine(IntFrequency) combine}
+ * as {@code accumulator} and {@code combiner} functions of
+ * {@link java.util.stream.Collector Collector} on a parallel stream,
+ * because the parallel implementation of {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Mode_(statistics)">Mode (Wikipedia)</a>
+ * @since 1.2
+ */
+public final class IntFrequency implements IntConsumer {
+    /** Frequency of the keys of each value. */
+    private final FrequencyTable table = new FrequencyTable();
+
+    /**
+     * Create an instance.
+     */
+    private IntFrequency() {
+        // No-op
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * <p>The initial result is empty.
+     *
+     * @return {@code IntFrequency} instance.
+     */
+    public static IntFrequency create() {
+        return new IntFrequency();
+    }
+
+    /**
+     * Returns an instance populated using the input {@code values}.
+     *
+     * @param values Values.
+     * @return {@code IntFrequency} instance.
+     */
+    public static IntFrequency of(int... values) {
+        final IntFrequency f = new IntFrequency();
+        for (final int x : values) {
+            f.accept(x);
+        }
+        return f;
+    }
+
+    /**
+     * Updates the frequency to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(int value) {
+        table.add(toKey(value));
+    }
+
+    /**
+     * Updates the frequency to reflect the addition of the specified range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public void accept(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            table.add(toKey(values[i]));
+        }
+    }
+
+    /**
+     * Gets the number of values that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return table.total();
+    }
+
+    /**
+     * Gets the number of times the {@code value} has been added.
+     *
+     * @param value Value.
+     * @return the count
+     */
+    public long getCount(int value) {
+        return table.get(toKey(value));
+    }
+
+    /**
+     * Gets the number of distinct values that have been added.
+     *
+     * @return the count of distinct values
+     */
+    public int getDistinctCount() {
+        return table.size();
+    }
+
+    /**
+     * Gets the count of the mode(s), i.e. the highest frequency of any value.
+     *
+     * <p>When no values have been added, the result is zero.
+     *
+     * @return the count of the mode
+     */
+    public long getModeCount() {
+        return table.maxCount();
+    }
+
+    /**
+     * Gets the mode(s): the values with the highest frequency.
+     * If several values have the same highest frequency they are returned in
+     * ascending order.
+     *
+     * <p>When no values have been added, the result is an empty array.
+     *
+     * @return the modes
+     */
+    public int[] getModes() {
+        return toValues(table.modes());
+    }
+
+    /**
+     * Gets the {@code k} most frequent values. The values are in descending order
+     * of frequency; values with the same frequency are in ascending order.
+     * If there are fewer than {@code k} distinct values then all distinct values
+     * are returned.
+     *
+     * @param k Number of values.
+     * @return the most frequent values
+     * @throws IllegalArgumentException if {@code k < 0}
+     */
+    public int[] getMostFrequent(int k) {
+        return toValues(table.top(k));
+    }
+
+    /**
+     * Combines the state of the {@code other} frequency into this one.
+     * Only {@code this} instance is modified by the {@code combine} operation.
+     *
+     * @param other Another frequency to be combined.
+     * @return {@code this} instance after combining {@code other}.
+     */
+    public IntFrequency combine(IntFrequency other) {
+        table.combine(other.table);
+        return this;
+    }
+
+    /**
+     * Convert the value to a key. The unsigned order of the keys is the
+     * natural order of the values.
+     *
+     * @param value Value.
+     * @return the key
+     */
+    private static long toKey(int value) {
+        // Flip the sign bit
+        return value ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Convert the keys to values.
+     *
+     * @param keys Keys.
+     * @return the values
+     */
+    private static int[] toValues(long[] keys) {
+        final int[] values = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = (int) (keys[i] ^ Long.MIN_VALUE);
+        }
+        return values;
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Computes the arithmetic mean of the available values. Uses the following definition
  * of the <em>sample mean</em>:
@@ -96,13 +98,42 @@ public final class IntMean implements IntStatistic, StatisticAccumulator<IntMean
      * @return {@code IntMean} instance.
      */
     public static IntMean of(int... values) {
+        return createFromRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntMean} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static IntMean ofRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntMean} instance.
+     */
+    static IntMean createFromRange(int[] values, int from, int to) {
         // Sum of an array cannot exceed a 64-bit long
         long s = 0;
-        for (final int x : values) {
-            s += x;
+        for (int i = from; i < to; i++) {
+            s += values[i];
         }
         // Convert
-        return new IntMean(Int128.of(s), values.length);
+        return new IntMean(Int128.of(s), to - from);
     }
 
     /**
@@ -116,6 +147,28 @@ public final class IntMean implements IntStatistic, StatisticAccumulator<IntMean
         n++;
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        // Sum of an array cannot exceed a 64-bit long
+        long s = 0;
+        for (int i = from; i < to; i++) {
+            s += values[i];
+        }
+        sum.add(s);
+        n += to - from;
+    }
+
     /**
      * Gets the mean of all input values.
      *
@@ -154,4 +207,60 @@ public final class IntMean implements IntStatistic, StatisticAccumulator<IntMean
         n += other.n;
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.INT_MEAN);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code IntMean} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code IntMean}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static IntMean readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.INT_MEAN);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putLong(n);
+        StatisticState.write(buffer, sum);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static IntMean read(ByteBuffer buffer) {
+        final long n = buffer.getLong();
+        final IntMean s = new IntMean(StatisticState.readInt128(buffer), 0);
+        s.n = n;
+        return s;
+    }
 }
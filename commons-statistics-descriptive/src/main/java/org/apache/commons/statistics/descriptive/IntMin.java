@@ -17,6 +17,7 @@
 package org.apache.commons.statistics.descriptive;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 
 /**
  * Returns the minimum of the available values. Uses {@link Math#min(int, int) Math.min} as an
@@ -81,6 +82,38 @@ public final class IntMin implements IntStatistic, StatisticAccumulator<IntMin>
         return Statistics.add(new IntMin(), values);
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>When the range is empty, the result is
+     * {@link Integer#MAX_VALUE}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Min} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static IntMin ofRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntMin} instance.
+     */
+    static IntMin createFromRange(int[] values, int from, int to) {
+        return Statistics.add(new IntMin(), values, from, to);
+    }
+
     /**
      * Updates the state of the statistic to reflect the addition of {@code value}.
      *
@@ -91,6 +124,26 @@ public final class IntMin implements IntStatistic, StatisticAccumulator<IntMin>
         minimum = Math.min(minimum, value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        int m = minimum;
+        for (int i = from; i < to; i++) {
+            m = Math.min(m, values[i]);
+        }
+        minimum = m;
+    }
+
     /**
      * Gets the minimum of all input values.
      *
@@ -124,4 +177,58 @@ public final class IntMin implements IntStatistic, StatisticAccumulator<IntMin>
         accept(other.getAsInt());
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.INT_MIN);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code IntMin} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code IntMin}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static IntMin readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.INT_MIN);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putInt(minimum);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static IntMin read(ByteBuffer buffer) {
+        final IntMin s = new IntMin();
+        s.minimum = buffer.getInt();
+        return s;
+    }
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Computes the standard deviation of the available values. The default implementation uses the
  * following definition of the <em>sample standard deviation</em>:
@@ -117,11 +119,41 @@ public final class IntStandardDeviation implements IntStatistic, StatisticAccumu
      * @return {@code IntStandardDeviation} instance.
      */
     public static IntStandardDeviation of(int... values) {
+        return createFromRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntStandardDeviation} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static IntStandardDeviation ofRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntStandardDeviation} instance.
+     */
+    static IntStandardDeviation createFromRange(int[] values, int from, int to) {
         // Small arrays can be processed using the object
-        if (values.length < IntVariance.SMALL_SAMPLE) {
+        final int length = to - from;
+        if (length < IntVariance.SMALL_SAMPLE) {
             final IntStandardDeviation stat = new IntStandardDeviation();
-            for (final int x : values) {
-                stat.accept(x);
+            for (int i = from; i < to; i++) {
+                stat.accept(values[i]);
             }
             return stat;
         }
@@ -132,21 +164,21 @@ public final class IntStandardDeviation implements IntStatistic, StatisticAccumu
         final UInt96 ss = UInt96.create();
         // Process pairs as we know two maximum value int^2 will not overflow
         // an unsigned long.
-        final int end = values.length & ~0x1;
-        for (int i = 0; i < end; i += 2) {
+        final int end = from + (length & ~0x1);
+        for (int i = from; i < end; i += 2) {
             final long x = values[i];
             final long y = values[i + 1];
             s += x + y;
             ss.addPositive(x * x + y * y);
         }
-        if (end < values.length) {
+        if (end < to) {
             final long x = values[end];
             s += x;
             ss.addPositive(x * x);
         }
 
         // Convert
-        return new IntStandardDeviation(UInt128.of(ss), Int128.of(s), values.length);
+        return new IntStandardDeviation(UInt128.of(ss), Int128.of(s), length);
     }
 
     /**
@@ -161,6 +193,22 @@ public final class IntStandardDeviation implements IntStatistic, StatisticAccumu
         n++;
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        combine(createFromRange(values, from, to));
+    }
+
     /**
      * Gets the standard deviation of all input values.
      *
@@ -199,4 +247,65 @@ public final class IntStandardDeviation implements IntStatistic, StatisticAccumu
         biased = v;
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.INT_STANDARD_DEVIATION);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code IntStandardDeviation} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code IntStandardDeviation}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static IntStandardDeviation readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.INT_STANDARD_DEVIATION);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        StatisticState.write(buffer, biased);
+        buffer.putLong(n);
+        StatisticState.write(buffer, sum);
+        StatisticState.write(buffer, sumSq);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static IntStandardDeviation read(ByteBuffer buffer) {
+        final boolean biased = StatisticState.readBoolean(buffer);
+        final long n = buffer.getLong();
+        final Int128 sum = StatisticState.readInt128(buffer);
+        final IntStandardDeviation s = new IntStandardDeviation(StatisticState.readUInt128(buffer), sum, 0);
+        s.n = n;
+        s.biased = biased;
+        return s;
+    }
 }
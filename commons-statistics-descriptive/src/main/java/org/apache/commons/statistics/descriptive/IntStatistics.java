@@ -17,11 +17,14 @@
 package org.apache.commons.statistics.descriptive;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.DoubleConsumer;
-import java.util.function.Function;
 import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import org.apache.commons.statistics.descriptive.Statistics.RangeFunction;
 
 /**
  * Statistics for {@code int} values.
@@ -59,6 +62,8 @@ public final class IntStatistics implements IntConsumer {
     private final IntSumOfSquares sumOfSquares;
     /** The {@link SumOfLogs} implementation. */
     private final SumOfLogs sumOfLogs;
+    /** The {@link IntDistinctCount} implementation. */
+    private final IntDistinctCount distinctCount;
     /** Configuration options for computation of statistics. */
     private StatisticsConfiguration config;
 
@@ -70,23 +75,27 @@ public final class IntStatistics implements IntConsumer {
         private static final int[] NO_VALUES = {};
 
         /** The {@link IntMin} constructor. */
-        private Function<int[], IntMin> min;
+        private RangeFunction<int[], IntMin> min;
         /** The {@link IntMax} constructor. */
-        private Function<int[], IntMax> max;
+        private RangeFunction<int[], IntMax> max;
         /** The moment constructor. May return any instance of {@link FirstMoment}. */
-        private Function<int[], FirstMoment> moment;
+        private RangeFunction<int[], FirstMoment> moment;
         /** The {@link IntSum} constructor. */
-        private Function<int[], IntSum> sum;
+        private RangeFunction<int[], IntSum> sum;
         /** The {@link Product} constructor. */
-        private Function<int[], Product> product;
+        private RangeFunction<int[], Product> product;
         /** The {@link IntSumOfSquares} constructor. */
-        private Function<int[], IntSumOfSquares> sumOfSquares;
+        private RangeFunction<int[], IntSumOfSquares> sumOfSquares;
         /** The {@link SumOfLogs} constructor. */
-        private Function<int[], SumOfLogs> sumOfLogs;
+        private RangeFunction<int[], SumOfLogs> sumOfLogs;
+        /** The {@link IntDistinctCount} constructor. */
+        private RangeFunction<int[], IntDistinctCount> distinctCount;
         /** The order of the moment. It corresponds to the power computed by the {@link FirstMoment}
          * instance constructed by {@link #moment}. This should only be increased from the default
          * of zero (corresponding to no moment computation). */
         private int momentOrder;
+        /** The precision of the {@link IntDistinctCount}. */
+        private int distinctCountPrecision = HyperLogLog.DEFAULT_PRECISION;
         /** Configuration options for computation of statistics. */
         private StatisticsConfiguration config = StatisticsConfiguration.withDefaults();
 
@@ -107,34 +116,37 @@ public final class IntStatistics implements IntConsumer {
             switch (statistic) {
             case GEOMETRIC_MEAN:
             case SUM_OF_LOGS:
-                sumOfLogs = SumOfLogs::of;
+                sumOfLogs = SumOfLogs::createFromRange;
                 break;
             case KURTOSIS:
                 createMoment(4);
                 break;
             case MAX:
-                max = IntMax::of;
+                max = IntMax::createFromRange;
                 break;
             case MIN:
-                min = IntMin::of;
+                min = IntMin::createFromRange;
                 break;
             case PRODUCT:
-                product = Product::of;
+                product = Product::createFromRange;
                 break;
             case SKEWNESS:
                 createMoment(3);
                 break;
             case STANDARD_DEVIATION:
             case VARIANCE:
-                sum = IntSum::of;
-                sumOfSquares = IntSumOfSquares::of;
+                sum = IntSum::createFromRange;
+                sumOfSquares = IntSumOfSquares::createFromRange;
                 break;
             case MEAN:
             case SUM:
-                sum = IntSum::of;
+                sum = IntSum::createFromRange;
                 break;
             case SUM_OF_SQUARES:
-                sumOfSquares = IntSumOfSquares::of;
+                sumOfSquares = IntSumOfSquares::createFromRange;
+                break;
+            case DISTINCT_COUNT:
+                distinctCount = (v, f, t) -> IntDistinctCount.createFromRange(distinctCountPrecision, v, f, t);
                 break;
             default:
                 throw new IllegalArgumentException(UNSUPPORTED_STATISTIC + statistic);
@@ -152,10 +164,10 @@ public final class IntStatistics implements IntConsumer {
             if (order > momentOrder) {
                 momentOrder = order;
                 if (order == 4) {
-                    moment = SumOfFourthDeviations::of;
+                    moment = SumOfFourthDeviations::ofRange;
                 } else {
                     // Assume order == 3
-                    moment = SumOfCubedDeviations::of;
+                    moment = SumOfCubedDeviations::ofRange;
                 }
             }
         }
@@ -172,6 +184,24 @@ public final class IntStatistics implements IntConsumer {
             return this;
         }
 
+        /**
+         * Sets the precision of the {@link Statistic#DISTINCT_COUNT distinct count}.
+         * The sketch uses {@code 2^precision} registers. The default is 12.
+         *
+         * <p>Instances can only be {@link IntStatistics#combine(IntStatistics) combined}
+         * if the distinct count has the same precision.
+         *
+         * @param v Value.
+         * @return the builder
+         * @throws IllegalArgumentException if the precision is not in {@code [4, 18]}
+         * @see IntDistinctCount#create(int)
+         * @since 1.2
+         */
+        public Builder setDistinctCountPrecision(int v) {
+            distinctCountPrecision = HyperLogLog.checkPrecision(v);
+            return this;
+        }
+
         /**
          * Builds a {@code IntStatistics} instance.
          *
@@ -193,29 +223,87 @@ public final class IntStatistics implements IntConsumer {
          */
         public IntStatistics build(int... values) {
             Objects.requireNonNull(values, "values");
+            return createFromRange(values, 0, values.length);
+        }
+
+        /**
+         * Builds a {@code IntStatistics} instance using the input {@code values}.
+         *
+         * <p>The values are divided into sub-ranges that are processed in parallel using
+         * {@link java.util.concurrent.ForkJoinTask fork-join tasks}; the partial results
+         * are {@link IntStatistics#combine(IntStatistics) combined}. If called from
+         * within a {@link java.util.concurrent.ForkJoinPool ForkJoinPool} the tasks are
+         * executed in that pool; otherwise the
+         * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} is used.
+         * Small arrays are processed in the calling thread.
+         *
+         * <p>Statistics computed using exact integer arithmetic are identical to those
+         * computed using {@link #build(int...) build}. Other statistics may be
+         * different due to the combination of partial results. The difference is expected
+         * to be within the rounding error of the computation of each statistic.
+         *
+         * @param values Values.
+         * @return {@code IntStatistics} instance.
+         */
+        public IntStatistics buildParallel(int... values) {
+            Objects.requireNonNull(values, "values");
+            return Statistics.evaluateInParallel(values, 0, values.length,
+                this::createFromRange, IntStatistics::combine);
+        }
+
+        /**
+         * Builds a {@code IntStatistics} instance using the specified range of {@code values}.
+         *
+         * @param values Values.
+         * @param from Inclusive start of the range.
+         * @param to Exclusive end of the range.
+         * @return {@code IntStatistics} instance.
+         * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+         * @since 1.2
+         */
+        public IntStatistics build(int[] values, int from, int to) {
+            Statistics.checkFromToIndex(from, to, values.length);
+            return createFromRange(values, from, to);
+        }
+
+        /**
+         * Builds a {@code IntStatistics} instance using the specified range of {@code values}.
+         *
+         * <p>Warning: No range checks are performed.
+         *
+         * @param values Values.
+         * @param from Inclusive start of the range.
+         * @param to Exclusive end of the range.
+         * @return {@code IntStatistics} instance.
+         */
+        private IntStatistics createFromRange(int[] values, int from, int to) {
             return new IntStatistics(
-                values.length,
-                create(min, values),
-                create(max, values),
-                create(moment, values),
-                create(sum, values),
-                create(product, values),
-                create(sumOfSquares, values),
-                create(sumOfLogs, values),
+                to - from,
+                create(min, values, from, to),
+                create(max, values, from, to),
+                create(moment, values, from, to),
+                create(sum, values, from, to),
+                create(product, values, from, to),
+                create(sumOfSquares, values, from, to),
+                create(sumOfLogs, values, from, to),
+                create(distinctCount, values, from, to),
                 config);
         }
 
         /**
-         * Creates the object from the {@code values}.
+         * Creates the object from the specified range of {@code values}.
          *
          * @param <T> object type
          * @param constructor Constructor.
          * @param values Values
+         * @param from Inclusive start of the range.
+         * @param to Exclusive end of the range.
          * @return the instance
          */
-        private static <T> T create(Function<int[], T> constructor, int[] values) {
+        private static <T> T create(RangeFunction<int[], T> constructor,
+                                    int[] values, int from, int to) {
             if (constructor != null) {
-                return constructor.apply(values);
+                return constructor.apply(values, from, to);
             }
             return null;
         }
@@ -232,11 +320,12 @@ public final class IntStatistics implements IntConsumer {
      * @param product Product implementation.
      * @param sumOfSquares Sum of squares implementation.
      * @param sumOfLogs Sum of logs implementation.
+     * @param distinctCount Distinct count implementation.
      * @param config Statistics configuration.
      */
     IntStatistics(long count, IntMin min, IntMax max, FirstMoment moment, IntSum sum,
                   Product product, IntSumOfSquares sumOfSquares, SumOfLogs sumOfLogs,
-                  StatisticsConfiguration config) {
+                  IntDistinctCount distinctCount, StatisticsConfiguration config) {
         this.count = count;
         this.min = min;
         this.max = max;
@@ -245,10 +334,11 @@ public final class IntStatistics implements IntConsumer {
         this.product = product;
         this.sumOfSquares = sumOfSquares;
         this.sumOfLogs = sumOfLogs;
+        this.distinctCount = distinctCount;
         this.config = config;
         // The final consumer should never be null as the builder is created
         // with at least one statistic.
-        consumer = Statistics.composeIntConsumers(min, max, sum, sumOfSquares,
+        consumer = Statistics.composeIntConsumers(min, max, sum, sumOfSquares, distinctCount,
                                                   composeAsInt(moment, product, sumOfLogs));
     }
 
@@ -308,6 +398,38 @@ public final class IntStatistics implements IntConsumer {
         return b.build(values);
     }
 
+    /**
+     * Returns a new instance configured to compute the specified {@code statistics}
+     * populated using the specified range of {@code values}.
+     *
+     * <p>Use this method to create an instance populated with part of an array of
+     * {@code int[]} data without copying the data:
+     *
+     * <pre>
+     * int[] data = ...
+     * IntStatistics stats = IntStatistics.ofRange(
+     *     EnumSet.of(Statistic.MIN, Statistic.MAX),
+     *     data, from, to);
+     * </pre>
+     *
+     * @param statistics Statistics to compute.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the instance
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static IntStatistics ofRange(Set<Statistic> statistics, int[] values, int from, int to) {
+        if (statistics.isEmpty()) {
+            throw new IllegalArgumentException(NO_CONFIGURED_STATISTICS);
+        }
+        final Builder b = new Builder();
+        statistics.forEach(b::add);
+        return b.build(values, from, to);
+    }
+
     /**
      * Returns a new builder configured to create instances to compute the specified
      * {@code statistics}.
@@ -368,6 +490,58 @@ public final class IntStatistics implements IntConsumer {
         return b;
     }
 
+    /**
+     * Returns a {@link Collector} that computes the specified {@code statistics}
+     * of the input {@code Integer} values.
+     *
+     * <p>The collector is equivalent to
+     * {@link #collector(ToIntFunction, Statistic...) collector(Integer::intValue, statistics)}.
+     *
+     * @param statistics Statistics to compute.
+     * @return the collector
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute.
+     * @since 1.2
+     */
+    public static Collector<Integer, IntStatistics, IntStatistics> collector(Statistic... statistics) {
+        return collector(Integer::intValue, statistics);
+    }
+
+    /**
+     * Returns a {@link Collector} that computes the specified {@code statistics}
+     * of the {@code int} values extracted from the input elements using the
+     * {@code mapper}.
+     *
+     * <p>The collector creates a {@code IntStatistics} for each partition of the input;
+     * partial results are {@link #combine(IntStatistics) combined}. It can be used on a
+     * parallel stream, and as the downstream collector of
+     * {@link java.util.stream.Collectors#groupingBy(java.util.function.Function, Collector) groupingBy}:
+     *
+     * <pre>{@code
+     * Map<String, IntStatistics> stats = people.parallelStream()
+     *     .collect(Collectors.groupingBy(Person::getCity,
+     *         IntStatistics.collector(Person::getAge, Statistic.MEAN, Statistic.MAX)));
+     * }</pre>
+     *
+     * <p>For a concurrent collector that does not combine partial results see
+     * {@link ConcurrentIntStatistics#collector(ToIntFunction, Statistic...)}.
+     *
+     * @param <T> the type of the input elements
+     * @param mapper Function to extract the value from an element.
+     * @param statistics Statistics to compute.
+     * @return the collector
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute.
+     * @since 1.2
+     */
+    public static <T> Collector<T, IntStatistics, IntStatistics> collector(ToIntFunction<? super T> mapper,
+                                                                           Statistic... statistics) {
+        Objects.requireNonNull(mapper, "mapper");
+        final Builder b = builder(statistics);
+        return Collector.of(b::build,
+            (s, t) -> s.accept(mapper.applyAsInt(t)),
+            IntStatistics::combine,
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
     /**
      * Updates the state of the statistics to reflect the addition of {@code value}.
      *
@@ -379,6 +553,51 @@ public final class IntStatistics implements IntConsumer {
         consumer.accept(value);
     }
 
+    /**
+     * Updates the state of the statistics to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * <p>The result is the same as calling {@link #accept(int) accept} for each value
+     * in the range in order. Each configured statistic processes the entire range
+     * in turn; this avoids the per-value call through the composed consumer of
+     * all statistics.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public void accept(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        count += to - from;
+        if (min != null) {
+            min.accept(values, from, to);
+        }
+        if (max != null) {
+            max.accept(values, from, to);
+        }
+        if (sum != null) {
+            sum.accept(values, from, to);
+        }
+        if (sumOfSquares != null) {
+            sumOfSquares.accept(values, from, to);
+        }
+        if (distinctCount != null) {
+            distinctCount.accept(values, from, to);
+        }
+        // Statistics computed using double values
+        if (moment != null) {
+            Statistics.add(moment, values, from, to);
+        }
+        if (product != null) {
+            Statistics.add(product, values, from, to);
+        }
+        if (sumOfLogs != null) {
+            Statistics.add(sumOfLogs, values, from, to);
+        }
+    }
+
     /**
      * Return the count of values recorded.
      *
@@ -422,6 +641,8 @@ public final class IntStatistics implements IntConsumer {
             return sum != null;
         case SUM_OF_SQUARES:
             return sumOfSquares != null;
+        case DISTINCT_COUNT:
+            return distinctCount != null;
         default:
             return false;
         }
@@ -564,6 +785,9 @@ public final class IntStatistics implements IntConsumer {
         case VARIANCE:
             stat = getVariance();
             break;
+        case DISTINCT_COUNT:
+            stat = Statistics.getResultAsDoubleOrNull(distinctCount);
+            break;
         default:
             break;
         }
@@ -668,7 +892,8 @@ public final class IntStatistics implements IntConsumer {
      * <p>The {@code other} instance must be <em>compatible</em>. This is {@code true} if the
      * {@code other} instance returns {@code true} for {@link #isSupported(Statistic)} for
      * all values of the {@link Statistic} enum which are supported by {@code this}
-     * instance.
+     * instance, and the {@link Statistic#DISTINCT_COUNT distinct count} (if supported)
+     * has the same {@linkplain Builder#setDistinctCountPrecision(int) precision}.
      *
      * <p>Note that this operation is <em>not symmetric</em>. It may be possible to perform
      * {@code a.combine(b)} but not {@code b.combine(a)}. In the event that the {@code other}
@@ -686,6 +911,7 @@ public final class IntStatistics implements IntConsumer {
         Statistics.checkCombineCompatible(product, other.product);
         Statistics.checkCombineCompatible(sumOfSquares, other.sumOfSquares);
         Statistics.checkCombineCompatible(sumOfLogs, other.sumOfLogs);
+        Statistics.checkCombinePrecision(distinctCount, other.distinctCount);
         Statistics.checkCombineAssignable(moment, other.moment);
         // Combine
         count += other.count;
@@ -695,6 +921,7 @@ public final class IntStatistics implements IntConsumer {
         Statistics.combine(product, other.product);
         Statistics.combine(sumOfSquares, other.sumOfSquares);
         Statistics.combine(sumOfLogs, other.sumOfLogs);
+        Statistics.combine(distinctCount, other.distinctCount);
         Statistics.combineMoment(moment, other.moment);
         return this;
     }
@@ -718,4 +945,80 @@ public final class IntStatistics implements IntConsumer {
         config = Objects.requireNonNull(v);
         return this;
     }
+
+    /**
+     * Writes the state of the statistics to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer. The state includes
+     * the configured statistics and the {@link StatisticsConfiguration}.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.INT_STATISTICS);
+        buffer.putLong(count);
+        buffer.put((byte) StatisticState.flags(min, max, sum, product, sumOfSquares, sumOfLogs,
+            distinctCount));
+        StatisticState.write(buffer, moment);
+        if (min != null) {
+            min.write(buffer);
+        }
+        if (max != null) {
+            max.write(buffer);
+        }
+        if (sum != null) {
+            sum.write(buffer);
+        }
+        if (product != null) {
+            product.write(buffer);
+        }
+        if (sumOfSquares != null) {
+            sumOfSquares.write(buffer);
+        }
+        if (sumOfLogs != null) {
+            sumOfLogs.write(buffer);
+        }
+        if (distinctCount != null) {
+            distinctCount.write(buffer);
+        }
+        StatisticState.write(buffer, config.isBiased());
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state: it supports the same statistics and can be
+     * {@link #combine(IntStatistics) combined} with compatible instances.
+     *
+     * @param buffer Buffer.
+     * @return {@code IntStatistics} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code IntStatistics}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static IntStatistics readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.INT_STATISTICS);
+        final long count = buffer.getLong();
+        final int flags = buffer.get();
+        final FirstMoment moment = StatisticState.readMoment(buffer, FirstMoment.class, true);
+        if (flags == 0 && moment == null) {
+            throw new IllegalArgumentException(NO_CONFIGURED_STATISTICS);
+        }
+        final IntMin min = StatisticState.isSet(flags, 0) ? IntMin.read(buffer) : null;
+        final IntMax max = StatisticState.isSet(flags, 1) ? IntMax.read(buffer) : null;
+        final IntSum sum = StatisticState.isSet(flags, 2) ? IntSum.read(buffer) : null;
+        final Product product = StatisticState.isSet(flags, 3) ? Product.read(buffer) : null;
+        final IntSumOfSquares sumOfSquares = StatisticState.isSet(flags, 4) ? IntSumOfSquares.read(buffer) : null;
+        final SumOfLogs sumOfLogs = StatisticState.isSet(flags, 5) ? SumOfLogs.read(buffer) : null;
+        final IntDistinctCount distinctCount = StatisticState.isSet(flags, 6) ? IntDistinctCount.read(buffer) : null;
+        final StatisticsConfiguration config = StatisticsConfiguration.withDefaults()
+            .withBiased(StatisticState.readBoolean(buffer));
+        return new IntStatistics(count, min, max, moment, sum, product, sumOfSquares, sumOfLogs,
+            distinctCount, config);
+    }
 }
@@ -17,6 +17,7 @@
 package org.apache.commons.statistics.descriptive;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 
 /**
  * Returns the sum of the available values.
@@ -96,10 +97,44 @@ public final class IntSum implements IntStatistic, StatisticAccumulator<IntSum>
      * @return {@code IntSum} instance.
      */
     public static IntSum of(int... values) {
+        return createFromRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>When the range is empty, the result is zero.
+     *
+     * <p>The {@link #getAsLong()} result is valid for any input {@code int[]} length;
+     * the {@link #getAsInt()} result may overflow.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntSum} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static IntSum ofRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntSum} instance.
+     */
+    static IntSum createFromRange(int[] values, int from, int to) {
         // Sum of an array cannot exceed a 64-bit long
         long s = 0;
-        for (final int x : values) {
-            s += x;
+        for (int i = from; i < to; i++) {
+            s += values[i];
         }
         // Convert
         return new IntSum(Int128.of(s));
@@ -126,6 +161,27 @@ public final class IntSum implements IntStatistic, StatisticAccumulator<IntSum>
         sum.add(value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        // Sum of an array cannot exceed a 64-bit long
+        long s = 0;
+        for (int i = from; i < to; i++) {
+            s += values[i];
+        }
+        sum.add(s);
+    }
+
     /**
      * Gets the sum of all input values.
      *
@@ -193,4 +249,56 @@ public final class IntSum implements IntStatistic, StatisticAccumulator<IntSum>
         sum.add(other.sum);
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.INT_SUM);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code IntSum} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code IntSum}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static IntSum readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.INT_SUM);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        StatisticState.write(buffer, sum);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static IntSum read(ByteBuffer buffer) {
+        return new IntSum(StatisticState.readInt128(buffer));
+    }
 }
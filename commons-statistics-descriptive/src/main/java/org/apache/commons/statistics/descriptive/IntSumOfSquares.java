@@ -17,6 +17,7 @@
 package org.apache.commons.statistics.descriptive;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 
 /**
  * Returns the sum of the squares of the available values. Uses the following definition:
@@ -97,11 +98,41 @@ public final class IntSumOfSquares implements IntStatistic, StatisticAccumulator
      * @return {@code IntSumOfSquares} instance.
      */
     public static IntSumOfSquares of(int... values) {
+        return createFromRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntSumOfSquares} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static IntSumOfSquares ofRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntSumOfSquares} instance.
+     */
+    static IntSumOfSquares createFromRange(int[] values, int from, int to) {
         // Small arrays can be processed using the object
-        if (values.length < SMALL_SAMPLE) {
+        final int length = to - from;
+        if (length < SMALL_SAMPLE) {
             final IntSumOfSquares stat = new IntSumOfSquares();
-            for (final int x : values) {
-                stat.accept(x);
+            for (int i = from; i < to; i++) {
+                stat.accept(values[i]);
             }
             return stat;
         }
@@ -111,13 +142,13 @@ public final class IntSumOfSquares implements IntStatistic, StatisticAccumulator
         final UInt96 ss = UInt96.create();
         // Process pairs as we know two maximum value int^2 will not overflow
         // an unsigned long.
-        final int end = values.length & ~0x1;
-        for (int i = 0; i < end; i += 2) {
+        final int end = from + (length & ~0x1);
+        for (int i = from; i < end; i += 2) {
             final long x = values[i];
             final long y = values[i + 1];
             ss.addPositive(x * x + y * y);
         }
-        if (end < values.length) {
+        if (end < to) {
             final long x = values[end];
             ss.addPositive(x * x);
         }
@@ -147,6 +178,22 @@ public final class IntSumOfSquares implements IntStatistic, StatisticAccumulator
         sumSq.addPositive((long) value * value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        combine(createFromRange(values, from, to));
+    }
+
     /**
      * Gets the sum of squares of all input values.
      *
@@ -214,4 +261,56 @@ public final class IntSumOfSquares implements IntStatistic, StatisticAccumulator
         sumSq.add(other.sumSq);
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.INT_SUM_OF_SQUARES);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code IntSumOfSquares} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code IntSumOfSquares}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static IntSumOfSquares readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.INT_SUM_OF_SQUARES);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        StatisticState.write(buffer, sumSq);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static IntSumOfSquares read(ByteBuffer buffer) {
+        return new IntSumOfSquares(StatisticState.readUInt128(buffer));
+    }
 }
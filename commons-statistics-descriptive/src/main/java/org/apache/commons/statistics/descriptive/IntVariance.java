@@ -17,6 +17,7 @@
 package org.apache.commons.statistics.descriptive;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 
 /**
  * Computes the variance of the available values. The default implementation uses the
@@ -119,11 +120,41 @@ public final class IntVariance implements IntStatistic, StatisticAccumulator<Int
      * @return {@code IntVariance} instance.
      */
     public static IntVariance of(int... values) {
+        return createFromRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntVariance} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static IntVariance ofRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntVariance} instance.
+     */
+    static IntVariance createFromRange(int[] values, int from, int to) {
         // Small arrays can be processed using the object
-        if (values.length < SMALL_SAMPLE) {
+        final int length = to - from;
+        if (length < SMALL_SAMPLE) {
             final IntVariance stat = new IntVariance();
-            for (final int x : values) {
-                stat.accept(x);
+            for (int i = from; i < to; i++) {
+                stat.accept(values[i]);
             }
             return stat;
         }
@@ -134,21 +165,21 @@ public final class IntVariance implements IntStatistic, StatisticAccumulator<Int
         final UInt96 ss = UInt96.create();
         // Process pairs as we know two maximum value int^2 will not overflow
         // an unsigned long.
-        final int end = values.length & ~0x1;
-        for (int i = 0; i < end; i += 2) {
+        final int end = from + (length & ~0x1);
+        for (int i = from; i < end; i += 2) {
             final long x = values[i];
             final long y = values[i + 1];
             s += x + y;
             ss.addPositive(x * x + y * y);
         }
-        if (end < values.length) {
+        if (end < to) {
             final long x = values[end];
             s += x;
             ss.addPositive(x * x);
         }
 
         // Convert
-        return new IntVariance(UInt128.of(ss), Int128.of(s), values.length);
+        return new IntVariance(UInt128.of(ss), Int128.of(s), length);
     }
 
     /**
@@ -163,6 +194,22 @@ public final class IntVariance implements IntStatistic, StatisticAccumulator<Int
         n++;
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        combine(createFromRange(values, from, to));
+    }
+
     /**
      * Gets the variance of all input values.
      *
@@ -297,4 +344,65 @@ public final class IntVariance implements IntStatistic, StatisticAccumulator<Int
         biased = v;
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.INT_VARIANCE);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code IntVariance} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code IntVariance}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static IntVariance readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.INT_VARIANCE);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        StatisticState.write(buffer, biased);
+        buffer.putLong(n);
+        StatisticState.write(buffer, sum);
+        StatisticState.write(buffer, sumSq);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static IntVariance read(ByteBuffer buffer) {
+        final boolean biased = StatisticState.readBoolean(buffer);
+        final long n = buffer.getLong();
+        final Int128 sum = StatisticState.readInt128(buffer);
+        final IntVariance s = new IntVariance(StatisticState.readUInt128(buffer), sum, 0);
+        s.n = n;
+        s.biased = biased;
+        return s;
+    }
 }
@@ -53,6 +53,24 @@ final class Interpolation {
         return ((long) x + y) * 0.5;
     }
 
+    /**
+     * Compute the arithmetic mean of the two values taking care to avoid overflow.
+     *
+     * @param x Value.
+     * @param y Value.
+     * @return the mean
+     */
+    static double mean(long x, long y) {
+        final long v = x + y;
+        // Overflow if the inputs have the same sign and the result a different sign
+        if (((x ^ v) & (y ^ v)) >= 0) {
+            // Single rounding of the exact sum
+            return v * 0.5;
+        }
+        // Floor of the exact mean; the remainder is 0.5 if the sum is odd
+        return ((x & y) + ((x ^ y) >> 1)) + ((x ^ y) & 0x1) * 0.5;
+    }
+
     /**
      * Linear interpolation between sorted values {@code a <= b} using the
      * interpolant {@code t} taking care to avoid overflow.
@@ -113,4 +131,26 @@ final class Interpolation {
         // provide exact ends at t=0 and t=1.
         return a + t * (b - a);
     }
+
+    /**
+     * Linear interpolation between sorted values {@code a <= b} using the
+     * interpolant {@code t}.
+     *
+     * <p>The difference {@code b - a} is computed using exact integer arithmetic when
+     * it does not overflow. This avoids the loss of precision from conversion of
+     * large magnitude values to {@code double} before interpolation.
+     *
+     * @param a Min value.
+     * @param b Max value.
+     * @param t Interpolant in (0, 1).
+     * @return the value
+     */
+    static double interpolate(long a, long b, double t) {
+        final long d = b - a;
+        if (d < 0) {
+            // Overflow
+            return interpolate((double) a, (double) b, t);
+        }
+        return a + t * d;
+    }
 }
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import org.apache.commons.statistics.descriptive.Quantile.EstimationMethod;
+
+/**
+ * Returns the interquartile range of the available values.
+ *
+ * <p>The interquartile range is the difference between the upper quartile {@code Q3}
+ * and the lower quartile {@code Q1}:
+ *
+ * <p>\[ \text{IQR} = Q(0.75) - Q(0.25) \]
+ *
+ * <ul>
+ * <li>The result is {@code NaN} if {@code n = 0}.
+ * <li>The result is {@code 0} if {@code n = 1} and the value is finite.
+ * <li>Otherwise the quartiles are computed using the {@link Quantile} with the
+ * configured {@link EstimationMethod}.
+ * </ul>
+ *
+ * <p>Both quartiles are found with a single multi-index partition of the data.
+ *
+ * <p>This implementation respects the ordering imposed by
+ * {@link Double#compare(double, double)} for {@code NaN} values. If a {@code NaN} occurs
+ * in the selected positions in the fully sorted values then the result is {@code NaN}.
+ *
+ * <p>The {@link NaNPolicy} can be used to change the behaviour on {@code NaN} values.
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ *
+ * @see #with(NaNPolicy)
+ * @see #with(EstimationMethod)
+ * @see <a href="https://en.wikipedia.org/wiki/Interquartile_range">Interquartile range (Wikipedia)</a>
+ * @since 1.2
+ */
+public final class InterquartileRange {
+    /** Default instance. */
+    private static final InterquartileRange DEFAULT = new InterquartileRange(Quantile.withDefaults());
+
+    /** Quantile implementation. */
+    private final Quantile quantile;
+
+    /**
+     * @param quantile Quantile implementation.
+     */
+    private InterquartileRange(Quantile quantile) {
+        this.quantile = quantile;
+    }
+
+    /**
+     * Return a new instance with the default options.
+     *
+     * <ul>
+     * <li>{@linkplain #withCopy(boolean) Copy = false}
+     * <li>{@linkplain #with(NaNPolicy) NaN policy = include}
+     * <li>{@linkplain #with(EstimationMethod) Estimation method = HF8}
+     * </ul>
+     *
+     * <p>Note: The default options configure for processing in-place and including
+     * {@code NaN} values in the data. This is the most efficient mode and has the
+     * smallest memory consumption.
+     *
+     * @return the interquartile range implementation
+     * @see #withCopy(boolean)
+     * @see #with(NaNPolicy)
+     * @see #with(EstimationMethod)
+     */
+    public static InterquartileRange withDefaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Return an instance with the configured copy behaviour. If {@code false} then
+     * the input array will be modified by the call to evaluate the interquartile range;
+     * otherwise the computation uses a copy of the data.
+     *
+     * @param v Value.
+     * @return an instance
+     */
+    public InterquartileRange withCopy(boolean v) {
+        return new InterquartileRange(quantile.withCopy(v));
+    }
+
+    /**
+     * Return an instance with the configured {@link NaNPolicy}.
+     *
+     * <p>See {@link Quantile#with(NaNPolicy)}.
+     *
+     * @param v Value.
+     * @return an instance
+     */
+    public InterquartileRange with(NaNPolicy v) {
+        return new InterquartileRange(quantile.with(v));
+    }
+
+    /**
+     * Return an instance with the configured {@link EstimationMethod}.
+     *
+     * @param v Value.
+     * @return an instance
+     */
+    public InterquartileRange with(EstimationMethod v) {
+        return new InterquartileRange(quantile.with(v));
+    }
+
+    /**
+     * Evaluate the interquartile range.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @return the interquartile range
+     */
+    public double evaluate(double[] values) {
+        return difference(quantile.evaluate(values, 0.25, 0.75));
+    }
+
+    /**
+     * Evaluate the interquartile range of the specified range.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the interquartile range
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public double evaluateRange(double[] values, int from, int to) {
+        return difference(quantile.evaluateRange(values, from, to, 0.25, 0.75));
+    }
+
+    /**
+     * Evaluate the interquartile range.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @return the interquartile range
+     */
+    public double evaluate(int[] values) {
+        return difference(quantile.evaluate(values, 0.25, 0.75));
+    }
+
+    /**
+     * Evaluate the interquartile range of the specified range.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the interquartile range
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public double evaluateRange(int[] values, int from, int to) {
+        return difference(quantile.evaluateRange(values, from, to, 0.25, 0.75));
+    }
+
+    /**
+     * Compute the difference between the upper and lower quartiles.
+     *
+     * @param q Quartiles {@code [Q1, Q3]}.
+     * @return the interquartile range
+     */
+    private static double difference(double[] q) {
+        return q[1] - q[0];
+    }
+}
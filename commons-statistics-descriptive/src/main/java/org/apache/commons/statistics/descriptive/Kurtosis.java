@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Computes the kurtosis of the available values. The kurtosis is defined as:
  *
@@ -148,6 +150,24 @@ public final class Kurtosis implements DoubleStatistic, StatisticAccumulator<Kur
         return new Kurtosis(SumOfFourthDeviations.of(values));
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code Kurtosis} computed using {@link #accept(double) accept} may be
+     * different from this instance.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Kurtosis} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static Kurtosis ofRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return new Kurtosis(SumOfFourthDeviations.ofRange(values, from, to));
+    }
+
     /**
      * Returns an instance populated using the input {@code values}.
      *
@@ -161,6 +181,24 @@ public final class Kurtosis implements DoubleStatistic, StatisticAccumulator<Kur
         return new Kurtosis(SumOfFourthDeviations.of(values));
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code Kurtosis} computed using {@link #accept(double) accept} may be
+     * different from this instance.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Kurtosis} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static Kurtosis ofRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return new Kurtosis(SumOfFourthDeviations.ofRange(values, from, to));
+    }
+
     /**
      * Returns an instance populated using the input {@code values}.
      *
@@ -174,6 +212,24 @@ public final class Kurtosis implements DoubleStatistic, StatisticAccumulator<Kur
         return new Kurtosis(SumOfFourthDeviations.of(values));
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code Kurtosis} computed using {@link #accept(double) accept} may be
+     * different from this instance.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Kurtosis} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static Kurtosis ofRange(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return new Kurtosis(SumOfFourthDeviations.ofRange(values, from, to));
+    }
+
     /**
      * Updates the state of the statistic to reflect the addition of {@code value}.
      *
@@ -184,6 +240,22 @@ public final class Kurtosis implements DoubleStatistic, StatisticAccumulator<Kur
         sq.accept(value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        sq.accept(values, from, to);
+    }
+
     /**
      * Gets the kurtosis of all input values.
      *
@@ -242,4 +314,60 @@ public final class Kurtosis implements DoubleStatistic, StatisticAccumulator<Kur
         biased = v;
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.KURTOSIS);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code Kurtosis} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code Kurtosis}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static Kurtosis readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.KURTOSIS);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        StatisticState.write(buffer, biased);
+        StatisticState.write(buffer, sq);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static Kurtosis read(ByteBuffer buffer) {
+        final boolean biased = StatisticState.readBoolean(buffer);
+        final Kurtosis s = new Kurtosis(StatisticState.readMoment(buffer, SumOfFourthDeviations.class, false));
+        s.biased = biased;
+        return s;
+    }
 }
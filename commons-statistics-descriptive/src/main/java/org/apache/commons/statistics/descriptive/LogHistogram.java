@@ -0,0 +1,415 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Objects;
+
+/**
+ * Computes a histogram of the available values using logarithmic buckets over a
+ * fixed positive range {@code [lower, upper]}. The buckets provide quantile estimates
+ * with a bounded relative error and are suitable for data that spans several orders
+ * of magnitude, such as latency measurements.
+ *
+ * <p>For a relative accuracy \( \alpha \) the buckets have boundaries
+ * \( l \gamma^i \) with \( \gamma = (1 + \alpha) / (1 - \alpha) \). Any value in a
+ * bucket is represented by the value \( 2 l \gamma^{i+1} / (\gamma + 1) \) which has a
+ * relative error of at most \( \alpha \). Values below {@code lower} (including zero
+ * and negative values) and above {@code upper} are counted as underflow and overflow
+ * respectively. Recording a value is a constant time operation that increments a
+ * {@code long} count.
+ *
+ * <p>The quantile is estimated using the {@link Quantile.EstimationMethod} to compute
+ * the (real-valued) rank of the quantile within the sorted values. The value is
+ * interpolated between the values at the adjacent integer ranks; each value in a bucket
+ * is estimated using the value representing the bucket. If the values are within the
+ * bounds of the histogram the estimate has a relative error of at most \( \alpha \)
+ * (ignoring floating-point rounding at the bucket boundaries). Underflow and overflow
+ * values are interpolated using the exact minimum and maximum of the values. The
+ * quantile is always within the exact range of the values; the quantiles {@code p=0}
+ * and {@code p=1} are exact. The rank is computed in the same way as {@link Histogram}.
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ *   <li>{@code NaN} values are ignored. This is the behaviour of {@link NaNPolicy#EXCLUDE}.
+ * </ul>
+ *
+ * <p>The {@link #getAsDouble() result} is the median. Other quantiles can be obtained
+ * using {@link #getQuantile(double)}. The {@link #getMean() mean} is computed from all
+ * recorded values and does not depend on the buckets.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link java.util.function.DoubleConsumer#accept(double) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link java.util.function.DoubleConsumer#accept(double) accept}
+ * and {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as {@code accumulator} and {@code combiner} functions of
+ * {@link java.util.stream.Collector Collector} on a parallel stream,
+ * because the parallel implementation of {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution.
+ *
+ * <p>References:
+ * <ol>
+ *   <li>Masson C, Rim J E and Lee H K (2019)
+ *       DDSketch: A Fast and Fully-Mergeable Quantile Sketch with Relative-Error Guarantees.
+ *       Proceedings of the VLDB Endowment, 12(12), 2195-2205.
+ *       <a href="https://doi.org/10.14778/3352063.3352135">doi: 10.14778/3352063.3352135</a>
+ * </ol>
+ *
+ * @see Histogram
+ * @since 1.2
+ */
+public final class LogHistogram implements DoubleStatistic, StatisticAccumulator<LogHistogram> {
+    /** Probability of the median. */
+    private static final double MEDIAN = 0.5;
+    /** Maximum number of buckets. */
+    private static final int MAX_BUCKETS = 1 << 24;
+
+    /** Lower bound. */
+    private final double lower;
+    /** Upper bound. */
+    private final double upper;
+    /** Relative accuracy. */
+    private final double alpha;
+    /** Logarithm of the lower bound. */
+    private final double logLower;
+    /** Reciprocal of the logarithm of the bucket growth factor gamma. */
+    private final double invLogGamma;
+    /** Bucket growth factor gamma. */
+    private final double gamma;
+    /** Bucket counts. */
+    private final long[] counts;
+    /** Count of values below the lower bound. */
+    private long underflow;
+    /** Count of values above the upper bound. */
+    private long overflow;
+    /** Count of (non-NaN) values that have been added. */
+    private long n;
+    /** Minimum (non-NaN) value. */
+    private double min = Double.POSITIVE_INFINITY;
+    /** Maximum (non-NaN) value. */
+    private double max = Double.NEGATIVE_INFINITY;
+    /** First moment of the (non-NaN) values. */
+    private final FirstMoment moment = new FirstMoment();
+    /** Estimation type used to determine the rank of the quantile. */
+    private Quantile.EstimationMethod estimationType = Quantile.EstimationMethod.HF8;
+
+    /**
+     * Create an instance.
+     *
+     * @param lower Lower bound.
+     * @param upper Upper bound.
+     * @param alpha Relative accuracy.
+     * @param gamma Bucket growth factor.
+     * @param buckets Number of buckets.
+     */
+    private LogHistogram(double lower, double upper, double alpha, double gamma, int buckets) {
+        this.lower = lower;
+        this.upper = upper;
+        this.alpha = alpha;
+        this.gamma = gamma;
+        logLower = Math.log(lower);
+        invLogGamma = 1 / Math.log(gamma);
+        counts = new long[buckets];
+    }
+
+    /**
+     * Creates an instance with buckets spanning the range {@code [lower, upper]} with the
+     * specified relative accuracy.
+     *
+     * <p>The number of buckets is approximately
+     * \( \ln(u / l) / \ln(\gamma) \approx \ln(u / l) / (2 \alpha) \). For example a range
+     * of 9 orders of magnitude with an accuracy of 1% requires 1037 buckets.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @param lower Lower bound.
+     * @param upper Upper bound.
+     * @param relativeAccuracy Relative accuracy.
+     * @return {@code LogHistogram} instance.
+     * @throws IllegalArgumentException if the bounds are not finite; {@code lower <= 0};
+     * {@code lower >= upper}; the relative accuracy is not in the range {@code (0, 1)};
+     * or the number of buckets exceeds 2<sup>24</sup>
+     */
+    public static LogHistogram create(double lower, double upper, double relativeAccuracy) {
+        // Logic negation will detect NaN
+        if (!(lower > 0 && lower < upper && upper <= Double.MAX_VALUE)) {
+            throw new IllegalArgumentException("Invalid range: [" + lower + ", " + upper + "]");
+        }
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Invalid relative accuracy: " + relativeAccuracy);
+        }
+        final double gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        final double buckets = Math.floor((Math.log(upper) - Math.log(lower)) / Math.log(gamma)) + 1;
+        if (buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Invalid number of buckets: " + buckets);
+        }
+        return new LogHistogram(lower, upper, relativeAccuracy, gamma, (int) buckets);
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(double value) {
+        if (value >= lower) {
+            if (value <= upper) {
+                // Clip the index: values close to a bucket boundary may round to an
+                // adjacent bucket
+                final int i = (int) ((Math.log(value) - logLower) * invLogGamma);
+                counts[Math.min(i, counts.length - 1)]++;
+            } else {
+                overflow++;
+            }
+        } else if (value < lower) {
+            underflow++;
+        } else {
+            // NaN
+            return;
+        }
+        n++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        moment.accept(value);
+    }
+
+    /**
+     * Gets the number of (non-NaN) values that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return n;
+    }
+
+    /**
+     * Gets the lower bound of the histogram.
+     *
+     * @return the lower bound
+     */
+    public double getLowerBound() {
+        return lower;
+    }
+
+    /**
+     * Gets the upper bound of the histogram.
+     *
+     * @return the upper bound
+     */
+    public double getUpperBound() {
+        return upper;
+    }
+
+    /**
+     * Gets the relative accuracy of the histogram.
+     *
+     * @return the relative accuracy
+     */
+    public double getRelativeAccuracy() {
+        return alpha;
+    }
+
+    /**
+     * Gets the count of values in each bucket. Bucket {@code i} contains values in the
+     * interval {@code [lower * gamma^i, lower * gamma^(i+1))}. The final bucket contains
+     * all values up to and including the upper bound.
+     *
+     * @return the counts
+     */
+    public long[] getCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * Gets the count of values below the lower bound.
+     *
+     * @return the count
+     */
+    public long getUnderflowCount() {
+        return underflow;
+    }
+
+    /**
+     * Gets the count of values above the upper bound.
+     *
+     * @return the count
+     */
+    public long getOverflowCount() {
+        return overflow;
+    }
+
+    /**
+     * Gets the mean of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return the mean
+     * @see Mean
+     */
+    public double getMean() {
+        return moment.getFirstMoment();
+    }
+
+    /**
+     * Gets the estimated median of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return the median
+     * @see #getQuantile(double)
+     */
+    @Override
+    public double getAsDouble() {
+        return quantile(MEDIAN);
+    }
+
+    /**
+     * Gets the estimated {@code p}-th quantile of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     */
+    public double getQuantile(double p) {
+        Quantile.checkProbability(p);
+        return quantile(p);
+    }
+
+    /**
+     * Gets the estimated {@code p}-th quantiles of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     */
+    public double[] getQuantiles(double... p) {
+        Quantile.checkProbabilities(p);
+        final double[] q = new double[p.length];
+        for (int i = 0; i < p.length; i++) {
+            q[i] = quantile(p[i]);
+        }
+        return q;
+    }
+
+    /**
+     * Compute the {@code p}-th quantile.
+     *
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     */
+    private double quantile(double p) {
+        return Histogram.quantile(estimationType, p, n, this::value);
+    }
+
+    /**
+     * Gets the estimated value with the zero-based rank {@code k} in the sorted values.
+     *
+     * @param k Rank in {@code [0, n)}.
+     * @return the value
+     */
+    private double value(long k) {
+        // The extreme values are exact
+        if (k == 0) {
+            return min;
+        }
+        if (k == n - 1) {
+            return max;
+        }
+        if (k < underflow) {
+            // Position the values uniformly in [min, lower)
+            return Histogram.interpolate(min, lower, k, underflow);
+        }
+        long cumulative = underflow;
+        final int buckets = counts.length;
+        for (int i = 0; i < buckets; i++) {
+            cumulative += counts[i];
+            if (k < cumulative) {
+                return Math.min(max, Math.max(min, getBucketValue(i)));
+            }
+        }
+        // Position the values uniformly in (upper, max]
+        return Histogram.interpolate(upper, max, k - cumulative + 1, overflow);
+    }
+
+    /**
+     * Gets the value representing the bucket. This has a relative error of at most
+     * {@code alpha} for all values in the bucket.
+     *
+     * @param i Bucket index.
+     * @return the value
+     */
+    private double getBucketValue(int i) {
+        // Lower bound of the next bucket: lower * gamma^(i+1)
+        return 2 * lower * Math.exp((i + 1) / invLogGamma) / (gamma + 1);
+    }
+
+    /**
+     * Sets the {@link Quantile.EstimationMethod} used to compute the rank of the quantile.
+     * The default is {@link Quantile.EstimationMethod#HF8 HF8}.
+     *
+     * <p>This only controls the final computation of the statistic. The value
+     * will not affect compatibility between instances during a
+     * {@link #combine(LogHistogram) combine} operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     */
+    public LogHistogram setEstimationMethod(Quantile.EstimationMethod v) {
+        estimationType = Objects.requireNonNull(v);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the {@code other} histogram does not have
+     * the same buckets
+     */
+    @Override
+    public LogHistogram combine(LogHistogram other) {
+        if (lower != other.lower || upper != other.upper || alpha != other.alpha) {
+            throw new IllegalArgumentException("Incompatible histogram buckets");
+        }
+        final long[] c = counts;
+        final long[] oc = other.counts;
+        for (int i = 0; i < c.length; i++) {
+            c[i] += oc[i];
+        }
+        underflow += other.underflow;
+        overflow += other.overflow;
+        n += other.n;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        moment.combine(other.moment);
+        return this;
+    }
+}
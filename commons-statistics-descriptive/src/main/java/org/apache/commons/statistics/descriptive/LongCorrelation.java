@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.math.BigInteger;
+
+/**
+ * Computes the Pearson product-moment correlation coefficient of the available paired
+ * values:
+ *
+ * <p>\[ r = \frac{\sum_{i=1}^n (x_i-\overline{x})(y_i-\overline{y})}
+ *                {\sqrt{\sum_{i=1}^n (x_i-\overline{x})^2} \sqrt{\sum_{i=1}^n (y_i-\overline{y})^2}} \]
+ *
+ * <p>where \( \overline{x} \) and \( \overline{y} \) are the sample means, and \( n \) is
+ * the number of pairs.
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if less than two pairs are added.
+ *   <li>The result is {@code NaN} if the {@code x} or {@code y} values have zero variance.
+ *   <li>The result is in the range {@code [-1, 1]}.
+ * </ul>
+ *
+ * <p>The implementation uses exact integer sums to compute the scaled (by \( n \))
+ * sums of the squared and product deviations from the means. The only rounding is in
+ * the final conversion of each sum to a {@code double} and the division.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link #accept(long, long) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as the {@code combiner} function of a {@link java.util.stream.Collector Collector} on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Pearson_correlation_coefficient">
+ *   Pearson correlation coefficient (Wikipedia)</a>
+ * @see Correlation
+ * @see LongCovariance
+ * @since 1.2
+ */
+public final class LongCorrelation implements StatisticResult, StatisticAccumulator<LongCorrelation> {
+    /** Sum of the x values. */
+    private final Int128 sumX = Int128.create();
+    /** Sum of the y values. */
+    private final Int128 sumY = Int128.create();
+    /** Sum of the positive products x * y. */
+    private final UInt192 sumXYpos = UInt192.create();
+    /** Sum of the magnitude of the negative products x * y. */
+    private final UInt192 sumXYneg = UInt192.create();
+    /** Sum of the squared x values. */
+    private final UInt192 sumXX = UInt192.create();
+    /** Sum of the squared y values. */
+    private final UInt192 sumYY = UInt192.create();
+    /** Count of pairs that have been added. */
+    private long n;
+
+    /**
+     * Create an instance.
+     */
+    private LongCorrelation() {
+        // No-op
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @return {@code LongCorrelation} instance.
+     */
+    public static LongCorrelation create() {
+        return new LongCorrelation();
+    }
+
+    /**
+     * Returns an instance populated using the paired values {@code (x[i], y[i])}.
+     *
+     * @param x Values.
+     * @param y Values.
+     * @return {@code LongCorrelation} instance.
+     * @throws IllegalArgumentException if the values have different lengths
+     */
+    public static LongCorrelation of(long[] x, long[] y) {
+        Statistics.checkPairedLength(x.length, y.length);
+        final LongCorrelation s = new LongCorrelation();
+        for (int i = 0; i < x.length; i++) {
+            s.accept(x[i], y[i]);
+        }
+        return s;
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the pair {@code (x, y)}.
+     *
+     * @param x Value.
+     * @param y Value.
+     */
+    public void accept(long x, long y) {
+        sumX.add(x);
+        sumY.add(y);
+        LongCovariance.addProduct(sumXYpos, sumXYneg, x, y);
+        sumXX.addSquare(x);
+        sumYY.addSquare(y);
+        n++;
+    }
+
+    /**
+     * Gets the number of pairs that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return n;
+    }
+
+    /**
+     * Gets the correlation of all input pairs.
+     *
+     * <p>When less than two pairs have been added, the result is {@code NaN}.
+     *
+     * @return correlation of all pairs.
+     */
+    @Override
+    public double getAsDouble() {
+        if (n < 2) {
+            return Double.NaN;
+        }
+        final BigInteger sx = sumX.toBigInteger();
+        final BigInteger sy = sumY.toBigInteger();
+        return Correlation.compute(
+            IntCovariance.computeSumOfProductsN(LongCovariance.subtract(sumXYpos, sumXYneg), sx, sy, n),
+            IntCovariance.computeSumOfProductsN(sumXX.toBigInteger(), sx, sx, n),
+            IntCovariance.computeSumOfProductsN(sumYY.toBigInteger(), sy, sy, n));
+    }
+
+    @Override
+    public LongCorrelation combine(LongCorrelation other) {
+        sumX.add(other.sumX);
+        sumY.add(other.sumY);
+        sumXYpos.add(other.sumXYpos);
+        sumXYneg.add(other.sumXYneg);
+        sumXX.add(other.sumXX);
+        sumYY.add(other.sumYY);
+        n += other.n;
+        return this;
+    }
+}
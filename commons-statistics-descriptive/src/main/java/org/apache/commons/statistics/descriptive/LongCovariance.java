@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.math.BigInteger;
+
+/**
+ * Computes the covariance of the available paired values. The default implementation
+ * uses the following definition of the <em>sample covariance</em>:
+ *
+ * <p>\[ \tfrac{1}{n-1} \sum_{i=1}^n (x_i-\overline{x})(y_i-\overline{y}) \]
+ *
+ * <p>where \( \overline{x} \) and \( \overline{y} \) are the sample means, and \( n \) is
+ * the number of pairs. If the {@link #setBiased(boolean) biased} option is enabled the
+ * normalisation factor is changed to \( \frac{1}{n} \).
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ *   <li>The result is zero if there is one pair in the data set.
+ * </ul>
+ *
+ * <p>The implementation uses exact integer sums to compute the scaled (by \( n \))
+ * sum of the products of the deviations from the means; this is normalised by the scaled
+ * correction factor.
+ *
+ * <p>\[ \frac {n \times \sum_{i=1}^n x_i y_i - \sum_{i=1}^n x_i \sum_{i=1}^n y_i}{n \times (n - 1)} \]
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link #accept(long, long) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as the {@code combiner} function of a {@link java.util.stream.Collector Collector} on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Covariance">Covariance (Wikipedia)</a>
+ * @see Covariance
+ * @see LongCorrelation
+ * @since 1.2
+ */
+public final class LongCovariance implements StatisticResult, StatisticAccumulator<LongCovariance> {
+    /** Sum of the x values. */
+    private final Int128 sumX = Int128.create();
+    /** Sum of the y values. */
+    private final Int128 sumY = Int128.create();
+    /** Sum of the positive products x * y. */
+    private final UInt192 sumXYpos = UInt192.create();
+    /** Sum of the magnitude of the negative products x * y. */
+    private final UInt192 sumXYneg = UInt192.create();
+    /** Count of pairs that have been added. */
+    private long n;
+
+    /** Flag to control if the statistic is biased, or should use a bias correction. */
+    private boolean biased;
+
+    /**
+     * Create an instance.
+     */
+    private LongCovariance() {
+        // No-op
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @return {@code LongCovariance} instance.
+     */
+    public static LongCovariance create() {
+        return new LongCovariance();
+    }
+
+    /**
+     * Returns an instance populated using the paired values {@code (x[i], y[i])}.
+     *
+     * @param x Values.
+     * @param y Values.
+     * @return {@code LongCovariance} instance.
+     * @throws IllegalArgumentException if the values have different lengths
+     */
+    public static LongCovariance of(long[] x, long[] y) {
+        Statistics.checkPairedLength(x.length, y.length);
+        final LongCovariance s = new LongCovariance();
+        for (int i = 0; i < x.length; i++) {
+            s.accept(x[i], y[i]);
+        }
+        return s;
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the pair {@code (x, y)}.
+     *
+     * @param x Value.
+     * @param y Value.
+     */
+    public void accept(long x, long y) {
+        sumX.add(x);
+        sumY.add(y);
+        addProduct(sumXYpos, sumXYneg, x, y);
+        n++;
+    }
+
+    /**
+     * Gets the number of pairs that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return n;
+    }
+
+    /**
+     * Gets the covariance of all input pairs.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return covariance of all pairs.
+     */
+    @Override
+    public double getAsDouble() {
+        return IntCovariance.computeCovariance(subtract(sumXYpos, sumXYneg), sumX, sumY, n, biased);
+    }
+
+    /**
+     * Adds the product {@code x * y} to the sum of the positive or negative products.
+     * The sums are exact as the unsigned magnitude of the 128-bit product is added to
+     * a 192-bit sum.
+     *
+     * @param positive Sum of the positive products.
+     * @param negative Sum of the magnitude of the negative products.
+     * @param x Value.
+     * @param y Value.
+     */
+    static void addProduct(UInt192 positive, UInt192 negative, long x, long y) {
+        // Note: Negation of Long.MIN_VALUE is the unsigned magnitude 2^63
+        final long ux = x < 0 ? -x : x;
+        final long uy = y < 0 ? -y : y;
+        if ((x ^ y) < 0) {
+            negative.addUnsignedProduct(ux, uy);
+        } else {
+            positive.addUnsignedProduct(ux, uy);
+        }
+    }
+
+    /**
+     * Compute the signed difference {@code a - b}.
+     *
+     * @param a Value.
+     * @param b Value.
+     * @return the difference
+     */
+    static BigInteger subtract(UInt192 a, UInt192 b) {
+        return a.toBigInteger().subtract(b.toBigInteger());
+    }
+
+    @Override
+    public LongCovariance combine(LongCovariance other) {
+        sumX.add(other.sumX);
+        sumY.add(other.sumY);
+        sumXYpos.add(other.sumXYpos);
+        sumXYneg.add(other.sumXYneg);
+        n += other.n;
+        return this;
+    }
+
+    /**
+     * Sets the value of the biased flag. The default value is {@code false}.
+     *
+     * <p>If {@code false} the sum of the products of the deviations from the sample means is
+     * normalised by {@code n - 1} where {@code n} is the number of pairs. This is Bessel's
+     * correction for an unbiased estimator of the covariance of a hypothetical infinite
+     * population.
+     *
+     * <p>If {@code true} the sum is normalised by the number of pairs {@code n}.
+     *
+     * <p>Note: This option only applies when {@code n > 1}. The covariance of {@code n = 1} is
+     * always 0.
+     *
+     * <p>This flag only controls the final computation of the statistic. The value of this flag
+     * will not affect compatibility between instances during a {@link #combine(LongCovariance) combine}
+     * operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     */
+    public LongCovariance setBiased(boolean v) {
+        biased = v;
+        return this;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Returns an estimate of the number of distinct values of the available values.
+ *
+ * <ul>
+ *   <li>The result is zero if no values are added.
+ * </ul>
+ *
+ * <p>This class uses a HyperLogLog sketch of {@code 2^p} registers for a
+ * precision {@code p} in {@code [4, 18]}. The memory use is {@code 2^p} bytes
+ * and is independent of the number of values. The relative standard error of the
+ * estimate is approximately {@code 1.04 / sqrt(2^p)}. The default precision of 12
+ * uses 4 KiB with a relative standard error of 1.6%.
+ *
+ * <p>Instances with the same precision can be {@link #combine(LongDistinctCount) combined}.
+ * The result is identical to an instance that recorded all the values; it is
+ * independent of the order of the values and the partitioning of the values.
+ * The sketch of an {@code long} value is the same as {@link IntDistinctCount} for the
+ * same value if it is within the range of an {@code int}.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link java.util.function.LongConsumer#accept(long) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link java.util.function.LongConsumer#accept(long) accept}
+ * and {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as {@code accumulator} and {@code combiner} functions of
+ * {@link java.util.stream.Collector Collector} on a parallel stream,
+ * because the parallel implementation of {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/HyperLogLog">HyperLogLog (Wikipedia)</a>
+ * @since 1.2
+ */
+public final class LongDistinctCount implements LongStatistic, StatisticAccumulator<LongDistinctCount> {
+    /** Sketch of the values. */
+    private final HyperLogLog sketch;
+
+    /**
+     * Create an instance.
+     *
+     * @param sketch Sketch of the values.
+     */
+    private LongDistinctCount(HyperLogLog sketch) {
+        this.sketch = sketch;
+    }
+
+    /**
+     * Creates an instance with the default precision.
+     *
+     * <p>The initial result is zero.
+     *
+     * @return {@code LongDistinctCount} instance.
+     */
+    public static LongDistinctCount create() {
+        return new LongDistinctCount(HyperLogLog.create(HyperLogLog.DEFAULT_PRECISION));
+    }
+
+    /**
+     * Creates an instance with the specified precision. The sketch uses
+     * {@code 2^precision} registers.
+     *
+     * <p>The initial result is zero.
+     *
+     * @param precision Precision.
+     * @return {@code LongDistinctCount} instance.
+     * @throws IllegalArgumentException if the precision is not in {@code [4, 18]}
+     */
+    public static LongDistinctCount create(int precision) {
+        return new LongDistinctCount(HyperLogLog.create(precision));
+    }
+
+    /**
+     * Returns an instance with the default precision populated using the input
+     * {@code values}.
+     *
+     * <p>When the input is an empty array, the result is zero.
+     *
+     * @param values Values.
+     * @return {@code LongDistinctCount} instance.
+     */
+    public static LongDistinctCount of(long... values) {
+        return createFromRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance with the default precision populated using the specified
+     * range of {@code values}.
+     *
+     * <p>When the range is empty, the result is zero.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code LongDistinctCount} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public static LongDistinctCount ofRange(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance with the default precision using the specified range of
+     * {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code LongDistinctCount} instance.
+     */
+    static LongDistinctCount createFromRange(long[] values, int from, int to) {
+        return createFromRange(HyperLogLog.DEFAULT_PRECISION, values, from, to);
+    }
+
+    /**
+     * Create an instance with the specified precision using the specified range of
+     * {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param precision Precision.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code LongDistinctCount} instance.
+     */
+    static LongDistinctCount createFromRange(int precision, long[] values, int from, int to) {
+        final LongDistinctCount s = create(precision);
+        for (int i = from; i < to; i++) {
+            s.sketch.add(values[i]);
+        }
+        return s;
+    }
+
+    /**
+     * Gets the precision. The sketch uses {@code 2^precision} registers.
+     *
+     * @return the precision
+     */
+    public int getPrecision() {
+        return sketch.getPrecision();
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(long value) {
+        sketch.add(value);
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    @Override
+    public void accept(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            sketch.add(values[i]);
+        }
+    }
+
+    /**
+     * Gets an estimate of the number of distinct values of all input values.
+     *
+     * <p>When no values have been added, the result is zero.
+     *
+     * @return the estimated number of distinct values.
+     */
+    @Override
+    public double getAsDouble() {
+        return sketch.estimate();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the {@code other} instance has a different
+     * {@link #getPrecision() precision}
+     */
+    @Override
+    public LongDistinctCount combine(LongDistinctCount other) {
+        sketch.combine(other.sketch);
+        return this;
+    }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format. The size is
+     * {@code 2^precision} bytes plus a small header.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.LONG_DISTINCT_COUNT);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code LongDistinctCount} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code LongDistinctCount}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     */
+    public static LongDistinctCount readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.LONG_DISTINCT_COUNT);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        sketch.write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static LongDistinctCount read(ByteBuffer buffer) {
+        return new LongDistinctCount(HyperLogLog.read(buffer));
+    }
+}
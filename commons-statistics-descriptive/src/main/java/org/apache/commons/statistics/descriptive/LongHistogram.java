@@ -0,0 +1,453 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Objects;
+
+/**
+ * Computes a high dynamic range histogram of the available {@code long} values in the
+ * range {@code [0, highestTrackableValue]} with a configurable number of significant
+ * decimal digits. This is suitable for recording latency measurements.
+ *
+ * <p>The values are recorded using buckets of increasing powers of 2. Each bucket is
+ * divided into a fixed number of linear sub-buckets sufficient to resolve the configured
+ * number of significant digits. The width of a sub-bucket relative to any value it
+ * contains is at most \( 10^{-d} \) for \( d \) significant digits. Values below zero
+ * and above the highest trackable value are counted as underflow and overflow
+ * respectively. Recording a value is a constant time operation that increments a
+ * {@code long} count and does not allocate memory.
+ *
+ * <p>Exact statistics of the values are computed using a {@link LongStatistics}
+ * instance that is updated with each recorded value. This allows computation of the
+ * exact minimum, maximum and moments of the values alongside the approximate quantiles
+ * in a single pass.
+ *
+ * <p>The quantile is estimated using the {@link Quantile.EstimationMethod} to compute
+ * the (real-valued) rank of the quantile within the sorted values. The value is
+ * interpolated between the values at the adjacent integer ranks; each value in a
+ * sub-bucket is estimated using the highest value equivalent to the value, i.e. the
+ * upper bound of its sub-bucket. Underflow and overflow values are interpolated using
+ * the exact minimum and maximum of the values. The quantile is always within the exact
+ * range of the values; the quantiles {@code p=0} and {@code p=1} are exact. The rank
+ * is computed in the same way as {@link Histogram}.
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ * </ul>
+ *
+ * <p>The {@link #getAsDouble() result} is the median. Other quantiles can be obtained
+ * using {@link #getQuantile(double)}.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link java.util.function.LongConsumer#accept(long) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link java.util.function.LongConsumer#accept(long) accept}
+ * and {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as {@code accumulator} and {@code combiner} functions of
+ * {@link java.util.stream.Collector Collector} on a parallel stream,
+ * because the parallel implementation of {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution.
+ *
+ * <p>References:
+ * <ol>
+ *   <li>Tene G (2012) HdrHistogram: A High Dynamic Range Histogram.
+ *       <a href="http://hdrhistogram.org/">http://hdrhistogram.org/</a>
+ * </ol>
+ *
+ * @see LongStatistics
+ * @see LogHistogram
+ * @since 1.2
+ */
+public final class LongHistogram implements LongStatistic, StatisticAccumulator<LongHistogram> {
+    /** Probability of the median. */
+    private static final double MEDIAN = 0.5;
+    /** Maximum number of significant digits. */
+    private static final int MAX_DIGITS = 5;
+    /** Default statistics. */
+    private static final Statistic[] DEFAULT_STATISTICS = {
+        Statistic.MIN, Statistic.MAX, Statistic.MEAN, Statistic.STANDARD_DEVIATION,
+        Statistic.VARIANCE, Statistic.SUM,
+    };
+
+    /** Highest trackable value. */
+    private final long highest;
+    /** Number of significant digits. */
+    private final int digits;
+    /** Magnitude of the count of half of the sub-buckets: {@code log2(halfCount)}. */
+    private final int halfCountMagnitude;
+    /** Count of half of the sub-buckets. */
+    private final int halfCount;
+    /** Mask for the sub-bucket index of bucket 0. */
+    private final long subBucketMask;
+    /** Bucket counts. */
+    private final long[] counts;
+    /** Count of values below zero. */
+    private long underflow;
+    /** Count of values above the highest trackable value. */
+    private long overflow;
+    /** Count of values that have been added. */
+    private long n;
+    /** Minimum value. */
+    private long min = Long.MAX_VALUE;
+    /** Maximum value. */
+    private long max = Long.MIN_VALUE;
+    /** Builder of the exact statistics. */
+    private final LongStatistics.Builder builder;
+    /** Exact statistics. */
+    private final LongStatistics statistics;
+    /** Estimation type used to determine the rank of the quantile. */
+    private Quantile.EstimationMethod estimationType = Quantile.EstimationMethod.HF8;
+
+    /**
+     * Create an instance.
+     *
+     * @param highest Highest trackable value.
+     * @param digits Number of significant digits.
+     * @param builder Builder of the exact statistics.
+     */
+    private LongHistogram(long highest, int digits, LongStatistics.Builder builder) {
+        this.highest = highest;
+        this.digits = digits;
+        this.builder = builder;
+        statistics = builder.build();
+        // The sub-buckets must resolve 1 part in 10^d for all values.
+        // Use a count of 2^k >= 2 * 10^d so the upper half of each bucket has
+        // at least 10^d sub-buckets.
+        long largest = 2;
+        for (int i = 0; i < digits; i++) {
+            largest *= 10;
+        }
+        final int subBucketCountMagnitude = 64 - Long.numberOfLeadingZeros(largest - 1);
+        halfCountMagnitude = subBucketCountMagnitude - 1;
+        halfCount = 1 << halfCountMagnitude;
+        subBucketMask = (1L << subBucketCountMagnitude) - 1;
+        counts = new long[index(highest) + 1];
+    }
+
+    /**
+     * Creates an instance for values in {@code [0, highestTrackableValue]} with the
+     * specified number of significant digits. The exact statistics computed are
+     * {@link Statistic#MIN MIN}, {@link Statistic#MAX MAX}, {@link Statistic#MEAN MEAN},
+     * {@link Statistic#STANDARD_DEVIATION STANDARD_DEVIATION},
+     * {@link Statistic#VARIANCE VARIANCE} and {@link Statistic#SUM SUM}.
+     *
+     * <p>The number of counts is approximately \( 2^{k} (\log_2(h) - k + 1) \)
+     * where \( 2^{k} \) is the smallest power of 2 not below \( 10^d \). For example
+     * tracking nanosecond latencies up to 1 hour with 3 significant digits requires
+     * approximately 33 thousand counts.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @param highestTrackableValue Highest trackable value.
+     * @param significantDigits Number of significant digits.
+     * @return {@code LongHistogram} instance.
+     * @throws IllegalArgumentException if {@code highestTrackableValue < 1}; or the
+     * number of significant digits is not in the range {@code [0, 5]}.
+     */
+    public static LongHistogram create(long highestTrackableValue, int significantDigits) {
+        return create(highestTrackableValue, significantDigits, DEFAULT_STATISTICS);
+    }
+
+    /**
+     * Creates an instance for values in {@code [0, highestTrackableValue]} with the
+     * specified number of significant digits, and the exact {@code statistics}.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @param highestTrackableValue Highest trackable value.
+     * @param significantDigits Number of significant digits.
+     * @param statistics Exact statistics to compute.
+     * @return {@code LongHistogram} instance.
+     * @throws IllegalArgumentException if {@code highestTrackableValue < 1}; the
+     * number of significant digits is not in the range {@code [0, 5]}; or there are no
+     * {@code statistics} to compute.
+     * @see #create(long, int)
+     */
+    public static LongHistogram create(long highestTrackableValue, int significantDigits,
+                                       Statistic... statistics) {
+        if (highestTrackableValue < 1) {
+            throw new IllegalArgumentException("Invalid highest trackable value: " + highestTrackableValue);
+        }
+        if (significantDigits < 0 || significantDigits > MAX_DIGITS) {
+            throw new IllegalArgumentException("Invalid significant digits: " + significantDigits);
+        }
+        return new LongHistogram(highestTrackableValue, significantDigits,
+            LongStatistics.builder(statistics));
+    }
+
+    /**
+     * Gets the counts index of the value.
+     *
+     * <p>Warning: The value must be positive.
+     *
+     * @param value Value.
+     * @return the index
+     */
+    private int index(long value) {
+        // Bucket 0 contains all sub-buckets for [0, 2 * halfCount).
+        // Bucket b > 0 contains the upper half of the sub-buckets using a width of 2^b.
+        final int bucket = 63 - halfCountMagnitude - Long.numberOfLeadingZeros(value | subBucketMask);
+        final int subBucket = (int) (value >>> bucket);
+        return ((bucket + 1) << halfCountMagnitude) + subBucket - halfCount;
+    }
+
+    /**
+     * Gets the highest value that is equivalent to the values at the counts index,
+     * i.e. the upper bound of the sub-bucket.
+     *
+     * @param index Counts index.
+     * @return the value
+     */
+    private long highestEquivalentValue(int index) {
+        // Invert the index computation
+        final int bucket = Math.max(0, (index >> halfCountMagnitude) - 1);
+        final long subBucket = index - ((long) (bucket + 1) << halfCountMagnitude) + halfCount;
+        // Upper bound of the sub-bucket is the start of the next sub-bucket - 1.
+        // The start may overflow to Long.MIN_VALUE for the final sub-bucket.
+        return ((subBucket + 1) << bucket) - 1;
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(long value) {
+        if (value < 0) {
+            underflow++;
+        } else if (value > highest) {
+            overflow++;
+        } else {
+            counts[index(value)]++;
+        }
+        n++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        statistics.accept(value);
+    }
+
+    /**
+     * Gets the number of values that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return n;
+    }
+
+    /**
+     * Gets the highest trackable value.
+     *
+     * @return the highest trackable value
+     */
+    public long getHighestTrackableValue() {
+        return highest;
+    }
+
+    /**
+     * Gets the number of significant digits.
+     *
+     * @return the number of significant digits
+     */
+    public int getSignificantDigits() {
+        return digits;
+    }
+
+    /**
+     * Gets the count of values below zero.
+     *
+     * @return the count
+     */
+    public long getUnderflowCount() {
+        return underflow;
+    }
+
+    /**
+     * Gets the count of values above the highest trackable value.
+     *
+     * @return the count
+     */
+    public long getOverflowCount() {
+        return overflow;
+    }
+
+    /**
+     * Gets the count of values recorded that are equivalent to the {@code value}, i.e.
+     * the count of the sub-bucket containing the value. Returns zero for values outside
+     * the range {@code [0, highestTrackableValue]}.
+     *
+     * @param value Value.
+     * @return the count
+     */
+    public long getCountAtValue(long value) {
+        if (value < 0 || value > highest) {
+            return 0;
+        }
+        return counts[index(value)];
+    }
+
+    /**
+     * Gets the exact statistics of the values.
+     *
+     * <p>The result is a copy of the current statistics. It is not updated by
+     * this histogram, and updates to the copy do not change this histogram.
+     *
+     * @return the statistics
+     */
+    public LongStatistics getStatistics() {
+        return builder.build().combine(statistics);
+    }
+
+    /**
+     * Gets the estimated median of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return the median
+     * @see #getQuantile(double)
+     */
+    @Override
+    public double getAsDouble() {
+        return quantile(MEDIAN);
+    }
+
+    /**
+     * Gets the estimated {@code p}-th quantile of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     */
+    public double getQuantile(double p) {
+        Quantile.checkProbability(p);
+        return quantile(p);
+    }
+
+    /**
+     * Gets the estimated {@code p}-th quantiles of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     */
+    public double[] getQuantiles(double... p) {
+        Quantile.checkProbabilities(p);
+        final double[] q = new double[p.length];
+        for (int i = 0; i < p.length; i++) {
+            q[i] = quantile(p[i]);
+        }
+        return q;
+    }
+
+    /**
+     * Compute the {@code p}-th quantile.
+     *
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     */
+    private double quantile(double p) {
+        return Histogram.quantile(estimationType, p, n, this::value);
+    }
+
+    /**
+     * Gets the estimated value with the zero-based rank {@code k} in the sorted values.
+     *
+     * @param k Rank in {@code [0, n)}.
+     * @return the value
+     */
+    private double value(long k) {
+        // The extreme values are exact
+        if (k == 0) {
+            return min;
+        }
+        if (k == n - 1) {
+            return max;
+        }
+        if (k < underflow) {
+            // Position the values uniformly in [min, -1]
+            return Histogram.interpolate(min, -1, k, underflow - 1);
+        }
+        long cumulative = underflow;
+        final long[] c = counts;
+        for (int i = 0; i < c.length; i++) {
+            cumulative += c[i];
+            if (k < cumulative) {
+                return Math.min(max, Math.max(min, highestEquivalentValue(i)));
+            }
+        }
+        // Position the values uniformly in [highest + 1, max]
+        return Histogram.interpolate(highest + 1.0, max, k - cumulative, overflow - 1);
+    }
+
+    /**
+     * Sets the {@link Quantile.EstimationMethod} used to compute the rank of the quantile.
+     * The default is {@link Quantile.EstimationMethod#HF8 HF8}.
+     *
+     * <p>This only controls the final computation of the statistic. The value
+     * will not affect compatibility between instances during a
+     * {@link #combine(LongHistogram) combine} operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     */
+    public LongHistogram setEstimationMethod(Quantile.EstimationMethod v) {
+        estimationType = Objects.requireNonNull(v);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the {@code other} histogram does not have
+     * the same highest trackable value and significant digits; or the exact statistics
+     * are not compatible (see {@link LongStatistics#combine(LongStatistics)})
+     */
+    @Override
+    public LongHistogram combine(LongHistogram other) {
+        if (highest != other.highest || digits != other.digits) {
+            throw new IllegalArgumentException("Incompatible histogram buckets");
+        }
+        // Raises an exception before modifying the state if incompatible
+        statistics.combine(other.statistics);
+        final long[] c = counts;
+        final long[] oc = other.counts;
+        for (int i = 0; i < c.length; i++) {
+            c[i] += oc[i];
+        }
+        underflow += other.underflow;
+        overflow += other.overflow;
+        n += other.n;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+}
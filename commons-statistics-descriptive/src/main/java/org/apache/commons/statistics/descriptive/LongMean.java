@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Computes the arithmetic mean of the available values. Uses the following definition
  * of the <em>sample mean</em>:
@@ -95,11 +97,40 @@ public final class LongMean implements LongStatistic, StatisticAccumulator<LongM
      * @return {@code IntMean} instance.
      */
     public static LongMean of(long... values) {
+        return createFromRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code IntMean} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static LongMean ofRange(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code LongMean} instance.
+     */
+    static LongMean createFromRange(long[] values, int from, int to) {
         final Int128 s = Int128.create();
-        for (final long x : values) {
-            s.add(x);
+        for (int i = from; i < to; i++) {
+            s.add(values[i]);
         }
-        return new LongMean(s, values.length);
+        return new LongMean(s, to - from);
     }
 
     /**
@@ -113,6 +144,25 @@ public final class LongMean implements LongStatistic, StatisticAccumulator<LongM
         n++;
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            sum.add(values[i]);
+        }
+        n += to - from;
+    }
+
     /**
      * Gets the mean of all input values.
      *
@@ -151,4 +201,60 @@ public final class LongMean implements LongStatistic, StatisticAccumulator<LongM
         n += other.n;
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.LONG_MEAN);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code LongMean} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code LongMean}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static LongMean readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.LONG_MEAN);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putLong(n);
+        StatisticState.write(buffer, sum);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static LongMean read(ByteBuffer buffer) {
+        final long n = buffer.getLong();
+        final LongMean s = new LongMean(StatisticState.readInt128(buffer), 0);
+        s.n = n;
+        return s;
+    }
 }
@@ -17,6 +17,7 @@
 package org.apache.commons.statistics.descriptive;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 
 /**
  * Returns the minimum of the available values. Uses {@link Math#min(long, long) Math.min} as an
@@ -81,6 +82,38 @@ public final class LongMin implements LongStatistic, StatisticAccumulator<LongMi
         return Statistics.add(new LongMin(), values);
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>When the range is empty, the result is
+     * {@link Long#MAX_VALUE}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Min} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static LongMin ofRange(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code LongMin} instance.
+     */
+    static LongMin createFromRange(long[] values, int from, int to) {
+        return Statistics.add(new LongMin(), values, from, to);
+    }
+
     /**
      * Updates the state of the statistic to reflect the addition of {@code value}.
      *
@@ -91,6 +124,26 @@ public final class LongMin implements LongStatistic, StatisticAccumulator<LongMi
         minimum = Math.min(minimum, value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        long m = minimum;
+        for (int i = from; i < to; i++) {
+            m = Math.min(m, values[i]);
+        }
+        minimum = m;
+    }
+
     /**
      * Gets the minimum of all input values.
      *
@@ -133,4 +186,58 @@ public final class LongMin implements LongStatistic, StatisticAccumulator<LongMi
         accept(other.getAsLong());
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.LONG_MIN);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code LongMin} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code LongMin}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static LongMin readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.LONG_MIN);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putLong(minimum);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static LongMin read(ByteBuffer buffer) {
+        final LongMin s = new LongMin();
+        s.minimum = buffer.getLong();
+        return s;
+    }
 }
@@ -17,11 +17,14 @@
 package org.apache.commons.statistics.descriptive;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.DoubleConsumer;
-import java.util.function.Function;
 import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import org.apache.commons.statistics.descriptive.Statistics.RangeFunction;
 
 /**
  * Statistics for {@code long} values.
@@ -59,6 +62,8 @@ public final class LongStatistics implements LongConsumer {
     private final LongSumOfSquares sumOfSquares;
     /** The {@link SumOfLogs} implementation. */
     private final SumOfLogs sumOfLogs;
+    /** The {@link LongDistinctCount} implementation. */
+    private final LongDistinctCount distinctCount;
     /** Configuration options for computation of statistics. */
     private StatisticsConfiguration config;
 
@@ -70,23 +75,27 @@ public final class LongStatistics implements LongConsumer {
         private static final long[] NO_VALUES = {};
 
         /** The {@link LongMin} constructor. */
-        private Function<long[], LongMin> min;
+        private RangeFunction<long[], LongMin> min;
         /** The {@link LongMax} constructor. */
-        private Function<long[], LongMax> max;
+        private RangeFunction<long[], LongMax> max;
         /** The moment constructor. May return any instance of {@link FirstMoment}. */
-        private Function<long[], FirstMoment> moment;
+        private RangeFunction<long[], FirstMoment> moment;
         /** The {@link LongSum} constructor. */
-        private Function<long[], LongSum> sum;
+        private RangeFunction<long[], LongSum> sum;
         /** The {@link Product} constructor. */
-        private Function<long[], Product> product;
+        private RangeFunction<long[], Product> product;
         /** The {@link LongSumOfSquares} constructor. */
-        private Function<long[], LongSumOfSquares> sumOfSquares;
+        private RangeFunction<long[], LongSumOfSquares> sumOfSquares;
         /** The {@link SumOfLogs} constructor. */
-        private Function<long[], SumOfLogs> sumOfLogs;
+        private RangeFunction<long[], SumOfLogs> sumOfLogs;
+        /** The {@link LongDistinctCount} constructor. */
+        private RangeFunction<long[], LongDistinctCount> distinctCount;
         /** The order of the moment. It corresponds to the power computed by the {@link FirstMoment}
          * instance constructed by {@link #moment}. This should only be increased from the default
          * of zero (corresponding to no moment computation). */
         private int momentOrder;
+        /** The precision of the {@link LongDistinctCount}. */
+        private int distinctCountPrecision = HyperLogLog.DEFAULT_PRECISION;
         /** Configuration options for computation of statistics. */
         private StatisticsConfiguration config = StatisticsConfiguration.withDefaults();
 
@@ -107,34 +116,37 @@ public final class LongStatistics implements LongConsumer {
             switch (statistic) {
             case GEOMETRIC_MEAN:
             case SUM_OF_LOGS:
-                sumOfLogs = SumOfLogs::of;
+                sumOfLogs = SumOfLogs::createFromRange;
                 break;
             case KURTOSIS:
                 createMoment(4);
                 break;
             case MAX:
-                max = LongMax::of;
+                max = LongMax::createFromRange;
                 break;
             case MIN:
-                min = LongMin::of;
+                min = LongMin::createFromRange;
                 break;
             case PRODUCT:
-                product = Product::of;
+                product = Product::createFromRange;
                 break;
             case SKEWNESS:
                 createMoment(3);
                 break;
             case STANDARD_DEVIATION:
             case VARIANCE:
-                sum = LongSum::of;
-                sumOfSquares = LongSumOfSquares::of;
+                sum = LongSum::createFromRange;
+                sumOfSquares = LongSumOfSquares::createFromRange;
                 break;
             case MEAN:
             case SUM:
-                sum = LongSum::of;
+                sum = LongSum::createFromRange;
                 break;
             case SUM_OF_SQUARES:
-                sumOfSquares = LongSumOfSquares::of;
+                sumOfSquares = LongSumOfSquares::createFromRange;
+                break;
+            case DISTINCT_COUNT:
+                distinctCount = (v, f, t) -> LongDistinctCount.createFromRange(distinctCountPrecision, v, f, t);
                 break;
             default:
                 throw new IllegalArgumentException(UNSUPPORTED_STATISTIC + statistic);
@@ -152,10 +164,10 @@ public final class LongStatistics implements LongConsumer {
             if (order > momentOrder) {
                 momentOrder = order;
                 if (order == 4) {
-                    moment = SumOfFourthDeviations::of;
+                    moment = SumOfFourthDeviations::ofRange;
                 } else {
                     // Assume order == 3
-                    moment = SumOfCubedDeviations::of;
+                    moment = SumOfCubedDeviations::ofRange;
                 }
             }
         }
@@ -172,6 +184,24 @@ public final class LongStatistics implements LongConsumer {
             return this;
         }
 
+        /**
+         * Sets the precision of the {@link Statistic#DISTINCT_COUNT distinct count}.
+         * The sketch uses {@code 2^precision} registers. The default is 12.
+         *
+         * <p>Instances can only be {@link LongStatistics#combine(LongStatistics) combined}
+         * if the distinct count has the same precision.
+         *
+         * @param v Value.
+         * @return the builder
+         * @throws IllegalArgumentException if the precision is not in {@code [4, 18]}
+         * @see LongDistinctCount#create(int)
+         * @since 1.2
+         */
+        public Builder setDistinctCountPrecision(int v) {
+            distinctCountPrecision = HyperLogLog.checkPrecision(v);
+            return this;
+        }
+
         /**
          * Builds a {@code LongStatistics} instance.
          *
@@ -193,29 +223,87 @@ public final class LongStatistics implements LongConsumer {
          */
         public LongStatistics build(long... values) {
             Objects.requireNonNull(values, "values");
+            return createFromRange(values, 0, values.length);
+        }
+
+        /**
+         * Builds a {@code LongStatistics} instance using the input {@code values}.
+         *
+         * <p>The values are divided into sub-ranges that are processed in parallel using
+         * {@link java.util.concurrent.ForkJoinTask fork-join tasks}; the partial results
+         * are {@link LongStatistics#combine(LongStatistics) combined}. If called from
+         * within a {@link java.util.concurrent.ForkJoinPool ForkJoinPool} the tasks are
+         * executed in that pool; otherwise the
+         * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} is used.
+         * Small arrays are processed in the calling thread.
+         *
+         * <p>Statistics computed using exact integer arithmetic are identical to those
+         * computed using {@link #build(long...) build}. Other statistics may be
+         * different due to the combination of partial results. The difference is expected
+         * to be within the rounding error of the computation of each statistic.
+         *
+         * @param values Values.
+         * @return {@code LongStatistics} instance.
+         */
+        public LongStatistics buildParallel(long... values) {
+            Objects.requireNonNull(values, "values");
+            return Statistics.evaluateInParallel(values, 0, values.length,
+                this::createFromRange, LongStatistics::combine);
+        }
+
+        /**
+         * Builds a {@code LongStatistics} instance using the specified range of {@code values}.
+         *
+         * @param values Values.
+         * @param from Inclusive start of the range.
+         * @param to Exclusive end of the range.
+         * @return {@code LongStatistics} instance.
+         * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+         * @since 1.2
+         */
+        public LongStatistics build(long[] values, int from, int to) {
+            Statistics.checkFromToIndex(from, to, values.length);
+            return createFromRange(values, from, to);
+        }
+
+        /**
+         * Builds a {@code LongStatistics} instance using the specified range of {@code values}.
+         *
+         * <p>Warning: No range checks are performed.
+         *
+         * @param values Values.
+         * @param from Inclusive start of the range.
+         * @param to Exclusive end of the range.
+         * @return {@code LongStatistics} instance.
+         */
+        private LongStatistics createFromRange(long[] values, int from, int to) {
             return new LongStatistics(
-                values.length,
-                create(min, values),
-                create(max, values),
-                create(moment, values),
-                create(sum, values),
-                create(product, values),
-                create(sumOfSquares, values),
-                create(sumOfLogs, values),
+                to - from,
+                create(min, values, from, to),
+                create(max, values, from, to),
+                create(moment, values, from, to),
+                create(sum, values, from, to),
+                create(product, values, from, to),
+                create(sumOfSquares, values, from, to),
+                create(sumOfLogs, values, from, to),
+                create(distinctCount, values, from, to),
                 config);
         }
 
         /**
-         * Creates the object from the {@code values}.
+         * Creates the object from the specified range of {@code values}.
          *
          * @param <T> object type
          * @param constructor Constructor.
          * @param values Values
+         * @param from Inclusive start of the range.
+         * @param to Exclusive end of the range.
          * @return the instance
          */
-        private static <T> T create(Function<long[], T> constructor, long[] values) {
+        private static <T> T create(RangeFunction<long[], T> constructor,
+                                    long[] values, int from, int to) {
             if (constructor != null) {
-                return constructor.apply(values);
+                return constructor.apply(values, from, to);
             }
             return null;
         }
@@ -232,11 +320,12 @@ public final class LongStatistics implements LongConsumer {
      * @param product Product implementation.
      * @param sumOfSquares Sum of squares implementation.
      * @param sumOfLogs Sum of logs implementation.
+     * @param distinctCount Distinct count implementation.
      * @param config Statistics configuration.
      */
     LongStatistics(long count, LongMin min, LongMax max, FirstMoment moment, LongSum sum,
                   Product product, LongSumOfSquares sumOfSquares, SumOfLogs sumOfLogs,
-                  StatisticsConfiguration config) {
+                  LongDistinctCount distinctCount, StatisticsConfiguration config) {
         this.count = count;
         this.min = min;
         this.max = max;
@@ -245,10 +334,11 @@ public final class LongStatistics implements LongConsumer {
         this.product = product;
         this.sumOfSquares = sumOfSquares;
         this.sumOfLogs = sumOfLogs;
+        this.distinctCount = distinctCount;
         this.config = config;
         // The final consumer should never be null as the builder is created
         // with at least one statistic.
-        consumer = Statistics.composeLongConsumers(min, max, sum, sumOfSquares,
+        consumer = Statistics.composeLongConsumers(min, max, sum, sumOfSquares, distinctCount,
                                                    composeAsLong(moment, product, sumOfLogs));
     }
 
@@ -308,6 +398,38 @@ public final class LongStatistics implements LongConsumer {
         return b.build(values);
     }
 
+    /**
+     * Returns a new instance configured to compute the specified {@code statistics}
+     * populated using the specified range of {@code values}.
+     *
+     * <p>Use this method to create an instance populated with part of an array of
+     * {@code long[]} data without copying the data:
+     *
+     * <pre>
+     * long[] data = ...
+     * LongStatistics stats = LongStatistics.ofRange(
+     *     EnumSet.of(Statistic.MIN, Statistic.MAX),
+     *     data, from, to);
+     * </pre>
+     *
+     * @param statistics Statistics to compute.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the instance
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static LongStatistics ofRange(Set<Statistic> statistics, long[] values, int from, int to) {
+        if (statistics.isEmpty()) {
+            throw new IllegalArgumentException(NO_CONFIGURED_STATISTICS);
+        }
+        final Builder b = new Builder();
+        statistics.forEach(b::add);
+        return b.build(values, from, to);
+    }
+
     /**
      * Returns a new builder configured to create instances to compute the specified
      * {@code statistics}.
@@ -368,6 +490,58 @@ public final class LongStatistics implements LongConsumer {
         return b;
     }
 
+    /**
+     * Returns a {@link Collector} that computes the specified {@code statistics}
+     * of the input {@code Long} values.
+     *
+     * <p>The collector is equivalent to
+     * {@link #collector(ToLongFunction, Statistic...) collector(Long::longValue, statistics)}.
+     *
+     * @param statistics Statistics to compute.
+     * @return the collector
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute.
+     * @since 1.2
+     */
+    public static Collector<Long, LongStatistics, LongStatistics> collector(Statistic... statistics) {
+        return collector(Long::longValue, statistics);
+    }
+
+    /**
+     * Returns a {@link Collector} that computes the specified {@code statistics}
+     * of the {@code long} values extracted from the input elements using the
+     * {@code mapper}.
+     *
+     * <p>The collector creates a {@code LongStatistics} for each partition of the input;
+     * partial results are {@link #combine(LongStatistics) combined}. It can be used on a
+     * parallel stream, and as the downstream collector of
+     * {@link java.util.stream.Collectors#groupingBy(java.util.function.Function, Collector) groupingBy}:
+     *
+     * <pre>{@code
+     * Map<String, LongStatistics> stats = people.parallelStream()
+     *     .collect(Collectors.groupingBy(Person::getCity,
+     *         LongStatistics.collector(Person::getAge, Statistic.MEAN, Statistic.MAX)));
+     * }</pre>
+     *
+     * <p>For a concurrent collector that does not combine partial results see
+     * {@link ConcurrentLongStatistics#collector(ToLongFunction, Statistic...)}.
+     *
+     * @param <T> the type of the input elements
+     * @param mapper Function to extract the value from an element.
+     * @param statistics Statistics to compute.
+     * @return the collector
+     * @throws IllegalArgumentException if there are no {@code statistics} to compute.
+     * @since 1.2
+     */
+    public static <T> Collector<T, LongStatistics, LongStatistics> collector(ToLongFunction<? super T> mapper,
+                                                                             Statistic... statistics) {
+        Objects.requireNonNull(mapper, "mapper");
+        final Builder b = builder(statistics);
+        return Collector.of(b::build,
+            (s, t) -> s.accept(mapper.applyAsLong(t)),
+            LongStatistics::combine,
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
     /**
      * Updates the state of the statistics to reflect the addition of {@code value}.
      *
@@ -379,6 +553,51 @@ public final class LongStatistics implements LongConsumer {
         consumer.accept(value);
     }
 
+    /**
+     * Updates the state of the statistics to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * <p>The result is the same as calling {@link #accept(long) accept} for each value
+     * in the range in order. Each configured statistic processes the entire range
+     * in turn; this avoids the per-value call through the composed consumer of
+     * all statistics.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public void accept(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        count += to - from;
+        if (min != null) {
+            min.accept(values, from, to);
+        }
+        if (max != null) {
+            max.accept(values, from, to);
+        }
+        if (sum != null) {
+            sum.accept(values, from, to);
+        }
+        if (sumOfSquares != null) {
+            sumOfSquares.accept(values, from, to);
+        }
+        if (distinctCount != null) {
+            distinctCount.accept(values, from, to);
+        }
+        // Statistics computed using double values
+        if (moment != null) {
+            Statistics.add(moment, values, from, to);
+        }
+        if (product != null) {
+            Statistics.add(product, values, from, to);
+        }
+        if (sumOfLogs != null) {
+            Statistics.add(sumOfLogs, values, from, to);
+        }
+    }
+
     /**
      * Return the count of values recorded.
      *
@@ -422,6 +641,8 @@ public final class LongStatistics implements LongConsumer {
             return sum != null;
         case SUM_OF_SQUARES:
             return sumOfSquares != null;
+        case DISTINCT_COUNT:
+            return distinctCount != null;
         default:
             return false;
         }
@@ -542,6 +763,9 @@ public final class LongStatistics implements LongConsumer {
         case VARIANCE:
             stat = getVariance();
             break;
+        case DISTINCT_COUNT:
+            stat = Statistics.getResultAsDoubleOrNull(distinctCount);
+            break;
         default:
             break;
         }
@@ -646,7 +870,8 @@ public final class LongStatistics implements LongConsumer {
      * <p>The {@code other} instance must be <em>compatible</em>. This is {@code true} if the
      * {@code other} instance returns {@code true} for {@link #isSupported(Statistic)} for
      * all values of the {@link Statistic} enum which are supported by {@code this}
-     * instance.
+     * instance, and the {@link Statistic#DISTINCT_COUNT distinct count} (if supported)
+     * has the same {@linkplain Builder#setDistinctCountPrecision(int) precision}.
      *
      * <p>Note that this operation is <em>not symmetric</em>. It may be possible to perform
      * {@code a.combine(b)} but not {@code b.combine(a)}. In the event that the {@code other}
@@ -664,6 +889,7 @@ public final class LongStatistics implements LongConsumer {
         Statistics.checkCombineCompatible(product, other.product);
         Statistics.checkCombineCompatible(sumOfSquares, other.sumOfSquares);
         Statistics.checkCombineCompatible(sumOfLogs, other.sumOfLogs);
+        Statistics.checkCombinePrecision(distinctCount, other.distinctCount);
         Statistics.checkCombineAssignable(moment, other.moment);
         // Combine
         count += other.count;
@@ -673,6 +899,7 @@ public final class LongStatistics implements LongConsumer {
         Statistics.combine(product, other.product);
         Statistics.combine(sumOfSquares, other.sumOfSquares);
         Statistics.combine(sumOfLogs, other.sumOfLogs);
+        Statistics.combine(distinctCount, other.distinctCount);
         Statistics.combineMoment(moment, other.moment);
         return this;
     }
@@ -696,4 +923,80 @@ public final class LongStatistics implements LongConsumer {
         config = Objects.requireNonNull(v);
         return this;
     }
+
+    /**
+     * Writes the state of the statistics to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer. The state includes
+     * the configured statistics and the {@link StatisticsConfiguration}.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.LONG_STATISTICS);
+        buffer.putLong(count);
+        buffer.put((byte) StatisticState.flags(min, max, sum, product, sumOfSquares, sumOfLogs,
+            distinctCount));
+        StatisticState.write(buffer, moment);
+        if (min != null) {
+            min.write(buffer);
+        }
+        if (max != null) {
+            max.write(buffer);
+        }
+        if (sum != null) {
+            sum.write(buffer);
+        }
+        if (product != null) {
+            product.write(buffer);
+        }
+        if (sumOfSquares != null) {
+            sumOfSquares.write(buffer);
+        }
+        if (sumOfLogs != null) {
+            sumOfLogs.write(buffer);
+        }
+        if (distinctCount != null) {
+            distinctCount.write(buffer);
+        }
+        StatisticState.write(buffer, config.isBiased());
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state: it supports the same statistics and can be
+     * {@link #combine(LongStatistics) combined} with compatible instances.
+     *
+     * @param buffer Buffer.
+     * @return {@code LongStatistics} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code LongStatistics}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static LongStatistics readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.LONG_STATISTICS);
+        final long count = buffer.getLong();
+        final int flags = buffer.get();
+        final FirstMoment moment = StatisticState.readMoment(buffer, FirstMoment.class, true);
+        if (flags == 0 && moment == null) {
+            throw new IllegalArgumentException(NO_CONFIGURED_STATISTICS);
+        }
+        final LongMin min = StatisticState.isSet(flags, 0) ? LongMin.read(buffer) : null;
+        final LongMax max = StatisticState.isSet(flags, 1) ? LongMax.read(buffer) : null;
+        final LongSum sum = StatisticState.isSet(flags, 2) ? LongSum.read(buffer) : null;
+        final Product product = StatisticState.isSet(flags, 3) ? Product.read(buffer) : null;
+        final LongSumOfSquares sumOfSquares = StatisticState.isSet(flags, 4) ? LongSumOfSquares.read(buffer) : null;
+        final SumOfLogs sumOfLogs = StatisticState.isSet(flags, 5) ? SumOfLogs.read(buffer) : null;
+        final LongDistinctCount distinctCount = StatisticState.isSet(flags, 6) ? LongDistinctCount.read(buffer) : null;
+        final StatisticsConfiguration config = StatisticsConfiguration.withDefaults()
+            .withBiased(StatisticState.readBoolean(buffer));
+        return new LongStatistics(count, min, max, moment, sum, product, sumOfSquares, sumOfLogs,
+            distinctCount, config);
+    }
 }
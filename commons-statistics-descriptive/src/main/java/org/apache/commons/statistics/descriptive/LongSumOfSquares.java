@@ -17,6 +17,7 @@
 package org.apache.commons.statistics.descriptive;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 
 /**
  * Returns the sum of the squares of the available values. Uses the following definition:
@@ -94,9 +95,38 @@ public final class LongSumOfSquares implements LongStatistic, StatisticAccumulat
      * @return {@code LongSumOfSquares} instance.
      */
     public static LongSumOfSquares of(long... values) {
+        return createFromRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code LongSumOfSquares} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static LongSumOfSquares ofRange(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code LongSumOfSquares} instance.
+     */
+    static LongSumOfSquares createFromRange(long[] values, int from, int to) {
         final UInt192 ss = UInt192.create();
-        for (final long x : values) {
-            ss.addSquare(x);
+        for (int i = from; i < to; i++) {
+            ss.addSquare(values[i]);
         }
         return new LongSumOfSquares(ss);
     }
@@ -122,6 +152,24 @@ public final class LongSumOfSquares implements LongStatistic, StatisticAccumulat
         sumSq.addSquare(value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            sumSq.addSquare(values[i]);
+        }
+    }
+
     /**
      * Gets the sum of squares of all input values.
      *
@@ -189,4 +237,56 @@ public final class LongSumOfSquares implements LongStatistic, StatisticAccumulat
         sumSq.add(other.sumSq);
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.LONG_SUM_OF_SQUARES);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code LongSumOfSquares} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code LongSumOfSquares}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static LongSumOfSquares readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.LONG_SUM_OF_SQUARES);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        StatisticState.write(buffer, sumSq);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static LongSumOfSquares read(ByteBuffer buffer) {
+        return new LongSumOfSquares(StatisticState.readUInt192(buffer));
+    }
 }
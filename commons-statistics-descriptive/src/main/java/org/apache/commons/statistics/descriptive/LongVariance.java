@@ -17,6 +17,7 @@
 package org.apache.commons.statistics.descriptive;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 
 /**
  * Computes the variance of the available values. The default implementation uses the
@@ -116,16 +117,46 @@ public final class LongVariance implements LongStatistic, StatisticAccumulator<L
      * @return {@code LongVariance} instance.
      */
     public static LongVariance of(long... values) {
+        return createFromRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code LongVariance} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static LongVariance ofRange(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code LongVariance} instance.
+     */
+    static LongVariance createFromRange(long[] values, int from, int to) {
         // Note: Arrays could be processed using specialised counts knowing the maximum limit
         // for an array is 2^31 values. Requires a UInt160.
 
         final Int128 s = Int128.create();
         final UInt192 ss = UInt192.create();
-        for (final long x : values) {
+        for (int i = from; i < to; i++) {
+            final long x = values[i];
             s.add(x);
             ss.addSquare(x);
         }
-        return new LongVariance(ss, s, values.length);
+        return new LongVariance(ss, s, to - from);
     }
 
     /**
@@ -140,6 +171,27 @@ public final class LongVariance implements LongStatistic, StatisticAccumulator<L
         n++;
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            final long x = values[i];
+            sumSq.addSquare(x);
+            sum.add(x);
+        }
+        n += to - from;
+    }
+
     /**
      * Gets the variance of all input values.
      *
@@ -274,4 +326,65 @@ public final class LongVariance implements LongStatistic, StatisticAccumulator<L
         biased = v;
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.LONG_VARIANCE);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code LongVariance} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code LongVariance}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static LongVariance readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.LONG_VARIANCE);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        StatisticState.write(buffer, biased);
+        buffer.putLong(n);
+        StatisticState.write(buffer, sum);
+        StatisticState.write(buffer, sumSq);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static LongVariance read(ByteBuffer buffer) {
+        final boolean biased = StatisticState.readBoolean(buffer);
+        final long n = buffer.getLong();
+        final Int128 sum = StatisticState.readInt128(buffer);
+        final LongVariance s = new LongVariance(StatisticState.readUInt192(buffer), sum, 0);
+        s.n = n;
+        s.biased = biased;
+        return s;
+    }
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Returns the maximum of the available values. Uses {@link Math#max(double, double) Math.max} as an
  * underlying function to compute the {@code maximum}.
@@ -83,6 +85,40 @@ public final class Max implements DoubleStatistic, StatisticAccumulator<Max> {
         return Statistics.add(new Max(), values);
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>The result is {@code NaN} if any of the values is {@code NaN}.
+     *
+     * <p>When the range is empty, the result is
+     * {@link Double#NEGATIVE_INFINITY negative infinity}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Max} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static Max ofRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Max} instance.
+     */
+    static Max createFromRange(double[] values, int from, int to) {
+        return Statistics.add(new Max(), values, from, to);
+    }
+
     /**
      * Updates the state of the statistic to reflect the addition of {@code value}.
      *
@@ -93,6 +129,26 @@ public final class Max implements DoubleStatistic, StatisticAccumulator<Max> {
         maximum = Math.max(maximum, value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        double m = maximum;
+        for (int i = from; i < to; i++) {
+            m = Math.max(m, values[i]);
+        }
+        maximum = m;
+    }
+
     /**
      * Gets the maximum of all input values.
      *
@@ -111,4 +167,58 @@ public final class Max implements DoubleStatistic, StatisticAccumulator<Max> {
         accept(other.getAsDouble());
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.MAX);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code Max} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code Max}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static Max readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.MAX);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putDouble(maximum);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static Max read(ByteBuffer buffer) {
+        final Max s = new Max();
+        s.maximum = buffer.getDouble();
+        return s;
+    }
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Computes the arithmetic mean of the available values. Uses the following definition
  * of the <em>sample mean</em>:
@@ -124,6 +126,26 @@ public final class Mean implements DoubleStatistic, StatisticAccumulator<Mean> {
         return new Mean(FirstMoment.of(values));
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code Mean} computed using {@link #accept(double) accept} may be
+     * different from this mean.
+     *
+     * <p>See {@link Mean} for details on the computing algorithm.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Mean} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static Mean ofRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return new Mean(FirstMoment.ofRange(values, from, to));
+    }
+
     /**
      * Updates the state of the statistic to reflect the addition of {@code value}.
      *
@@ -134,6 +156,22 @@ public final class Mean implements DoubleStatistic, StatisticAccumulator<Mean> {
         firstMoment.accept(value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        firstMoment.accept(values, from, to);
+    }
+
     /**
      * Gets the mean of all input values.
      *
@@ -151,4 +189,56 @@ public final class Mean implements DoubleStatistic, StatisticAccumulator<Mean> {
         firstMoment.combine(other.firstMoment);
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.MEAN);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code Mean} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code Mean}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static Mean readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.MEAN);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        StatisticState.write(buffer, firstMoment);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static Mean read(ByteBuffer buffer) {
+        return new Mean(StatisticState.readMoment(buffer, FirstMoment.class, false));
+    }
 }
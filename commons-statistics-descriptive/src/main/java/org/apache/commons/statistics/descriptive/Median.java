@@ -17,6 +17,8 @@
 
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.Objects;
 import org.apache.commons.numbers.arrays.Selection;
 
@@ -44,7 +46,7 @@ import org.apache.commons.numbers.arrays.Selection;
  */
 public final class Median {
     /** Default instance. */
-    private static final Median DEFAULT = new Median(false, NaNPolicy.INCLUDE);
+    private static final Median DEFAULT = new Median(false, NaNPolicy.INCLUDE, false);
 
     /** Flag to indicate if the data should be copied. */
     private final boolean copy;
@@ -52,14 +54,18 @@ public final class Median {
     private final NaNPolicy nanPolicy;
     /** Transformer for NaN data. */
     private final NaNTransformer nanTransformer;
+    /** Flag to indicate if selection should use parallel tasks. */
+    private final boolean parallel;
 
     /**
      * @param copy Flag to indicate if the data should be copied.
      * @param nanPolicy NaN policy.
+     * @param parallel Flag to indicate if selection should use parallel tasks.
      */
-    private Median(boolean copy, NaNPolicy nanPolicy) {
+    private Median(boolean copy, NaNPolicy nanPolicy, boolean parallel) {
         this.copy = copy;
         this.nanPolicy = nanPolicy;
+        this.parallel = parallel;
         nanTransformer = NaNTransformers.createNaNTransformer(nanPolicy, copy);
     }
 
@@ -69,6 +75,7 @@ public final class Median {
      * <ul>
      * <li>{@linkplain #withCopy(boolean) Copy = false}
      * <li>{@linkplain #with(NaNPolicy) NaN policy = include}
+     * <li>{@linkplain #withParallel(boolean) Parallel = false}
      * </ul>
      *
      * <p>Note: The default options configure for processing in-place and including
@@ -92,7 +99,7 @@ public final class Median {
      * @return an instance
      */
     public Median withCopy(boolean v) {
-        return new Median(v, nanPolicy);
+        return new Median(v, nanPolicy, parallel);
     }
 
     /**
@@ -122,7 +129,24 @@ public final class Median {
      * @return an instance
      */
     public Median with(NaNPolicy v) {
-        return new Median(copy, Objects.requireNonNull(v));
+        return new Median(copy, Objects.requireNonNull(v), parallel);
+    }
+
+    /**
+     * Return an instance with the configured parallel behaviour. If {@code true} then
+     * the selection of values from large arrays is performed using parallel
+     * {@link java.util.concurrent.ForkJoinTask fork-join tasks}; otherwise selection is
+     * performed in the calling thread.
+     *
+     * <p>Parallel selection applies to {@code double[]} and {@code int[]} values
+     * of at least 2<sup>20</sup> values. See {@link Quantile#withParallel(boolean)}.
+     *
+     * @param v Value.
+     * @return an instance
+     * @since 1.2
+     */
+    public Median withParallel(boolean v) {
+        return new Median(copy, nanPolicy, v);
     }
 
     /**
@@ -135,78 +159,398 @@ public final class Median {
      * @return the median
      */
     public double evaluate(double[] values) {
+        return compute(values, 0, values.length);
+    }
+
+    /**
+     * Evaluate the median of the specified range.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the median
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public double evaluateRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to);
+    }
+
+    /**
+     * Evaluate the median of the remaining values in the buffer.
+     *
+     * <p>The buffer is not modified and its position is unchanged. This method can be
+     * used to compute the exact median of data that is too large to hold on the heap,
+     * for example a memory-mapped file.
+     *
+     * @param values Values.
+     * @return the median
+     * @see Quantile#evaluate(DoubleBuffer, double...)
+     * @since 1.2
+     */
+    public double evaluate(DoubleBuffer values) {
+        final int n = values.remaining();
+        if (n <= ExternalQuantile.DEFAULT_MAX_SIZE) {
+            final double[] x = new double[n];
+            values.duplicate().get(x);
+            return compute(x, 0, n);
+        }
+        return new ExternalQuantile(null, nanPolicy,
+            ExternalQuantile.DEFAULT_SAMPLE_SIZE, ExternalQuantile.DEFAULT_MAX_SIZE).median(values);
+    }
+
+    /**
+     * Evaluate the median.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @return the median
+     */
+    public double evaluate(int[] values) {
+        return compute(values, 0, values.length);
+    }
+
+    /**
+     * Evaluate the median of the specified range.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the median
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public double evaluateRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to);
+    }
+
+    /**
+     * Evaluate the median.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @return the median
+     * @since 1.2
+     */
+    public double evaluate(long[] values) {
+        return compute(values, 0, values.length);
+    }
+
+    /**
+     * Evaluate the median of the specified range.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the median
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public double evaluateRange(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to);
+    }
+
+    /**
+     * Evaluate the median.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @return the median
+     * @since 1.2
+     */
+    public double evaluate(float[] values) {
+        return compute(values, 0, values.length);
+    }
+
+    /**
+     * Evaluate the median of the specified range.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the median
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public double evaluateRange(float[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to);
+    }
+
+    /**
+     * Compute the median of the specified range.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the median
+     */
+    private double compute(double[] values, int from, int to) {
+        if (isParallel(to - from)) {
+            // The selection does not modify the data so a copy is not required.
+            // NaN are ordered above all other values.
+            final int n = NaNTransformers.count(nanPolicy, values, from, to);
+            if (n == 0) {
+                return Double.NaN;
+            }
+            final int m = from + (n >>> 1);
+            if ((n & 0x1) == 1) {
+                return ParallelSelection.select(values, from, to, m)[0];
+            }
+            final double[] v = ParallelSelection.select(values, from, to, m - 1, m);
+            return Interpolation.mean(v[0], v[1]);
+        }
         // Floating-point data handling
-        final int[] bounds = new int[1];
-        final double[] x = nanTransformer.apply(values, bounds);
-        final int n = bounds[0];
+        final int[] bounds = new int[2];
+        final double[] x = nanTransformer.apply(values, from, to, bounds);
+        final int lo = bounds[0];
+        final int n = bounds[1] - lo;
         // Special cases
         if (n <= 2) {
             switch (n) {
             case 2:
                 // Sorting the array matches the behaviour of Quantile for n==2
                 // Handle NaN and signed zeros
-                if (Double.compare(x[1], x[0]) < 0) {
-                    final double t = x[0];
-                    x[0] = x[1];
-                    x[1] = t;
+                if (Double.compare(x[lo + 1], x[lo]) < 0) {
+                    final double t = x[lo];
+                    x[lo] = x[lo + 1];
+                    x[lo + 1] = t;
                 }
-                return Interpolation.mean(x[0], x[1]);
+                return Interpolation.mean(x[lo], x[lo + 1]);
             case 1:
-                return x[0];
+                return x[lo];
             default:
                 return Double.NaN;
             }
         }
         // Median index
-        final int m = n >>> 1;
+        final int m = lo + (n >>> 1);
         // Odd
         if ((n & 0x1) == 1) {
-            Selection.select(x, 0, n, m);
+            Selection.select(x, lo, lo + n, m);
             return x[m];
         }
         // Even: require (m-1, m)
-        Selection.select(x, 0, n, new int[] {m - 1, m});
+        Selection.select(x, lo, lo + n, new int[] {m - 1, m});
         return Interpolation.mean(x[m - 1], x[m]);
     }
 
     /**
-     * Evaluate the median.
+     * Compute the median of the specified range.
      *
-     * <p>Note: This method may partially sort the input values if not configured to
-     * {@link #withCopy(boolean) copy} the input data.
+     * <p>Warning: No range checks are performed.
      *
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @return the median
      */
-    public double evaluate(int[] values) {
-        final int[] x = copy ? values.clone() : values;
-        final int n = values.length;
+    private double compute(int[] values, int from, int to) {
+        final int n = to - from;
+        if (n > 2) {
+            // Selection without partitioning
+            final int m = from + (n >>> 1);
+            if ((n & 0x1) == 1) {
+                final int[] v = select(values, from, to, m);
+                if (v != null) {
+                    return v[0];
+                }
+            } else {
+                final int[] v = select(values, from, to, m - 1, m);
+                if (v != null) {
+                    return Interpolation.mean(v[0], v[1]);
+                }
+            }
+        }
+        final int[] x;
+        final int lo;
+        if (copy) {
+            x = Arrays.copyOfRange(values, from, to);
+            lo = 0;
+        } else {
+            x = values;
+            lo = from;
+        }
+        // Special cases
+        if (n <= 2) {
+            switch (n) {
+            case 2:
+                // Sorting the array matches the behaviour of Quantile for n==2
+                if (x[lo + 1] < x[lo]) {
+                    final int t = x[lo];
+                    x[lo] = x[lo + 1];
+                    x[lo + 1] = t;
+                }
+                return Interpolation.mean(x[lo], x[lo + 1]);
+            case 1:
+                return x[lo];
+            default:
+                return Double.NaN;
+            }
+        }
+        // Median index
+        final int m = lo + (n >>> 1);
+        // Odd
+        if ((n & 0x1) == 1) {
+            Selection.select(x, lo, lo + n, m);
+            return x[m];
+        }
+        // Even: require (m-1, m)
+        Selection.select(x, lo, lo + n, new int[] {m - 1, m});
+        return Interpolation.mean(x[m - 1], x[m]);
+    }
+
+    /**
+     * Compute the median of the specified range.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the median
+     */
+    private double compute(long[] values, int from, int to) {
+        final long[] x;
+        final int lo;
+        if (copy) {
+            x = Arrays.copyOfRange(values, from, to);
+            lo = 0;
+        } else {
+            x = values;
+            lo = from;
+        }
+        final int n = to - from;
         // Special cases
         if (n <= 2) {
             switch (n) {
             case 2:
                 // Sorting the array matches the behaviour of Quantile for n==2
-                if (x[1] < x[0]) {
-                    final int t = x[0];
-                    x[0] = x[1];
-                    x[1] = t;
+                if (x[lo + 1] < x[lo]) {
+                    final long t = x[lo];
+                    x[lo] = x[lo + 1];
+                    x[lo + 1] = t;
                 }
-                return Interpolation.mean(x[0], x[1]);
+                return Interpolation.mean(x[lo], x[lo + 1]);
             case 1:
-                return x[0];
+                return x[lo];
             default:
                 return Double.NaN;
             }
         }
         // Median index
-        final int m = n >>> 1;
+        final int m = lo + (n >>> 1);
         // Odd
         if ((n & 0x1) == 1) {
-            Selection.select(x, 0, n, m);
+            QuickSelect.select(x, lo, lo + n, m);
             return x[m];
         }
         // Even: require (m-1, m)
-        Selection.select(x, 0, n, new int[] {m - 1, m});
+        QuickSelect.select(x, lo, lo + n, new int[] {m - 1, m});
         return Interpolation.mean(x[m - 1], x[m]);
     }
+
+    /**
+     * Compute the median of the specified range.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the median
+     */
+    private double compute(float[] values, int from, int to) {
+        // Floating-point data handling
+        final int[] bounds = new int[2];
+        final float[] x = nanTransformer.apply(values, from, to, bounds);
+        final int lo = bounds[0];
+        final int n = bounds[1] - lo;
+        // Special cases
+        if (n <= 2) {
+            switch (n) {
+            case 2:
+                // Sorting the array matches the behaviour of Quantile for n==2
+                // Handle NaN and signed zeros
+                if (Float.compare(x[lo + 1], x[lo]) < 0) {
+                    final float t = x[lo];
+                    x[lo] = x[lo + 1];
+                    x[lo + 1] = t;
+                }
+                return Interpolation.mean(x[lo], x[lo + 1]);
+            case 1:
+                return x[lo];
+            default:
+                return Double.NaN;
+            }
+        }
+        // Median index
+        final int m = lo + (n >>> 1);
+        // Odd
+        if ((n & 0x1) == 1) {
+            QuickSelect.select(x, lo, lo + n, m);
+            return x[m];
+        }
+        // Even: require (m-1, m)
+        QuickSelect.select(x, lo, lo + n, new int[] {m - 1, m});
+        return Interpolation.mean(x[m - 1], x[m]);
+    }
+
+    /**
+     * Gets the values at the indices {@code k} in the equivalent fully sorted range
+     * {@code [from, to)} without modifying the values. This is possible if the
+     * range of the values is small, or if the selection uses parallel tasks.
+     *
+     * <p>Returns {@code null} if the values must be partitioned to select the indices.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param k Indices.
+     * @return the values at the indices (or null)
+     */
+    private int[] select(int[] values, int from, int to, int... k) {
+        final int[] v = CountingSelection.select(values, from, to, k);
+        if (v == null && isParallel(to - from)) {
+            return ParallelSelection.select(values, from, to, k);
+        }
+        return v;
+    }
+
+    /**
+     * Test if the selection of {@code n} values should use parallel tasks.
+     *
+     * @param n Number of values.
+     * @return true if parallel
+     */
+    private boolean isParallel(int n) {
+        return parallel && n >= ParallelSelection.MIN_PARALLEL_SIZE;
+    }
 }
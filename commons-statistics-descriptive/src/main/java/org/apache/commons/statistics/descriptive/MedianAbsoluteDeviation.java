@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Objects;
+
+/**
+ * Returns the median absolute deviation of the available values.
+ *
+ * <p>The median absolute deviation is the median of the absolute deviations
+ * from the median:
+ *
+ * <p>\[ \text{MAD} = \operatorname{median}(|x_i - \operatorname{median}(x)|) \]
+ *
+ * <ul>
+ * <li>The result is {@code NaN} if {@code n = 0}.
+ * <li>The result is {@code 0} if {@code n = 1} and the value is finite.
+ * </ul>
+ *
+ * <p>The median is computed using the {@link Median}. The MAD is not scaled; for
+ * normally distributed data the MAD multiplied by {@code 1.4826} is a consistent
+ * estimator of the standard deviation.
+ *
+ * <p>Each median is found using selection; the data is not sorted. The absolute
+ * deviations require a working array of {@code n} values. This reuses the copy of
+ * the data if the instance is configured to {@link #withCopy(boolean) copy} the
+ * {@code double[]} input data.
+ *
+ * <p>This implementation respects the ordering imposed by
+ * {@link Double#compare(double, double)} for {@code NaN} values. If a {@code NaN} occurs
+ * in the selected positions in the fully sorted values then the result is {@code NaN}.
+ *
+ * <p>The {@link NaNPolicy} can be used to change the behaviour on {@code NaN} values.
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ *
+ * @see #with(NaNPolicy)
+ * @see <a href="https://en.wikipedia.org/wiki/Median_absolute_deviation">Median absolute deviation (Wikipedia)</a>
+ * @since 1.2
+ */
+public final class MedianAbsoluteDeviation {
+    /** Default instance. */
+    private static final MedianAbsoluteDeviation DEFAULT = new MedianAbsoluteDeviation(false, NaNPolicy.INCLUDE);
+    /** Median of the working data. */
+    private static final Median MEDIAN = Median.withDefaults();
+
+    /** Flag to indicate if the data should be copied. */
+    private final boolean copy;
+    /** NaN policy for floating point data. */
+    private final NaNPolicy nanPolicy;
+    /** Transformer for NaN data. */
+    private final NaNTransformer nanTransformer;
+
+    /**
+     * @param copy Flag to indicate if the data should be copied.
+     * @param nanPolicy NaN policy.
+     */
+    private MedianAbsoluteDeviation(boolean copy, NaNPolicy nanPolicy) {
+        this.copy = copy;
+        this.nanPolicy = nanPolicy;
+        nanTransformer = NaNTransformers.createNaNTransformer(nanPolicy, copy);
+    }
+
+    /**
+     * Return a new instance with the default options.
+     *
+     * <ul>
+     * <li>{@linkplain #withCopy(boolean) Copy = false}
+     * <li>{@linkplain #with(NaNPolicy) NaN policy = include}
+     * </ul>
+     *
+     * <p>Note: The default options configure for processing in-place and including
+     * {@code NaN} values in the data. This is the most efficient mode and has the
+     * smallest memory consumption.
+     *
+     * @return the median absolute deviation implementation
+     * @see #withCopy(boolean)
+     * @see #with(NaNPolicy)
+     */
+    public static MedianAbsoluteDeviation withDefaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Return an instance with the configured copy behaviour. If {@code false} then
+     * the input array will be modified by the call to evaluate the median absolute
+     * deviation; otherwise the computation uses a copy of the data.
+     *
+     * @param v Value.
+     * @return an instance
+     */
+    public MedianAbsoluteDeviation withCopy(boolean v) {
+        return new MedianAbsoluteDeviation(v, nanPolicy);
+    }
+
+    /**
+     * Return an instance with the configured {@link NaNPolicy}.
+     *
+     * <p>See {@link Median#with(NaNPolicy)}. If {@code NaN} values are included
+     * then their absolute deviations are {@code NaN}.
+     *
+     * @param v Value.
+     * @return an instance
+     */
+    public MedianAbsoluteDeviation with(NaNPolicy v) {
+        return new MedianAbsoluteDeviation(copy, Objects.requireNonNull(v));
+    }
+
+    /**
+     * Evaluate the median absolute deviation.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @return the median absolute deviation
+     */
+    public double evaluate(double[] values) {
+        return compute(values, 0, values.length);
+    }
+
+    /**
+     * Evaluate the median absolute deviation of the specified range.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the median absolute deviation
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public double evaluateRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to);
+    }
+
+    /**
+     * Evaluate the median absolute deviation.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @return the median absolute deviation
+     */
+    public double evaluate(int[] values) {
+        return compute(values, 0, values.length);
+    }
+
+    /**
+     * Evaluate the median absolute deviation of the specified range.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the median absolute deviation
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public double evaluateRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to);
+    }
+
+    /**
+     * Compute the median absolute deviation of the specified range.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the median absolute deviation
+     */
+    private double compute(double[] values, int from, int to) {
+        // Floating-point data handling
+        final int[] bounds = new int[2];
+        final double[] x = nanTransformer.apply(values, from, to, bounds);
+        final int lo = bounds[0];
+        final int n = bounds[1] - lo;
+        if (n == 0) {
+            return Double.NaN;
+        }
+        final double m = MEDIAN.evaluateRange(x, lo, lo + n);
+        // Absolute deviations. A copy of the data starts at zero and is overwritten.
+        final double[] d = x == values ? new double[n] : x;
+        for (int i = 0; i < n; i++) {
+            d[i] = Math.abs(x[lo + i] - m);
+        }
+        return MEDIAN.evaluateRange(d, 0, n);
+    }
+
+    /**
+     * Compute the median absolute deviation of the specified range.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the median absolute deviation
+     */
+    private double compute(int[] values, int from, int to) {
+        final int n = to - from;
+        if (n == 0) {
+            return Double.NaN;
+        }
+        // The median uses a copy of the data if required
+        final double m = MEDIAN.withCopy(copy).evaluateRange(values, from, to);
+        // Absolute deviations are exact
+        final double[] d = new double[n];
+        for (int i = 0; i < n; i++) {
+            d[i] = Math.abs(values[from + i] - m);
+        }
+        return MEDIAN.evaluateRange(d, 0, n);
+    }
+}
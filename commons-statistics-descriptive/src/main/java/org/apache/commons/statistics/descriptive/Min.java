@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Returns the minimum of the available values. Uses {@link Math#min(double, double) Math.min} as an
  * underlying function to compute the {@code minimum}.
@@ -83,6 +85,40 @@ public final class Min implements DoubleStatistic, StatisticAccumulator<Min> {
         return Statistics.add(new Min(), values);
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>The result is {@code NaN} if any of the values is {@code NaN}.
+     *
+     * <p>When the range is empty, the result is
+     * {@link Double#POSITIVE_INFINITY positive infinity}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Min} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static Min ofRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Min} instance.
+     */
+    static Min createFromRange(double[] values, int from, int to) {
+        return Statistics.add(new Min(), values, from, to);
+    }
+
     /**
      * Updates the state of the statistic to reflect the addition of {@code value}.
      *
@@ -93,6 +129,26 @@ public final class Min implements DoubleStatistic, StatisticAccumulator<Min> {
         minimum = Math.min(minimum, value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        double m = minimum;
+        for (int i = from; i < to; i++) {
+            m = Math.min(m, values[i]);
+        }
+        minimum = m;
+    }
+
     /**
      * Gets the minimum of all input values.
      *
@@ -111,4 +167,58 @@ public final class Min implements DoubleStatistic, StatisticAccumulator<Min> {
         accept(other.getAsDouble());
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.MIN);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code Min} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code Min}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static Min readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.MIN);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putDouble(minimum);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static Min read(ByteBuffer buffer) {
+        final Min s = new Min();
+        s.minimum = buffer.getDouble();
+        return s;
+    }
 }
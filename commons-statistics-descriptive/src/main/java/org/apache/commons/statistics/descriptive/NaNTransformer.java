@@ -45,18 +45,42 @@ interface NaNTransformer {
     /**
      * Pre-process the data for partitioning.
      *
-     * <p>This method will scan all the data and apply processing to {@code NaN} values.
+     * <p>This method will scan all the data in the range {@code [from, to)} and apply
+     * processing to {@code NaN} values.
      *
      * <p>The method will return:
      * <ul>
-     * <li>An array to partition; this may be a copy.
-     * <li>The {@code size} of the data; this can be smaller than the input array length if
-     * the transformer is configured to exclude NaN values.
+     * <li>An array to partition; this may be a copy of the range.
+     * <li>The bounds {@code [lo, hi)} of the data to partition in the returned array;
+     * this can be smaller than the input range if the transformer is configured to
+     * exclude NaN values. If the data is a copy then {@code lo = 0}; otherwise
+     * {@code lo = from}.
      * </ul>
      *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param data Data.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param bounds [lo, hi].
+     * @return pre-processed data (may be a copy)
+     */
+    double[] apply(double[] data, int from, int to, int[] bounds);
+
+    /**
+     * Pre-process the data for partitioning.
+     *
+     * <p>This method has the same behaviour as
+     * {@link #apply(double[], int, int, int[])} for {@code float} data.
+     *
+     * <p>Warning: No range checks are performed.
+     *
      * @param data Data.
-     * @param bounds [size].
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param bounds [lo, hi].
      * @return pre-processed data (may be a copy)
+     * @since 1.2
      */
-    double[] apply(double[] data, int[] bounds);
+    float[] apply(float[] data, int from, int to, int[] bounds);
 }
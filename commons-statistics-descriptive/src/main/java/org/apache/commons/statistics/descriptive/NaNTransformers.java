@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.util.Arrays;
+
 /**
  * Support for creating {@link NaNTransformer} implementations.
  *
@@ -47,6 +49,39 @@ final class NaNTransformers {
         return new ErrorNaNTransformer(copy);
     }
 
+    /**
+     * Count the values in the range {@code [from, to)} that are used with the
+     * {@code nanPolicy}. The data is not modified.
+     *
+     * <p>This supports processing the data without a transformer using an ordering
+     * that places {@code NaN} above all other values, i.e. the values to use are the
+     * lowest values of the range.
+     *
+     * @param nanPolicy NaN policy.
+     * @param data Data.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the count of values
+     * @throws IllegalArgumentException if the policy is {@link NaNPolicy#ERROR} and the
+     * data contains {@code NaN}
+     */
+    static int count(NaNPolicy nanPolicy, double[] data, int from, int to) {
+        int n = to - from;
+        if (nanPolicy == NaNPolicy.INCLUDE) {
+            return n;
+        }
+        for (int i = to; --i >= from;) {
+            final double v = data[i];
+            if (v != v) {
+                if (nanPolicy == NaNPolicy.ERROR) {
+                    throw new IllegalArgumentException("NaN at " + i);
+                }
+                n--;
+            }
+        }
+        return n;
+    }
+
     /**
      * A NaN transformer that optionally copies the data.
      * No NaN processing is done as it is assumed that downstream sorting will
@@ -64,11 +99,26 @@ final class NaNTransformers {
         }
 
         @Override
-        public double[] apply(double[] data, int[] bounds) {
-            bounds[0] = data.length;
+        public double[] apply(double[] data, int from, int to, int[] bounds) {
+            if (copy) {
+                bounds[0] = 0;
+                bounds[1] = to - from;
+                return Arrays.copyOfRange(data, from, to);
+            }
+            bounds[0] = from;
+            bounds[1] = to;
+            return data;
+        }
+
+        @Override
+        public float[] apply(float[] data, int from, int to, int[] bounds) {
             if (copy) {
-                return data.clone();
+                bounds[0] = 0;
+                bounds[1] = to - from;
+                return Arrays.copyOfRange(data, from, to);
             }
+            bounds[0] = from;
+            bounds[1] = to;
             return data;
         }
     }
@@ -88,20 +138,56 @@ final class NaNTransformers {
         }
 
         @Override
-        public double[] apply(double[] data, int[] bounds) {
+        public double[] apply(double[] data, int from, int to, int[] bounds) {
             // Optionally work on a copy
-            final double[] a = copy ? data.clone() : data;
+            final double[] a;
+            final int lo;
+            if (copy) {
+                a = Arrays.copyOfRange(data, from, to);
+                lo = 0;
+            } else {
+                a = data;
+                lo = from;
+            }
             // Move NaN to end
-            int end = a.length;
-            for (int i = end; --i >= 0;) {
+            int end = lo + to - from;
+            for (int i = end; --i >= lo;) {
                 final double v = a[i];
                 if (v != v) {
                     a[i] = a[--end];
                     a[end] = v;
                 }
             }
-            // Set the size excluding NaN
-            bounds[0] = end;
+            // Set the bounds excluding NaN
+            bounds[0] = lo;
+            bounds[1] = end;
+            return a;
+        }
+
+        @Override
+        public float[] apply(float[] data, int from, int to, int[] bounds) {
+            // Optionally work on a copy
+            final float[] a;
+            final int lo;
+            if (copy) {
+                a = Arrays.copyOfRange(data, from, to);
+                lo = 0;
+            } else {
+                a = data;
+                lo = from;
+            }
+            // Move NaN to end
+            int end = lo + to - from;
+            for (int i = end; --i >= lo;) {
+                final float v = a[i];
+                if (v != v) {
+                    a[i] = a[--end];
+                    a[end] = v;
+                }
+            }
+            // Set the bounds excluding NaN
+            bounds[0] = lo;
+            bounds[1] = end;
             return a;
         }
     }
@@ -121,21 +207,46 @@ final class NaNTransformers {
         }
 
         @Override
-        public double[] apply(double[] data, int[] bounds) {
+        public double[] apply(double[] data, int from, int to, int[] bounds) {
             // Delay copy until data is checked for NaN
             final double[] a = data;
             // Error on NaN
-            for (int i = a.length; --i >= 0;) {
+            for (int i = to; --i >= from;) {
                 final double v = a[i];
                 if (v != v) {
                     throw new IllegalArgumentException("NaN at " + i);
                 }
             }
-            bounds[0] = a.length;
             // No NaNs so copy the data if required
             if (copy) {
-                return data.clone();
+                bounds[0] = 0;
+                bounds[1] = to - from;
+                return Arrays.copyOfRange(data, from, to);
+            }
+            bounds[0] = from;
+            bounds[1] = to;
+            return data;
+        }
+
+        @Override
+        public float[] apply(float[] data, int from, int to, int[] bounds) {
+            // Delay copy until data is checked for NaN
+            final float[] a = data;
+            // Error on NaN
+            for (int i = to; --i >= from;) {
+                final float v = a[i];
+                if (v != v) {
+                    throw new IllegalArgumentException("NaN at " + i);
+                }
+            }
+            // No NaNs so copy the data if required
+            if (copy) {
+                bounds[0] = 0;
+                bounds[1] = to - from;
+                return Arrays.copyOfRange(data, from, to);
             }
+            bounds[0] = from;
+            bounds[1] = to;
             return data;
         }
     }
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+
+/**
+ * Markers of the extended P<sup>2</sup> algorithm to estimate quantiles without
+ * storing the observations.
+ *
+ * <p>For {@code k} probabilities the algorithm uses {@code 2k + 3} markers. The markers
+ * track the minimum, the maximum, each quantile and the mid-points between adjacent
+ * quantiles. The marker heights are adjusted using piecewise-parabolic (P<sup>2</sup>)
+ * interpolation as each observation is added. For {@code k = 1} this is the
+ * original 5 marker P<sup>2</sup> algorithm.
+ *
+ * <p>The first {@code 2k + 3} observations are stored exactly and the quantiles are
+ * computed using the {@link Quantile.EstimationMethod#HF8 default} estimation method.
+ *
+ * <p>{@code NaN} values are counted; if any {@code NaN} is observed then the estimate
+ * of all quantiles is {@code NaN}.
+ *
+ * <p>References:
+ * <ol>
+ *   <li>Jain R and Chlamtac I (1985)
+ *       The P<sup>2</sup> algorithm for dynamic calculation of quantiles and histograms
+ *       without storing observations.
+ *       Communications of the ACM, 28(10), 1076–1085.
+ *       <a href="https://doi.org/10.1145/4372.4378">doi: 10.1145/4372.4378</a>
+ *   <li>Raatikainen KEE (1987)
+ *       Simultaneous estimation of several percentiles.
+ *       Simulation, 49(4), 159–163.
+ *       <a href="https://doi.org/10.1177/003754978704900405">doi: 10.1177/003754978704900405</a>
+ * </ol>
+ *
+ * @since 1.2
+ */
+final class PSquareMarkers {
+    /** Desired marker probabilities. */
+    private final double[] dp;
+    /** Marker heights. */
+    private final double[] q;
+    /** Marker positions (1-based). */
+    private final long[] pos;
+    /** Count of (non-NaN) observations. */
+    private long n;
+    /** Count of NaN observations. */
+    private long nanCount;
+
+    /**
+     * Create an instance.
+     *
+     * @param p Probabilities for the quantiles. Must be sorted, distinct and in {@code (0, 1)}.
+     */
+    PSquareMarkers(double[] p) {
+        final int k = p.length;
+        final int m = 2 * k + 3;
+        dp = new double[m];
+        double previous = 0;
+        for (int j = 0; j < k; j++) {
+            dp[2 * j + 1] = (previous + p[j]) * 0.5;
+            dp[2 * j + 2] = p[j];
+            previous = p[j];
+        }
+        dp[m - 2] = (previous + 1) * 0.5;
+        dp[m - 1] = 1;
+        q = new double[m];
+        pos = new long[m];
+    }
+
+    /**
+     * Gets the marker probabilities for the {@code probabilities}. The result contains
+     * the sorted distinct probabilities in {@code (0, 1)}. Probabilities of 0 and 1 are
+     * tracked by the minimum and maximum markers.
+     *
+     * @param probabilities Probabilities.
+     * @return the marker probabilities
+     */
+    static double[] markerProbabilities(double[] probabilities) {
+        return Arrays.stream(probabilities)
+            .filter(p -> p > 0 && p < 1)
+            .sorted()
+            .distinct()
+            .toArray();
+    }
+
+    /**
+     * Gets the index of the marker that tracks the probability {@code p}.
+     *
+     * @param markerProbabilities Marker probabilities.
+     * @param p Probability (in {@code [0, 1]}).
+     * @return the marker index
+     */
+    static int markerIndex(double[] markerProbabilities, double p) {
+        if (p == 0) {
+            return 0;
+        }
+        if (p == 1) {
+            return 2 * markerProbabilities.length + 2;
+        }
+        return 2 * Arrays.binarySearch(markerProbabilities, p) + 2;
+    }
+
+    /**
+     * Adds the value.
+     *
+     * @param x Value.
+     */
+    void add(double x) {
+        if (x != x) {
+            nanCount++;
+            return;
+        }
+        final double[] h = q;
+        final long[] np = pos;
+        final int m = h.length;
+        if (n < m) {
+            // Insertion sort of the initial observations
+            int i = (int) n;
+            while (i > 0 && h[i - 1] > x) {
+                h[i] = h[i - 1];
+                i--;
+            }
+            h[i] = x;
+            if (++n == m) {
+                for (int j = 0; j < m; j++) {
+                    np[j] = j + 1;
+                }
+            }
+            return;
+        }
+
+        // Find the cell k such that q[k] <= x < q[k+1] and update the extremes
+        int k;
+        if (x < h[0]) {
+            h[0] = x;
+            k = 0;
+        } else if (x >= h[m - 1]) {
+            h[m - 1] = x;
+            k = m - 2;
+        } else {
+            k = 0;
+            while (x >= h[k + 1]) {
+                k++;
+            }
+        }
+        for (int i = k + 1; i < m; i++) {
+            np[i]++;
+        }
+        final double n1 = n++;
+
+        // Adjust the heights of the interior markers if they are off their desired position
+        for (int i = 1; i < m - 1; i++) {
+            final double d = 1 + n1 * dp[i] - np[i];
+            final long dl = np[i] - np[i - 1];
+            final long dr = np[i + 1] - np[i];
+            if (d >= 1 && dr > 1 || d <= -1 && dl > 1) {
+                final int s = d > 0 ? 1 : -1;
+                final double hl = h[i - 1];
+                final double hi = h[i];
+                final double hr = h[i + 1];
+                // Piecewise-parabolic prediction
+                double hp = hi + (double) s / (dl + dr) *
+                    ((dl + s) * (hr - hi) / dr + (dr - s) * (hi - hl) / dl);
+                if (!(hl < hp && hp < hr)) {
+                    // Linear prediction
+                    hp = s > 0 ?
+                        hi + (hr - hi) / dr :
+                        hi - (hi - hl) / dl;
+                }
+                h[i] = hp;
+                np[i] += s;
+            }
+        }
+    }
+
+    /**
+     * Gets the count of values (including NaN).
+     *
+     * @return the count
+     */
+    long getN() {
+        return n + nanCount;
+    }
+
+    /**
+     * Gets the estimate of the quantile with probability {@code p} tracked by the
+     * marker at the specified {@code index}.
+     *
+     * @param p Probability.
+     * @param index Marker index.
+     * @return the quantile
+     */
+    double quantile(double p, int index) {
+        if (nanCount != 0 || n == 0) {
+            return Double.NaN;
+        }
+        final double[] h = q;
+        if (n > h.length) {
+            return h[index];
+        }
+        // Exact quantile of the initial observations
+        final double x = Quantile.EstimationMethod.HF8.index(p, n);
+        final int i = (int) x;
+        final double g = x - i;
+        return g == 0 ? h[i] : Interpolation.interpolate(h[i], h[i + 1], g);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Computes an estimate of a quantile of the available values using the
+ * P<sup>2</sup> algorithm.
+ *
+ * <p>The algorithm estimates a single quantile with a fixed probability using
+ * five markers. The memory is constant and values are not stored. The marker
+ * heights are adjusted using piecewise-parabolic interpolation as each value
+ * is added; the accept method does not allocate memory.
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ *   <li>The result is {@code NaN} if any of the values is {@code NaN}.
+ *   <li>The result is exact for up to five values and is computed using the
+ *       {@link Quantile.EstimationMethod#HF8 default} {@link Quantile} estimation method.
+ *   <li>The result for the probabilities 0 and 1 is the exact minimum and maximum.
+ * </ul>
+ *
+ * <p>The estimate is approximate and the error is dependent on the distribution of
+ * the values. The estimate may be poor for values that are sorted, or for
+ * distributions with a discontinuity close to the quantile. Instances cannot be
+ * combined; use {@link TDigest} for a mergeable quantile estimate.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link java.util.function.DoubleConsumer#accept(double) accept}
+ * method, it must be synchronized externally.
+ *
+ * <p>References:
+ * <ol>
+ *   <li>Jain R and Chlamtac I (1985)
+ *       The P<sup>2</sup> algorithm for dynamic calculation of quantiles and histograms
+ *       without storing observations.
+ *       Communications of the ACM, 28(10), 1076–1085.
+ *       <a href="https://doi.org/10.1145/4372.4378">doi: 10.1145/4372.4378</a>
+ * </ol>
+ *
+ * @see PSquareQuantiles
+ * @see Quantile
+ * @since 1.2
+ */
+public final class PSquareQuantile implements DoubleStatistic {
+    /** Probability of the quantile. */
+    private final double p;
+    /** Index of the marker for the quantile. */
+    private final int index;
+    /** Markers. */
+    private final PSquareMarkers markers;
+
+    /**
+     * Create an instance.
+     *
+     * @param p Probability of the quantile.
+     */
+    private PSquareQuantile(double p) {
+        this.p = p;
+        final double[] mp = PSquareMarkers.markerProbabilities(new double[] {p});
+        index = PSquareMarkers.markerIndex(mp, p);
+        markers = new PSquareMarkers(mp);
+    }
+
+    /**
+     * Creates an instance to estimate the quantile with the probability {@code p}.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @param p Probability of the quantile.
+     * @return {@code PSquareQuantile} instance.
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     */
+    public static PSquareQuantile create(double p) {
+        Quantile.checkProbability(p);
+        return new PSquareQuantile(p);
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(double value) {
+        markers.add(value);
+    }
+
+    /**
+     * Gets the estimate of the quantile of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return the quantile
+     */
+    @Override
+    public double getAsDouble() {
+        return markers.quantile(p, index);
+    }
+
+    /**
+     * Gets the number of values that have been added (including {@code NaN}).
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return markers.getN();
+    }
+
+    /**
+     * Gets the probability of the quantile.
+     *
+     * @return the probability
+     */
+    public double getProbability() {
+        return p;
+    }
+}
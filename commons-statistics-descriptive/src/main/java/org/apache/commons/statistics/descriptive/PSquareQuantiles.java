@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Computes estimates of multiple quantiles of the available values using the
+ * extended P<sup>2</sup> algorithm.
+ *
+ * <p>The algorithm estimates quantiles with fixed probabilities. For {@code k}
+ * distinct probabilities in {@code (0, 1)} the algorithm uses {@code 2k + 3}
+ * markers: the minimum, the maximum, each quantile and the mid-points between
+ * adjacent quantiles. The memory is constant and values are not stored; the
+ * accept method does not allocate memory.
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ *   <li>The result is {@code NaN} if any of the values is {@code NaN}.
+ *   <li>The result is exact for up to {@code 2k + 3} values and is computed using the
+ *       {@link Quantile.EstimationMethod#HF8 default} {@link Quantile} estimation method.
+ *   <li>The result for the probabilities 0 and 1 is the exact minimum and maximum.
+ * </ul>
+ *
+ * <p>The estimate of a single probability is identical to {@link PSquareQuantile}.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link DoubleConsumer#accept(double) accept}
+ * method, it must be synchronized externally.
+ *
+ * <p>References:
+ * <ol>
+ *   <li>Raatikainen KEE (1987)
+ *       Simultaneous estimation of several percentiles.
+ *       Simulation, 49(4), 159–163.
+ *       <a href="https://doi.org/10.1177/003754978704900405">doi: 10.1177/003754978704900405</a>
+ * </ol>
+ *
+ * @see PSquareQuantile
+ * @see Quantile
+ * @since 1.2
+ */
+public final class PSquareQuantiles implements DoubleConsumer {
+    /** Probabilities of the quantiles. */
+    private final double[] p;
+    /** Index of the marker for each quantile. */
+    private final int[] index;
+    /** Markers. */
+    private final PSquareMarkers markers;
+
+    /**
+     * Create an instance.
+     *
+     * @param p Probabilities of the quantiles.
+     */
+    private PSquareQuantiles(double[] p) {
+        this.p = p;
+        final double[] mp = PSquareMarkers.markerProbabilities(p);
+        index = new int[p.length];
+        for (int i = 0; i < p.length; i++) {
+            index[i] = PSquareMarkers.markerIndex(mp, p[i]);
+        }
+        markers = new PSquareMarkers(mp);
+    }
+
+    /**
+     * Creates an instance to estimate the quantiles with the probabilities {@code p}.
+     *
+     * <p>The initial result is {@code NaN} for each quantile.
+     *
+     * @param p Probabilities of the quantiles.
+     * @return {@code PSquareQuantiles} instance.
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     */
+    public static PSquareQuantiles create(double... p) {
+        Quantile.checkProbabilities(p);
+        return new PSquareQuantiles(p.clone());
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(double value) {
+        markers.add(value);
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the values
+     * in the specified range {@code [from, to)}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        final PSquareMarkers m = markers;
+        for (int i = from; i < to; i++) {
+            m.add(values[i]);
+        }
+    }
+
+    /**
+     * Gets the estimates of the quantiles of all input values. The quantiles
+     * are returned in the order of the probabilities used to create the instance.
+     *
+     * <p>When no values have been added, the result is {@code NaN} for each quantile.
+     *
+     * @return the quantiles
+     */
+    public double[] getQuantiles() {
+        final double[] q = new double[p.length];
+        for (int i = 0; i < q.length; i++) {
+            q[i] = markers.quantile(p[i], index[i]);
+        }
+        return q;
+    }
+
+    /**
+     * Gets the number of values that have been added (including {@code NaN}).
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return markers.getN();
+    }
+
+    /**
+     * Gets the probabilities of the quantiles.
+     *
+     * @return the probabilities
+     */
+    public double[] getProbabilities() {
+        return p.clone();
+    }
+}
@@ -0,0 +1,598 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import org.apache.commons.numbers.arrays.Selection;
+
+/**
+ * Selection of the values at sorted indices using parallel fork-join tasks.
+ *
+ * <p>The values are not modified. The algorithm is:
+ *
+ * <ol>
+ * <li>A sample of the values is sorted. For each index a bucket {@code [L, U]} of
+ * values is chosen around the expected position of the index in the sample. The
+ * bucket is widened to allow for sampling error. Overlapping buckets are merged.
+ * <li>The values are divided into sub-ranges that are processed in parallel. Each
+ * task counts the values that fall between the buckets and gathers the values that
+ * fall inside each bucket.
+ * <li>The counts identify the sorted ranks of the values in each bucket. The value
+ * at each index is selected within its bucket.
+ * </ol>
+ *
+ * <p>If an index is not within its bucket the process is repeated using wider
+ * buckets. The result is always exact.
+ *
+ * <p>The {@code double} implementation respects the ordering imposed by
+ * {@link Double#compare(double, double)}.
+ *
+ * @since 1.2
+ */
+final class ParallelSelection {
+    /** Minimum size of data to use a parallel selection. Smaller data is faster to
+     * process using a single-threaded selection. */
+    static final int MIN_PARALLEL_SIZE = 1 << 20;
+    /** Minimum size of the sample used to choose the buckets. */
+    private static final int MIN_SAMPLE_SIZE = 1 << 12;
+    /** Maximum size of the sample used to choose the buckets. */
+    private static final int MAX_SAMPLE_SIZE = 1 << 20;
+    /** Log2 of the ratio of the data size to the sample size. */
+    private static final int SAMPLE_SHIFT = 6;
+    /** Initial width (in standard deviations of the sample rank) to widen the buckets. */
+    private static final double WIDTH = 3;
+
+    /**
+     * Partial result from a range of {@code double} values.
+     */
+    private static final class DoubleBuckets {
+        /** Count of values in the gaps before, between and after the buckets. */
+        private final long[] gaps;
+        /** Values in each bucket. */
+        private final double[][] data;
+        /** Number of values in each bucket. */
+        private final int[] size;
+
+        /**
+         * @param buckets Number of buckets.
+         */
+        DoubleBuckets(int buckets) {
+            gaps = new long[buckets + 1];
+            data = new double[buckets][16];
+            size = new int[buckets];
+        }
+
+        /**
+         * Adds the value to the bucket.
+         *
+         * @param b Bucket.
+         * @param v Value.
+         */
+        void add(int b, double v) {
+            final int s = size[b];
+            if (s == data[b].length) {
+                data[b] = Arrays.copyOf(data[b], s * 2);
+            }
+            data[b][s] = v;
+            size[b] = s + 1;
+        }
+
+        /**
+         * Combine with the other result.
+         *
+         * @param other Other result.
+         * @return this instance
+         */
+        DoubleBuckets combine(DoubleBuckets other) {
+            for (int i = 0; i < gaps.length; i++) {
+                gaps[i] += other.gaps[i];
+            }
+            for (int i = 0; i < size.length; i++) {
+                final int s1 = size[i];
+                final int s2 = other.size[i];
+                if (s1 + s2 > data[i].length) {
+                    data[i] = Arrays.copyOf(data[i], s1 + s2);
+                }
+                System.arraycopy(other.data[i], 0, data[i], s1, s2);
+                size[i] = s1 + s2;
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Partial result from a range of {@code int} values.
+     */
+    private static final class IntBuckets {
+        /** Count of values in the gaps before, between and after the buckets. */
+        private final long[] gaps;
+        /** Values in each bucket. */
+        private final int[][] data;
+        /** Number of values in each bucket. */
+        private final int[] size;
+
+        /**
+         * @param buckets Number of buckets.
+         */
+        IntBuckets(int buckets) {
+            gaps = new long[buckets + 1];
+            data = new int[buckets][16];
+            size = new int[buckets];
+        }
+
+        /**
+         * Adds the value to the bucket.
+         *
+         * @param b Bucket.
+         * @param v Value.
+         */
+        void add(int b, int v) {
+            final int s = size[b];
+            if (s == data[b].length) {
+                data[b] = Arrays.copyOf(data[b], s * 2);
+            }
+            data[b][s] = v;
+            size[b] = s + 1;
+        }
+
+        /**
+         * Combine with the other result.
+         *
+         * @param other Other result.
+         * @return this instance
+         */
+        IntBuckets combine(IntBuckets other) {
+            for (int i = 0; i < gaps.length; i++) {
+                gaps[i] += other.gaps[i];
+            }
+            for (int i = 0; i < size.length; i++) {
+                final int s1 = size[i];
+                final int s2 = other.size[i];
+                if (s1 + s2 > data[i].length) {
+                    data[i] = Arrays.copyOf(data[i], s1 + s2);
+                }
+                System.arraycopy(other.data[i], 0, data[i], s1, s2);
+                size[i] = s1 + s2;
+            }
+            return this;
+        }
+    }
+
+    /** No instances. */
+    private ParallelSelection() {}
+
+    /**
+     * Gets the values at the indices {@code k} in the equivalent fully sorted range
+     * {@code [from, to)}. The values are not modified.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param x Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param k Indices.
+     * @return the values at the indices
+     */
+    static double[] select(double[] x, int from, int to, int... k) {
+        final int n = to - from;
+        final int[] targets = targets(k, from);
+        final double[] sample = sample(x, from, n);
+        final int s = sample.length;
+        final double[] values = new double[targets.length];
+        double width = WIDTH * Math.sqrt(s) + 1;
+        while (true) {
+            // Buckets as [start, end] positions in the sample
+            final int[] buckets = buckets(targets, n, s, width);
+            final int nb = buckets.length >> 1;
+            // Merge buckets that overlap by value
+            int m = 0;
+            for (int i = 1; i < nb; i++) {
+                if (Double.compare(upper(sample, buckets[(m << 1) + 1]), lower(sample, buckets[i << 1])) >= 0) {
+                    buckets[(m << 1) + 1] = buckets[(i << 1) + 1];
+                } else {
+                    m++;
+                    buckets[m << 1] = buckets[i << 1];
+                    buckets[(m << 1) + 1] = buckets[(i << 1) + 1];
+                }
+            }
+            final int count = m + 1;
+            final double[] lo = new double[count];
+            final double[] hi = new double[count];
+            for (int i = 0; i < count; i++) {
+                lo[i] = lower(sample, buckets[i << 1]);
+                hi[i] = upper(sample, buckets[(i << 1) + 1]);
+            }
+            final DoubleBuckets r = Statistics.evaluateInParallel(x, from, to,
+                (a, i, j) -> gather(a, i, j, lo, hi),
+                DoubleBuckets::combine);
+            if (resolve(r, targets, values)) {
+                return expand(values, targets, k, from);
+            }
+            // Sampling error: repeat with wider buckets
+            width *= 4;
+        }
+    }
+
+    /**
+     * Gets the values at the indices {@code k} in the equivalent fully sorted range
+     * {@code [from, to)}. The values are not modified.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param x Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param k Indices.
+     * @return the values at the indices
+     */
+    static int[] select(int[] x, int from, int to, int... k) {
+        final int n = to - from;
+        final int[] targets = targets(k, from);
+        final int[] sample = sample(x, from, n);
+        final int s = sample.length;
+        final int[] values = new int[targets.length];
+        double width = WIDTH * Math.sqrt(s) + 1;
+        while (true) {
+            final int[] buckets = buckets(targets, n, s, width);
+            final int nb = buckets.length >> 1;
+            int m = 0;
+            for (int i = 1; i < nb; i++) {
+                if (upper(sample, buckets[(m << 1) + 1]) >= lower(sample, buckets[i << 1])) {
+                    buckets[(m << 1) + 1] = buckets[(i << 1) + 1];
+                } else {
+                    m++;
+                    buckets[m << 1] = buckets[i << 1];
+                    buckets[(m << 1) + 1] = buckets[(i << 1) + 1];
+                }
+            }
+            final int count = m + 1;
+            final int[] lo = new int[count];
+            final int[] hi = new int[count];
+            for (int i = 0; i < count; i++) {
+                lo[i] = lower(sample, buckets[i << 1]);
+                hi[i] = upper(sample, buckets[(i << 1) + 1]);
+            }
+            final IntBuckets r = Statistics.evaluateInParallel(x, from, to,
+                (a, i, j) -> gather(a, i, j, lo, hi),
+                IntBuckets::combine);
+            if (resolve(r, targets, values)) {
+                return expand(values, targets, k, from);
+            }
+            width *= 4;
+        }
+    }
+
+    /**
+     * Gets the sorted unique indices relative to the start of the range.
+     *
+     * @param k Indices.
+     * @param from Inclusive start of the range.
+     * @return the target indices
+     */
+    private static int[] targets(int[] k, int from) {
+        return Arrays.stream(k).map(i -> i - from).sorted().distinct().toArray();
+    }
+
+    /**
+     * Expand the values at the sorted unique targets to the indices {@code k}.
+     *
+     * @param values Values at the targets.
+     * @param targets Sorted unique targets relative to the start of the range.
+     * @param k Indices.
+     * @param from Inclusive start of the range.
+     * @return the values at the indices
+     */
+    private static double[] expand(double[] values, int[] targets, int[] k, int from) {
+        final double[] result = new double[k.length];
+        for (int i = 0; i < k.length; i++) {
+            result[i] = values[Arrays.binarySearch(targets, k[i] - from)];
+        }
+        return result;
+    }
+
+    /**
+     * Expand the values at the sorted unique targets to the indices {@code k}.
+     *
+     * @param values Values at the targets.
+     * @param targets Sorted unique targets relative to the start of the range.
+     * @param k Indices.
+     * @param from Inclusive start of the range.
+     * @return the values at the indices
+     */
+    private static int[] expand(int[] values, int[] targets, int[] k, int from) {
+        final int[] result = new int[k.length];
+        for (int i = 0; i < k.length; i++) {
+            result[i] = values[Arrays.binarySearch(targets, k[i] - from)];
+        }
+        return result;
+    }
+
+    /**
+     * Gets the buckets for each target as the range of positions {@code [start, end]}
+     * in the sample. A start of {@code -1} is unbounded below; an end of {@code s} is
+     * unbounded above.
+     *
+     * @param targets Sorted unique targets.
+     * @param n Size of the data.
+     * @param s Size of the sample.
+     * @param width Width to widen the buckets in the sample.
+     * @return the buckets
+     */
+    private static int[] buckets(int[] targets, int n, int s, double width) {
+        final double scale = (double) s / n;
+        final int[] buckets = new int[targets.length << 1];
+        for (int i = 0; i < targets.length; i++) {
+            final long t = targets[i];
+            final double j0 = Math.floor(t * scale - width);
+            final double j1 = Math.ceil((t + 1) * scale + width);
+            buckets[i << 1] = j0 <= 0 ? -1 : (int) j0;
+            buckets[(i << 1) + 1] = j1 >= s - 1 ? s : (int) j1;
+        }
+        return buckets;
+    }
+
+    /**
+     * Sample the values using a uniform stride. The sample is sorted.
+     *
+     * @param x Values.
+     * @param from Inclusive start of the range.
+     * @param n Size of the range.
+     * @return the sample
+     */
+    private static double[] sample(double[] x, int from, int n) {
+        final int s = sampleSize(n);
+        final double[] sample = new double[s];
+        for (int i = 0; i < s; i++) {
+            sample[i] = x[from + (int) ((long) i * n / s)];
+        }
+        Arrays.parallelSort(sample);
+        return sample;
+    }
+
+    /**
+     * Sample the values using a uniform stride. The sample is sorted.
+     *
+     * @param x Values.
+     * @param from Inclusive start of the range.
+     * @param n Size of the range.
+     * @return the sample
+     */
+    private static int[] sample(int[] x, int from, int n) {
+        final int s = sampleSize(n);
+        final int[] sample = new int[s];
+        for (int i = 0; i < s; i++) {
+            sample[i] = x[from + (int) ((long) i * n / s)];
+        }
+        Arrays.parallelSort(sample);
+        return sample;
+    }
+
+    /**
+     * Gets the size of the sample for data of size {@code n}.
+     *
+     * @param n Size of the data.
+     * @return the sample size
+     */
+    private static int sampleSize(int n) {
+        return Math.min(n, Math.max(MIN_SAMPLE_SIZE, Math.min(MAX_SAMPLE_SIZE, n >>> SAMPLE_SHIFT)));
+    }
+
+    /**
+     * Gets the lower bound of the bucket starting at position {@code j} in the sample.
+     *
+     * @param sample Sample.
+     * @param j Position.
+     * @return the lower bound
+     */
+    private static double lower(double[] sample, int j) {
+        // -infinity is the lowest value using Double.compare
+        return j < 0 ? Double.NEGATIVE_INFINITY : sample[j];
+    }
+
+    /**
+     * Gets the upper bound of the bucket ending at position {@code j} in the sample.
+     *
+     * @param sample Sample.
+     * @param j Position.
+     * @return the upper bound
+     */
+    private static double upper(double[] sample, int j) {
+        // NaN is the highest value using Double.compare
+        return j >= sample.length ? Double.NaN : sample[j];
+    }
+
+    /**
+     * Gets the lower bound of the bucket starting at position {@code j} in the sample.
+     *
+     * @param sample Sample.
+     * @param j Position.
+     * @return the lower bound
+     */
+    private static int lower(int[] sample, int j) {
+        return j < 0 ? Integer.MIN_VALUE : sample[j];
+    }
+
+    /**
+     * Gets the upper bound of the bucket ending at position {@code j} in the sample.
+     *
+     * @param sample Sample.
+     * @param j Position.
+     * @return the upper bound
+     */
+    private static int upper(int[] sample, int j) {
+        return j >= sample.length ? Integer.MAX_VALUE : sample[j];
+    }
+
+    /**
+     * Count the values between the buckets and gather the values inside the
+     * buckets {@code [lo[i], hi[i]]}.
+     *
+     * @param x Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param lo Lower bounds of the buckets.
+     * @param hi Upper bounds of the buckets.
+     * @return the partial result
+     */
+    private static DoubleBuckets gather(double[] x, int from, int to, double[] lo, double[] hi) {
+        final DoubleBuckets r = new DoubleBuckets(lo.length);
+        final long[] gaps = r.gaps;
+        for (int i = from; i < to; i++) {
+            final double v = x[i];
+            // Find the last bucket with lo <= v
+            int l = 0;
+            int h = lo.length;
+            while (l < h) {
+                final int mid = (l + h) >>> 1;
+                if (Double.compare(lo[mid], v) <= 0) {
+                    l = mid + 1;
+                } else {
+                    h = mid;
+                }
+            }
+            final int b = l - 1;
+            if (b >= 0 && Double.compare(v, hi[b]) <= 0) {
+                r.add(b, v);
+            } else {
+                // Gap after bucket b
+                gaps[l]++;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Count the values between the buckets and gather the values inside the
+     * buckets {@code [lo[i], hi[i]]}.
+     *
+     * @param x Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param lo Lower bounds of the buckets.
+     * @param hi Upper bounds of the buckets.
+     * @return the partial result
+     */
+    private static IntBuckets gather(int[] x, int from, int to, int[] lo, int[] hi) {
+        final IntBuckets r = new IntBuckets(lo.length);
+        final long[] gaps = r.gaps;
+        for (int i = from; i < to; i++) {
+            final int v = x[i];
+            int l = 0;
+            int h = lo.length;
+            while (l < h) {
+                final int mid = (l + h) >>> 1;
+                if (lo[mid] <= v) {
+                    l = mid + 1;
+                } else {
+                    h = mid;
+                }
+            }
+            final int b = l - 1;
+            if (b >= 0 && v <= hi[b]) {
+                r.add(b, v);
+            } else {
+                gaps[l]++;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Select the values at the targets from the buckets.
+     *
+     * @param r Buckets.
+     * @param targets Sorted unique targets.
+     * @param values Values at the targets.
+     * @return true if all targets were within a bucket
+     */
+    private static boolean resolve(DoubleBuckets r, int[] targets, double[] values) {
+        final int[][] k = bucketIndices(r.gaps, r.size, targets);
+        if (k == null) {
+            return false;
+        }
+        int t = 0;
+        for (int b = 0; b < k.length; b++) {
+            if (k[b].length != 0) {
+                Selection.select(r.data[b], 0, r.size[b], k[b].clone());
+                for (final int i : k[b]) {
+                    values[t++] = r.data[b][i];
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Select the values at the targets from the buckets.
+     *
+     * @param r Buckets.
+     * @param targets Sorted unique targets.
+     * @param values Values at the targets.
+     * @return true if all targets were within a bucket
+     */
+    private static boolean resolve(IntBuckets r, int[] targets, int[] values) {
+        final int[][] k = bucketIndices(r.gaps, r.size, targets);
+        if (k == null) {
+            return false;
+        }
+        int t = 0;
+        for (int b = 0; b < k.length; b++) {
+            if (k[b].length != 0) {
+                Selection.select(r.data[b], 0, r.size[b], k[b].clone());
+                for (final int i : k[b]) {
+                    values[t++] = r.data[b][i];
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the indices of the targets within each bucket.
+     *
+     * @param gaps Count of values in the gaps before, between and after the buckets.
+     * @param size Number of values in each bucket.
+     * @param targets Sorted unique targets.
+     * @return the indices for each bucket; or null if any target is not within a bucket
+     */
+    private static int[][] bucketIndices(long[] gaps, int[] size, int[] targets) {
+        final int[][] k = new int[size.length][];
+        long start = 0;
+        int t = 0;
+        for (int b = 0; b < size.length; b++) {
+            start += gaps[b];
+            final long end = start + size[b];
+            int c = t;
+            while (c < targets.length && targets[c] < end) {
+                c++;
+            }
+            k[b] = new int[c - t];
+            for (int i = t; i < c; i++) {
+                final long j = targets[i] - start;
+                if (j < 0) {
+                    // Target is in a gap
+                    return null;
+                }
+                k[b][i - t] = (int) j;
+            }
+            t = c;
+            start = end;
+        }
+        // Any remaining targets are in the final gap
+        return t == targets.length ? k : null;
+    }
+}
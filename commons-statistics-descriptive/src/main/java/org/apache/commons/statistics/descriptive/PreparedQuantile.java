@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import org.apache.commons.statistics.descriptive.Quantile.EstimationMethod;
+
+/**
+ * Computes quantiles of a fixed set of values using repeat queries.
+ *
+ * <p>Instances are created using {@link Quantile#prepare(double[])}. The values are
+ * pre-processed once using the {@link NaNPolicy} of the {@link Quantile}. Each query
+ * partially sorts the values and records the indices that are in their final sorted
+ * position, including the pivot of every partition. These act as pivots for later
+ * queries: the partition for a new quantile is restricted to the range between the
+ * closest known sorted indices. Repeat queries on the same values thus process
+ * progressively smaller ranges. If the values are
+ * already sorted then each query is a constant time lookup.
+ *
+ * <p>The result of each query is identical to the result of the {@link Quantile}
+ * used to create the instance.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * Queries modify the order of the values. If multiple threads access an instance of
+ * this class concurrently it must be synchronized externally.
+ *
+ * @see Quantile#prepare(double[])
+ * @since 1.2
+ */
+public final class PreparedQuantile {
+    /** Size of a range to fully sort. This is a range where sorting is fast and
+     * avoids repeat partitioning of small ranges. */
+    private static final int SORT_SIZE = 64;
+
+    /** Estimation type used to determine the value from the quantile. */
+    private final EstimationMethod estimationType;
+    /** Values. */
+    private final double[] x;
+    /** Inclusive start of the values. */
+    private final int lo;
+    /** Number of values. */
+    private final int n;
+    /** Indices of the values that are in their sorted position. Indices are
+     * relative to {@code lo}. This is {@code null} if the values are sorted. */
+    private final BitSet sorted;
+
+    /**
+     * Create an instance.
+     *
+     * @param estimationType Estimation type used to determine the value from the quantile.
+     * @param x Values.
+     * @param lo Inclusive start of the values.
+     * @param hi Exclusive end of the values.
+     */
+    PreparedQuantile(EstimationMethod estimationType, double[] x, int lo, int hi) {
+        this.estimationType = estimationType;
+        this.x = x;
+        this.lo = lo;
+        this.n = hi - lo;
+        sorted = isSorted(x, lo, hi) ? null : new BitSet(n);
+    }
+
+    /**
+     * Test if the values in the range {@code [lo, hi)} are sorted using the
+     * ordering imposed by {@link Double#compare(double, double)}.
+     *
+     * @param x Values.
+     * @param lo Inclusive start of the values.
+     * @param hi Exclusive end of the values.
+     * @return true if sorted
+     */
+    private static boolean isSorted(double[] x, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            if (Double.compare(x[i - 1], x[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of values used for the quantile computation. This may exclude
+     * {@code NaN} values depending on the configured {@link NaNPolicy}.
+     *
+     * @return the size
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Test if the values are fully sorted. Note that values that were not initially
+     * sorted may become sorted as more quantiles are evaluated.
+     *
+     * @return true if sorted
+     */
+    public boolean isSorted() {
+        return sorted == null || sorted.cardinality() == n;
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantile of the values.
+     *
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     */
+    public double evaluate(double p) {
+        Quantile.checkProbability(p);
+        // Special cases
+        if (n <= 1) {
+            return n == 0 ? Double.NaN : x[lo];
+        }
+        final double pos = estimationType.index(p, n);
+        final int i = (int) pos;
+        select(i);
+        if (pos > i) {
+            select(i + 1);
+            return Interpolation.interpolate(x[lo + i], x[lo + i + 1], pos - i);
+        }
+        return x[lo + i];
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the values.
+     *
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     */
+    public double[] evaluate(double... p) {
+        Quantile.checkProbabilities(p);
+        final double[] q = new double[p.length];
+        for (int k = 0; k < p.length; k++) {
+            q[k] = evaluate(p[k]);
+        }
+        return q;
+    }
+
+    /**
+     * Ensure the value at index {@code k} is in its sorted position.
+     *
+     * <p>The range is partitioned between the closest indices already known to be
+     * sorted. The pivots of each partition are recorded as sorted indices. Small
+     * ranges are fully sorted.
+     *
+     * @param k Index (relative to the start of the values).
+     */
+    private void select(int k) {
+        final BitSet s = sorted;
+        if (s == null || s.get(k)) {
+            return;
+        }
+        // Range (a, b) between the closest sorted indices
+        final int a = s.previousSetBit(k) + 1;
+        int b = s.nextSetBit(k);
+        if (b < 0) {
+            b = n;
+        }
+        if (b - a <= SORT_SIZE) {
+            Arrays.sort(x, lo + a, lo + b);
+            s.set(a, b);
+        } else {
+            // Record all pivots found during partitioning
+            QuickSelect.select(x, lo + a, lo + b, lo + k, s, lo);
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.IntToDoubleFunction;
@@ -57,9 +58,13 @@ public final class Quantile {
     private static final String INVALID_SIZE = "Invalid size: ";
     /** Message when the number of probabilities in a range is not valid. */
     private static final String INVALID_NUMBER_OF_PROBABILITIES = "Invalid number of probabilities: ";
+    /** Number of probabilities where the data is fully sorted using a radix sort.
+     * Selection of many indices approaches a full sort; a radix sort of the data
+     * is faster than a comparison sort. */
+    private static final int RADIX_SORT_PROBABILITIES = 100;
 
     /** Default instance. Method 8 is recommended by Hyndman and Fan. */
-    private static final Quantile DEFAULT = new Quantile(false, NaNPolicy.INCLUDE, EstimationMethod.HF8);
+    private static final Quantile DEFAULT = new Quantile(false, NaNPolicy.INCLUDE, EstimationMethod.HF8, false);
 
     /** Flag to indicate if the data should be copied. */
     private final boolean copy;
@@ -69,16 +74,20 @@ public final class Quantile {
     private final NaNTransformer nanTransformer;
     /** Estimation type used to determine the value from the quantile. */
     private final EstimationMethod estimationType;
+    /** Flag to indicate if selection should use parallel tasks. */
+    private final boolean parallel;
 
     /**
      * @param copy Flag to indicate if the data should be copied.
      * @param nanPolicy NaN policy.
      * @param estimationType Estimation type used to determine the value from the quantile.
+     * @param parallel Flag to indicate if selection should use parallel tasks.
      */
-    private Quantile(boolean copy, NaNPolicy nanPolicy, EstimationMethod estimationType) {
+    private Quantile(boolean copy, NaNPolicy nanPolicy, EstimationMethod estimationType, boolean parallel) {
         this.copy = copy;
         this.nanPolicy = nanPolicy;
         this.estimationType = estimationType;
+        this.parallel = parallel;
         nanTransformer = NaNTransformers.createNaNTransformer(nanPolicy, copy);
     }
 
@@ -89,6 +98,7 @@ public final class Quantile {
      * <li>{@linkplain #withCopy(boolean) Copy = false}
      * <li>{@linkplain #with(NaNPolicy) NaN policy = include}
      * <li>{@linkplain #with(EstimationMethod) Estimation method = HF8}
+     * <li>{@linkplain #withParallel(boolean) Parallel = false}
      * </ul>
      *
      * <p>Note: The default options configure for processing in-place and including
@@ -113,7 +123,7 @@ public final class Quantile {
      * @return an instance
      */
     public Quantile withCopy(boolean v) {
-        return new Quantile(v, nanPolicy, estimationType);
+        return new Quantile(v, nanPolicy, estimationType, parallel);
     }
 
     /**
@@ -143,7 +153,7 @@ public final class Quantile {
      * @return an instance
      */
     public Quantile with(NaNPolicy v) {
-        return new Quantile(copy, Objects.requireNonNull(v), estimationType);
+        return new Quantile(copy, Objects.requireNonNull(v), estimationType, parallel);
     }
 
     /**
@@ -153,134 +163,968 @@ public final class Quantile {
      * @return an instance
      */
     public Quantile with(EstimationMethod v) {
-        return new Quantile(copy, nanPolicy, Objects.requireNonNull(v));
+        return new Quantile(copy, nanPolicy, Objects.requireNonNull(v), parallel);
+    }
+
+    /**
+     * Return an instance with the configured parallel behaviour. If {@code true} then
+     * the selection of values from large arrays is performed using parallel
+     * {@link java.util.concurrent.ForkJoinTask fork-join tasks}; otherwise selection is
+     * performed in the calling thread.
+     *
+     * <p>Parallel selection applies to {@code double[]} and {@code int[]} values. It is
+     * used for arrays of at least 2<sup>20</sup> values; smaller arrays are processed
+     * in the calling thread. A sample of the values is used to choose a range of values
+     * around each required position; parallel tasks gather the values within each range
+     * and the positions are selected from the gathered values. Parallel selection does
+     * not partially sort the input values but requires extra memory for the gathered
+     * values.
+     *
+     * <p>If called from within a {@link java.util.concurrent.ForkJoinPool ForkJoinPool}
+     * the tasks are executed in that pool; otherwise the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} is used.
+     *
+     * @param v Value.
+     * @return an instance
+     * @since 1.2
+     */
+    public Quantile withParallel(boolean v) {
+        return new Quantile(copy, nanPolicy, estimationType, v);
     }
 
     /**
      * Generate {@code n} evenly spaced probabilities in the range {@code [0, 1]}.
      *
-     * <pre>
-     * 1/(n + 1), 2/(n + 1), ..., n/(n + 1)
-     * </pre>
+     * <pre>
+     * 1/(n + 1), 2/(n + 1), ..., n/(n + 1)
+     * </pre>
+     *
+     * @param n Number of probabilities.
+     * @return the probabilities
+     * @throws IllegalArgumentException if {@code n < 1}
+     */
+    public static double[] probabilities(int n) {
+        checkNumberOfProbabilities(n);
+        final double c1 = n + 1.0;
+        final double[] p = new double[n];
+        for (int i = 0; i < n; i++) {
+            p[i] = (i + 1.0) / c1;
+        }
+        return p;
+    }
+
+    /**
+     * Generate {@code n} evenly spaced probabilities in the range {@code [p1, p2]}.
+     *
+     * <pre>
+     * w = p2 - p1
+     * p1 + w/(n + 1), p1 + 2w/(n + 1), ..., p1 + nw/(n + 1)
+     * </pre>
+     *
+     * @param n Number of probabilities.
+     * @param p1 Lower probability.
+     * @param p2 Upper probability.
+     * @return the probabilities
+     * @throws IllegalArgumentException if {@code n < 1}; if the probabilities are not in the
+     * range {@code [0, 1]}; or {@code p2 <= p1}.
+     */
+    public static double[] probabilities(int n, double p1, double p2) {
+        checkProbability(p1);
+        checkProbability(p2);
+        if (p2 <= p1) {
+            throw new IllegalArgumentException("Invalid range: [" + p1 + ", " + p2 + "]");
+        }
+        final double[] p = probabilities(n);
+        for (int i = 0; i < n; i++) {
+            p[i] = (1 - p[i]) * p1 + p[i] * p2;
+        }
+        return p;
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantile of the values.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * <p><strong>Performance</strong>
+     *
+     * <p>It is not recommended to use this method for repeat calls for different quantiles
+     * within the same values. The {@link #evaluate(double[], double...)} method should be used
+     * which provides better performance.
+     *
+     * @param values Values.
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     * @see #evaluate(double[], double...)
+     */
+    public double evaluate(double[] values, double p) {
+        return compute(values, 0, values.length, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantile of the specified range of values.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * <p><strong>Performance</strong>
+     *
+     * <p>It is not recommended to use this method for repeat calls for different quantiles
+     * within the same values. The {@link #evaluateRange(double[], int, int, double...)} method
+     * should be used which provides better performance.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @see #evaluateRange(double[], int, int, double...)
+     * @since 1.2
+     */
+    public double evaluateRange(double[] values, int from, int to, double p) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the values.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     */
+    public double[] evaluate(double[] values, double... p) {
+        return compute(values, 0, values.length, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the specified range of values.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public double[] evaluateRange(double[] values, int from, int to, double... p) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantile of the remaining values in the buffer.
+     *
+     * <p>The buffer is not modified and its position is unchanged.
+     *
+     * @param values Values.
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     * @see #evaluate(DoubleBuffer, double...)
+     * @since 1.2
+     */
+    public double evaluate(DoubleBuffer values, double p) {
+        checkProbability(p);
+        return compute(values, p)[0];
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the remaining values in the buffer.
+     *
+     * <p>The buffer is not modified and its position is unchanged. This method can be
+     * used to compute exact quantiles of data that is too large to hold on the heap, for
+     * example a memory-mapped file:
+     *
+     * <pre>{@code
+     * try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+     *     DoubleBuffer values = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+     *                                  .asDoubleBuffer();
+     *     double[] q = Quantile.withDefaults().evaluate(values, 0.25, 0.5, 0.75);
+     * }
+     * }</pre>
+     *
+     * <p><strong>Performance</strong>
+     *
+     * <p>Small buffers are copied to the heap and evaluated using an in-memory selection.
+     * Otherwise an external selection is used that holds a bounded number of values in
+     * memory. A sample of the values is used to choose bounds around each required
+     * position; a counting pass then narrows the candidate values and these are selected
+     * in memory once few enough remain. The data is scanned once and then typically
+     * a few times for each quantile.
+     *
+     * @param values Values.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     * @since 1.2
+     */
+    public double[] evaluate(DoubleBuffer values, double... p) {
+        checkProbabilities(p);
+        return compute(values, p);
+    }
+
+    /**
+     * Prepare the values for repeat evaluation of quantiles.
+     *
+     * <p>The values are processed using the configured {@link NaNPolicy}. If not
+     * configured to {@link #withCopy(boolean) copy} the input data then the returned
+     * instance uses the input array which is partially sorted by each evaluation.
+     *
+     * <p><strong>Performance</strong>
+     *
+     * <p>This method should be used to evaluate quantiles of the same values where the
+     * probabilities are not known in advance, for example interactive exploration of
+     * percentiles. The positions of the values that have been sorted by previous
+     * evaluations are used to reduce the range of data to partition for subsequent
+     * evaluations. If all probabilities are known then the
+     * {@link #evaluate(double[], double...)} method is more efficient.
+     *
+     * @param values Values.
+     * @return the prepared quantile
+     * @throws IllegalArgumentException if the values contain {@code NaN} and the
+     * NaN policy is {@link NaNPolicy#ERROR error}
+     * @see PreparedQuantile
+     * @since 1.2
+     */
+    public PreparedQuantile prepare(double[] values) {
+        return createPreparedQuantile(values, 0, values.length);
+    }
+
+    /**
+     * Prepare the specified range of values for repeat evaluation of quantiles.
+     *
+     * <p>The values are processed using the configured {@link NaNPolicy}. If not
+     * configured to {@link #withCopy(boolean) copy} the input data then the returned
+     * instance uses the input array which is partially sorted within the range by each
+     * evaluation. Values outside the range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the prepared quantile
+     * @throws IllegalArgumentException if the values contain {@code NaN} and the
+     * NaN policy is {@link NaNPolicy#ERROR error}
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @see #prepare(double[])
+     * @since 1.2
+     */
+    public PreparedQuantile prepareRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createPreparedQuantile(values, from, to);
+    }
+
+    /**
+     * Create the prepared quantile of the specified range of values.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the prepared quantile
+     */
+    private PreparedQuantile createPreparedQuantile(double[] values, int from, int to) {
+        // Floating-point data handling
+        final int[] bounds = new int[2];
+        final double[] x = nanTransformer.apply(values, from, to, bounds);
+        return new PreparedQuantile(estimationType, x, bounds[0], bounds[1]);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the weighted values.
+     *
+     * <p>The weights are frequency weights: for integer weights the result is the same as
+     * the quantiles of the values where each value is repeated by its weight. Non-integer
+     * weights are supported. The {@link EstimationMethod} uses the sum of the weights
+     * as the size of the data; the value at a (0-based) position {@code k} is the smallest
+     * value where the cumulative weight of the sorted values is above {@code k}.
+     *
+     * <p>Values with a zero weight are ignored. The {@link NaNPolicy} is applied to
+     * values with a non-zero weight.
+     *
+     * <p>Note: This method does not modify the input arrays.
+     *
+     * @param values Values.
+     * @param weights Weights.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * no probabilities are specified; the values and weights have different lengths; or any
+     * weight is negative, infinite or {@code NaN}
+     * @since 1.2
+     */
+    public double[] evaluateWeighted(double[] values, double[] weights, double... p) {
+        checkProbabilities(p);
+        Statistics.checkWeightsLength(values, weights);
+        // Collect the values with non-zero weight
+        final double[] x = new double[values.length];
+        int m = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (includeWeighted(values[i], weights[i], i)) {
+                x[m++] = values[i];
+            }
+        }
+        final double[] q = new double[p.length];
+        if (m == 0) {
+            Arrays.fill(q, Double.NaN);
+            return q;
+        }
+        // Sorted distinct values.
+        // Arrays.sort and Arrays.binarySearch use the same ordering of -0.0, 0.0 and NaN.
+        Arrays.sort(x, 0, m);
+        int u = 1;
+        for (int i = 1; i < m; i++) {
+            if (Double.compare(x[i], x[u - 1]) != 0) {
+                x[u++] = x[i];
+            }
+        }
+        // Cumulative weight of the distinct values
+        final double[] c = new double[u];
+        for (int i = 0; i < values.length; i++) {
+            if (includeWeighted(values[i], weights[i], i)) {
+                c[Arrays.binarySearch(x, 0, u, values[i])] += weights[i];
+            }
+        }
+        for (int i = 1; i < u; i++) {
+            c[i] += c[i - 1];
+        }
+        final double total = c[u - 1];
+
+        for (int k = 0; k < p.length; k++) {
+            // The total weight may be below 1 so the upper bound of the index can be negative
+            final double pos = Math.max(0, estimationType.index(p[k], total));
+            final double i = Math.floor(pos);
+            final double a = valueAtPosition(x, c, u, i);
+            q[k] = pos > i ?
+                Interpolation.interpolate(a, valueAtPosition(x, c, u, i + 1), pos - i) :
+                a;
+        }
+        return q;
+    }
+
+    /**
+     * Check if the weighted value should be included in the weighted quantile.
+     *
+     * @param value Value.
+     * @param weight Weight.
+     * @param i Index of the value.
+     * @return true if included
+     * @throws IllegalArgumentException if the weight is invalid; or the value is {@code NaN}
+     * and the NaN policy is {@link NaNPolicy#ERROR ERROR}
+     */
+    private boolean includeWeighted(double value, double weight, int i) {
+        if (Statistics.checkWeight(weight) == 0) {
+            return false;
+        }
+        if (value != value) {
+            if (nanPolicy == NaNPolicy.ERROR) {
+                throw new IllegalArgumentException("NaN at " + i);
+            }
+            return nanPolicy == NaNPolicy.INCLUDE;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the value at the (0-based) position {@code k} of the weighted values. This
+     * is the smallest value where the cumulative weight is above {@code k}; or the
+     * largest value if {@code k} is above the total weight.
+     *
+     * @param x Sorted distinct values.
+     * @param c Cumulative weight of the values.
+     * @param n Number of values.
+     * @param k Position.
+     * @return the value
+     */
+    private static double valueAtPosition(double[] x, double[] c, int n, double k) {
+        int lo = 0;
+        int hi = n - 1;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (c[mid] > k) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return x[lo];
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantile of the values.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * <p><strong>Performance</strong>
+     *
+     * <p>It is not recommended to use this method for repeat calls for different quantiles
+     * within the same values. The {@link #evaluate(int[], double...)} method should be used
+     * which provides better performance.
+     *
+     * @param values Values.
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     * @see #evaluate(int[], double...)
+     */
+    public double evaluate(int[] values, double p) {
+        return compute(values, 0, values.length, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantile of the specified range of values.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * <p><strong>Performance</strong>
+     *
+     * <p>It is not recommended to use this method for repeat calls for different quantiles
+     * within the same values. The {@link #evaluateRange(int[], int, int, double...)} method
+     * should be used which provides better performance.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @see #evaluateRange(int[], int, int, double...)
+     * @since 1.2
+     */
+    public double evaluateRange(int[] values, int from, int to, double p) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the values.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     */
+    public double[] evaluate(int[] values, double... p) {
+        return compute(values, 0, values.length, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the specified range of values.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public double[] evaluateRange(int[] values, int from, int to, double... p) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantile of the values.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * <p><strong>Performance</strong>
+     *
+     * <p>It is not recommended to use this method for repeat calls for different quantiles
+     * within the same values. The {@link #evaluate(long[], double...)} method should be used
+     * which provides better performance.
+     *
+     * @param values Values.
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     * @see #evaluate(long[], double...)
+     * @since 1.2
+     */
+    public double evaluate(long[] values, double p) {
+        return compute(values, 0, values.length, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantile of the specified range of values.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * <p><strong>Performance</strong>
+     *
+     * <p>It is not recommended to use this method for repeat calls for different quantiles
+     * within the same values. The {@link #evaluateRange(long[], int, int, double...)} method
+     * should be used which provides better performance.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @see #evaluateRange(long[], int, int, double...)
+     * @since 1.2
+     */
+    public double evaluateRange(long[] values, int from, int to, double p) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the values.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     * @since 1.2
+     */
+    public double[] evaluate(long[] values, double... p) {
+        return compute(values, 0, values.length, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the specified range of values.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public double[] evaluateRange(long[] values, int from, int to, double... p) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantile of the values.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * <p><strong>Performance</strong>
+     *
+     * <p>It is not recommended to use this method for repeat calls for different quantiles
+     * within the same values. The {@link #evaluate(float[], double...)} method should be used
+     * which provides better performance.
+     *
+     * @param values Values.
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     * @see #evaluate(float[], double...)
+     * @since 1.2
+     */
+    public double evaluate(float[] values, double p) {
+        return compute(values, 0, values.length, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantile of the specified range of values.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * <p><strong>Performance</strong>
+     *
+     * <p>It is not recommended to use this method for repeat calls for different quantiles
+     * within the same values. The {@link #evaluateRange(float[], int, int, double...)} method
+     * should be used which provides better performance.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @see #evaluateRange(float[], int, int, double...)
+     * @since 1.2
+     */
+    public double evaluateRange(float[] values, int from, int to, double p) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the values.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     * @since 1.2
+     */
+    public double[] evaluate(float[] values, double... p) {
+        return compute(values, 0, values.length, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the specified range of values.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public double[] evaluateRange(float[] values, int from, int to, double... p) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to, p);
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantile of the values.
+     *
+     * <p>This method can be used when the values of known size are already sorted.
+     *
+     * <pre>{@code
+     * short[] x = ...
+     * Arrays.sort(x);
+     * double q = Quantile.withDefaults().evaluate(x.length, i -> x[i], 0.05);
+     * }</pre>
+     *
+     * @param n Size of the values.
+     * @param values Values function.
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if {@code size < 0}; or if the probability {@code p} is
+     * not in the range {@code [0, 1]}.
+     */
+    public double evaluate(int n, IntToDoubleFunction values, double p) {
+        checkSize(n);
+        checkProbability(p);
+        // Special case
+        if (n <= 1) {
+            return n == 0 ? Double.NaN : values.applyAsDouble(0);
+        }
+        final double pos = estimationType.index(p, n);
+        final int i = (int) pos;
+        final double v1 = values.applyAsDouble(i);
+        if (pos > i) {
+            final double v2 = values.applyAsDouble(i + 1);
+            return Interpolation.interpolate(v1, v2, pos - i);
+        }
+        return v1;
+    }
+
+    /**
+     * Evaluate the {@code p}-th quantiles of the values.
+     *
+     * <p>This method can be used when the values of known size are already sorted.
+     *
+     * <pre>{@code
+     * short[] x = ...
+     * Arrays.sort(x);
+     * double[] q = Quantile.withDefaults().evaluate(x.length, i -> x[i], 0.25, 0.5, 0.75);
+     * }</pre>
+     *
+     * @param n Size of the values.
+     * @param values Values function.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if {@code size < 0}; if any probability {@code p} is
+     * not in the range {@code [0, 1]}; or no probabilities are specified.
+     */
+    public double[] evaluate(int n, IntToDoubleFunction values, double... p) {
+        checkSize(n);
+        checkProbabilities(p);
+        // Special case
+        final double[] q = new double[p.length];
+        if (n <= 1) {
+            Arrays.fill(q, n == 0 ? Double.NaN : values.applyAsDouble(0));
+            return q;
+        }
+        for (int k = 0; k < p.length; k++) {
+            final double pos = estimationType.index(p[k], n);
+            final int i = (int) pos;
+            final double v1 = values.applyAsDouble(i);
+            if (pos > i) {
+                final double v2 = values.applyAsDouble(i + 1);
+                q[k] = Interpolation.interpolate(v1, v2, pos - i);
+            } else {
+                q[k] = v1;
+            }
+        }
+        return q;
+    }
+
+    /**
+     * Compute the {@code p}-th quantile of the specified range of values.
+     *
+     * <p>Warning: No range checks are performed.
      *
-     * @param n Number of probabilities.
-     * @return the probabilities
-     * @throws IllegalArgumentException if {@code n < 1}
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
      */
-    public static double[] probabilities(int n) {
-        checkNumberOfProbabilities(n);
-        final double c1 = n + 1.0;
-        final double[] p = new double[n];
-        for (int i = 0; i < n; i++) {
-            p[i] = (i + 1.0) / c1;
+    private double compute(double[] values, int from, int to, double p) {
+        checkProbability(p);
+        if (isParallel(to - from)) {
+            // The selection does not modify the data so a copy is not required.
+            // NaN are ordered above all other values.
+            final int n = NaNTransformers.count(nanPolicy, values, from, to);
+            if (n == 0) {
+                return Double.NaN;
+            }
+            final double pos = estimationType.index(p, n);
+            final int i = from + (int) pos;
+            if (pos > i - from) {
+                final double[] v = ParallelSelection.select(values, from, to, i, i + 1);
+                return Interpolation.interpolate(v[0], v[1], pos - (i - from));
+            }
+            return ParallelSelection.select(values, from, to, i)[0];
         }
-        return p;
+        // Floating-point data handling
+        final int[] bounds = new int[2];
+        final double[] x = nanTransformer.apply(values, from, to, bounds);
+        final int lo = bounds[0];
+        final int n = bounds[1] - lo;
+        // Special cases
+        if (n <= 1) {
+            return n == 0 ? Double.NaN : x[lo];
+        }
+        final double pos = estimationType.index(p, n);
+        final int i = lo + (int) pos;
+
+        // Partition and compute
+        if (pos > i - lo) {
+            Selection.select(x, lo, lo + n, new int[] {i, i + 1});
+            return Interpolation.interpolate(x[i], x[i + 1], pos - (i - lo));
+        }
+        Selection.select(x, lo, lo + n, i);
+        return x[i];
     }
 
     /**
-     * Generate {@code n} evenly spaced probabilities in the range {@code [p1, p2]}.
+     * Compute the {@code p}-th quantiles of the specified range of values.
      *
-     * <pre>
-     * w = p2 - p1
-     * p1 + w/(n + 1), p1 + 2w/(n + 1), ..., p1 + nw/(n + 1)
-     * </pre>
+     * <p>Warning: No range checks are performed.
      *
-     * @param n Number of probabilities.
-     * @param p1 Lower probability.
-     * @param p2 Upper probability.
-     * @return the probabilities
-     * @throws IllegalArgumentException if {@code n < 1}; if the probabilities are not in the
-     * range {@code [0, 1]}; or {@code p2 <= p1}.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
      */
-    public static double[] probabilities(int n, double p1, double p2) {
-        checkProbability(p1);
-        checkProbability(p2);
-        if (p2 <= p1) {
-            throw new IllegalArgumentException("Invalid range: [" + p1 + ", " + p2 + "]");
+    private double[] compute(double[] values, int from, int to, double... p) {
+        checkProbabilities(p);
+        if (isParallel(to - from)) {
+            // The selection does not modify the data so a copy is not required.
+            // NaN are ordered above all other values.
+            final int n = NaNTransformers.count(nanPolicy, values, from, to);
+            final double[] q = new double[p.length];
+            if (n == 0) {
+                Arrays.fill(q, Double.NaN);
+                return q;
+            }
+            final int[] indices = computeIndices(from, n, p, q);
+            return interpolate(q, ParallelSelection.select(values, from, to, indices));
         }
-        final double[] p = probabilities(n);
-        for (int i = 0; i < n; i++) {
-            p[i] = (1 - p[i]) * p1 + p[i] * p2;
+        // Floating-point data handling
+        final int[] bounds = new int[2];
+        final double[] x = nanTransformer.apply(values, from, to, bounds);
+        final int lo = bounds[0];
+        final int n = bounds[1] - lo;
+        // Special cases
+        final double[] q = new double[p.length];
+        if (n <= 1) {
+            Arrays.fill(q, n == 0 ? Double.NaN : x[lo]);
+            return q;
         }
-        return p;
+
+        // Collect interpolation positions. We use the output q as storage.
+        final int[] indices = computeIndices(lo, n, p, q);
+
+        // Partition
+        if (isRadixSort(n, p.length)) {
+            RadixSort.sort(x, lo, lo + n);
+        } else {
+            Selection.select(x, lo, lo + n, indices);
+        }
+
+        // Compute
+        for (int k = 0; k < p.length; k++) {
+            final int i = lo + (int) q[k];
+            if (q[k] > i - lo) {
+                q[k] = Interpolation.interpolate(x[i], x[i + 1], q[k] - (i - lo));
+            } else {
+                q[k] = x[i];
+            }
+        }
+        return q;
     }
 
     /**
-     * Evaluate the {@code p}-th quantile of the values.
-     *
-     * <p>Note: This method may partially sort the input values if not configured to
-     * {@link #withCopy(boolean) copy} the input data.
+     * Compute the {@code p}-th quantile of the specified range of values.
      *
-     * <p><strong>Performance</strong>
-     *
-     * <p>It is not recommended to use this method for repeat calls for different quantiles
-     * within the same values. The {@link #evaluate(double[], double...)} method should be used
-     * which provides better performance.
+     * <p>Warning: No range checks are performed.
      *
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @param p Probability for the quantile to compute.
      * @return the quantile
-     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
-     * @see #evaluate(double[], double...)
      */
-    public double evaluate(double[] values, double p) {
+    private double compute(int[] values, int from, int to, double p) {
         checkProbability(p);
-        // Floating-point data handling
-        final int[] bounds = new int[1];
-        final double[] x = nanTransformer.apply(values, bounds);
-        final int n = bounds[0];
+        final int n = to - from;
         // Special cases
         if (n <= 1) {
-            return n == 0 ? Double.NaN : x[0];
+            return n == 0 ? Double.NaN : values[from];
         }
         final double pos = estimationType.index(p, n);
-        final int i = (int) pos;
+
+        // Selection without partitioning
+        final int j = from + (int) pos;
+        final boolean interpolate = pos > j - from;
+        final int[] v = interpolate ?
+            select(values, from, to, j, j + 1) :
+            select(values, from, to, j);
+        if (v != null) {
+            return interpolate ? Interpolation.interpolate(v[0], v[1], pos - (j - from)) : v[0];
+        }
 
         // Partition and compute
-        if (pos > i) {
-            Selection.select(x, 0, n, new int[] {i, i + 1});
-            return Interpolation.interpolate(x[i], x[i + 1], pos - i);
+        final int[] x;
+        final int lo;
+        if (copy) {
+            x = Arrays.copyOfRange(values, from, to);
+            lo = 0;
+        } else {
+            x = values;
+            lo = from;
+        }
+        final int i = lo + (int) pos;
+        if (pos > i - lo) {
+            Selection.select(x, lo, lo + n, new int[] {i, i + 1});
+            return Interpolation.interpolate(x[i], x[i + 1], pos - (i - lo));
         }
-        Selection.select(x, 0, n, i);
+        Selection.select(x, lo, lo + n, i);
         return x[i];
     }
 
     /**
-     * Evaluate the {@code p}-th quantiles of the values.
+     * Compute the {@code p}-th quantiles of the specified range of values.
      *
-     * <p>Note: This method may partially sort the input values if not configured to
-     * {@link #withCopy(boolean) copy} the input data.
+     * <p>Warning: No range checks are performed.
      *
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @param p Probabilities for the quantiles to compute.
      * @return the quantiles
-     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
-     * or no probabilities are specified.
      */
-    public double[] evaluate(double[] values, double... p) {
+    private double[] compute(int[] values, int from, int to, double... p) {
         checkProbabilities(p);
-        // Floating-point data handling
-        final int[] bounds = new int[1];
-        final double[] x = nanTransformer.apply(values, bounds);
-        final int n = bounds[0];
+        final int n = to - from;
         // Special cases
         final double[] q = new double[p.length];
         if (n <= 1) {
-            Arrays.fill(q, n == 0 ? Double.NaN : x[0]);
+            Arrays.fill(q, n == 0 ? Double.NaN : values[from]);
             return q;
         }
 
         // Collect interpolation positions. We use the output q as storage.
-        final int[] indices = computeIndices(n, p, q);
+        final int[] indices = computeIndices(from, n, p, q);
+
+        // Selection without partitioning
+        final int[] v = select(values, from, to, indices);
+        if (v != null) {
+            return interpolate(q, v);
+        }
 
         // Partition
-        Selection.select(x, 0, n, indices);
+        final int[] x;
+        final int lo;
+        if (copy) {
+            x = Arrays.copyOfRange(values, from, to);
+            lo = 0;
+            for (int k = 0; k < indices.length; k++) {
+                indices[k] -= from;
+            }
+        } else {
+            x = values;
+            lo = from;
+        }
+
+        if (isRadixSort(n, p.length)) {
+            RadixSort.sort(x, lo, lo + n);
+        } else {
+            Selection.select(x, lo, lo + n, indices);
+        }
 
         // Compute
         for (int k = 0; k < p.length; k++) {
-            final int i = (int) q[k];
-            if (q[k] > i) {
-                q[k] = Interpolation.interpolate(x[i], x[i + 1], q[k] - i);
+            final int i = lo + (int) q[k];
+            if (q[k] > i - lo) {
+                q[k] = Interpolation.interpolate(x[i], x[i + 1], q[k] - (i - lo));
             } else {
                 q[k] = x[i];
             }
@@ -289,77 +1133,90 @@ public final class Quantile {
     }
 
     /**
-     * Evaluate the {@code p}-th quantile of the values.
-     *
-     * <p>Note: This method may partially sort the input values if not configured to
-     * {@link #withCopy(boolean) copy} the input data.
-     *
-     * <p><strong>Performance</strong>
+     * Compute the {@code p}-th quantile of the specified range of values.
      *
-     * <p>It is not recommended to use this method for repeat calls for different quantiles
-     * within the same values. The {@link #evaluate(int[], double...)} method should be used
-     * which provides better performance.
+     * <p>Warning: No range checks are performed.
      *
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @param p Probability for the quantile to compute.
      * @return the quantile
-     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
-     * @see #evaluate(int[], double...)
      */
-    public double evaluate(int[] values, double p) {
+    private double compute(long[] values, int from, int to, double p) {
         checkProbability(p);
-        final int n = values.length;
+        final int n = to - from;
         // Special cases
         if (n <= 1) {
-            return n == 0 ? Double.NaN : values[0];
+            return n == 0 ? Double.NaN : values[from];
         }
         final double pos = estimationType.index(p, n);
-        final int i = (int) pos;
 
         // Partition and compute
-        final int[] x = copy ? values.clone() : values;
-        if (pos > i) {
-            Selection.select(x, 0, n, new int[] {i, i + 1});
-            return Interpolation.interpolate(x[i], x[i + 1], pos - i);
+        final long[] x;
+        final int lo;
+        if (copy) {
+            x = Arrays.copyOfRange(values, from, to);
+            lo = 0;
+        } else {
+            x = values;
+            lo = from;
+        }
+        final int i = lo + (int) pos;
+        if (pos > i - lo) {
+            QuickSelect.select(x, lo, lo + n, new int[] {i, i + 1});
+            return Interpolation.interpolate(x[i], x[i + 1], pos - (i - lo));
         }
-        Selection.select(x, 0, n, i);
+        QuickSelect.select(x, lo, lo + n, i);
         return x[i];
     }
 
     /**
-     * Evaluate the {@code p}-th quantiles of the values.
+     * Compute the {@code p}-th quantiles of the specified range of values.
      *
-     * <p>Note: This method may partially sort the input values if not configured to
-     * {@link #withCopy(boolean) copy} the input data.
+     * <p>Warning: No range checks are performed.
      *
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @param p Probabilities for the quantiles to compute.
      * @return the quantiles
-     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
-     * or no probabilities are specified.
      */
-    public double[] evaluate(int[] values, double... p) {
+    private double[] compute(long[] values, int from, int to, double... p) {
         checkProbabilities(p);
-        final int n = values.length;
+        final int n = to - from;
         // Special cases
         final double[] q = new double[p.length];
         if (n <= 1) {
-            Arrays.fill(q, n == 0 ? Double.NaN : values[0]);
+            Arrays.fill(q, n == 0 ? Double.NaN : values[from]);
             return q;
         }
 
+        // Partition
+        final long[] x;
+        final int lo;
+        if (copy) {
+            x = Arrays.copyOfRange(values, from, to);
+            lo = 0;
+        } else {
+            x = values;
+            lo = from;
+        }
+
         // Collect interpolation positions. We use the output q as storage.
-        final int[] indices = computeIndices(n, p, q);
+        final int[] indices = computeIndices(lo, n, p, q);
 
-        // Partition
-        final int[] x = copy ? values.clone() : values;
-        Selection.select(x, 0, n, indices);
+        if (isRadixSort(n, p.length)) {
+            RadixSort.sort(x, lo, lo + n);
+        } else {
+            QuickSelect.select(x, lo, lo + n, indices);
+        }
 
         // Compute
         for (int k = 0; k < p.length; k++) {
-            final int i = (int) q[k];
-            if (q[k] > i) {
-                q[k] = Interpolation.interpolate(x[i], x[i + 1], q[k] - i);
+            final int i = lo + (int) q[k];
+            if (q[k] > i - lo) {
+                q[k] = Interpolation.interpolate(x[i], x[i + 1], q[k] - (i - lo));
             } else {
                 q[k] = x[i];
             }
@@ -368,88 +1225,200 @@ public final class Quantile {
     }
 
     /**
-     * Evaluate the {@code p}-th quantile of the values.
-     *
-     * <p>This method can be used when the values of known size are already sorted.
+     * Compute the {@code p}-th quantile of the specified range of values.
      *
-     * <pre>{@code
-     * short[] x = ...
-     * Arrays.sort(x);
-     * double q = Quantile.withDefaults().evaluate(x.length, i -> x[i], 0.05);
-     * }</pre>
+     * <p>Warning: No range checks are performed.
      *
-     * @param n Size of the values.
-     * @param values Values function.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @param p Probability for the quantile to compute.
      * @return the quantile
-     * @throws IllegalArgumentException if {@code size < 0}; or if the probability {@code p} is
-     * not in the range {@code [0, 1]}.
      */
-    public double evaluate(int n, IntToDoubleFunction values, double p) {
-        checkSize(n);
+    private double compute(float[] values, int from, int to, double p) {
         checkProbability(p);
-        // Special case
+        // Floating-point data handling
+        final int[] bounds = new int[2];
+        final float[] x = nanTransformer.apply(values, from, to, bounds);
+        final int lo = bounds[0];
+        final int n = bounds[1] - lo;
+        // Special cases
         if (n <= 1) {
-            return n == 0 ? Double.NaN : values.applyAsDouble(0);
+            return n == 0 ? Double.NaN : x[lo];
         }
         final double pos = estimationType.index(p, n);
-        final int i = (int) pos;
-        final double v1 = values.applyAsDouble(i);
-        if (pos > i) {
-            final double v2 = values.applyAsDouble(i + 1);
-            return Interpolation.interpolate(v1, v2, pos - i);
+        final int i = lo + (int) pos;
+
+        // Partition and compute
+        if (pos > i - lo) {
+            QuickSelect.select(x, lo, lo + n, new int[] {i, i + 1});
+            return Interpolation.interpolate(x[i], x[i + 1], pos - (i - lo));
         }
-        return v1;
+        QuickSelect.select(x, lo, lo + n, i);
+        return x[i];
     }
 
     /**
-     * Evaluate the {@code p}-th quantiles of the values.
-     *
-     * <p>This method can be used when the values of known size are already sorted.
+     * Compute the {@code p}-th quantiles of the specified range of values.
      *
-     * <pre>{@code
-     * short[] x = ...
-     * Arrays.sort(x);
-     * double[] q = Quantile.withDefaults().evaluate(x.length, i -> x[i], 0.25, 0.5, 0.75);
-     * }</pre>
+     * <p>Warning: No range checks are performed.
      *
-     * @param n Size of the values.
-     * @param values Values function.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @param p Probabilities for the quantiles to compute.
      * @return the quantiles
-     * @throws IllegalArgumentException if {@code size < 0}; if any probability {@code p} is
-     * not in the range {@code [0, 1]}; or no probabilities are specified.
      */
-    public double[] evaluate(int n, IntToDoubleFunction values, double... p) {
-        checkSize(n);
+    private double[] compute(float[] values, int from, int to, double... p) {
         checkProbabilities(p);
-        // Special case
+        // Floating-point data handling
+        final int[] bounds = new int[2];
+        final float[] x = nanTransformer.apply(values, from, to, bounds);
+        final int lo = bounds[0];
+        final int n = bounds[1] - lo;
+        // Special cases
         final double[] q = new double[p.length];
         if (n <= 1) {
-            Arrays.fill(q, n == 0 ? Double.NaN : values.applyAsDouble(0));
+            Arrays.fill(q, n == 0 ? Double.NaN : x[lo]);
             return q;
         }
+
+        // Collect interpolation positions. We use the output q as storage.
+        final int[] indices = computeIndices(lo, n, p, q);
+
+        // Partition
+        QuickSelect.select(x, lo, lo + n, indices);
+
+        // Compute
         for (int k = 0; k < p.length; k++) {
-            final double pos = estimationType.index(p[k], n);
-            final int i = (int) pos;
-            final double v1 = values.applyAsDouble(i);
-            if (pos > i) {
-                final double v2 = values.applyAsDouble(i + 1);
-                q[k] = Interpolation.interpolate(v1, v2, pos - i);
+            final int i = lo + (int) q[k];
+            if (q[k] > i - lo) {
+                q[k] = Interpolation.interpolate(x[i], x[i + 1], q[k] - (i - lo));
             } else {
-                q[k] = v1;
+                q[k] = x[i];
+            }
+        }
+        return q;
+    }
+
+    /**
+     * Compute the {@code p}-th quantiles of the remaining values in the buffer.
+     *
+     * <p>Warning: The probabilities are not checked.
+     *
+     * @param values Values.
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     */
+    private double[] compute(DoubleBuffer values, double... p) {
+        final int n = values.remaining();
+        if (n <= ExternalQuantile.DEFAULT_MAX_SIZE) {
+            final double[] x = new double[n];
+            values.duplicate().get(x);
+            return compute(x, 0, n, p);
+        }
+        return new ExternalQuantile(estimationType, nanPolicy,
+            ExternalQuantile.DEFAULT_SAMPLE_SIZE, ExternalQuantile.DEFAULT_MAX_SIZE).evaluate(values, p);
+    }
+
+    /**
+     * Gets the values at the indices {@code k} in the equivalent fully sorted range
+     * {@code [from, to)} without modifying the values. This is possible if the
+     * range of the values is small, or if the selection uses parallel tasks.
+     *
+     * <p>Returns {@code null} if the values must be partitioned to select the indices.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param k Indices.
+     * @return the values at the indices (or null)
+     */
+    private int[] select(int[] values, int from, int to, int... k) {
+        final int[] v = CountingSelection.select(values, from, to, k);
+        if (v == null && isParallel(to - from)) {
+            return ParallelSelection.select(values, from, to, k);
+        }
+        return v;
+    }
+
+    /**
+     * Compute the quantiles from the values at the interpolation indices.
+     * The zero-based interpolation index for each quantile is stored in {@code q};
+     * the values are in the order of the indices created by
+     * {@link #computeIndices(int, int, double[], double[])}.
+     *
+     * @param q Interpolation indices; overwritten with the quantiles.
+     * @param v Values at the indices.
+     * @return the quantiles
+     */
+    private static double[] interpolate(double[] q, double[] v) {
+        int c = 0;
+        for (int k = 0; k < q.length; k++) {
+            final int i = (int) q[k];
+            if (q[k] > i) {
+                q[k] = Interpolation.interpolate(v[c], v[c + 1], q[k] - i);
+                c += 2;
+            } else {
+                q[k] = v[c++];
+            }
+        }
+        return q;
+    }
+
+    /**
+     * Compute the quantiles from the values at the interpolation indices.
+     * The zero-based interpolation index for each quantile is stored in {@code q};
+     * the values are in the order of the indices created by
+     * {@link #computeIndices(int, int, double[], double[])}.
+     *
+     * @param q Interpolation indices; overwritten with the quantiles.
+     * @param v Values at the indices.
+     * @return the quantiles
+     */
+    private static double[] interpolate(double[] q, int[] v) {
+        int c = 0;
+        for (int k = 0; k < q.length; k++) {
+            final int i = (int) q[k];
+            if (q[k] > i) {
+                q[k] = Interpolation.interpolate(v[c], v[c + 1], q[k] - i);
+                c += 2;
+            } else {
+                q[k] = v[c++];
             }
         }
         return q;
     }
 
+    /**
+     * Test if the selection of {@code n} values should use parallel tasks.
+     *
+     * @param n Number of values.
+     * @return true if parallel
+     */
+    private boolean isParallel(int n) {
+        return parallel && n >= ParallelSelection.MIN_PARALLEL_SIZE;
+    }
+
+    /**
+     * Test if the selection of {@code m} quantiles from {@code n} values should
+     * fully sort the values using a radix sort.
+     *
+     * @param n Number of values.
+     * @param m Number of quantiles.
+     * @return true if radix sort
+     */
+    private static boolean isRadixSort(int n, int m) {
+        return m >= RADIX_SORT_PROBABILITIES && n >= RadixSort.MIN_SIZE;
+    }
+
     /**
      * Check the probability {@code p} is in the range {@code [0, 1]}.
      *
      * @param p Probability for the quantile to compute.
      * @throws IllegalArgumentException if the probability is not in the range {@code [0, 1]}
      */
-    private static void checkProbability(double p) {
+    static void checkProbability(double p) {
         // Logic negation will detect NaN
         if (!(p >= 0 && p <= 1)) {
             throw new IllegalArgumentException(INVALID_PROBABILITY + p);
@@ -463,7 +1432,7 @@ public final class Quantile {
      * @throws IllegalArgumentException if any probabilities {@code p} is not in the range {@code [0, 1]};
      * or no probabilities are specified.
      */
-    private static void checkProbabilities(double... p) {
+    static void checkProbabilities(double... p) {
         if (p.length == 0) {
             throw new IllegalArgumentException(NO_PROBABILITIES_SPECIFIED);
         }
@@ -500,22 +1469,24 @@ public final class Quantile {
      * Compute the indices required for quantile interpolation.
      *
      * <p>The zero-based interpolation index in {@code [0, n)} is
-     * saved into the working array {@code q} for each {@code p}.
+     * saved into the working array {@code q} for each {@code p}. The returned
+     * indices are offset by the start of the data {@code lo}.
      *
+     * @param lo Start of the data.
      * @param n Size of the data.
      * @param p Probabilities for the quantiles to compute.
      * @param q Working array for quantiles.
      * @return the indices
      */
-    private int[] computeIndices(int n, double[] p, double[] q) {
+    private int[] computeIndices(int lo, int n, double[] p, double[] q) {
         final int[] indices = new int[p.length << 1];
         int count = 0;
         for (int k = 0; k < p.length; k++) {
             final double pos = estimationType.index(p[k], n);
             q[k] = pos;
-            final int i = (int) pos;
+            final int i = lo + (int) pos;
             indices[count++] = i;
-            if (pos > i) {
+            if (pos > i - lo) {
                 // Require the next index for interpolation
                 indices[count++] = i + 1;
             }
@@ -568,7 +1539,7 @@ public final class Quantile {
          */
         HF1 {
             @Override
-            double position0(double p, int n) {
+            double position0(double p, double n) {
                 // position = np + 0. This is 1-based so adjust to 0-based.
                 return Math.ceil(n * p) - 1;
             }
@@ -580,10 +1551,10 @@ public final class Quantile {
          */
         HF2 {
             @Override
-            double position0(double p, int n) {
+            double position0(double p, double n) {
                 final double pos = n * p;
                 // Average at discontinuities
-                final int j = (int) pos;
+                final long j = (long) pos;
                 final double g = pos - j;
                 if (g == 0) {
                     return j - 0.5;
@@ -599,7 +1570,7 @@ public final class Quantile {
          */
         HF3 {
             @Override
-            double position0(double p, int n) {
+            double position0(double p, double n) {
                 // Let rint do the work for ties to even
                 return Math.rint(n * p) - 1;
             }
@@ -611,7 +1582,7 @@ public final class Quantile {
          */
         HF4 {
             @Override
-            double position0(double p, int n) {
+            double position0(double p, double n) {
                 // np + 0 - 1
                 return n * p - 1;
             }
@@ -624,7 +1595,7 @@ public final class Quantile {
          */
         HF5 {
             @Override
-            double position0(double p, int n) {
+            double position0(double p, double n) {
                 // np + 0.5 - 1
                 return n * p - 0.5;
             }
@@ -640,7 +1611,7 @@ public final class Quantile {
          */
         HF6 {
             @Override
-            double position0(double p, int n) {
+            double position0(double p, double n) {
                 // np + p - 1
                 return (n + 1) * p - 1;
             }
@@ -653,7 +1624,7 @@ public final class Quantile {
          */
         HF7 {
             @Override
-            double position0(double p, int n) {
+            double position0(double p, double n) {
                 // np + 1-p - 1
                 return (n - 1) * p;
             }
@@ -668,7 +1639,7 @@ public final class Quantile {
          */
         HF8 {
             @Override
-            double position0(double p, int n) {
+            double position0(double p, double n) {
                 return n * p + (p + 1) / 3 - 1;
             }
         },
@@ -680,7 +1651,7 @@ public final class Quantile {
          */
         HF9 {
             @Override
-            double position0(double p, int n) {
+            double position0(double p, double n) {
                 // np + p/4 + 3/8 - 1
                 return (n + 0.25) * p - 0.625;
             }
@@ -700,10 +1671,10 @@ public final class Quantile {
          * convenience when addressing array positions.
          *
          * @param p p<sup>th</sup> quantile.
-         * @param n Size.
+         * @param n Size (or total weight of weighted data).
          * @return a real-valued position (0-based) into the range {@code [0, n)}
          */
-        abstract double position0(double p, int n);
+        abstract double position0(double p, double n);
 
         /**
          * Finds the index {@code i} and fractional part {@code g} of a real-valued position
@@ -716,10 +1687,10 @@ public final class Quantile {
          * <p>Note: Interpolation should not use {@code data[i+1]} unless {@code g != 0}.
          *
          * @param p p<sup>th</sup> quantile.
-         * @param n Size.
+         * @param n Size (or total weight of weighted data).
          * @return index (in [0, n-1])
          */
-        final double index(double p, int n) {
+        final double index(double p, double n) {
             final double pos = position0(p, n);
             // Bounds check in [0, n-1]
             if (pos < 0) {
@@ -0,0 +1,666 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Partition support for primitive array types not supported by
+ * {@link org.apache.commons.numbers.arrays.Selection}.
+ *
+ * <p>Partitions an array so that the elements at the specified indices are in their
+ * sorted position. Elements before each index are less than or equal to the element
+ * at the index; elements after are greater than or equal.
+ *
+ * <p>The implementation is an introselect. The data is partitioned using a
+ * median-of-3 pivot and a 3-way partition, which is efficient when the data has
+ * many repeated values. Small ranges are sorted using insertion sort. If the
+ * recursion exceeds a depth proportional to {@code log2(n)} the range is sorted to
+ * bound the worst case runtime at {@code O(n log n)}.
+ *
+ * <p>The {@code float} implementation respects the ordering imposed by
+ * {@link Float#compare(float, float)}: {@code -0.0f} is less than {@code 0.0f}
+ * and {@code NaN} is greater than any other value.
+ *
+ * <p>A {@code double} implementation is provided that records the pivots found
+ * during partitioning. This supports repeat selection on the same data.
+ *
+ * @since 1.2
+ */
+final class QuickSelect {
+    /** Size of a range to sort using insertion sort. */
+    private static final int INSERTION_SORT_SIZE = 20;
+    /** Size of a range to use a pivot from a sample of 9 values. */
+    private static final int NINTHER_SIZE = 256;
+
+    /** No instances. */
+    private QuickSelect() {}
+
+    /**
+     * Partition the array such that index {@code k} corresponds to its
+     * correctly sorted value in the equivalent fully sorted array.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param a Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param k Index.
+     */
+    static void select(long[] a, int from, int to, int k) {
+        final int[] bounds = new int[2];
+        int l = from;
+        int r = to - 1;
+        int depth = maxDepth(to - from);
+        while (r - l >= INSERTION_SORT_SIZE) {
+            if (--depth < 0) {
+                Arrays.sort(a, l, r + 1);
+                return;
+            }
+            partition(a, l, r, bounds);
+            if (k < bounds[0]) {
+                r = bounds[0] - 1;
+            } else if (k > bounds[1]) {
+                l = bounds[1] + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(a, l, r);
+    }
+
+    /**
+     * Partition the array such that indices {@code k} correspond to their
+     * correctly sorted value in the equivalent fully sorted array.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param a Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param k Indices (may be destructively modified).
+     */
+    static void select(long[] a, int from, int to, int[] k) {
+        Arrays.sort(k);
+        select(a, from, to - 1, k, 0, k.length, maxDepth(to - from), new int[2]);
+    }
+
+    /**
+     * Partition the range {@code [l, r]} such that the sorted indices {@code k} in
+     * {@code [ka, kb)} correspond to their correctly sorted value.
+     *
+     * @param a Values.
+     * @param l Inclusive start of the range.
+     * @param r Inclusive end of the range.
+     * @param k Sorted indices.
+     * @param ka Inclusive start of the indices.
+     * @param kb Exclusive end of the indices.
+     * @param depth Remaining recursion depth.
+     * @param bounds Working space for the partition bounds.
+     */
+    private static void select(long[] a, int l, int r, int[] k, int ka, int kb, int depth, int[] bounds) {
+        int lo = l;
+        int hi = r;
+        int kl = ka;
+        int kr = kb;
+        int d = depth;
+        while (kl < kr) {
+            if (hi - lo < INSERTION_SORT_SIZE) {
+                insertionSort(a, lo, hi);
+                return;
+            }
+            if (--d < 0) {
+                Arrays.sort(a, lo, hi + 1);
+                return;
+            }
+            partition(a, lo, hi, bounds);
+            final int p0 = bounds[0];
+            final int p1 = bounds[1];
+            // Indices in [p0, p1] are sorted.
+            // Split into indices below and above the central partition.
+            final int m0 = searchIndex(k, kl, kr, p0);
+            final int m1 = searchIndex(k, m0, kr, p1 + 1);
+            // Recurse on the smaller number of indices and loop on the other
+            if (m0 - kl < kr - m1) {
+                select(a, lo, p0 - 1, k, kl, m0, d, bounds);
+                lo = p1 + 1;
+                kl = m1;
+            } else {
+                select(a, p1 + 1, hi, k, m1, kr, d, bounds);
+                hi = p0 - 1;
+                kr = m0;
+            }
+        }
+    }
+
+    /**
+     * Partition the range {@code [l, r]} around a pivot value {@code v}. On output
+     * the bounds {@code [p0, p1]} of the central partition are stored such that:
+     *
+     * <pre>{@code
+     * a[l, p0) < v
+     * a[p0, p1] == v
+     * a(p1, r] > v
+     * }</pre>
+     *
+     * @param a Values.
+     * @param l Inclusive start of the range.
+     * @param r Inclusive end of the range.
+     * @param bounds Partition bounds [p0, p1].
+     */
+    private static void partition(long[] a, int l, int r, int[] bounds) {
+        final long v = a[pivotIndex(a, l, r)];
+        // Dijkstra's 3-way partition
+        int lt = l;
+        int gt = r;
+        int i = l;
+        while (i <= gt) {
+            final long x = a[i];
+            if (x < v) {
+                a[i++] = a[lt];
+                a[lt++] = x;
+            } else if (x > v) {
+                a[i] = a[gt];
+                a[gt--] = x;
+            } else {
+                i++;
+            }
+        }
+        bounds[0] = lt;
+        bounds[1] = gt;
+    }
+
+    /**
+     * Gets the index of the pivot value for the range {@code [l, r]}.
+     * This is the median of 3 values, or for large ranges the median of the medians
+     * of 3 samples of 3 values (Tukey's ninther).
+     *
+     * @param a Values.
+     * @param l Inclusive start of the range.
+     * @param r Inclusive end of the range.
+     * @return the pivot index
+     */
+    private static int pivotIndex(long[] a, int l, int r) {
+        final int m = (l + r) >>> 1;
+        if (r - l < NINTHER_SIZE) {
+            return median3(a, l, m, r);
+        }
+        final int s = (r - l) >>> 3;
+        return median3(a,
+            median3(a, l, l + s, l + 2 * s),
+            median3(a, m - s, m, m + s),
+            median3(a, r - 2 * s, r - s, r));
+    }
+
+    /**
+     * Gets the index of the median of the values at the three indices.
+     *
+     * @param a Values.
+     * @param i Index.
+     * @param j Index.
+     * @param k Index.
+     * @return the index of the median
+     */
+    private static int median3(long[] a, int i, int j, int k) {
+        final long x = a[i];
+        final long y = a[j];
+        final long z = a[k];
+        if (x < y) {
+            if (y < z) {
+                return j;
+            }
+            return x < z ? k : i;
+        }
+        if (x < z) {
+            return i;
+        }
+        return y < z ? k : j;
+    }
+
+    /**
+     * Sort the range {@code [l, r]} using insertion sort.
+     *
+     * @param a Values.
+     * @param l Inclusive start of the range.
+     * @param r Inclusive end of the range.
+     */
+    private static void insertionSort(long[] a, int l, int r) {
+        for (int i = l; ++i <= r;) {
+            final long v = a[i];
+            int j = i;
+            while (--j >= l && v < a[j]) {
+                a[j + 1] = a[j];
+            }
+            a[j + 1] = v;
+        }
+    }
+
+    /**
+     * Partition the array such that index {@code k} corresponds to its
+     * correctly sorted value in the equivalent fully sorted array.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param a Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param k Index.
+     */
+    static void select(float[] a, int from, int to, int k) {
+        final int[] bounds = new int[2];
+        int l = from;
+        int r = to - 1;
+        int depth = maxDepth(to - from);
+        while (r - l >= INSERTION_SORT_SIZE) {
+            if (--depth < 0) {
+                Arrays.sort(a, l, r + 1);
+                return;
+            }
+            partition(a, l, r, bounds);
+            if (k < bounds[0]) {
+                r = bounds[0] - 1;
+            } else if (k > bounds[1]) {
+                l = bounds[1] + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(a, l, r);
+    }
+
+    /**
+     * Partition the array such that indices {@code k} correspond to their
+     * correctly sorted value in the equivalent fully sorted array.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param a Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param k Indices (may be destructively modified).
+     */
+    static void select(float[] a, int from, int to, int[] k) {
+        Arrays.sort(k);
+        select(a, from, to - 1, k, 0, k.length, maxDepth(to - from), new int[2]);
+    }
+
+    /**
+     * Partition the range {@code [l, r]} such that the sorted indices {@code k} in
+     * {@code [ka, kb)} correspond to their correctly sorted value.
+     *
+     * @param a Values.
+     * @param l Inclusive start of the range.
+     * @param r Inclusive end of the range.
+     * @param k Sorted indices.
+     * @param ka Inclusive start of the indices.
+     * @param kb Exclusive end of the indices.
+     * @param depth Remaining recursion depth.
+     * @param bounds Working space for the partition bounds.
+     */
+    private static void select(float[] a, int l, int r, int[] k, int ka, int kb, int depth, int[] bounds) {
+        int lo = l;
+        int hi = r;
+        int kl = ka;
+        int kr = kb;
+        int d = depth;
+        while (kl < kr) {
+            if (hi - lo < INSERTION_SORT_SIZE) {
+                insertionSort(a, lo, hi);
+                return;
+            }
+            if (--d < 0) {
+                Arrays.sort(a, lo, hi + 1);
+                return;
+            }
+            partition(a, lo, hi, bounds);
+            final int p0 = bounds[0];
+            final int p1 = bounds[1];
+            final int m0 = searchIndex(k, kl, kr, p0);
+            final int m1 = searchIndex(k, m0, kr, p1 + 1);
+            if (m0 - kl < kr - m1) {
+                select(a, lo, p0 - 1, k, kl, m0, d, bounds);
+                lo = p1 + 1;
+                kl = m1;
+            } else {
+                select(a, p1 + 1, hi, k, m1, kr, d, bounds);
+                hi = p0 - 1;
+                kr = m0;
+            }
+        }
+    }
+
+    /**
+     * Partition the range {@code [l, r]} around a pivot value {@code v}. On output
+     * the bounds {@code [p0, p1]} of the central partition are stored such that:
+     *
+     * <pre>{@code
+     * a[l, p0) < v
+     * a[p0, p1] == v
+     * a(p1, r] > v
+     * }</pre>
+     *
+     * <p>Values are compared using {@link #less(float, float)}.
+     *
+     * @param a Values.
+     * @param l Inclusive start of the range.
+     * @param r Inclusive end of the range.
+     * @param bounds Partition bounds [p0, p1].
+     */
+    private static void partition(float[] a, int l, int r, int[] bounds) {
+        final float v = a[pivotIndex(a, l, r)];
+        int lt = l;
+        int gt = r;
+        int i = l;
+        while (i <= gt) {
+            final float x = a[i];
+            if (less(x, v)) {
+                a[i++] = a[lt];
+                a[lt++] = x;
+            } else if (less(v, x)) {
+                a[i] = a[gt];
+                a[gt--] = x;
+            } else {
+                i++;
+            }
+        }
+        bounds[0] = lt;
+        bounds[1] = gt;
+    }
+
+    /**
+     * Gets the index of the pivot value for the range {@code [l, r]}.
+     *
+     * @param a Values.
+     * @param l Inclusive start of the range.
+     * @param r Inclusive end of the range.
+     * @return the pivot index
+     * @see #pivotIndex(long[], int, int)
+     */
+    private static int pivotIndex(float[] a, int l, int r) {
+        final int m = (l + r) >>> 1;
+        if (r - l < NINTHER_SIZE) {
+            return median3(a, l, m, r);
+        }
+        final int s = (r - l) >>> 3;
+        return median3(a,
+            median3(a, l, l + s, l + 2 * s),
+            median3(a, m - s, m, m + s),
+            median3(a, r - 2 * s, r - s, r));
+    }
+
+    /**
+     * Gets the index of the median of the values at the three indices.
+     *
+     * @param a Values.
+     * @param i Index.
+     * @param j Index.
+     * @param k Index.
+     * @return the index of the median
+     */
+    private static int median3(float[] a, int i, int j, int k) {
+        final float x = a[i];
+        final float y = a[j];
+        final float z = a[k];
+        if (less(x, y)) {
+            if (less(y, z)) {
+                return j;
+            }
+            return less(x, z) ? k : i;
+        }
+        if (less(x, z)) {
+            return i;
+        }
+        return less(y, z) ? k : j;
+    }
+
+    /**
+     * Sort the range {@code [l, r]} using insertion sort.
+     *
+     * @param a Values.
+     * @param l Inclusive start of the range.
+     * @param r Inclusive end of the range.
+     */
+    private static void insertionSort(float[] a, int l, int r) {
+        for (int i = l; ++i <= r;) {
+            final float v = a[i];
+            int j = i;
+            while (--j >= l && less(v, a[j])) {
+                a[j + 1] = a[j];
+            }
+            a[j + 1] = v;
+        }
+    }
+
+    /**
+     * Test if {@code x < y} using the ordering imposed by {@link Float#compare(float, float)}.
+     *
+     * @param x Value.
+     * @param y Value.
+     * @return true if {@code x < y}
+     */
+    private static boolean less(float x, float y) {
+        if (x < y) {
+            return true;
+        }
+        if (x == y) {
+            // Only -0.0 < 0.0 when equal
+            return Float.floatToRawIntBits(x) < Float.floatToRawIntBits(y);
+        }
+        // x > y, or either is NaN: NaN is above all non-NaN values
+        return y != y && x == x;
+    }
+
+    /**
+     * Partition the array such that index {@code k} corresponds to its
+     * correctly sorted value in the equivalent fully sorted array.
+     *
+     * <p>The indices of all values placed in their sorted position are recorded in
+     * the {@code sorted} set. This includes the central partition around each pivot
+     * and any range that is sorted. Indices are recorded relative to the
+     * {@code origin}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param a Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param k Index.
+     * @param sorted Indices of values in their sorted position.
+     * @param origin Origin of the recorded indices.
+     */
+    static void select(double[] a, int from, int to, int k, BitSet sorted, int origin) {
+        final int[] bounds = new int[2];
+        int l = from;
+        int r = to - 1;
+        int depth = maxDepth(to - from);
+        while (r - l >= INSERTION_SORT_SIZE) {
+            if (--depth < 0) {
+                Arrays.sort(a, l, r + 1);
+                sorted.set(l - origin, r + 1 - origin);
+                return;
+            }
+            partition(a, l, r, bounds);
+            sorted.set(bounds[0] - origin, bounds[1] + 1 - origin);
+            if (k < bounds[0]) {
+                r = bounds[0] - 1;
+            } else if (k > bounds[1]) {
+                l = bounds[1] + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(a, l, r);
+        sorted.set(l - origin, r + 1 - origin);
+    }
+
+    /**
+     * Partition the range {@code [l, r]} around a pivot value {@code v}. On output
+     * the bounds {@code [p0, p1]} of the central partition are stored such that:
+     *
+     * <pre>{@code
+     * a[l, p0) < v
+     * a[p0, p1] == v
+     * a(p1, r] > v
+     * }</pre>
+     *
+     * <p>Values are compared using {@link #less(double, double)}.
+     *
+     * @param a Values.
+     * @param l Inclusive start of the range.
+     * @param r Inclusive end of the range.
+     * @param bounds Partition bounds [p0, p1].
+     */
+    private static void partition(double[] a, int l, int r, int[] bounds) {
+        final double v = a[pivotIndex(a, l, r)];
+        int lt = l;
+        int gt = r;
+        int i = l;
+        while (i <= gt) {
+            final double x = a[i];
+            if (less(x, v)) {
+                a[i++] = a[lt];
+                a[lt++] = x;
+            } else if (less(v, x)) {
+                a[i] = a[gt];
+                a[gt--] = x;
+            } else {
+                i++;
+            }
+        }
+        bounds[0] = lt;
+        bounds[1] = gt;
+    }
+
+    /**
+     * Gets the index of the pivot value for the range {@code [l, r]}.
+     *
+     * @param a Values.
+     * @param l Inclusive start of the range.
+     * @param r Inclusive end of the range.
+     * @return the pivot index
+     * @see #pivotIndex(long[], int, int)
+     */
+    private static int pivotIndex(double[] a, int l, int r) {
+        final int m = (l + r) >>> 1;
+        if (r - l < NINTHER_SIZE) {
+            return median3(a, l, m, r);
+        }
+        final int s = (r - l) >>> 3;
+        return median3(a,
+            median3(a, l, l + s, l + 2 * s),
+            median3(a, m - s, m, m + s),
+            median3(a, r - 2 * s, r - s, r));
+    }
+
+    /**
+     * Gets the index of the median of the values at the three indices.
+     *
+     * @param a Values.
+     * @param i Index.
+     * @param j Index.
+     * @param k Index.
+     * @return the index of the median
+     */
+    private static int median3(double[] a, int i, int j, int k) {
+        final double x = a[i];
+        final double y = a[j];
+        final double z = a[k];
+        if (less(x, y)) {
+            if (less(y, z)) {
+                return j;
+            }
+            return less(x, z) ? k : i;
+        }
+        if (less(x, z)) {
+            return i;
+        }
+        return less(y, z) ? k : j;
+    }
+
+    /**
+     * Sort the range {@code [l, r]} using insertion sort.
+     *
+     * @param a Values.
+     * @param l Inclusive start of the range.
+     * @param r Inclusive end of the range.
+     */
+    private static void insertionSort(double[] a, int l, int r) {
+        for (int i = l; ++i <= r;) {
+            final double v = a[i];
+            int j = i;
+            while (--j >= l && less(v, a[j])) {
+                a[j + 1] = a[j];
+            }
+            a[j + 1] = v;
+        }
+    }
+
+    /**
+     * Test if {@code x < y} using the ordering imposed by {@link Double#compare(double, double)}.
+     *
+     * @param x Value.
+     * @param y Value.
+     * @return true if {@code x < y}
+     */
+    private static boolean less(double x, double y) {
+        if (x < y) {
+            return true;
+        }
+        if (x == y) {
+            // Only -0.0 < 0.0 when equal
+            return Double.doubleToRawLongBits(x) < Double.doubleToRawLongBits(y);
+        }
+        // x > y, or either is NaN: NaN is above all non-NaN values
+        return y != y && x == x;
+    }
+
+    /**
+     * Search the sorted indices in {@code [ka, kb)} for the first index that is
+     * {@code >= i}.
+     *
+     * @param k Sorted indices.
+     * @param ka Inclusive start of the indices.
+     * @param kb Exclusive end of the indices.
+     * @param i Index.
+     * @return the position of the first index {@code >= i}; or {@code kb}
+     */
+    private static int searchIndex(int[] k, int ka, int kb, int i) {
+        int lo = ka;
+        int hi = kb;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (k[mid] < i) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Gets the maximum recursion depth for a range of size {@code n}. This is
+     * {@code 2 * floor(log2(n))}.
+     *
+     * @param n Size of the range.
+     * @return the maximum depth
+     */
+    private static int maxDepth(int n) {
+        return (31 - Integer.numberOfLeadingZeros(Math.max(n, 1))) << 1;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+
+/**
+ * Least significant digit (LSD) radix sort for primitive arrays.
+ *
+ * <p>Values are mapped to unsigned keys that preserve the natural ordering and
+ * sorted using 8-bit digits. The counts of all digits are computed in a single
+ * pass over the data; a digit where all values share the same count is skipped.
+ * The sort requires working memory for a copy of the data.
+ *
+ * <p>The {@code double} implementation respects the ordering imposed by
+ * {@link Double#compare(double, double)}: {@code -0.0} is less than {@code 0.0}
+ * and {@code NaN} is greater than any other value. All {@code NaN} values are
+ * output as the canonical {@link Double#NaN}.
+ *
+ * @since 1.2
+ */
+final class RadixSort {
+    /** Minimum size of a range to sort using a radix sort. Smaller ranges
+     * are faster to sort using a comparison sort. */
+    static final int MIN_SIZE = 256;
+    /** Number of bits in a digit. */
+    private static final int DIGIT_BITS = 8;
+    /** Number of values of a digit. */
+    private static final int RADIX = 1 << DIGIT_BITS;
+    /** Mask to extract a digit. */
+    private static final int MASK = RADIX - 1;
+
+    /** No instances. */
+    private RadixSort() {}
+
+    /**
+     * Sort the range {@code [from, to)} of the array into ascending order.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param a Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     */
+    static void sort(double[] a, int from, int to) {
+        if (to - from < MIN_SIZE) {
+            Arrays.sort(a, from, to);
+            return;
+        }
+        final long[] keys = new long[to - from];
+        for (int i = from; i < to; i++) {
+            // Map to an unsigned key: flip all bits of negative values;
+            // flip the sign bit of positive values.
+            final long b = Double.doubleToLongBits(a[i]);
+            keys[i - from] = b ^ ((b >> 63) | Long.MIN_VALUE);
+        }
+        sort(keys);
+        for (int i = from; i < to; i++) {
+            final long k = keys[i - from];
+            a[i] = Double.longBitsToDouble(k < 0 ? k ^ Long.MIN_VALUE : ~k);
+        }
+    }
+
+    /**
+     * Sort the range {@code [from, to)} of the array into ascending order.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param a Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     */
+    static void sort(long[] a, int from, int to) {
+        if (to - from < MIN_SIZE) {
+            Arrays.sort(a, from, to);
+            return;
+        }
+        final long[] keys = new long[to - from];
+        for (int i = from; i < to; i++) {
+            keys[i - from] = a[i] ^ Long.MIN_VALUE;
+        }
+        sort(keys);
+        for (int i = from; i < to; i++) {
+            a[i] = keys[i - from] ^ Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Sort the range {@code [from, to)} of the array into ascending order.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param a Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     */
+    static void sort(int[] a, int from, int to) {
+        if (to - from < MIN_SIZE) {
+            Arrays.sort(a, from, to);
+            return;
+        }
+        final int n = to - from;
+        final int[] counts = new int[Integer.BYTES * RADIX];
+        for (int i = from; i < to; i++) {
+            final int k = a[i] ^ Integer.MIN_VALUE;
+            for (int d = 0; d < Integer.BYTES; d++) {
+                counts[(d << DIGIT_BITS) + ((k >>> (d * DIGIT_BITS)) & MASK)]++;
+            }
+        }
+        // Sort between the range and a buffer
+        int[] src = a;
+        int[] dst = new int[n];
+        int srcFrom = from;
+        int dstFrom = 0;
+        for (int d = 0; d < Integer.BYTES; d++) {
+            final int offset = d << DIGIT_BITS;
+            if (!toStarts(counts, offset, n)) {
+                continue;
+            }
+            final int shift = d * DIGIT_BITS;
+            for (int i = srcFrom, end = srcFrom + n; i < end; i++) {
+                final int v = src[i];
+                dst[dstFrom + counts[offset + (((v ^ Integer.MIN_VALUE) >>> shift) & MASK)]++] = v;
+            }
+            final int[] t = src;
+            src = dst;
+            dst = t;
+            final int f = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = f;
+        }
+        if (src != a) {
+            System.arraycopy(src, 0, a, from, n);
+        }
+    }
+
+    /**
+     * Sort the unsigned keys into ascending order.
+     *
+     * @param keys Keys.
+     */
+    private static void sort(long[] keys) {
+        final int n = keys.length;
+        final int[] counts = new int[Long.BYTES * RADIX];
+        for (final long k : keys) {
+            for (int d = 0; d < Long.BYTES; d++) {
+                counts[(d << DIGIT_BITS) + (int) ((k >>> (d * DIGIT_BITS)) & MASK)]++;
+            }
+        }
+        long[] src = keys;
+        long[] dst = new long[n];
+        for (int d = 0; d < Long.BYTES; d++) {
+            final int offset = d << DIGIT_BITS;
+            if (!toStarts(counts, offset, n)) {
+                continue;
+            }
+            final int shift = d * DIGIT_BITS;
+            for (final long k : src) {
+                dst[counts[offset + (int) ((k >>> shift) & MASK)]++] = k;
+            }
+            final long[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != keys) {
+            System.arraycopy(src, 0, keys, 0, n);
+        }
+    }
+
+    /**
+     * Convert the counts of each value of a digit to the start position of the
+     * value in the sorted output.
+     *
+     * @param counts Counts.
+     * @param offset Offset of the digit counts.
+     * @param n Number of values.
+     * @return false if all values have the same digit (the pass can be skipped)
+     */
+    private static boolean toStarts(int[] counts, int offset, int n) {
+        int sum = 0;
+        for (int i = offset, end = offset + RADIX; i < end; i++) {
+            final int c = counts[i];
+            if (c == n) {
+                return false;
+            }
+            counts[i] = sum;
+            sum += c;
+        }
+        return true;
+    }
+}
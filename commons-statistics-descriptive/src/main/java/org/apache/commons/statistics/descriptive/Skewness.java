@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Computes the skewness of the available values. The skewness is defined as:
  *
@@ -150,6 +152,24 @@ public final class Skewness implements DoubleStatistic, StatisticAccumulator<Ske
         return new Skewness(SumOfCubedDeviations.of(values));
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code Skewness} computed using {@link #accept(double) accept} may be
+     * different from this instance.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Skewness} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static Skewness ofRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return new Skewness(SumOfCubedDeviations.ofRange(values, from, to));
+    }
+
     /**
      * Returns an instance populated using the input {@code values}.
      *
@@ -163,6 +183,24 @@ public final class Skewness implements DoubleStatistic, StatisticAccumulator<Ske
         return new Skewness(SumOfCubedDeviations.of(values));
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code Skewness} computed using {@link #accept(double) accept} may be
+     * different from this instance.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Skewness} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static Skewness ofRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return new Skewness(SumOfCubedDeviations.ofRange(values, from, to));
+    }
+
     /**
      * Returns an instance populated using the input {@code values}.
      *
@@ -176,6 +214,24 @@ public final class Skewness implements DoubleStatistic, StatisticAccumulator<Ske
         return new Skewness(SumOfCubedDeviations.of(values));
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code Skewness} computed using {@link #accept(double) accept} may be
+     * different from this instance.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code Skewness} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static Skewness ofRange(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return new Skewness(SumOfCubedDeviations.ofRange(values, from, to));
+    }
+
     /**
      * Updates the state of the statistic to reflect the addition of {@code value}.
      *
@@ -186,6 +242,22 @@ public final class Skewness implements DoubleStatistic, StatisticAccumulator<Ske
         sc.accept(value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        sc.accept(values, from, to);
+    }
+
     /**
      * Gets the skewness of all input values.
      *
@@ -248,4 +320,60 @@ public final class Skewness implements DoubleStatistic, StatisticAccumulator<Ske
         biased = v;
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.SKEWNESS);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code Skewness} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code Skewness}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static Skewness readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.SKEWNESS);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        StatisticState.write(buffer, biased);
+        StatisticState.write(buffer, sc);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static Skewness read(ByteBuffer buffer) {
+        final boolean biased = StatisticState.readBoolean(buffer);
+        final Skewness s = new Skewness(StatisticState.readMoment(buffer, SumOfCubedDeviations.class, false));
+        s.biased = biased;
+        return s;
+    }
 }
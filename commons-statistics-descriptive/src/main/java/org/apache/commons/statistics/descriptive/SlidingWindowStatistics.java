@@ -0,0 +1,415 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Statistics for the most recent {@code double} values in a sliding window
+ * of fixed size.
+ *
+ * <p>The window retains the most recent values in a ring buffer. When the window
+ * is full the addition of a value evicts the oldest value. The statistics are
+ * updated in constant (amortised) time per value:
+ *
+ * <ul>
+ *   <li>{@link Statistic#MEAN MEAN}, {@link Statistic#VARIANCE VARIANCE} and
+ *       {@link Statistic#STANDARD_DEVIATION STANDARD_DEVIATION} reverse the updating
+ *       formula of the moments for the evicted value. To limit the accumulation of
+ *       round-off error the moments are recomputed from the window each time all
+ *       the values in the window have been replaced.
+ *   <li>{@link Statistic#MIN MIN} and {@link Statistic#MAX MAX} are maintained using a
+ *       monotonic queue of the candidate values in the window.
+ * </ul>
+ *
+ * <p>The result of each statistic is computed for the values in the window and
+ * matches the result of the corresponding statistic implementation (e.g. {@link Mean})
+ * to within round-off error. This includes the handling of non-finite values: the
+ * result is {@code NaN} if any value in the window is {@code NaN}; infinite values
+ * will result in an infinite or {@code NaN} result while they remain in the window.
+ * The {@link Statistic#VARIANCE VARIANCE} uses the bias-corrected sample variance.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link DoubleConsumer#accept(double) accept}
+ * method, it must be synchronized externally.
+ *
+ * @see DoubleStatistics
+ * @since 1.2
+ */
+public final class SlidingWindowStatistics implements DoubleConsumer {
+    /** Error message for an invalid window size. */
+    private static final String INVALID_WINDOW_SIZE = "Invalid window size: ";
+    /** Error message for an unsupported statistic. */
+    private static final String UNSUPPORTED_STATISTIC = "Unsupported statistic: ";
+
+    /** Ring buffer of values in the window. */
+    private final double[] values;
+    /** Index in the ring buffer of the next value. When the window is full this is the oldest value. */
+    private int head;
+    /** Number of values in the window. */
+    private int size;
+    /** Number of values evicted since the moments were computed from the window. */
+    private int evicted;
+    /** Moments of the finite values in the window. */
+    private SumOfSquaredDeviations moment = new SumOfSquaredDeviations();
+    /** Count of NaN values in the window. */
+    private int nanCount;
+    /** Count of positive infinite values in the window. */
+    private int positiveInfinityCount;
+    /** Count of negative infinite values in the window. */
+    private int negativeInfinityCount;
+    /** Queue of ring buffer indices of candidates for the minimum, in increasing order of value. */
+    private final int[] minQueue;
+    /** Index of the first element of the minimum queue. */
+    private int minHead;
+    /** Size of the minimum queue. */
+    private int minSize;
+    /** Queue of ring buffer indices of candidates for the maximum, in decreasing order of value. */
+    private final int[] maxQueue;
+    /** Index of the first element of the maximum queue. */
+    private int maxHead;
+    /** Size of the maximum queue. */
+    private int maxSize;
+
+    /**
+     * Create an instance.
+     *
+     * @param windowSize Window size.
+     */
+    private SlidingWindowStatistics(int windowSize) {
+        values = new double[windowSize];
+        minQueue = new int[windowSize];
+        maxQueue = new int[windowSize];
+    }
+
+    /**
+     * Creates an instance with the specified window size.
+     *
+     * <p>The initial window is empty.
+     *
+     * @param windowSize Window size.
+     * @return {@code SlidingWindowStatistics} instance.
+     * @throws IllegalArgumentException if {@code windowSize < 1}
+     */
+    public static SlidingWindowStatistics create(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException(INVALID_WINDOW_SIZE + windowSize);
+        }
+        return new SlidingWindowStatistics(windowSize);
+    }
+
+    /**
+     * Updates the state of the statistics to reflect the addition of {@code value}.
+     * If the window is full the oldest value is removed.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(double value) {
+        final double[] x = values;
+        final int i = head;
+        if (size == x.length) {
+            evict(i);
+        } else {
+            size++;
+        }
+        x[i] = value;
+        add(i, value);
+        head = next(i);
+        if (evicted == x.length) {
+            recomputeMoment();
+        }
+    }
+
+    /**
+     * Updates the state of the statistics to reflect the addition of the values
+     * in the specified range {@code [from, to)}.
+     *
+     * <p>This is equivalent to calling {@link #accept(double)} for each value in the range.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            accept(values[i]);
+        }
+    }
+
+    /**
+     * Removes the oldest value in the window.
+     *
+     * @param i Index of the oldest value.
+     */
+    private void evict(int i) {
+        final double value = values[i];
+        // Remove from the head of the queues
+        if (minSize != 0 && minQueue[minHead] == i) {
+            minHead = next(minHead);
+            minSize--;
+        }
+        if (maxSize != 0 && maxQueue[maxHead] == i) {
+            maxHead = next(maxHead);
+            maxSize--;
+        }
+        if (Double.isFinite(value)) {
+            moment.remove(value);
+        } else {
+            updateNonFiniteCount(value, -1);
+        }
+        evicted++;
+    }
+
+    /**
+     * Adds the value stored at the index in the ring buffer.
+     *
+     * @param i Index of the value.
+     * @param value Value.
+     */
+    private void add(int i, double value) {
+        if (Double.isFinite(value)) {
+            moment.accept(value);
+        } else {
+            updateNonFiniteCount(value, 1);
+            if (value != value) {
+                // NaN is handled by count
+                return;
+            }
+        }
+        // Remove candidates from the tail of the queues that can no longer be the extreme.
+        // Double.compare orders -0.0 below 0.0 to match Math.min and Math.max.
+        final double[] x = values;
+        final int[] q1 = minQueue;
+        while (minSize != 0 && Double.compare(x[q1[tail(minHead, minSize)]], value) >= 0) {
+            minSize--;
+        }
+        q1[tail(minHead, ++minSize)] = i;
+        final int[] q2 = maxQueue;
+        while (maxSize != 0 && Double.compare(x[q2[tail(maxHead, maxSize)]], value) <= 0) {
+            maxSize--;
+        }
+        q2[tail(maxHead, ++maxSize)] = i;
+    }
+
+    /**
+     * Update the count of non-finite values.
+     *
+     * @param value Value.
+     * @param delta Change to the count.
+     */
+    private void updateNonFiniteCount(double value, int delta) {
+        if (value == Double.POSITIVE_INFINITY) {
+            positiveInfinityCount += delta;
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            negativeInfinityCount += delta;
+        } else {
+            nanCount += delta;
+        }
+    }
+
+    /**
+     * Recompute the moments from the values in the window. This removes round-off
+     * error accumulated by repeated removal of values.
+     */
+    private void recomputeMoment() {
+        final SumOfSquaredDeviations m = new SumOfSquaredDeviations();
+        final double[] x = values;
+        // The window is full: the oldest value is at the head
+        for (int i = head; i < x.length; i++) {
+            acceptFinite(m, x[i]);
+        }
+        for (int i = 0; i < head; i++) {
+            acceptFinite(m, x[i]);
+        }
+        moment = m;
+        evicted = 0;
+    }
+
+    /**
+     * Add the value to the moment if it is finite.
+     *
+     * @param m Moment.
+     * @param value Value.
+     */
+    private static void acceptFinite(SumOfSquaredDeviations m, double value) {
+        if (Double.isFinite(value)) {
+            m.accept(value);
+        }
+    }
+
+    /**
+     * Gets the index following {@code i} in a queue.
+     *
+     * @param i Index.
+     * @return the next index
+     */
+    private int next(int i) {
+        return i + 1 == values.length ? 0 : i + 1;
+    }
+
+    /**
+     * Gets the index of the last element in a queue.
+     *
+     * @param start Index of the first element.
+     * @param n Size of the queue (must be positive).
+     * @return the index of the last element
+     */
+    private int tail(int start, int n) {
+        final int i = start + n - 1;
+        return i >= values.length ? i - values.length : i;
+    }
+
+    /**
+     * Gets the number of values in the window.
+     *
+     * @return the count
+     */
+    public int getCount() {
+        return size;
+    }
+
+    /**
+     * Gets the size of the window.
+     *
+     * @return the window size
+     */
+    public int getWindowSize() {
+        return values.length;
+    }
+
+    /**
+     * Check if the specified {@code statistic} is supported.
+     *
+     * <p>The supported statistics are {@link Statistic#MIN MIN}, {@link Statistic#MAX MAX},
+     * {@link Statistic#MEAN MEAN}, {@link Statistic#VARIANCE VARIANCE} and
+     * {@link Statistic#STANDARD_DEVIATION STANDARD_DEVIATION}.
+     *
+     * <p>Note: This method will not return {@code false} if the argument is {@code null}.
+     *
+     * @param statistic Statistic.
+     * @return {@code true} if supported
+     * @throws NullPointerException if the {@code statistic} is {@code null}
+     * @see #getAsDouble(Statistic)
+     */
+    public boolean isSupported(Statistic statistic) {
+        switch (statistic) {
+        case MAX:
+        case MEAN:
+        case MIN:
+        case STANDARD_DEVIATION:
+        case VARIANCE:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Gets the value of the specified {@code statistic} as a {@code double}
+     * for the values in the window.
+     *
+     * @param statistic Statistic.
+     * @return the value
+     * @throws IllegalArgumentException if the {@code statistic} is not supported
+     * @see #isSupported(Statistic)
+     */
+    public double getAsDouble(Statistic statistic) {
+        switch (statistic) {
+        case MAX:
+            return getMax();
+        case MEAN:
+            return getMean();
+        case MIN:
+            return getMin();
+        case STANDARD_DEVIATION:
+            return Math.sqrt(getVariance());
+        case VARIANCE:
+            return getVariance();
+        default:
+            throw new IllegalArgumentException(UNSUPPORTED_STATISTIC + statistic);
+        }
+    }
+
+    /**
+     * Gets the minimum of the window.
+     *
+     * @return the minimum
+     */
+    private double getMin() {
+        if (nanCount != 0) {
+            return Double.NaN;
+        }
+        return minSize == 0 ? Double.POSITIVE_INFINITY : values[minQueue[minHead]];
+    }
+
+    /**
+     * Gets the maximum of the window.
+     *
+     * @return the maximum
+     */
+    private double getMax() {
+        if (nanCount != 0) {
+            return Double.NaN;
+        }
+        return maxSize == 0 ? Double.NEGATIVE_INFINITY : values[maxQueue[maxHead]];
+    }
+
+    /**
+     * Gets the mean of the window.
+     *
+     * @return the mean
+     */
+    private double getMean() {
+        if (nanCount != 0) {
+            return Double.NaN;
+        }
+        if (positiveInfinityCount != 0) {
+            return negativeInfinityCount != 0 ? Double.NaN : Double.POSITIVE_INFINITY;
+        }
+        if (negativeInfinityCount != 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return moment.getFirstMoment();
+    }
+
+    /**
+     * Gets the variance of the window.
+     *
+     * @return the variance
+     */
+    private double getVariance() {
+        if ((nanCount | positiveInfinityCount | negativeInfinityCount) != 0) {
+            return Double.NaN;
+        }
+        // Note: The SS checks for n=0 and returns NaN.
+        final double m2 = moment.getSumOfSquaredDeviations();
+        if (!Double.isFinite(m2)) {
+            return Double.NaN;
+        }
+        final long n = moment.n;
+        // Avoid a divide by zero
+        if (n == 1) {
+            return 0;
+        }
+        // Removal of values may create a small negative round-off error
+        return Math.max(0, m2) / (n - 1);
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Computes the standard deviation of the available values. The default implementations uses
  * the following definition of the <em>sample standard deviation</em>:
@@ -141,6 +143,26 @@ public final class StandardDeviation implements DoubleStatistic, StatisticAccumu
         return new StandardDeviation(SumOfSquaredDeviations.of(values));
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code StandardDeviation} computed using {@link #accept(double) accept} may be
+     * different from this standard deviation.
+     *
+     * <p>See {@link StandardDeviation} for details on the computing algorithm.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code StandardDeviation} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static StandardDeviation ofRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return new StandardDeviation(SumOfSquaredDeviations.ofRange(values, from, to));
+    }
+
     /**
      * Updates the state of the statistic to reflect the addition of {@code value}.
      *
@@ -151,6 +173,22 @@ public final class StandardDeviation implements DoubleStatistic, StatisticAccumu
         ss.accept(value);
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        ss.accept(values, from, to);
+    }
+
     /**
      * Gets the standard deviation of all input values.
      *
@@ -199,4 +237,60 @@ public final class StandardDeviation implements DoubleStatistic, StatisticAccumu
         biased = v;
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.STANDARD_DEVIATION);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code StandardDeviation} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code StandardDeviation}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static StandardDeviation readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.STANDARD_DEVIATION);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        StatisticState.write(buffer, biased);
+        StatisticState.write(buffer, ss);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static StandardDeviation read(ByteBuffer buffer) {
+        final boolean biased = StatisticState.readBoolean(buffer);
+        final StandardDeviation s = new StandardDeviation(StatisticState.readMoment(buffer, SumOfSquaredDeviations.class, false));
+        s.biased = biased;
+        return s;
+    }
 }
@@ -54,5 +54,15 @@ public enum Statistic {
     /** Sum of the squared values. */
     SUM_OF_SQUARES,
     /** Geometric mean. */
-    GEOMETRIC_MEAN
+    GEOMETRIC_MEAN,
+    /**
+     * Estimated number of distinct values.
+     *
+     * <p>This is supported for {@code int} and {@code long} values. It is not
+     * supported for {@code double} values: {@link DoubleStatistics} raises an
+     * exception if this statistic is requested.
+     *
+     * @since 1.2
+     */
+    DISTINCT_COUNT
 }
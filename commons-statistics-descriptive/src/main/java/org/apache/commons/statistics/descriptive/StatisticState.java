@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Support for the binary state of a statistic.
+ *
+ * <p>The state is written as a header followed by the fields of the statistic. The
+ * header is a version byte and a type byte identifying the statistic. The fields
+ * are written using the {@link ByteBuffer} methods for primitive values and so use
+ * the {@link ByteBuffer#order() byte order} of the buffer. The state of a statistic
+ * that is a component of another statistic (e.g. {@link DoubleStatistics}) is written
+ * without a header.
+ *
+ * <p>Extended precision accumulators are written exactly: {@link Int128},
+ * {@link UInt128} and {@link UInt192} values are written as 64-bit words;
+ * a {@link org.apache.commons.numbers.core.Sum} is written as the double-double
+ * representation of the compensated sum.
+ *
+ * @since 1.2
+ */
+final class StatisticState {
+    /** Version of the binary format. */
+    static final int VERSION = 1;
+
+    // Type of each statistic. Values must not be changed.
+
+    /** Type of {@link Min}. */
+    static final int MIN = 1;
+    /** Type of {@link Max}. */
+    static final int MAX = 2;
+    /** Type of {@link Sum}. */
+    static final int SUM = 3;
+    /** Type of {@link Product}. */
+    static final int PRODUCT = 4;
+    /** Type of {@link SumOfSquares}. */
+    static final int SUM_OF_SQUARES = 5;
+    /** Type of {@link SumOfLogs}. */
+    static final int SUM_OF_LOGS = 6;
+    /** Type of {@link GeometricMean}. */
+    static final int GEOMETRIC_MEAN = 7;
+    /** Type of {@link Mean}. */
+    static final int MEAN = 8;
+    /** Type of {@link Variance}. */
+    static final int VARIANCE = 9;
+    /** Type of {@link StandardDeviation}. */
+    static final int STANDARD_DEVIATION = 10;
+    /** Type of {@link Skewness}. */
+    static final int SKEWNESS = 11;
+    /** Type of {@link Kurtosis}. */
+    static final int KURTOSIS = 12;
+    /** Type of {@link IntMin}. */
+    static final int INT_MIN = 21;
+    /** Type of {@link IntMax}. */
+    static final int INT_MAX = 22;
+    /** Type of {@link IntSum}. */
+    static final int INT_SUM = 23;
+    /** Type of {@link IntSumOfSquares}. */
+    static final int INT_SUM_OF_SQUARES = 24;
+    /** Type of {@link IntMean}. */
+    static final int INT_MEAN = 25;
+    /** Type of {@link IntVariance}. */
+    static final int INT_VARIANCE = 26;
+    /** Type of {@link IntStandardDeviation}. */
+    static final int INT_STANDARD_DEVIATION = 27;
+    /** Type of {@link IntDistinctCount}. */
+    static final int INT_DISTINCT_COUNT = 28;
+    /** Type of {@link LongMin}. */
+    static final int LONG_MIN = 31;
+    /** Type of {@link LongMax}. */
+    static final int LONG_MAX = 32;
+    /** Type of {@link LongSum}. */
+    static final int LONG_SUM = 33;
+    /** Type of {@link LongSumOfSquares}. */
+    static final int LONG_SUM_OF_SQUARES = 34;
+    /** Type of {@link LongMean}. */
+    static final int LONG_MEAN = 35;
+    /** Type of {@link LongVariance}. */
+    static final int LONG_VARIANCE = 36;
+    /** Type of {@link LongStandardDeviation}. */
+    static final int LONG_STANDARD_DEVIATION = 37;
+    /** Type of {@link LongDistinctCount}. */
+    static final int LONG_DISTINCT_COUNT = 38;
+    /** Type of {@link DoubleStatistics}. */
+    static final int DOUBLE_STATISTICS = 41;
+    /** Type of {@link IntStatistics}. */
+    static final int INT_STATISTICS = 42;
+    /** Type of {@link LongStatistics}. */
+    static final int LONG_STATISTICS = 43;
+
+    /** Error message for an unsupported version. */
+    private static final String UNSUPPORTED_VERSION = "Unsupported state version: ";
+    /** Error message for an invalid type. */
+    private static final String INVALID_TYPE = "Invalid state type: ";
+    /** Error message for an invalid moment. */
+    private static final String INVALID_MOMENT = "Invalid moment order: ";
+
+    /** No instances. */
+    private StatisticState() {}
+
+    /**
+     * Writes the header for the statistic.
+     *
+     * @param buffer Buffer.
+     * @param type Type of the statistic.
+     */
+    static void writeHeader(ByteBuffer buffer, int type) {
+        buffer.put((byte) VERSION).put((byte) type);
+    }
+
+    /**
+     * Reads the header for the statistic.
+     *
+     * @param buffer Buffer.
+     * @param type Expected type of the statistic.
+     * @throws IllegalArgumentException if the version is not supported or the type
+     * does not match
+     */
+    static void readHeader(ByteBuffer buffer, int type) {
+        final int version = buffer.get() & 0xff;
+        if (version != VERSION) {
+            throw new IllegalArgumentException(UNSUPPORTED_VERSION + version);
+        }
+        final int t = buffer.get() & 0xff;
+        if (t != type) {
+            throw new IllegalArgumentException(INVALID_TYPE + t + " != " + type);
+        }
+    }
+
+    /**
+     * Create flags with bit {@code i} set if the {@code i}-th component is not null.
+     *
+     * @param components Components.
+     * @return the flags
+     */
+    static int flags(Object... components) {
+        int flags = 0;
+        for (int i = 0; i < components.length; i++) {
+            if (components[i] != null) {
+                flags |= 1 << i;
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Test if bit {@code i} of the flags is set.
+     *
+     * @param flags Flags.
+     * @param i Bit index.
+     * @return true if set
+     */
+    static boolean isSet(int flags, int i) {
+        return (flags & (1 << i)) != 0;
+    }
+
+    /**
+     * Writes the boolean.
+     *
+     * @param buffer Buffer.
+     * @param v Value.
+     */
+    static void write(ByteBuffer buffer, boolean v) {
+        buffer.put((byte) (v ? 1 : 0));
+    }
+
+    /**
+     * Reads the boolean.
+     *
+     * @param buffer Buffer.
+     * @return the value
+     */
+    static boolean readBoolean(ByteBuffer buffer) {
+        return buffer.get() != 0;
+    }
+
+    /**
+     * Writes the sum.
+     *
+     * @param buffer Buffer.
+     * @param s Sum.
+     */
+    static void write(ByteBuffer buffer, org.apache.commons.numbers.core.Sum s) {
+        // The sum is a double-double (hi, lo) with |lo| <= ulp(hi) / 2.
+        // Compute the low part as the residual from the high part.
+        // A non-finite sum has no low part.
+        final double hi = s.getAsDouble();
+        final double lo = Double.isFinite(hi) ?
+            org.apache.commons.numbers.core.Sum.create().add(s).add(-hi).getAsDouble() :
+            0;
+        buffer.putDouble(hi).putDouble(lo);
+    }
+
+    /**
+     * Reads the sum.
+     *
+     * @param buffer Buffer.
+     * @return the sum
+     */
+    static org.apache.commons.numbers.core.Sum readSum(ByteBuffer buffer) {
+        final double hi = buffer.getDouble();
+        final double lo = buffer.getDouble();
+        return org.apache.commons.numbers.core.Sum.of(hi).add(lo);
+    }
+
+    /**
+     * Writes the integer.
+     *
+     * @param buffer Buffer.
+     * @param x Value.
+     */
+    static void write(ByteBuffer buffer, Int128 x) {
+        buffer.putLong(x.hi64()).putLong(x.lo64());
+    }
+
+    /**
+     * Reads the integer.
+     *
+     * @param buffer Buffer.
+     * @return the value
+     */
+    static Int128 readInt128(ByteBuffer buffer) {
+        final long hi = buffer.getLong();
+        return new Int128(hi, buffer.getLong());
+    }
+
+    /**
+     * Writes the integer.
+     *
+     * @param buffer Buffer.
+     * @param x Value.
+     */
+    static void write(ByteBuffer buffer, UInt128 x) {
+        buffer.putLong(x.hi64()).putLong(x.lo64());
+    }
+
+    /**
+     * Reads the integer.
+     *
+     * @param buffer Buffer.
+     * @return the value
+     */
+    static UInt128 readUInt128(ByteBuffer buffer) {
+        final long hi = buffer.getLong();
+        return new UInt128(hi, buffer.getLong());
+    }
+
+    /**
+     * Writes the integer.
+     *
+     * @param buffer Buffer.
+     * @param x Value.
+     */
+    static void write(ByteBuffer buffer, UInt192 x) {
+        buffer.putLong(x.hi64()).putLong(x.mid64()).putLong(x.lo64());
+    }
+
+    /**
+     * Reads the integer.
+     *
+     * @param buffer Buffer.
+     * @return the value
+     */
+    static UInt192 readUInt192(ByteBuffer buffer) {
+        final long hi = buffer.getLong();
+        final long mid = buffer.getLong();
+        return new UInt192(hi, mid, buffer.getLong());
+    }
+
+    /**
+     * Writes the moment. The order of the moment is written before the state so that
+     * the moment is restored using the same class.
+     *
+     * @param buffer Buffer.
+     * @param m Moment (can be null).
+     */
+    static void write(ByteBuffer buffer, FirstMoment m) {
+        final int order;
+        if (m == null) {
+            order = 0;
+        } else if (m instanceof SumOfFourthDeviations) {
+            order = 4;
+        } else if (m instanceof SumOfCubedDeviations) {
+            order = 3;
+        } else if (m instanceof SumOfSquaredDeviations) {
+            order = 2;
+        } else {
+            order = 1;
+        }
+        buffer.put((byte) order);
+        if (m != null) {
+            m.write(buffer);
+        }
+    }
+
+    /**
+     * Reads the moment.
+     *
+     * @param <T> the type of the moment
+     * @param buffer Buffer.
+     * @param type Required type of the moment.
+     * @param allowNull Set to true to allow a null moment.
+     * @return the moment
+     * @throws IllegalArgumentException if the moment is not the required type
+     */
+    static <T extends FirstMoment> T readMoment(ByteBuffer buffer, Class<T> type, boolean allowNull) {
+        final int order = buffer.get();
+        final FirstMoment m;
+        switch (order) {
+        case 0:
+            m = null;
+            break;
+        case 1:
+            m = new FirstMoment();
+            break;
+        case 2:
+            m = new SumOfSquaredDeviations();
+            break;
+        case 3:
+            m = new SumOfCubedDeviations();
+            break;
+        case 4:
+            m = new SumOfFourthDeviations();
+            break;
+        default:
+            throw new IllegalArgumentException(INVALID_MOMENT + order);
+        }
+        if (m == null) {
+            if (allowNull) {
+                return null;
+            }
+            throw new IllegalArgumentException(INVALID_MOMENT + order);
+        }
+        if (!type.isInstance(m)) {
+            throw new IllegalArgumentException(INVALID_MOMENT + order);
+        }
+        m.read(buffer);
+        return type.cast(m);
+    }
+}
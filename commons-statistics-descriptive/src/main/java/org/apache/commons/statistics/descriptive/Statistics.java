@@ -16,6 +16,10 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
 import java.util.function.DoubleConsumer;
 import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
@@ -70,6 +74,99 @@ final class Statistics {
 
     /** Error message for an incompatible statistics. */
     private static final String INCOMPATIBLE_STATISTICS = "Incompatible statistics";
+    /** Error message for an invalid sub-range. */
+    private static final String INVALID_RANGE = "Range [%d, %d) out of bounds for length %d";
+    /** Error message for an invalid smoothing factor. */
+    private static final String INVALID_SMOOTHING_FACTOR = "Invalid smoothing factor: ";
+    /** Error message for an invalid half-life. */
+    private static final String INVALID_HALF_LIFE = "Invalid half-life: ";
+    /** Error message for an invalid weight. */
+    private static final String INVALID_WEIGHT = "Invalid weight: ";
+    /** Error message for mismatched values and weights. */
+    private static final String WEIGHTS_LENGTH_MISMATCH = "Values and weights length mismatch: %d != %d";
+    /** Error message for mismatched paired values. */
+    private static final String PAIRED_LENGTH_MISMATCH = "Paired values length mismatch: %d != %d";
+    /** ln(2). */
+    private static final double LN2 = 0.6931471805599453;
+    /** Minimum length of a range of values processed by a single parallel task.
+     * This is the same granularity used by {@link java.util.Arrays#parallelSort(double[])}. */
+    private static final int MIN_PARALLEL_GRANULARITY = 1 << 13;
+
+    /**
+     * Represents a function that accepts a range of values from an array and produces a result.
+     *
+     * @param <T> Type of the array of values.
+     * @param <R> Type of the result.
+     */
+    @FunctionalInterface
+    interface RangeFunction<T, R> {
+        /**
+         * Applies this function to the range {@code [from, to)} of the {@code values}.
+         *
+         * @param values Values.
+         * @param from Inclusive start of the range.
+         * @param to Exclusive end of the range.
+         * @return the result
+         */
+        R apply(T values, int from, int to);
+    }
+
+    /**
+     * A fork-join task to compute a result from a range of values. The range is recursively
+     * split in half until it is no larger than the granularity. The results for each
+     * sub-range are merged using the combiner.
+     *
+     * @param <T> Type of the array of values.
+     * @param <R> Type of the result.
+     */
+    private static final class RangeTask<T, R> extends RecursiveTask<R> {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20240916L;
+
+        /** Values. */
+        private final T values;
+        /** Inclusive start of the range. */
+        private final int from;
+        /** Exclusive end of the range. */
+        private final int to;
+        /** Maximum length of a range to process without further division. */
+        private final int granularity;
+        /** Function to compute a result from a range. */
+        private final RangeFunction<T, R> function;
+        /** Function to combine two results. */
+        private final BinaryOperator<R> combiner;
+
+        /**
+         * @param values Values.
+         * @param from Inclusive start of the range.
+         * @param to Exclusive end of the range.
+         * @param granularity Maximum length of a range to process without further division.
+         * @param function Function to compute a result from a range.
+         * @param combiner Function to combine two results.
+         */
+        RangeTask(T values, int from, int to, int granularity,
+                  RangeFunction<T, R> function, BinaryOperator<R> combiner) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.granularity = granularity;
+            this.function = function;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= granularity) {
+                return function.apply(values, from, to);
+            }
+            // Split in half. Equal sizes allow optimisations when combining moments.
+            final int mid = (from + to) >>> 1;
+            final RangeTask<T, R> left = new RangeTask<>(values, from, mid, granularity, function, combiner);
+            left.fork();
+            final R right = new RangeTask<>(values, mid, to, granularity, function, combiner).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
 
     /** No instances. */
     private Statistics() {}
@@ -149,6 +246,249 @@ final class Statistics {
         return statistic;
     }
 
+    /**
+     * Add the {@code values} in the range {@code [from, to)} to the {@code statistic}.
+     *
+     * @param <T> Type of the statistic
+     * @param statistic Statistic.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the statistic
+     */
+    static <T extends DoubleConsumer> T add(T statistic, double[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            statistic.accept(values[i]);
+        }
+        return statistic;
+    }
+
+    /**
+     * Add the {@code values} in the range {@code [from, to)} to the {@code statistic}.
+     *
+     * @param <T> Type of the statistic
+     * @param statistic Statistic.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the statistic
+     */
+    static <T extends DoubleConsumer> T add(T statistic, int[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            statistic.accept(values[i]);
+        }
+        return statistic;
+    }
+
+    /**
+     * Add the {@code values} in the range {@code [from, to)} to the {@code statistic}.
+     *
+     * @param <T> Type of the statistic
+     * @param statistic Statistic.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the statistic
+     */
+    static <T extends DoubleConsumer> T add(T statistic, long[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            statistic.accept(values[i]);
+        }
+        return statistic;
+    }
+
+    /**
+     * Add the {@code values} in the range {@code [from, to)} to the {@code statistic}.
+     *
+     * @param <T> Type of the statistic
+     * @param statistic Statistic.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the statistic
+     */
+    static <T extends IntConsumer> T add(T statistic, int[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            statistic.accept(values[i]);
+        }
+        return statistic;
+    }
+
+    /**
+     * Add the {@code values} in the range {@code [from, to)} to the {@code statistic}.
+     *
+     * @param <T> Type of the statistic
+     * @param statistic Statistic.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the statistic
+     */
+    static <T extends LongConsumer> T add(T statistic, long[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            statistic.accept(values[i]);
+        }
+        return statistic;
+    }
+
+    /**
+     * Checks if the sub-range from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+     * is within the bounds of range from {@code 0} (inclusive) to {@code length} (exclusive).
+     *
+     * <p>This function provides the functionality of
+     * {@code java.util.Objects.checkFromToIndex} introduced in JDK 9. The <a
+     * href="https://docs.oracle.com/javase/9/docs/api/java/util/Objects.html#checkFromToIndex-int-int-int-">Objects</a>
+     * javadoc has been reproduced for reference.
+     *
+     * <p>The sub-range is defined to be out of bounds if any of the following inequalities
+     * is true:
+     * <ul>
+     * <li>{@code fromIndex < 0}
+     * <li>{@code fromIndex > toIndex}
+     * <li>{@code toIndex > length}
+     * <li>{@code length < 0}, which is implied from the former inequalities
+     * </ul>
+     *
+     * @param fromIndex Lower-bound (inclusive) of the sub-range.
+     * @param toIndex Upper-bound (exclusive) of the sub-range.
+     * @param length Upper-bound (exclusive) of the range.
+     * @return fromIndex if the sub-range is within the bounds of the range
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    static int checkFromToIndex(int fromIndex, int toIndex, int length) {
+        // Checks as documented above
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > length) {
+            throw new IndexOutOfBoundsException(
+                String.format(INVALID_RANGE, fromIndex, toIndex, length));
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Checks the weight is finite and non-negative.
+     *
+     * @param w Weight.
+     * @return the weight
+     * @throws IllegalArgumentException if the weight is negative, infinite or {@code NaN}
+     */
+    static double checkWeight(double w) {
+        // Logic negation will detect NaN
+        if (!(w >= 0 && w < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException(INVALID_WEIGHT + w);
+        }
+        return w;
+    }
+
+    /**
+     * Checks the values and weights have the same length.
+     *
+     * @param values Values.
+     * @param weights Weights.
+     * @throws IllegalArgumentException if the lengths are different
+     */
+    static void checkWeightsLength(double[] values, double[] weights) {
+        if (values.length != weights.length) {
+            throw new IllegalArgumentException(
+                String.format(WEIGHTS_LENGTH_MISMATCH, values.length, weights.length));
+        }
+    }
+
+    /**
+     * Checks the lengths of paired {@code (x, y)} values are the same.
+     *
+     * @param xLength Length of the x values.
+     * @param yLength Length of the y values.
+     * @throws IllegalArgumentException if the lengths are different
+     */
+    static void checkPairedLength(int xLength, int yLength) {
+        if (xLength != yLength) {
+            throw new IllegalArgumentException(
+                String.format(PAIRED_LENGTH_MISMATCH, xLength, yLength));
+        }
+    }
+
+    /**
+     * Checks the smoothing factor of an exponentially weighted statistic is in the
+     * range {@code (0, 1]}.
+     *
+     * @param alpha Smoothing factor.
+     * @return the smoothing factor
+     * @throws IllegalArgumentException if {@code alpha} is not in the range {@code (0, 1]}
+     */
+    static double checkSmoothingFactor(double alpha) {
+        // Logic negation will detect NaN
+        if (!(alpha > 0 && alpha <= 1)) {
+            throw new IllegalArgumentException(INVALID_SMOOTHING_FACTOR + alpha);
+        }
+        return alpha;
+    }
+
+    /**
+     * Computes the smoothing factor of an exponentially weighted statistic from the
+     * half-life {@code h}: {@code alpha = 1 - 2^(-1/h)}.
+     *
+     * @param halfLife Half-life.
+     * @return the smoothing factor
+     * @throws IllegalArgumentException if {@code halfLife} is not finite and strictly positive
+     */
+    static double smoothingFactor(double halfLife) {
+        // Logic negation will detect NaN
+        if (!(halfLife > 0 && halfLife < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException(INVALID_HALF_LIFE + halfLife);
+        }
+        // Use expm1 for accuracy with a large half-life.
+        // Note: ln(2) / MAX_VALUE is non-zero so the result is in (0, 1].
+        return -Math.expm1(-LN2 / halfLife);
+    }
+
+    /**
+     * Compute the extended precision sum of the {@code values} in the range {@code [from, to)}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the sum
+     */
+    static org.apache.commons.numbers.core.Sum sum(double[] values, int from, int to) {
+        return add(org.apache.commons.numbers.core.Sum.create(), values, from, to);
+    }
+
+    /**
+     * Compute the result of the {@code function} applied to the range {@code [from, to)}
+     * of the {@code values} using parallel fork-join tasks.
+     *
+     * <p>The range is divided into sub-ranges that are processed by the {@code function}
+     * and the partial results are merged using the {@code combiner}. Small ranges, or
+     * computation with a parallelism of 1, are processed using a single application of
+     * the {@code function} in the calling thread.
+     *
+     * <p>If called from within a {@link ForkJoinPool} the tasks are executed in that
+     * pool; otherwise the {@link ForkJoinPool#commonPool() common pool} is used.
+     *
+     * @param <T> Type of the array of values.
+     * @param <R> Type of the result.
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param function Function to compute a result from a range.
+     * @param combiner Function to combine two results.
+     * @return the result
+     */
+    static <T, R> R evaluateInParallel(T values, int from, int to,
+            RangeFunction<T, R> function, BinaryOperator<R> combiner) {
+        final int length = to - from;
+        final ForkJoinPool pool = ForkJoinTask.inForkJoinPool() ?
+            ForkJoinTask.getPool() :
+            ForkJoinPool.commonPool();
+        final int p = pool.getParallelism();
+        // Target 4 tasks per thread to allow work stealing to balance the load
+        final int granularity = Math.max(length / (p << 2), MIN_PARALLEL_GRANULARITY);
+        if (p == 1 || length <= granularity) {
+            return function.apply(values, from, to);
+        }
+        return pool.invoke(new RangeTask<>(values, from, to, granularity, function, combiner));
+    }
+
     /**
      * Returns {@code true} if the second central moment {@code m2} is effectively
      * zero given the magnitude of the first raw moment {@code m1}.
@@ -293,6 +633,36 @@ final class Statistics {
         }
     }
 
+    /**
+     * Check left-hand side argument {@code a} is {@code null} or else the right-hand side
+     * argument {@code b} must be non-{@code null} with the same precision so the
+     * statistics can be combined.
+     *
+     * @param a LHS.
+     * @param b RHS.
+     * @throws IllegalArgumentException if the statistics cannot be combined
+     */
+    static void checkCombinePrecision(IntDistinctCount a, IntDistinctCount b) {
+        if (a != null && (b == null || a.getPrecision() != b.getPrecision())) {
+            throw new IllegalArgumentException(INCOMPATIBLE_STATISTICS);
+        }
+    }
+
+    /**
+     * Check left-hand side argument {@code a} is {@code null} or else the right-hand side
+     * argument {@code b} must be non-{@code null} with the same precision so the
+     * statistics can be combined.
+     *
+     * @param a LHS.
+     * @param b RHS.
+     * @throws IllegalArgumentException if the statistics cannot be combined
+     */
+    static void checkCombinePrecision(LongDistinctCount a, LongDistinctCount b) {
+        if (a != null && (b == null || a.getPrecision() != b.getPrecision())) {
+            throw new IllegalArgumentException(INCOMPATIBLE_STATISTICS);
+        }
+    }
+
     /**
      * Check left-hand side argument {@code a} is {@code null} or else the right-hand side
      * argument {@code b} must be run-time assignable to the same class as {@code a}
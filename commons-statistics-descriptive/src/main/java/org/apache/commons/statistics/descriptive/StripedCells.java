@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A table of cells for concurrent updates. Each cell is guarded by a lock.
+ *
+ * <p>A thread updates the cell at a position derived from the thread identity. If the
+ * lock for the cell is held by another thread the next cells are tried in turn;
+ * if all cells are locked the thread waits for the cell at its own position. Threads
+ * contending for the same cell thus spread across the table.
+ *
+ * <p>The number of cells is the smallest power of 2 greater than or equal to the
+ * number of available processors, up to a maximum of {@value #MAX_CELLS}.
+ *
+ * @param <T> the type of the cell
+ * @since 1.2
+ */
+final class StripedCells<T> {
+    /** Maximum number of cells. */
+    static final int MAX_CELLS = 64;
+    /** The golden ratio scaled to 2^32, used to mix the thread hash code. */
+    private static final int GOLDEN_RATIO = 0x9e3779b9;
+
+    /** Cells. */
+    private final Object[] cells;
+    /** Lock for each cell. */
+    private final ReentrantLock[] locks;
+    /** Mask to convert a hash code to the index of a cell. */
+    private final int mask;
+
+    /**
+     * Create an instance.
+     *
+     * @param factory Factory for the cells.
+     */
+    StripedCells(Supplier<T> factory) {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final int size = Math.min(MAX_CELLS, Integer.highestOneBit(Math.max(1, processors * 2 - 1)));
+        cells = new Object[size];
+        locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            cells[i] = factory.get();
+            locks[i] = new ReentrantLock();
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Gets the number of cells.
+     *
+     * @return the size
+     */
+    int size() {
+        return cells.length;
+    }
+
+    /**
+     * Lock a cell for update by the current thread. The cell must be
+     * {@link #release(int) released} after the update.
+     *
+     * @return the index of the cell
+     * @see #get(int)
+     */
+    int acquire() {
+        final int h = System.identityHashCode(Thread.currentThread()) * GOLDEN_RATIO;
+        // Use the upper bits of the mixed hash
+        final int start = (h >>> 16) & mask;
+        for (int i = 0; i <= mask; i++) {
+            final int j = (start + i) & mask;
+            if (locks[j].tryLock()) {
+                return j;
+            }
+        }
+        locks[start].lock();
+        return start;
+    }
+
+    /**
+     * Gets the cell. The cell must be locked by the current thread.
+     *
+     * @param i Index of the cell.
+     * @return the cell
+     * @see #acquire()
+     */
+    @SuppressWarnings("unchecked")
+    T get(int i) {
+        return (T) cells[i];
+    }
+
+    /**
+     * Release the lock on the cell.
+     *
+     * @param i Index of the cell.
+     */
+    void release(int i) {
+        locks[i].unlock();
+    }
+
+    /**
+     * Collect the cells into the {@code result}. Each cell is locked while it is
+     * passed to the {@code collector}. Updates to the cells that occur concurrently
+     * may or may not be included in the result.
+     *
+     * @param <R> the type of the result
+     * @param result Result.
+     * @param collector Function to add a cell to the result.
+     * @return the result
+     */
+    <R> R collect(R result, BiConsumer<R, T> collector) {
+        for (int i = 0; i < cells.length; i++) {
+            locks[i].lock();
+            try {
+                collector.accept(result, get(i));
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return result;
+    }
+}
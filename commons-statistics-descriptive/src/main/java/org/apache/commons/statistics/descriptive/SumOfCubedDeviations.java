@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Computes the sum of cubed deviations from the sample mean. This
  * statistic is related to the third moment.
@@ -127,10 +129,27 @@ class SumOfCubedDeviations extends SumOfSquaredDeviations {
      * @return {@code SumOfCubedDeviations} instance.
      */
     static SumOfCubedDeviations of(double... values) {
-        if (values.length == 0) {
+        return ofRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code SumOfCubedDeviations} computed using {@link #accept(double) accept} may be
+     * different from this instance.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfCubedDeviations} instance.
+     */
+    static SumOfCubedDeviations ofRange(double[] values, int from, int to) {
+        if (from == to) {
             return new SumOfCubedDeviations();
         }
-        return create(SumOfSquaredDeviations.of(values), values);
+        return create(SumOfSquaredDeviations.ofRange(values, from, to), values, from, to);
     }
 
     /**
@@ -140,15 +159,20 @@ class SumOfCubedDeviations extends SumOfSquaredDeviations {
      * This method is used by {@link DoubleStatistics} using a sum that can be reused
      * for the {@link Sum} statistic.
      *
+     * <p>Warning: No range checks are performed.
+     *
      * @param sum Sum of the values.
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @return {@code SumOfCubedDeviations} instance.
      */
-    static SumOfCubedDeviations create(org.apache.commons.numbers.core.Sum sum, double[] values) {
-        if (values.length == 0) {
+    static SumOfCubedDeviations create(org.apache.commons.numbers.core.Sum sum,
+                                       double[] values, int from, int to) {
+        if (from == to) {
             return new SumOfCubedDeviations();
         }
-        return create(SumOfSquaredDeviations.create(sum, values), values);
+        return create(SumOfSquaredDeviations.create(sum, values, from, to), values, from, to);
     }
 
     /**
@@ -156,30 +180,33 @@ class SumOfCubedDeviations extends SumOfSquaredDeviations {
      *
      * @param ss Sum of squared deviations.
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @return {@code SumOfCubedDeviations} instance.
      */
-    private static SumOfCubedDeviations create(SumOfSquaredDeviations ss, double[] values) {
+    private static SumOfCubedDeviations create(SumOfSquaredDeviations ss, double[] values, int from, int to) {
         // Edge cases
         final double xbar = ss.getFirstMoment();
         if (!Double.isFinite(xbar)) {
             return new SumOfCubedDeviations(Double.NaN, ss);
         }
+        final int n = to - from;
         if (!Double.isFinite(ss.sumSquaredDev)) {
             // Note: If the sum-of-squared (SS) overflows then the same deviations when cubed
             // will overflow. The *smallest* deviation to overflow SS is a full-length array of
             // +/- values around a mean of zero, or approximately sqrt(MAX_VALUE / 2^31) = 2.89e149.
             // In this case the sum cubed could be finite due to cancellation
             // but this cannot be computed. Only a small array can be known to be zero.
-            return new SumOfCubedDeviations(values.length <= LENGTH_TWO ? 0 : Double.NaN, ss);
+            return new SumOfCubedDeviations(n <= LENGTH_TWO ? 0 : Double.NaN, ss);
         }
         // Compute the sum of cubed deviations.
         double s = 0;
         // n=1: no deviation
         // n=2: the two deviations from the mean are equal magnitude
         // and opposite sign. So the sum-of-cubed deviations is zero.
-        if (values.length > LENGTH_TWO) {
-            for (final double x : values) {
-                s += pow3(x - xbar);
+        if (n > LENGTH_TWO) {
+            for (int i = from; i < to; i++) {
+                s += pow3(values[i] - xbar);
             }
         }
         return new SumOfCubedDeviations(s, ss);
@@ -195,21 +222,39 @@ class SumOfCubedDeviations extends SumOfSquaredDeviations {
      * @return {@code SumOfCubedDeviations} instance.
      */
     static SumOfCubedDeviations of(int... values) {
+        return ofRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code SumOfCubedDeviations} computed using {@link #accept(double) accept} may be
+     * different from this instance.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfCubedDeviations} instance.
+     */
+    static SumOfCubedDeviations ofRange(int[] values, int from, int to) {
         // Logic shared with the double[] version with int[] lower order moments
-        if (values.length == 0) {
+        if (from == to) {
             return new SumOfCubedDeviations();
         }
-        final IntVariance variance = IntVariance.of(values);
+        final IntVariance variance = IntVariance.createFromRange(values, from, to);
         final double xbar = variance.computeMean();
         final double ss = variance.computeSumOfSquaredDeviations();
 
+        final int n = to - from;
         double sc = 0;
-        if (values.length > LENGTH_TWO) {
-            for (final double x : values) {
-                sc += pow3(x - xbar);
+        if (n > LENGTH_TWO) {
+            for (int i = from; i < to; i++) {
+                sc += pow3(values[i] - xbar);
             }
         }
-        return new SumOfCubedDeviations(sc, ss, xbar, values.length);
+        return new SumOfCubedDeviations(sc, ss, xbar, n);
     }
 
     /**
@@ -222,21 +267,39 @@ class SumOfCubedDeviations extends SumOfSquaredDeviations {
      * @return {@code SumOfCubedDeviations} instance.
      */
     static SumOfCubedDeviations of(long... values) {
+        return ofRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code SumOfCubedDeviations} computed using {@link #accept(double) accept} may be
+     * different from this instance.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfCubedDeviations} instance.
+     */
+    static SumOfCubedDeviations ofRange(long[] values, int from, int to) {
         // Logic shared with the double[] version with long[] lower order moments
-        if (values.length == 0) {
+        if (from == to) {
             return new SumOfCubedDeviations();
         }
-        final LongVariance variance = LongVariance.of(values);
+        final LongVariance variance = LongVariance.createFromRange(values, from, to);
         final double xbar = variance.computeMean();
         final double ss = variance.computeSumOfSquaredDeviations();
 
+        final int n = to - from;
         double sc = 0;
-        if (values.length > LENGTH_TWO) {
-            for (final double x : values) {
-                sc += pow3(x - xbar);
+        if (n > LENGTH_TWO) {
+            for (int i = from; i < to; i++) {
+                sc += pow3(values[i] - xbar);
             }
         }
-        return new SumOfCubedDeviations(sc, ss, xbar, values.length);
+        return new SumOfCubedDeviations(sc, ss, xbar, n);
     }
 
     /**
@@ -272,6 +335,48 @@ class SumOfCubedDeviations extends SumOfSquaredDeviations {
             (np - 1.0) * np * nDev * nDev * dev * 8;
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     */
+    @Override
+    void accept(double[] values, int from, int to) {
+        // Duplicate the accept(double) method using local variables
+        double m = m1;
+        double d = dev;
+        double nd = nDev;
+        double nf = nonFiniteValue;
+        long c = n;
+        double s2 = sumSquaredDev;
+        double s3 = sumCubedDev;
+        for (int i = from; i < to; i++) {
+            final double np = c;
+            final double value = values[i];
+            nf += value * Double.MIN_NORMAL;
+            d = value * DOWNSCALE - m;
+            nd = d / ++c;
+            m += nd;
+            // Note: account for the half-deviation representation by scaling by 6=3*2; 8=2^3
+            s3 = s3 -
+                s2 * nd * 6 +
+                (np - 1.0) * np * nd * nd * d * 8;
+            s2 += (c - 1) * d * nd * 4;
+        }
+        m1 = m;
+        dev = d;
+        nDev = nd;
+        nonFiniteValue = nf;
+        n = c;
+        sumSquaredDev = s2;
+        sumCubedDev = s3;
+    }
+
     /**
      * Gets the sum of cubed deviations of all input values.
      *
@@ -329,4 +434,16 @@ class SumOfCubedDeviations extends SumOfSquaredDeviations {
         super.combine(other);
         return this;
     }
+
+    @Override
+    void write(ByteBuffer buffer) {
+        super.write(buffer);
+        buffer.putDouble(sumCubedDev);
+    }
+
+    @Override
+    void read(ByteBuffer buffer) {
+        super.read(buffer);
+        sumCubedDev = buffer.getDouble();
+    }
 }
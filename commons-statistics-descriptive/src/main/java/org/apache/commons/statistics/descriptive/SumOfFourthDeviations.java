@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Computes the sum of fourth deviations from the sample mean. This
  * statistic is related to the fourth moment.
@@ -119,10 +121,27 @@ class SumOfFourthDeviations extends SumOfCubedDeviations {
      * @return {@code SumOfFourthDeviations} instance.
      */
     static SumOfFourthDeviations of(double... values) {
-        if (values.length == 0) {
+        return ofRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code SumOfFourthDeviations} computed using {@link #accept accept} may be
+     * different from this instance.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfFourthDeviations} instance.
+     */
+    static SumOfFourthDeviations ofRange(double[] values, int from, int to) {
+        if (from == to) {
             return new SumOfFourthDeviations();
         }
-        return create(SumOfCubedDeviations.of(values), values);
+        return create(SumOfCubedDeviations.ofRange(values, from, to), values, from, to);
     }
 
     /**
@@ -132,15 +151,20 @@ class SumOfFourthDeviations extends SumOfCubedDeviations {
      * This method is used by {@link DoubleStatistics} using a sum that can be reused
      * for the {@link Sum} statistic.
      *
+     * <p>Warning: No range checks are performed.
+     *
      * @param sum Sum of the values.
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @return {@code SumOfFourthDeviations} instance.
      */
-    static SumOfFourthDeviations create(org.apache.commons.numbers.core.Sum sum, double[] values) {
-        if (values.length == 0) {
+    static SumOfFourthDeviations create(org.apache.commons.numbers.core.Sum sum,
+                                        double[] values, int from, int to) {
+        if (from == to) {
             return new SumOfFourthDeviations();
         }
-        return create(SumOfCubedDeviations.create(sum, values), values);
+        return create(SumOfCubedDeviations.create(sum, values, from, to), values, from, to);
     }
 
     /**
@@ -148,9 +172,11 @@ class SumOfFourthDeviations extends SumOfCubedDeviations {
      *
      * @param sc Sum of cubed deviations.
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @return {@code SumOfFourthDeviations} instance.
      */
-    private static SumOfFourthDeviations create(SumOfCubedDeviations sc, double[] values) {
+    private static SumOfFourthDeviations create(SumOfCubedDeviations sc, double[] values, int from, int to) {
         // Edge cases
         final double xbar = sc.getFirstMoment();
         if (!Double.isFinite(xbar) ||
@@ -162,8 +188,8 @@ class SumOfFourthDeviations extends SumOfCubedDeviations {
         // Compute the sum of fourth (quad) deviations.
         // Note: This handles n=1.
         double s = 0;
-        for (final double x : values) {
-            s += pow4(x - xbar);
+        for (int i = from; i < to; i++) {
+            s += pow4(values[i] - xbar);
         }
         return new SumOfFourthDeviations(s, sc);
     }
@@ -190,11 +216,28 @@ class SumOfFourthDeviations extends SumOfCubedDeviations {
      * @return {@code SumOfCubedDeviations} instance.
      */
     static SumOfFourthDeviations of(int... values) {
+        return ofRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code SumOfFourthDeviations} computed using {@link #accept(double) accept} may be
+     * different from this instance.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfFourthDeviations} instance.
+     */
+    static SumOfFourthDeviations ofRange(int[] values, int from, int to) {
         // Logic shared with the double[] version with int[] lower order moments
-        if (values.length == 0) {
+        if (from == to) {
             return new SumOfFourthDeviations();
         }
-        final IntVariance variance = IntVariance.of(values);
+        final IntVariance variance = IntVariance.createFromRange(values, from, to);
         final double xbar = variance.computeMean();
         final double ss = variance.computeSumOfSquaredDeviations();
         // Unlike the double[] case, overflow/NaN is not possible:
@@ -202,17 +245,18 @@ class SumOfFourthDeviations extends SumOfCubedDeviations {
         // Compute sum of cubed and fourth deviations together.
         double sc = 0;
         double sq = 0;
-        for (final double y : values) {
-            final double x = y - xbar;
+        for (int i = from; i < to; i++) {
+            final double x = values[i] - xbar;
             final double x2 = x * x;
             sc += x2 * x;
             sq += x2 * x2;
         }
         // Edge case to avoid floating-point error for zero
-        if (values.length <= LENGTH_TWO) {
+        final int n = to - from;
+        if (n <= LENGTH_TWO) {
             sc = 0;
         }
-        return new SumOfFourthDeviations(sq, sc, ss, xbar, values.length);
+        return new SumOfFourthDeviations(sq, sc, ss, xbar, n);
     }
 
     /**
@@ -225,11 +269,28 @@ class SumOfFourthDeviations extends SumOfCubedDeviations {
      * @return {@code SumOfCubedDeviations} instance.
      */
     static SumOfFourthDeviations of(long... values) {
+        return ofRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code SumOfFourthDeviations} computed using {@link #accept(double) accept} may be
+     * different from this instance.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfFourthDeviations} instance.
+     */
+    static SumOfFourthDeviations ofRange(long[] values, int from, int to) {
         // Logic shared with the double[] version with long[] lower order moments
-        if (values.length == 0) {
+        if (from == to) {
             return new SumOfFourthDeviations();
         }
-        final LongVariance variance = LongVariance.of(values);
+        final LongVariance variance = LongVariance.createFromRange(values, from, to);
         final double xbar = variance.computeMean();
         final double ss = variance.computeSumOfSquaredDeviations();
         // Unlike the double[] case, overflow/NaN is not possible:
@@ -237,17 +298,18 @@ class SumOfFourthDeviations extends SumOfCubedDeviations {
         // Compute sum of cubed and fourth deviations together.
         double sc = 0;
         double sq = 0;
-        for (final double y : values) {
-            final double x = y - xbar;
+        for (int i = from; i < to; i++) {
+            final double x = values[i] - xbar;
             final double x2 = x * x;
             sc += x2 * x;
             sq += x2 * x2;
         }
         // Edge case to avoid floating-point error for zero
-        if (values.length <= LENGTH_TWO) {
+        final int n = to - from;
+        if (n <= LENGTH_TWO) {
             sc = 0;
         }
-        return new SumOfFourthDeviations(sq, sc, ss, xbar, values.length);
+        return new SumOfFourthDeviations(sq, sc, ss, xbar, n);
     }
 
     /**
@@ -277,6 +339,55 @@ class SumOfFourthDeviations extends SumOfCubedDeviations {
             np * (np1 * np1 - 3 * np) * nDev * nDev * nDev * dev * 16;
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     */
+    @Override
+    void accept(double[] values, int from, int to) {
+        // Duplicate the accept(double) method using local variables
+        double m = m1;
+        double d = dev;
+        double nd = nDev;
+        double nf = nonFiniteValue;
+        long c = n;
+        double s2 = sumSquaredDev;
+        double s3 = sumCubedDev;
+        double s4 = sumFourthDev;
+        for (int i = from; i < to; i++) {
+            final double np = c;
+            final double value = values[i];
+            nf += value * Double.MIN_NORMAL;
+            d = value * DOWNSCALE - m;
+            nd = d / ++c;
+            m += nd;
+            // Note: account for the half-deviation representation by scaling by 8=4*2; 24=6*2^2; 16=2^4
+            final double np1 = c;
+            s4 = s4 -
+                s3 * nd * 8 +
+                s2 * nd * nd * 24 +
+                np * (np1 * np1 - 3 * np) * nd * nd * nd * d * 16;
+            s3 = s3 -
+                s2 * nd * 6 +
+                (np - 1.0) * np * nd * nd * d * 8;
+            s2 += (c - 1) * d * nd * 4;
+        }
+        m1 = m;
+        dev = d;
+        nDev = nd;
+        nonFiniteValue = nf;
+        n = c;
+        sumSquaredDev = s2;
+        sumCubedDev = s3;
+        sumFourthDev = s4;
+    }
+
     /**
      * Gets the sum of fourth deviations of all input values.
      *
@@ -339,4 +450,16 @@ class SumOfFourthDeviations extends SumOfCubedDeviations {
         super.combine(other);
         return this;
     }
+
+    @Override
+    void write(ByteBuffer buffer) {
+        super.write(buffer);
+        buffer.putDouble(sumFourthDev);
+    }
+
+    @Override
+    void read(ByteBuffer buffer) {
+        super.read(buffer);
+        sumFourthDev = buffer.getDouble();
+    }
 }
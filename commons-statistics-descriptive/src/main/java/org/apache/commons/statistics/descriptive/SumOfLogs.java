@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Returns the sum of the {@link Math#log(double) natural logarithm} of available values.
  *
@@ -59,14 +61,22 @@ package org.apache.commons.statistics.descriptive;
 public final class SumOfLogs implements DoubleStatistic, StatisticAccumulator<SumOfLogs> {
 
     /** {@link org.apache.commons.numbers.core.Sum Sum} used to compute the sum. */
-    private final org.apache.commons.numbers.core.Sum delegate =
-            org.apache.commons.numbers.core.Sum.create();
+    private final org.apache.commons.numbers.core.Sum delegate;
 
     /**
      * Create an instance.
      */
     private SumOfLogs() {
-        // No-op
+        this(org.apache.commons.numbers.core.Sum.create());
+    }
+
+    /**
+     * Create an instance using the specified {@code sum}.
+     *
+     * @param sum Sum of the logs of the values.
+     */
+    private SumOfLogs(org.apache.commons.numbers.core.Sum sum) {
+        delegate = sum;
     }
 
     /**
@@ -95,6 +105,40 @@ public final class SumOfLogs implements DoubleStatistic, StatisticAccumulator<Su
         return Statistics.add(new SumOfLogs(), values);
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>The result is {@code NaN} if any of the values is {@code NaN}
+     * or negative; or the sum at any point is a {@code NaN}.
+     *
+     * <p>When the range is empty, the result is zero.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfLogs} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static SumOfLogs ofRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfLogs} instance.
+     */
+    static SumOfLogs createFromRange(double[] values, int from, int to) {
+        return Statistics.add(new SumOfLogs(), values, from, to);
+    }
+
     /**
      * Returns an instance populated using the input {@code values}.
      *
@@ -109,6 +153,39 @@ public final class SumOfLogs implements DoubleStatistic, StatisticAccumulator<Su
         return Statistics.add(new SumOfLogs(), values);
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>The result is {@code NaN} if any of the values is negative.
+     *
+     * <p>When the range is empty, the result is zero.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfLogs} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static SumOfLogs ofRange(int[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfLogs} instance.
+     */
+    static SumOfLogs createFromRange(int[] values, int from, int to) {
+        return Statistics.add(new SumOfLogs(), values, from, to);
+    }
+
     /**
      * Returns an instance populated using the input {@code values}.
      *
@@ -123,6 +200,39 @@ public final class SumOfLogs implements DoubleStatistic, StatisticAccumulator<Su
         return Statistics.add(new SumOfLogs(), values);
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>The result is {@code NaN} if any of the values is negative.
+     *
+     * <p>When the range is empty, the result is zero.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfLogs} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static SumOfLogs ofRange(long[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfLogs} instance.
+     */
+    static SumOfLogs createFromRange(long[] values, int from, int to) {
+        return Statistics.add(new SumOfLogs(), values, from, to);
+    }
+
     /**
      * Updates the state of the statistic to reflect the addition of {@code value}.
      *
@@ -133,6 +243,24 @@ public final class SumOfLogs implements DoubleStatistic, StatisticAccumulator<Su
         delegate.accept(Math.log(value));
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            delegate.add(Math.log(values[i]));
+        }
+    }
+
     /**
      * Gets the sum of all input values.
      *
@@ -150,4 +278,56 @@ public final class SumOfLogs implements DoubleStatistic, StatisticAccumulator<Su
         delegate.add(other.delegate);
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.SUM_OF_LOGS);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code SumOfLogs} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code SumOfLogs}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static SumOfLogs readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.SUM_OF_LOGS);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        StatisticState.write(buffer, delegate);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static SumOfLogs read(ByteBuffer buffer) {
+        return new SumOfLogs(StatisticState.readSum(buffer));
+    }
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Computes the sum of squared deviations from the sample mean. This
  * statistic is related to the second moment.
@@ -112,10 +114,27 @@ class SumOfSquaredDeviations extends FirstMoment {
      * @return {@code SumOfSquaredDeviations} instance.
      */
     static SumOfSquaredDeviations of(double... values) {
-        if (values.length == 0) {
+        return ofRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>Note: {@code SumOfSquaredDeviations} computed using {@link #accept accept} may be
+     * different from this instance.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfSquaredDeviations} instance.
+     */
+    static SumOfSquaredDeviations ofRange(double[] values, int from, int to) {
+        if (from == to) {
             return new SumOfSquaredDeviations();
         }
-        return create(FirstMoment.of(values), values);
+        return create(FirstMoment.ofRange(values, from, to), values, from, to);
     }
 
     /**
@@ -125,15 +144,20 @@ class SumOfSquaredDeviations extends FirstMoment {
      * This method is used by {@link DoubleStatistics} using a sum that can be reused
      * for the {@link Sum} statistic.
      *
+     * <p>Warning: No range checks are performed.
+     *
      * @param sum Sum of the values.
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @return {@code SumOfSquaredDeviations} instance.
      */
-    static SumOfSquaredDeviations create(org.apache.commons.numbers.core.Sum sum, double[] values) {
-        if (values.length == 0) {
+    static SumOfSquaredDeviations create(org.apache.commons.numbers.core.Sum sum,
+                                         double[] values, int from, int to) {
+        if (from == to) {
             return new SumOfSquaredDeviations();
         }
-        return create(FirstMoment.create(sum, values), values);
+        return create(FirstMoment.create(sum, values, from, to), values, from, to);
     }
 
     /**
@@ -141,9 +165,11 @@ class SumOfSquaredDeviations extends FirstMoment {
      *
      * @param m1 First moment.
      * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
      * @return {@code SumOfSquaredDeviations} instance.
      */
-    private static SumOfSquaredDeviations create(FirstMoment m1, double[] values) {
+    private static SumOfSquaredDeviations create(FirstMoment m1, double[] values, int from, int to) {
         // "Corrected two-pass algorithm"
         // See: Chan et al (1983) Equation 1.7
 
@@ -153,8 +179,8 @@ class SumOfSquaredDeviations extends FirstMoment {
         }
         double s = 0;
         double ss = 0;
-        for (final double x : values) {
-            final double dx = x - xbar;
+        for (int i = from; i < to; i++) {
+            final double dx = values[i] - xbar;
             s += dx;
             ss += dx * dx;
         }
@@ -165,7 +191,7 @@ class SumOfSquaredDeviations extends FirstMoment {
         // when ss is infinite, assign it an infinite value which is its intended value.
         final double sumSquaredDev = ss == Double.POSITIVE_INFINITY ?
             Double.POSITIVE_INFINITY :
-            ss - (s * s / values.length);
+            ss - (s * s / (to - from));
         return new SumOfSquaredDeviations(sumSquaredDev, m1);
     }
 
@@ -183,6 +209,65 @@ class SumOfSquaredDeviations extends FirstMoment {
         sumSquaredDev += (n - 1) * dev * nDev * 4;
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     */
+    @Override
+    void accept(double[] values, int from, int to) {
+        // Duplicate the accept(double) method using local variables
+        double m = m1;
+        double d = dev;
+        double nd = nDev;
+        double nf = nonFiniteValue;
+        long c = n;
+        double s2 = sumSquaredDev;
+        for (int i = from; i < to; i++) {
+            final double value = values[i];
+            nf += value * Double.MIN_NORMAL;
+            d = value * DOWNSCALE - m;
+            nd = d / ++c;
+            m += nd;
+            // Note: account for the half-deviation representation by scaling by 4=2^2
+            s2 += (c - 1) * d * nd * 4;
+        }
+        m1 = m;
+        dev = d;
+        nDev = nd;
+        nonFiniteValue = nf;
+        n = c;
+        sumSquaredDev = s2;
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the removal of {@code value}.
+     * This reverses the update of {@link #accept(double)}.
+     *
+     * <p>Warning: The value must be finite and have been added to the statistic.
+     * No checks are performed.
+     *
+     * @param value Value.
+     */
+    @Override
+    void remove(double value) {
+        // Reverse of the "updating one-pass algorithm":
+        // ss_{i-1} = ss_i - (x - m_{i-1}) (x - m_i)
+        super.remove(value);
+        if (n <= 1) {
+            // Avoid accumulated round-off: the sum is zero for a single value
+            sumSquaredDev = 0;
+        } else {
+            // Note: account for the half-deviation representation by scaling by 4=2^2
+            sumSquaredDev -= dev * getFirstMomentHalfDeviation(value) * 4;
+        }
+    }
+
     /**
      * Gets the sum of squared deviations of all input values.
      *
@@ -214,4 +299,16 @@ class SumOfSquaredDeviations extends FirstMoment {
         super.combine(other);
         return this;
     }
+
+    @Override
+    void write(ByteBuffer buffer) {
+        super.write(buffer);
+        buffer.putDouble(sumSquaredDev);
+    }
+
+    @Override
+    void read(ByteBuffer buffer) {
+        super.read(buffer);
+        sumSquaredDev = buffer.getDouble();
+    }
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.ByteBuffer;
+
 /**
  * Returns the sum of the squares of the available values. Uses the following definition:
  *
@@ -86,6 +88,40 @@ public final class SumOfSquares implements DoubleStatistic, StatisticAccumulator
         return Statistics.add(new SumOfSquares(), values);
     }
 
+    /**
+     * Returns an instance populated using the specified range of {@code values}.
+     *
+     * <p>The result is {@code NaN} if any of the values is {@code NaN}
+     * or the product at any point is a {@code NaN}.
+     *
+     * <p>When the range is empty, the result is zero.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfSquares} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    public static SumOfSquares ofRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code SumOfSquares} instance.
+     */
+    static SumOfSquares createFromRange(double[] values, int from, int to) {
+        return Statistics.add(new SumOfSquares(), values, from, to);
+    }
+
     /**
      * Updates the state of the statistic to reflect the addition of {@code value}.
      *
@@ -96,6 +132,27 @@ public final class SumOfSquares implements DoubleStatistic, StatisticAccumulator
         ss += value * value;
     }
 
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.2
+     */
+    @Override
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        double s = ss;
+        for (int i = from; i < to; i++) {
+            final double x = values[i];
+            s += x * x;
+        }
+        ss = s;
+    }
+
     /**
      * Gets the sum of squares of all input values.
      *
@@ -113,4 +170,58 @@ public final class SumOfSquares implements DoubleStatistic, StatisticAccumulator
         ss += other.ss;
         return this;
     }
+
+    /**
+     * Writes the state of the statistic to the {@code buffer}. The state can be
+     * restored using {@link #readState(ByteBuffer)}.
+     *
+     * <p>The state is written in a compact binary format using the
+     * {@linkplain ByteBuffer#order() byte order} of the buffer.
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer
+     * @since 1.2
+     */
+    public void writeState(ByteBuffer buffer) {
+        StatisticState.writeHeader(buffer, StatisticState.SUM_OF_SQUARES);
+        write(buffer);
+    }
+
+    /**
+     * Creates an instance from the state in the {@code buffer} written by
+     * {@link #writeState(ByteBuffer)}. The instance is identical to the instance
+     * that wrote the state.
+     *
+     * @param buffer Buffer.
+     * @return {@code SumOfSquares} instance.
+     * @throws IllegalArgumentException if the buffer does not contain the state of
+     * a {@code SumOfSquares}
+     * @throws java.nio.BufferUnderflowException if there are insufficient bytes in the buffer
+     * @since 1.2
+     */
+    public static SumOfSquares readState(ByteBuffer buffer) {
+        StatisticState.readHeader(buffer, StatisticState.SUM_OF_SQUARES);
+        return read(buffer);
+    }
+
+    /**
+     * Writes the state of the statistic to the buffer without a header.
+     *
+     * @param buffer Buffer.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putDouble(ss);
+    }
+
+    /**
+     * Creates an instance from the state in the buffer without a header.
+     *
+     * @param buffer Buffer.
+     * @return the instance
+     */
+    static SumOfSquares read(ByteBuffer buffer) {
+        final SumOfSquares s = new SumOfSquares();
+        s.ss = buffer.getDouble();
+        return s;
+    }
 }
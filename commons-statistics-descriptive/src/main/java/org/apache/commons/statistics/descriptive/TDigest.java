@@ -0,0 +1,537 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Computes approximate quantiles of the available values using a t-digest.
+ *
+ * <p>The t-digest summarises the distribution of the values as a sorted set of
+ * <em>centroids</em>, each holding a mean value and a count. Adjacent centroids are
+ * merged subject to a limit on the size of each centroid that is controlled by the
+ * {@code compression} parameter: centroids near the tails of the distribution are
+ * kept small and those near the median may be large. This provides accurate estimates
+ * of extreme quantiles using a memory footprint that is independent of the number
+ * of values.
+ *
+ * <p>The memory used is proportional to the compression; the number of centroids is
+ * approximately equal to the compression. Values are added to a buffer that is merged
+ * into the centroids when full; the accept method does not allocate memory.
+ *
+ * <p>The quantile is estimated using the {@link Quantile.EstimationMethod} to compute
+ * the (real-valued) rank of the quantile within the sorted values. The value at the
+ * rank is interpolated between the centroids. Each centroid is positioned at the centre
+ * of the ranks it represents. The exact minimum and maximum are used at the ends of the
+ * data. When no centroids have been merged (i.e. each centroid represents a single
+ * value) the result is identical to {@link Quantile} with the same estimation method.
+ * This applies to small data sets: the exact threshold is dependent on the
+ * compression and is typically above 50 values.
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values are added.
+ *   <li>{@code NaN} values are considered greater than all other values. The count
+ *       of values <em>includes</em> the {@code NaN} values and the quantile will be
+ *       {@code NaN} if any value used for quantile interpolation is {@code NaN}. This
+ *       is the behaviour of {@link NaNPolicy#INCLUDE}.
+ * </ul>
+ *
+ * <p>The {@link #getAsDouble() result} is the median. Other quantiles can be obtained
+ * using {@link #getQuantile(double)}.
+ *
+ * <p>Supports up to 2<sup>63</sup> (exclusive) observations.
+ * This implementation does not check for overflow of the count.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>This implementation is not thread safe.</strong>
+ * If multiple threads access an instance of this class concurrently,
+ * and at least one of the threads invokes the {@link java.util.function.DoubleConsumer#accept(double) accept},
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} or any method to compute a
+ * quantile, it must be synchronized externally. Computation of a quantile will merge
+ * buffered values into the centroids.
+ *
+ * <p>However, it is safe to use {@link java.util.function.DoubleConsumer#accept(double) accept}
+ * and {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as {@code accumulator} and {@code combiner} functions of
+ * {@link java.util.stream.Collector Collector} on a parallel stream,
+ * because the parallel implementation of {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution.
+ *
+ * <p>References:
+ * <ol>
+ *   <li>Dunning T and Ertl O (2019)
+ *       Computing Extremely Accurate Quantiles Using t-Digests.
+ *       arXiv:1902.04023.
+ *       <a href="https://doi.org/10.48550/arXiv.1902.04023">doi: 10.48550/arXiv.1902.04023</a>
+ * </ol>
+ *
+ * @see Quantile
+ * @since 1.2
+ */
+public final class TDigest implements DoubleStatistic, StatisticAccumulator<TDigest> {
+    /** Default compression. */
+    private static final double DEFAULT_COMPRESSION = 100;
+    /** Minimum compression. */
+    private static final double MIN_COMPRESSION = 10;
+    /** Maximum compression. */
+    private static final double MAX_COMPRESSION = 1 << 20;
+    /** Size of the buffer of values as a multiple of the compression. */
+    private static final int BUFFER_FACTOR = 5;
+    /** Probability of the median. */
+    private static final double MEDIAN = 0.5;
+    /** Half of pi. */
+    private static final double HALF_PI = Math.PI / 2;
+
+    /** Compression. */
+    private final double compression;
+    /** Size of the scale function step: 2 pi / compression. */
+    private final double kstep;
+    /** Centroid means. */
+    private double[] mean;
+    /** Centroid counts. */
+    private long[] weight;
+    /** Working storage for the centroid means. */
+    private double[] mean2;
+    /** Working storage for the centroid counts. */
+    private long[] weight2;
+    /** Number of centroids. */
+    private int size;
+    /** Total count of the centroids. */
+    private long centroidCount;
+    /** Buffer of values that have not been merged into the centroids. */
+    private final double[] buffer;
+    /** Number of values in the buffer. */
+    private int bufferSize;
+    /** Count of values that have been added (including NaN). */
+    private long n;
+    /** Count of NaN values that have been added. */
+    private long nanCount;
+    /** Minimum (non-NaN) value. */
+    private double min = Double.POSITIVE_INFINITY;
+    /** Maximum (non-NaN) value. */
+    private double max = Double.NEGATIVE_INFINITY;
+    /** Estimation type used to determine the rank of the quantile. */
+    private Quantile.EstimationMethod estimationType = Quantile.EstimationMethod.HF8;
+
+    /**
+     * Create an instance.
+     *
+     * @param compression Compression.
+     */
+    private TDigest(double compression) {
+        this.compression = compression;
+        kstep = 2 * Math.PI / compression;
+        // The scale function spans the range [-compression/4, compression/4].
+        // Each pair of adjacent centroids spans at least 1 unit of the scale so the
+        // number of centroids is at most compression + 2. Allow additional
+        // capacity; if exhausted then centroids are merged regardless of size.
+        final int capacity = (int) Math.ceil(compression) + 4;
+        mean = new double[capacity];
+        weight = new long[capacity];
+        mean2 = new double[capacity];
+        weight2 = new long[capacity];
+        buffer = new double[BUFFER_FACTOR * capacity];
+    }
+
+    /**
+     * Creates an instance with the default compression of 100.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @return {@code TDigest} instance.
+     */
+    public static TDigest create() {
+        return new TDigest(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates an instance with the specified {@code compression}.
+     *
+     * <p>Higher compression increases the accuracy of quantile estimates and the memory
+     * consumption. The number of centroids is approximately equal to the compression.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @param compression Compression.
+     * @return {@code TDigest} instance.
+     * @throws IllegalArgumentException if the {@code compression} is not in the range
+     * {@code [10, 2^20]}
+     */
+    public static TDigest create(double compression) {
+        // Logic negation will detect NaN
+        if (!(compression >= MIN_COMPRESSION && compression <= MAX_COMPRESSION)) {
+            throw new IllegalArgumentException("Invalid compression: " + compression);
+        }
+        return new TDigest(compression);
+    }
+
+    /**
+     * Returns an instance with the default compression populated using the input {@code values}.
+     *
+     * <p>When the input is an empty array, the result is {@code NaN}.
+     *
+     * @param values Values.
+     * @return {@code TDigest} instance.
+     */
+    public static TDigest of(double... values) {
+        return createFromRange(values, 0, values.length);
+    }
+
+    /**
+     * Returns an instance with the default compression populated using the specified
+     * range of {@code values}.
+     *
+     * <p>When the range is empty, the result is {@code NaN}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code TDigest} instance.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public static TDigest ofRange(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return createFromRange(values, from, to);
+    }
+
+    /**
+     * Create an instance using the specified range of {@code values}.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return {@code TDigest} instance.
+     */
+    static TDigest createFromRange(double[] values, int from, int to) {
+        return Statistics.add(new TDigest(DEFAULT_COMPRESSION), values, from, to);
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of {@code value}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(double value) {
+        n++;
+        // Logic negation will detect NaN
+        if (!(value <= Double.POSITIVE_INFINITY)) {
+            nanCount++;
+            return;
+        }
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        add(value);
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the specified
+     * range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    @Override
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            accept(values[i]);
+        }
+    }
+
+    /**
+     * Adds the non-NaN value to the buffer. The buffer is merged into the centroids
+     * when full.
+     *
+     * @param value Value.
+     */
+    private void add(double value) {
+        buffer[bufferSize++] = value;
+        if (bufferSize == buffer.length) {
+            flush();
+        }
+    }
+
+    /**
+     * Gets the number of values that have been added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return n;
+    }
+
+    /**
+     * Gets the compression.
+     *
+     * @return the compression
+     */
+    public double getCompression() {
+        return compression;
+    }
+
+    /**
+     * Gets the median of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return the median
+     * @see #getQuantile(double)
+     */
+    @Override
+    public double getAsDouble() {
+        flush();
+        return quantile(MEDIAN);
+    }
+
+    /**
+     * Gets the {@code p}-th quantile of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     * @throws IllegalArgumentException if the probability {@code p} is not in the range {@code [0, 1]}
+     */
+    public double getQuantile(double p) {
+        Quantile.checkProbability(p);
+        flush();
+        return quantile(p);
+    }
+
+    /**
+     * Gets the {@code p}-th quantiles of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @param p Probabilities for the quantiles to compute.
+     * @return the quantiles
+     * @throws IllegalArgumentException if any probability {@code p} is not in the range {@code [0, 1]};
+     * or no probabilities are specified.
+     */
+    public double[] getQuantiles(double... p) {
+        Quantile.checkProbabilities(p);
+        flush();
+        final double[] q = new double[p.length];
+        for (int i = 0; i < p.length; i++) {
+            q[i] = quantile(p[i]);
+        }
+        return q;
+    }
+
+    /**
+     * Compute the {@code p}-th quantile. Assumes the buffer has been merged into the
+     * centroids.
+     *
+     * @param p Probability for the quantile to compute.
+     * @return the quantile
+     */
+    private double quantile(double p) {
+        if (n == 0) {
+            return Double.NaN;
+        }
+        final double pos = estimationType.index(p, n);
+        // NaN values are sorted above all other values
+        final long size0 = n - nanCount;
+        if (pos > size0 - 1) {
+            return Double.NaN;
+        }
+        // The extreme values may have been merged into a centroid
+        // that is not at the end of the sorted centroids
+        if (pos == 0) {
+            return min;
+        }
+        if (pos == size0 - 1) {
+            return max;
+        }
+        // Interpolate between knots at (rank, value). The first and last knots
+        // are the exact min and max. Each centroid is positioned at the centre
+        // of the ranks it represents.
+        double r0 = 0;
+        double v0 = min;
+        long cumulative = 0;
+        for (int i = 0; i < size; i++) {
+            final double r1 = cumulative + (weight[i] - 1) * 0.5;
+            if (pos <= r1) {
+                return interpolate(r0, v0, r1, mean[i], pos);
+            }
+            r0 = r1;
+            v0 = mean[i];
+            cumulative += weight[i];
+        }
+        return interpolate(r0, v0, size0 - 1, max, pos);
+    }
+
+    /**
+     * Interpolate the value at the position {@code pos} between the
+     * knots {@code (r0, v0)} and {@code (r1, v1)}.
+     *
+     * @param r0 Rank 0.
+     * @param v0 Value 0.
+     * @param r1 Rank 1.
+     * @param v1 Value 1.
+     * @param pos Position in {@code (r0, r1]}.
+     * @return the value
+     */
+    private static double interpolate(double r0, double v0, double r1, double v1, double pos) {
+        if (pos == r1) {
+            return v1;
+        }
+        return Interpolation.interpolate(v0, v1, (pos - r0) / (r1 - r0));
+    }
+
+    /**
+     * Merge the buffer into the centroids.
+     */
+    private void flush() {
+        if (bufferSize != 0) {
+            Arrays.sort(buffer, 0, bufferSize);
+            merge(buffer, null, bufferSize);
+            bufferSize = 0;
+        }
+    }
+
+    /**
+     * Merge the sorted centroids into the current centroids.
+     *
+     * @param m Centroid means.
+     * @param w Centroid counts (or {@code null} for counts of 1).
+     * @param length Number of centroids.
+     */
+    private void merge(double[] m, long[] w, int length) {
+        long total = centroidCount;
+        if (w == null) {
+            total += length;
+        } else {
+            for (int i = 0; i < length; i++) {
+                total += w[i];
+            }
+        }
+        final double[] outMean = mean2;
+        final long[] outWeight = weight2;
+        final int last = outMean.length - 1;
+        int out = -1;
+        // Count of the completed centroids
+        long done = 0;
+        // Maximum count of the current centroid
+        double limit = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size || j < length) {
+            // Next centroid in sorted order
+            final double x;
+            final long c;
+            if (j == length || (i < size && mean[i] <= m[j])) {
+                x = mean[i];
+                c = weight[i];
+                i++;
+            } else {
+                x = m[j];
+                c = w == null ? 1 : w[j];
+                j++;
+            }
+            if (out >= 0 && (outWeight[out] + c <= limit || out == last)) {
+                // Merge into the current centroid
+                final long c0 = outWeight[out];
+                final long c1 = c0 + c;
+                // Avoid NaN from infinite values of the same sign
+                if (x != outMean[out]) {
+                    outMean[out] += (x - outMean[out]) * ((double) c / c1);
+                }
+                outWeight[out] = c1;
+            } else {
+                // Start a new centroid
+                if (out >= 0) {
+                    done += outWeight[out];
+                }
+                out++;
+                outMean[out] = x;
+                outWeight[out] = c;
+                limit = total * nextQuantile((double) done / total) - done;
+            }
+        }
+        // Swap storage
+        mean2 = mean;
+        weight2 = weight;
+        mean = outMean;
+        weight = outWeight;
+        size = out + 1;
+        centroidCount = total;
+    }
+
+    /**
+     * Compute the quantile {@code q'} that is one unit of the scale function above the
+     * quantile {@code q}. This uses the scale function:
+     *
+     * <p>\[ k(q) = \frac{\delta}{2\pi} \sin^{-1}(2q - 1) \]
+     *
+     * <p>where \( \delta \) is the compression.
+     *
+     * @param q Quantile.
+     * @return the next quantile
+     */
+    private double nextQuantile(double q) {
+        final double k = Math.asin(2 * q - 1) + kstep;
+        if (k >= HALF_PI) {
+            return 1;
+        }
+        return (Math.sin(k) + 1) * 0.5;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The compression of {@code this} instance is used to merge the centroids.
+     */
+    @Override
+    public TDigest combine(TDigest other) {
+        flush();
+        merge(other.mean, other.weight, other.size);
+        for (int i = 0; i < other.bufferSize; i++) {
+            add(other.buffer[i]);
+        }
+        n += other.n;
+        nanCount += other.nanCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * Sets the {@link Quantile.EstimationMethod} used to compute the rank of the quantile.
+     * The default is {@link Quantile.EstimationMethod#HF8 HF8}.
+     *
+     * <p>This only controls the final computation of the statistic. The value
+     * will not affect compatibility between instances during a
+     * {@link #combine(TDigest) combine} operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     */
+    public TDigest setEstimationMethod(Quantile.EstimationMethod v) {
+        estimationType = Objects.requireNonNull(v);
+        return this;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.apache.commons.numbers.arrays.Selection;
+
+/**
+ * Returns the trimmed mean of the available values.
+ *
+ * <p>For values of length {@code n} and a proportion {@code p} in {@code [0, 0.5]},
+ * let {@code g = floor(n p)}. The trimmed mean is the arithmetic mean of the values
+ * after removing the {@code g} smallest and {@code g} largest values. If no values
+ * would remain then {@code g} is reduced so that one value (if {@code n} is odd)
+ * or two values (if {@code n} is even) remain; the result is the median.
+ *
+ * <ul>
+ * <li>The result is {@code NaN} if {@code n = 0}.
+ * <li>The result is the {@link Mean mean} of the values if {@code g = 0}.
+ * </ul>
+ *
+ * <p>The values at the cut points are found with a single multi-index partition
+ * of the data. The values between the cut points are then summed; the data is not
+ * sorted.
+ *
+ * <p>This implementation respects the ordering imposed by
+ * {@link Double#compare(double, double)} for {@code NaN} values. If a {@code NaN} occurs
+ * in the retained positions in the fully sorted values then the result is {@code NaN}.
+ *
+ * <p>The {@link NaNPolicy} can be used to change the behaviour on {@code NaN} values.
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ *
+ * @see #with(NaNPolicy)
+ * @see <a href="https://en.wikipedia.org/wiki/Truncated_mean">Truncated mean (Wikipedia)</a>
+ * @since 1.2
+ */
+public final class TrimmedMean {
+    /** Default instance. */
+    private static final TrimmedMean DEFAULT = new TrimmedMean(false, NaNPolicy.INCLUDE);
+
+    /** Flag to indicate if the data should be copied. */
+    private final boolean copy;
+    /** NaN policy for floating point data. */
+    private final NaNPolicy nanPolicy;
+    /** Transformer for NaN data. */
+    private final NaNTransformer nanTransformer;
+
+    /**
+     * @param copy Flag to indicate if the data should be copied.
+     * @param nanPolicy NaN policy.
+     */
+    private TrimmedMean(boolean copy, NaNPolicy nanPolicy) {
+        this.copy = copy;
+        this.nanPolicy = nanPolicy;
+        nanTransformer = NaNTransformers.createNaNTransformer(nanPolicy, copy);
+    }
+
+    /**
+     * Return a new instance with the default options.
+     *
+     * <ul>
+     * <li>{@linkplain #withCopy(boolean) Copy = false}
+     * <li>{@linkplain #with(NaNPolicy) NaN policy = include}
+     * </ul>
+     *
+     * <p>Note: The default options configure for processing in-place and including
+     * {@code NaN} values in the data. This is the most efficient mode and has the
+     * smallest memory consumption.
+     *
+     * @return the trimmed mean implementation
+     * @see #withCopy(boolean)
+     * @see #with(NaNPolicy)
+     */
+    public static TrimmedMean withDefaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Return an instance with the configured copy behaviour. If {@code false} then
+     * the input array will be modified by the call to evaluate the trimmed mean; otherwise
+     * the computation uses a copy of the data.
+     *
+     * @param v Value.
+     * @return an instance
+     */
+    public TrimmedMean withCopy(boolean v) {
+        return new TrimmedMean(v, nanPolicy);
+    }
+
+    /**
+     * Return an instance with the configured {@link NaNPolicy}.
+     *
+     * <p>Note: This implementation respects the ordering imposed by
+     * {@link Double#compare(double, double)} for {@code NaN} values: {@code NaN} is
+     * considered greater than all other values, and all {@code NaN} values are equal.
+     * See {@link Quantile#with(NaNPolicy)}.
+     *
+     * <ul>
+     * <li>{@link NaNPolicy#INCLUDE}: the size of the data <em>includes</em> the
+     * {@code NaN} values. {@code NaN} values are trimmed as the largest values.
+     * <li>{@link NaNPolicy#EXCLUDE}: the size of the data <em>excludes</em> the
+     * {@code NaN} values.
+     * <li>{@link NaNPolicy#ERROR}: An exception is raised if the data contains {@code NaN}
+     * values.
+     * </ul>
+     *
+     * @param v Value.
+     * @return an instance
+     */
+    public TrimmedMean with(NaNPolicy v) {
+        return new TrimmedMean(copy, Objects.requireNonNull(v));
+    }
+
+    /**
+     * Evaluate the trimmed mean.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @param p Proportion of the values to trim from each end.
+     * @return the trimmed mean
+     * @throws IllegalArgumentException if the proportion is not in the range {@code [0, 0.5]}
+     */
+    public double evaluate(double[] values, double p) {
+        return compute(values, 0, values.length, p);
+    }
+
+    /**
+     * Evaluate the trimmed mean of the specified range.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Proportion of the values to trim from each end.
+     * @return the trimmed mean
+     * @throws IllegalArgumentException if the proportion is not in the range {@code [0, 0.5]}
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public double evaluateRange(double[] values, int from, int to, double p) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to, p);
+    }
+
+    /**
+     * Evaluate the trimmed mean.
+     *
+     * <p>Note: This method may partially sort the input values if not configured to
+     * {@link #withCopy(boolean) copy} the input data.
+     *
+     * @param values Values.
+     * @param p Proportion of the values to trim from each end.
+     * @return the trimmed mean
+     * @throws IllegalArgumentException if the proportion is not in the range {@code [0, 0.5]}
+     */
+    public double evaluate(int[] values, double p) {
+        return compute(values, 0, values.length, p);
+    }
+
+    /**
+     * Evaluate the trimmed mean of the specified range.
+     *
+     * <p>Note: This method may partially sort the input values within the range if not
+     * configured to {@link #withCopy(boolean) copy} the input data. Values outside the
+     * range are not modified.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Proportion of the values to trim from each end.
+     * @return the trimmed mean
+     * @throws IllegalArgumentException if the proportion is not in the range {@code [0, 0.5]}
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public double evaluateRange(int[] values, int from, int to, double p) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        return compute(values, from, to, p);
+    }
+
+    /**
+     * Compute the trimmed mean of the specified range.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Proportion of the values to trim from each end.
+     * @return the trimmed mean
+     */
+    private double compute(double[] values, int from, int to, double p) {
+        checkProportion(p);
+        // Floating-point data handling
+        final int[] bounds = new int[2];
+        final double[] x = nanTransformer.apply(values, from, to, bounds);
+        final int lo = bounds[0];
+        final int n = bounds[1] - lo;
+        if (n == 0) {
+            return Double.NaN;
+        }
+        final int g = trimCount(n, p);
+        if (g != 0) {
+            // Partition the retained values between the cut points
+            Selection.select(x, lo, lo + n, new int[] {lo + g, lo + n - g - 1});
+        }
+        return Mean.ofRange(x, lo + g, lo + n - g).getAsDouble();
+    }
+
+    /**
+     * Compute the trimmed mean of the specified range.
+     *
+     * <p>Warning: No range checks are performed.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param p Proportion of the values to trim from each end.
+     * @return the trimmed mean
+     */
+    private double compute(int[] values, int from, int to, double p) {
+        checkProportion(p);
+        final int n = to - from;
+        if (n == 0) {
+            return Double.NaN;
+        }
+        final int g = trimCount(n, p);
+        if (g == 0) {
+            return IntMean.ofRange(values, from, to).getAsDouble();
+        }
+        final int[] x;
+        final int lo;
+        if (copy) {
+            x = Arrays.copyOfRange(values, from, to);
+            lo = 0;
+        } else {
+            x = values;
+            lo = from;
+        }
+        // Partition the retained values between the cut points
+        Selection.select(x, lo, lo + n, new int[] {lo + g, lo + n - g - 1});
+        return IntMean.ofRange(x, lo + g, lo + n - g).getAsDouble();
+    }
+
+    /**
+     * Compute the number of values to trim from each end of the data. This is
+     * {@code floor(n p)} limited so that at least one value remains.
+     *
+     * @param n Size of the data (must be strictly positive).
+     * @param p Proportion of the values to trim from each end.
+     * @return the trim count
+     */
+    static int trimCount(int n, double p) {
+        return Math.min((int) (n * p), (n - 1) >>> 1);
+    }
+
+    /**
+     * Check the proportion {@code p} is in the range {@code [0, 0.5]}.
+     *
+     * @param p Proportion of the values to trim from each end.
+     * @throws IllegalArgumentException if the proportion is not in the range {@code [0, 0.5]}
+     */
+    static void checkProportion(double p) {
+        // Logic negation will detect NaN
+        if (!(p >= 0 && p <= 0.5)) {
+            throw new IllegalArgumentException("Invalid proportion: " + p);
+        }
+    }
+}
@@ -113,6 +113,30 @@ final class UInt192 {
         ab += s >>> Integer.SIZE;
     }
 
+    /**
+     * Adds the unsigned product {@code x * y}.
+     *
+     * <p>Note: The arguments are treated as unsigned 64-bit integers.
+     *
+     * @param x Value.
+     * @param y Value.
+     */
+    void addUnsignedProduct(long x, long y) {
+        final long lo = x * y;
+        final long hi = IntMath.unsignedMultiplyHigh(x, y);
+
+        // Sum with carry.
+        long s = (lo & MASK32) + (f & MASK32);
+        f = (int) s;
+        s = (s >>> Integer.SIZE) + (lo >>> Integer.SIZE) + (e & MASK32);
+        e = (int) s;
+        s = (s >>> Integer.SIZE) + (hi & MASK32) + (d & MASK32);
+        d = (int) s;
+        s = (s >>> Integer.SIZE) + (hi >>> Integer.SIZE) + (c & MASK32);
+        c = (int) s;
+        ab += s >>> Integer.SIZE;
+    }
+
     /**
      * Adds the value.
      *
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Represents a state object for computing a statistic over weighted {@code double}
+ * valued input(s).
+ *
+ * <p>The weights are frequency weights: for integer weights the result is the same
+ * as the statistic of the values where each value is repeated by its weight.
+ *
+ * @since 1.2
+ */
+public interface WeightedDoubleStatistic extends StatisticResult {
+    /**
+     * Updates the state of the statistic to reflect the addition of {@code value}
+     * with the specified {@code weight}.
+     *
+     * @param value Value.
+     * @param weight Weight.
+     * @throws IllegalArgumentException if the weight is negative, infinite or {@code NaN}
+     */
+    void accept(double value, double weight);
+
+    /**
+     * Updates the state of the statistic to reflect the addition of the {@code values}
+     * with the specified {@code weights}.
+     *
+     * <p>The result is the same as calling {@link #accept(double, double) accept} for each
+     * value in order.
+     *
+     * @param values Values.
+     * @param weights Weights.
+     * @throws IllegalArgumentException if the values and weights have different lengths;
+     * or any weight is negative, infinite or {@code NaN}
+     */
+    default void accept(double[] values, double[] weights) {
+        Statistics.checkWeightsLength(values, weights);
+        for (int i = 0; i < values.length; i++) {
+            accept(values[i], weights[i]);
+        }
+    }
+}
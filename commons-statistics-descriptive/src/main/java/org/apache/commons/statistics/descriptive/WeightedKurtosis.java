@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Computes the weighted kurtosis of the available values. The default implementation uses
+ * the definition of the <em>sample kurtosis</em> of {@link Kurtosis} using frequency weights:
+ *
+ * <p>\[ G_2 = \frac{W-1}{(W-2)\,(W-3)} \left[(W+1)\,\frac{m_4}{m_{2}^2} - 3\,(W-1) \right] \]
+ *
+ * <p>where \( m_k = \tfrac{1}{W} \sum_{i=1}^n w_i (x_i-\overline{x})^k \),
+ * \( \overline{x} \) is the weighted sample mean, \( w_i \) is the weight of value
+ * \( x_i \) and \( W = \sum_{i=1}^n w_i \). If the {@link #setBiased(boolean) biased}
+ * option is enabled the result is the method of moments estimator
+ * \( g_2 = \frac{m_4}{m_2^2} - 3 \).
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if the sum of the weights is less than 4; or less than 2
+ *       if the biased option is enabled.
+ *   <li>The result is {@code NaN} if any of the values is {@code NaN} or infinite.
+ *   <li>The result is {@code NaN} if the sum of the fourth deviations from the mean is infinite.
+ *   <li>The result is {@code NaN} if the variance is effectively zero.
+ * </ul>
+ *
+ * <p>Note that the result is computed using a recursive updating algorithm and the result
+ * may be different from the corresponding unweighted statistic computed using an array
+ * of repeated values.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access an instance of this class concurrently, and at least
+ * one of the threads invokes the {@link WeightedDoubleStatistic#accept(double, double) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as the {@code combiner} function of a {@link java.util.stream.Collector Collector} on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ *
+ * <p>References:
+ * <ul>
+ *   <li>Pébay, P. (2008)
+ *       Formulas for Robust, One-Pass Parallel Computation of Covariances and Arbitrary-Order
+ *       Statistical Moments.
+ *       Technical Report SAND2008-6212, Sandia National Laboratories.
+ *       <a href="https://doi.org/10.2172/1028931">doi: 10.2172/1028931</a>
+ * </ul>
+ *
+ * @see Kurtosis
+ * @since 1.2
+ */
+public final class WeightedKurtosis implements WeightedDoubleStatistic, StatisticAccumulator<WeightedKurtosis> {
+    /** Flag to control if the statistic is biased, or should use a bias correction. */
+    private boolean biased;
+    /** Moments of the weighted values. */
+    private final WeightedMoment moment = new WeightedMoment(4);
+
+    /**
+     * Create an instance.
+     */
+    private WeightedKurtosis() {
+        // No-op
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @return {@code WeightedKurtosis} instance.
+     */
+    public static WeightedKurtosis create() {
+        return new WeightedKurtosis();
+    }
+
+    /**
+     * Returns an instance populated using the input {@code values} with the
+     * specified {@code weights}.
+     *
+     * @param values Values.
+     * @param weights Weights.
+     * @return {@code WeightedKurtosis} instance.
+     * @throws IllegalArgumentException if the values and weights have different lengths;
+     * or any weight is negative, infinite or {@code NaN}
+     */
+    public static WeightedKurtosis of(double[] values, double[] weights) {
+        final WeightedKurtosis s = new WeightedKurtosis();
+        s.accept(values, weights);
+        return s;
+    }
+
+    @Override
+    public void accept(double value, double weight) {
+        moment.accept(value, weight);
+    }
+
+    /**
+     * Gets the sum of the weights of all input values.
+     *
+     * @return the sum of the weights
+     */
+    public double getSumOfWeights() {
+        return moment.getWeight();
+    }
+
+    /**
+     * Gets the weighted kurtosis of all input values.
+     *
+     * <p>When fewer than 4 (weighted) values have been added, the result is {@code NaN}.
+     *
+     * @return kurtosis of all values.
+     */
+    @Override
+    public double getAsDouble() {
+        // This method checks the sum of squared or fourth deviations is finite
+        // to provide a consistent NaN when the computation is not possible.
+        final double n = moment.getWeight();
+        if (n < (biased ? 2 : 4)) {
+            return Double.NaN;
+        }
+        final double x2 = moment.getSumOfSquaredDeviations();
+        if (!Double.isFinite(x2)) {
+            return Double.NaN;
+        }
+        final double x4 = moment.getSumOfFourthDeviations();
+        if (!Double.isFinite(x4)) {
+            return Double.NaN;
+        }
+        // Avoid a divide by zero; for a negligible variance return NaN.
+        final double m2 = x2 / n;
+        if (Statistics.zeroVariance(moment.getFirstMoment(), m2)) {
+            return Double.NaN;
+        }
+        final double m4 = x4 / n;
+        if (biased) {
+            return m4 / (m2 * m2) - 3;
+        }
+        return ((n * n - 1) * m4 / (m2 * m2) - 3 * (n - 1) * (n - 1)) / ((n - 2) * (n - 3));
+    }
+
+    @Override
+    public WeightedKurtosis combine(WeightedKurtosis other) {
+        moment.combine(other.moment);
+        return this;
+    }
+
+    /**
+     * Sets the value of the biased flag. The default value is {@code false}.
+     * See {@link WeightedKurtosis} for details on the computing algorithm.
+     *
+     * <p>This flag only controls the final computation of the statistic. The value of
+     * this flag will not affect compatibility between instances during a
+     * {@link #combine(WeightedKurtosis) combine} operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     */
+    public WeightedKurtosis setBiased(boolean v) {
+        biased = v;
+        return this;
+    }
+}
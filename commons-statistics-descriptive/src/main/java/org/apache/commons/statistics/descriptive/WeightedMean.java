@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Computes the weighted arithmetic mean of the available values:
+ *
+ * <p>\[ \frac{\sum_{i=1}^n w_i x_i}{\sum_{i=1}^n w_i} \]
+ *
+ * <p>where \( w_i \) is the weight of value \( x_i \). The weights are frequency
+ * weights; values with a zero weight are ignored.
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values with a non-zero weight are added.
+ *   <li>The result is {@code NaN} if any of the values is {@code NaN}, or the values include
+ *       infinite values of opposite sign.
+ *   <li>The result is {@code +/-infinity} if values include infinite values of same sign.
+ *   <li>The result is finite if all input values are finite.
+ * </ul>
+ *
+ * <p>The mean is computed using scaling to protect from overflow for all finite input.
+ *
+ * <p>Note that the result is computed using a recursive updating algorithm and the result
+ * may be different from the corresponding unweighted statistic computed using an array
+ * of repeated values.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access an instance of this class concurrently, and at least
+ * one of the threads invokes the {@link WeightedDoubleStatistic#accept(double, double) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as the {@code combiner} function of a {@link java.util.stream.Collector Collector} on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ *
+ * <p>References:
+ * <ul>
+ *   <li>Pébay, P. (2008)
+ *       Formulas for Robust, One-Pass Parallel Computation of Covariances and Arbitrary-Order
+ *       Statistical Moments.
+ *       Technical Report SAND2008-6212, Sandia National Laboratories.
+ *       <a href="https://doi.org/10.2172/1028931">doi: 10.2172/1028931</a>
+ * </ul>
+ *
+ * @see Mean
+ * @since 1.2
+ */
+public final class WeightedMean implements WeightedDoubleStatistic, StatisticAccumulator<WeightedMean> {
+    /** Moments of the weighted values. */
+    private final WeightedMoment moment = new WeightedMoment(1);
+
+    /**
+     * Create an instance.
+     */
+    private WeightedMean() {
+        // No-op
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @return {@code WeightedMean} instance.
+     */
+    public static WeightedMean create() {
+        return new WeightedMean();
+    }
+
+    /**
+     * Returns an instance populated using the input {@code values} with the
+     * specified {@code weights}.
+     *
+     * @param values Values.
+     * @param weights Weights.
+     * @return {@code WeightedMean} instance.
+     * @throws IllegalArgumentException if the values and weights have different lengths;
+     * or any weight is negative, infinite or {@code NaN}
+     */
+    public static WeightedMean of(double[] values, double[] weights) {
+        final WeightedMean s = new WeightedMean();
+        s.accept(values, weights);
+        return s;
+    }
+
+    @Override
+    public void accept(double value, double weight) {
+        moment.accept(value, weight);
+    }
+
+    /**
+     * Gets the sum of the weights of all input values.
+     *
+     * @return the sum of the weights
+     */
+    public double getSumOfWeights() {
+        return moment.getWeight();
+    }
+
+    /**
+     * Gets the weighted mean of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return mean of all values.
+     */
+    @Override
+    public double getAsDouble() {
+        return moment.getFirstMoment();
+    }
+
+    @Override
+    public WeightedMean combine(WeightedMean other) {
+        moment.combine(other.moment);
+        return this;
+    }
+}
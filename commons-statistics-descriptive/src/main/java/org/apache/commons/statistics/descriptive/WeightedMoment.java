@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Computes the first moment (arithmetic mean) and the sums of the squared, cubed and
+ * fourth power deviations from the mean of weighted values.
+ *
+ * <p>The moments are computed up to a configured order. The update of a value {@code x}
+ * with weight {@code w} uses the formula to combine two samples (Pébay (2008)) where
+ * the second sample contains the single value with a size of {@code w}:
+ *
+ * <p>Let
+ * <ul>
+ *  <li> W = the total weight (including the current weight)
+ *  <li> d = x - (previous mean)
+ *  <li> r = w / W
+ * </ul>
+ * <p>Then
+ * <ul>
+ *  <li> M4 = M4 + d^4 (W - w) w ((W - w)^2 - (W - w) w + w^2) / W^3 + 6 d^2 r^2 M2 - 4 d r M3
+ *  <li> M3 = M3 + d^3 (W - w) w (W - 2w) / W^2 - 3 d r M2
+ *  <li> M2 = M2 + d^2 (W - w) r
+ *  <li> m = m + d r
+ * </ul>
+ *
+ * <p>For unit weights this is the updating formula of {@link FirstMoment} and its
+ * sub-classes. As in {@link FirstMoment} the mean is computed using scaling to protect
+ * from overflow for all finite input. Values with a zero weight are ignored.
+ *
+ * <p>References:
+ * <ul>
+ *   <li>Pébay, P. (2008)
+ *       Formulas for Robust, One-Pass Parallel Computation of Covariances and Arbitrary-Order
+ *       Statistical Moments.
+ *       Technical Report SAND2008-6212, Sandia National Laboratories.
+ *       <a href="https://doi.org/10.2172/1028931">doi: 10.2172/1028931</a>
+ * </ul>
+ *
+ * @since 1.2
+ */
+final class WeightedMoment {
+    /** The downscale constant. Used to avoid overflow for all finite input. */
+    private static final double DOWNSCALE = 0.5;
+    /** The rescale constant. */
+    private static final double RESCALE = 2;
+
+    /** Highest order of the moment to compute. */
+    private final int order;
+    /** Sum of the weights. */
+    private double w;
+    /** First moment of values that have been added.
+     * This is stored as a half value to prevent overflow for any finite input. */
+    private double m1;
+    /** Sum of squared deviations. */
+    private double m2;
+    /** Sum of cubed deviations. */
+    private double m3;
+    /** Sum of fourth power deviations. */
+    private double m4;
+    /**
+     * Running weighted sum of values seen so far. Used as a return value for the first
+     * moment when it is non-finite.
+     */
+    private double nonFiniteValue;
+
+    /**
+     * Create an instance.
+     *
+     * @param order Highest order of the moment to compute (in [1, 4]).
+     */
+    WeightedMoment(int order) {
+        this.order = order;
+    }
+
+    /**
+     * Updates the state of the statistic to reflect the addition of {@code value}
+     * with the specified {@code weight}.
+     *
+     * @param value Value.
+     * @param weight Weight.
+     * @throws IllegalArgumentException if the weight is negative, infinite or {@code NaN}
+     */
+    void accept(double value, double weight) {
+        if (Statistics.checkWeight(weight) == 0) {
+            return;
+        }
+        // Note: Maintain the correct non-finite result.
+        // Scaling down values prevents overflow of finites.
+        nonFiniteValue += value * Double.MIN_NORMAL * weight;
+        final double w0 = w;
+        final double w1 = w0 + weight;
+        w = w1;
+        // Half deviation from the previous mean
+        final double dev = value * DOWNSCALE - m1;
+        final double r = weight / w1;
+        m1 += dev * r;
+        if (order == 1 || w0 == 0) {
+            return;
+        }
+        // Note: The full deviation may overflow; the sums will be non-finite.
+        final double d = dev * RESCALE;
+        final double dr = d * r;
+        final double ra = w0 / w1;
+        final double term2 = d * w0 * dr;
+        if (order > 3) {
+            m4 += term2 * d * d * (ra * ra - ra * r + r * r) +
+                6 * dr * dr * m2 - 4 * dr * m3;
+        }
+        if (order > 2) {
+            m3 += term2 * d * (ra - r) - 3 * dr * m2;
+        }
+        m2 += term2;
+    }
+
+    /**
+     * Combines the state of another {@code WeightedMoment} into this one.
+     * The other instance must compute up to the same order.
+     *
+     * @param other Another {@code WeightedMoment} to be combined.
+     * @return {@code this} instance after combining {@code other}.
+     */
+    WeightedMoment combine(WeightedMoment other) {
+        final double wb = other.w;
+        if (wb == 0) {
+            return this;
+        }
+        nonFiniteValue += other.nonFiniteValue;
+        final double wa = w;
+        if (wa == 0) {
+            w = wb;
+            m1 = other.m1;
+            m2 = other.m2;
+            m3 = other.m3;
+            m4 = other.m4;
+            return this;
+        }
+        final double wt = wa + wb;
+        w = wt;
+        // Half representation ensures the difference is finite
+        final double dev = other.m1 - m1;
+        final double r = wb / wt;
+        m1 += dev * r;
+        if (order == 1) {
+            return this;
+        }
+        final double d = dev * RESCALE;
+        final double ra = wa / wt;
+        final double f = wa * r;
+        final double d2 = d * d;
+        final double m2a = m2;
+        final double m2b = other.m2;
+        if (order > 3) {
+            m4 += other.m4 +
+                d2 * d2 * f * (ra * ra - ra * r + r * r) +
+                6 * d2 * (ra * ra * m2b + r * r * m2a) +
+                4 * d * (ra * other.m3 - r * m3);
+        }
+        if (order > 2) {
+            m3 += other.m3 +
+                d2 * d * f * (ra - r) +
+                3 * d * (ra * m2b - r * m2a);
+        }
+        m2 = m2a + m2b + d2 * f;
+        return this;
+    }
+
+    /**
+     * Gets the sum of the weights.
+     *
+     * @return the sum of the weights
+     */
+    double getWeight() {
+        return w;
+    }
+
+    /**
+     * Gets the first moment of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return {@code First moment} of all values, if it is finite;
+     *         {@code +/-Infinity}, if infinities of the same sign have been encountered;
+     *         {@code NaN} otherwise.
+     */
+    double getFirstMoment() {
+        // Scale back to the original magnitude
+        final double m = m1 * RESCALE;
+        if (Double.isFinite(m)) {
+            return w == 0 ? Double.NaN : m;
+        }
+        // A non-finite value must have been encountered, return nonFiniteValue which represents m1.
+        return nonFiniteValue;
+    }
+
+    /**
+     * Gets the sum of squared deviations of all input values.
+     *
+     * @return sum of squared deviations of all values.
+     */
+    double getSumOfSquaredDeviations() {
+        return Double.isFinite(getFirstMoment()) ? m2 : Double.NaN;
+    }
+
+    /**
+     * Gets the sum of cubed deviations of all input values.
+     *
+     * @return sum of cubed deviations of all values.
+     */
+    double getSumOfCubedDeviations() {
+        return Double.isFinite(getFirstMoment()) ? m3 : Double.NaN;
+    }
+
+    /**
+     * Gets the sum of fourth power deviations of all input values.
+     *
+     * @return sum of fourth power deviations of all values.
+     */
+    double getSumOfFourthDeviations() {
+        return Double.isFinite(getFirstMoment()) ? m4 : Double.NaN;
+    }
+}
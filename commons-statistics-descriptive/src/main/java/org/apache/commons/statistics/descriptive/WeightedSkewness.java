@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Computes the weighted skewness of the available values. The default implementation uses
+ * the definition of the <em>sample skewness</em> of {@link Skewness} using frequency weights:
+ *
+ * <p>\[ G_1 = \frac{\sqrt{W(W-1)}}{W-2}\; g_1 = \frac{\sqrt{W(W-1)}}{W-2}\;
+ *       \frac{\tfrac{1}{W} \sum_{i=1}^n w_i (x_i-\overline{x})^3}
+ *            {\left[\tfrac{1}{W} \sum_{i=1}^n w_i (x_i-\overline{x})^2 \right]^{3/2}} \]
+ *
+ * <p>where \( \overline{x} \) is the weighted sample mean, \( w_i \) is the weight of value
+ * \( x_i \) and \( W = \sum_{i=1}^n w_i \). If the {@link #setBiased(boolean) biased}
+ * option is enabled the result is the method of moments estimator \( g_1 \).
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if the sum of the weights is less than 3; or less than 2
+ *       if the biased option is enabled.
+ *   <li>The result is {@code NaN} if any of the values is {@code NaN} or infinite.
+ *   <li>The result is {@code NaN} if the sum of the cubed deviations from the mean is infinite.
+ *   <li>The result is {@code NaN} if the variance is effectively zero.
+ * </ul>
+ *
+ * <p>Note that the result is computed using a recursive updating algorithm and the result
+ * may be different from the corresponding unweighted statistic computed using an array
+ * of repeated values.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access an instance of this class concurrently, and at least
+ * one of the threads invokes the {@link WeightedDoubleStatistic#accept(double, double) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as the {@code combiner} function of a {@link java.util.stream.Collector Collector} on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ *
+ * <p>References:
+ * <ul>
+ *   <li>Pébay, P. (2008)
+ *       Formulas for Robust, One-Pass Parallel Computation of Covariances and Arbitrary-Order
+ *       Statistical Moments.
+ *       Technical Report SAND2008-6212, Sandia National Laboratories.
+ *       <a href="https://doi.org/10.2172/1028931">doi: 10.2172/1028931</a>
+ * </ul>
+ *
+ * @see Skewness
+ * @since 1.2
+ */
+public final class WeightedSkewness implements WeightedDoubleStatistic, StatisticAccumulator<WeightedSkewness> {
+    /** Flag to control if the statistic is biased, or should use a bias correction. */
+    private boolean biased;
+    /** Moments of the weighted values. */
+    private final WeightedMoment moment = new WeightedMoment(3);
+
+    /**
+     * Create an instance.
+     */
+    private WeightedSkewness() {
+        // No-op
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @return {@code WeightedSkewness} instance.
+     */
+    public static WeightedSkewness create() {
+        return new WeightedSkewness();
+    }
+
+    /**
+     * Returns an instance populated using the input {@code values} with the
+     * specified {@code weights}.
+     *
+     * @param values Values.
+     * @param weights Weights.
+     * @return {@code WeightedSkewness} instance.
+     * @throws IllegalArgumentException if the values and weights have different lengths;
+     * or any weight is negative, infinite or {@code NaN}
+     */
+    public static WeightedSkewness of(double[] values, double[] weights) {
+        final WeightedSkewness s = new WeightedSkewness();
+        s.accept(values, weights);
+        return s;
+    }
+
+    @Override
+    public void accept(double value, double weight) {
+        moment.accept(value, weight);
+    }
+
+    /**
+     * Gets the sum of the weights of all input values.
+     *
+     * @return the sum of the weights
+     */
+    public double getSumOfWeights() {
+        return moment.getWeight();
+    }
+
+    /**
+     * Gets the weighted skewness of all input values.
+     *
+     * <p>When fewer than 3 (weighted) values have been added, the result is {@code NaN}.
+     *
+     * @return skewness of all values.
+     */
+    @Override
+    public double getAsDouble() {
+        // This method checks the sum of squared or cubed deviations is finite
+        // and the value of the biased variance
+        // to provide a consistent result when the computation is not possible.
+        final double n = moment.getWeight();
+        if (n < (biased ? 2 : 3)) {
+            return Double.NaN;
+        }
+        final double x2 = moment.getSumOfSquaredDeviations();
+        if (!Double.isFinite(x2)) {
+            return Double.NaN;
+        }
+        final double x3 = moment.getSumOfCubedDeviations();
+        if (!Double.isFinite(x3)) {
+            return Double.NaN;
+        }
+        // Avoid a divide by zero; for a negligible variance return NaN.
+        final double m2 = x2 / n;
+        if (Statistics.zeroVariance(moment.getFirstMoment(), m2)) {
+            return Double.NaN;
+        }
+        // denom = pow(m2, 1.5)
+        final double denom = Math.sqrt(m2) * m2;
+        final double m3 = x3 / n;
+        double g1 = m3 / denom;
+        if (!biased) {
+            g1 *= Math.sqrt(n * (n - 1)) / (n - 2);
+        }
+        return g1;
+    }
+
+    @Override
+    public WeightedSkewness combine(WeightedSkewness other) {
+        moment.combine(other.moment);
+        return this;
+    }
+
+    /**
+     * Sets the value of the biased flag. The default value is {@code false}.
+     * See {@link WeightedSkewness} for details on the computing algorithm.
+     *
+     * <p>This flag only controls the final computation of the statistic. The value of
+     * this flag will not affect compatibility between instances during a
+     * {@link #combine(WeightedSkewness) combine} operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     */
+    public WeightedSkewness setBiased(boolean v) {
+        biased = v;
+        return this;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+/**
+ * Computes the weighted variance of the available values. The default implementation uses
+ * the following definition of the <em>sample variance</em> for frequency weights:
+ *
+ * <p>\[ \frac{1}{W-1} \sum_{i=1}^n w_i (x_i-\overline{x})^2 \]
+ *
+ * <p>where \( \overline{x} \) is the weighted sample mean, \( w_i \) is the weight of value
+ * \( x_i \) and \( W = \sum_{i=1}^n w_i \). If the {@link #setBiased(boolean) biased}
+ * option is enabled the normalisation factor is changed to \( \frac{1}{W} \).
+ *
+ * <ul>
+ *   <li>The result is {@code NaN} if no values with a non-zero weight are added.
+ *   <li>The result is {@code NaN} if any of the values is {@code NaN} or infinite.
+ *   <li>The result is {@code NaN} if the sum of the squared deviations from the mean is infinite.
+ *   <li>The result is zero if the sum of the weights is not above 1 and the biased
+ *       option is disabled. For integer weights this is a single value.
+ * </ul>
+ *
+ * <p>Note that the result is computed using a recursive updating algorithm and the result
+ * may be different from the corresponding unweighted statistic computed using an array
+ * of repeated values.
+ *
+ * <p>This class is designed to work with (though does not require)
+ * {@linkplain java.util.stream streams}.
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access an instance of this class concurrently, and at least
+ * one of the threads invokes the {@link WeightedDoubleStatistic#accept(double, double) accept} or
+ * {@link StatisticAccumulator#combine(StatisticResult) combine} method, it must be synchronized externally.
+ *
+ * <p>However, it is safe to use {@link StatisticAccumulator#combine(StatisticResult) combine}
+ * as the {@code combiner} function of a {@link java.util.stream.Collector Collector} on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the necessary partitioning,
+ * isolation, and merging of results for safe and efficient parallel execution.
+ *
+ * <p>References:
+ * <ul>
+ *   <li>Pébay, P. (2008)
+ *       Formulas for Robust, One-Pass Parallel Computation of Covariances and Arbitrary-Order
+ *       Statistical Moments.
+ *       Technical Report SAND2008-6212, Sandia National Laboratories.
+ *       <a href="https://doi.org/10.2172/1028931">doi: 10.2172/1028931</a>
+ * </ul>
+ *
+ * @see Variance
+ * @since 1.2
+ */
+public final class WeightedVariance implements WeightedDoubleStatistic, StatisticAccumulator<WeightedVariance> {
+    /** Flag to control if the statistic is biased, or should use a bias correction. */
+    private boolean biased;
+    /** Moments of the weighted values. */
+    private final WeightedMoment moment = new WeightedMoment(2);
+
+    /**
+     * Create an instance.
+     */
+    private WeightedVariance() {
+        // No-op
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * <p>The initial result is {@code NaN}.
+     *
+     * @return {@code WeightedVariance} instance.
+     */
+    public static WeightedVariance create() {
+        return new WeightedVariance();
+    }
+
+    /**
+     * Returns an instance populated using the input {@code values} with the
+     * specified {@code weights}.
+     *
+     * @param values Values.
+     * @param weights Weights.
+     * @return {@code WeightedVariance} instance.
+     * @throws IllegalArgumentException if the values and weights have different lengths;
+     * or any weight is negative, infinite or {@code NaN}
+     */
+    public static WeightedVariance of(double[] values, double[] weights) {
+        final WeightedVariance s = new WeightedVariance();
+        s.accept(values, weights);
+        return s;
+    }
+
+    @Override
+    public void accept(double value, double weight) {
+        moment.accept(value, weight);
+    }
+
+    /**
+     * Gets the sum of the weights of all input values.
+     *
+     * @return the sum of the weights
+     */
+    public double getSumOfWeights() {
+        return moment.getWeight();
+    }
+
+    /**
+     * Gets the weighted variance of all input values.
+     *
+     * <p>When no values have been added, the result is {@code NaN}.
+     *
+     * @return variance of all values.
+     */
+    @Override
+    public double getAsDouble() {
+        // This method checks the sum of squared is finite
+        // to provide a consistent NaN when the computation is not possible.
+        final double w = moment.getWeight();
+        if (w == 0) {
+            return Double.NaN;
+        }
+        final double m2 = moment.getSumOfSquaredDeviations();
+        if (!Double.isFinite(m2)) {
+            return Double.NaN;
+        }
+        if (biased) {
+            return m2 / w;
+        }
+        // Avoid a divide by zero (or negative)
+        return w <= 1 ? 0 : m2 / (w - 1);
+    }
+
+    @Override
+    public WeightedVariance combine(WeightedVariance other) {
+        moment.combine(other.moment);
+        return this;
+    }
+
+    /**
+     * Sets the value of the biased flag. The default value is {@code false}.
+     * See {@link WeightedVariance} for details on the computing algorithm.
+     *
+     * <p>This flag only controls the final computation of the statistic. The value of
+     * this flag will not affect compatibility between instances during a
+     * {@link #combine(WeightedVariance) combine} operation.
+     *
+     * @param v Value.
+     * @return {@code this} instance
+     */
+    public WeightedVariance setBiased(boolean v) {
+        biased = v;
+        return this;
+    }
+}
@@ -63,6 +63,7 @@ import org.junit.jupiter.params.provider.MethodSource;
  * <ul>
  *  <li>{@link #create()}: Create an empty statistic.
  *  <li>{@link #create(double...)}: Create a statistic from a set of values.
+ *  <li>{@link #create(double[], int, int)}: Create a statistic from a range of a set of values.
  *  <li>{@link #getEmptyValue()}: The expected value of a statistic when not enough values have
  *      been observed. The minimum number of values can be provided in {@link #getEmptySize()}.
  *  <li>{@link #getExpectedValue(double[])}: A method to compute an expected value for the
@@ -400,6 +401,16 @@ abstract class BaseDoubleStatisticTest<S extends DoubleStatistic & StatisticAccu
      */
     protected abstract S create(double... values);
 
+    /**
+     * Creates the statistic from the specified range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the statistic
+     */
+    protected abstract S create(double[] values, int from, int to);
+
     /**
      * Get the maximum number of values that can be added where the statistic is
      * considered empty.
@@ -1013,6 +1024,20 @@ abstract class BaseDoubleStatisticTest<S extends DoubleStatistic & StatisticAccu
         assertStatistic(this::create, values, expected, tol);
     }
 
+    /**
+     * Test the computation of the statistic using the {@link #create(double[], int, int)} method.
+     */
+    @ParameterizedTest
+    @MethodSource(value = "testArray")
+    final void testArrayRange(double[] values, double expected, DoubleTolerance tol) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final double[] padded = new double[values.length + 2 * padding];
+        Arrays.fill(padded, Double.NaN);
+        System.arraycopy(values, 0, padded, padding, values.length);
+        assertStatistic(v -> create(padded, padding, padding + v.length), values, expected, tol);
+    }
+
     /**
      * Test the computation of the statistic using the
      * {@link java.util.function.DoubleConsumer#accept(double) accept} method for each
@@ -1037,6 +1062,40 @@ abstract class BaseDoubleStatisticTest<S extends DoubleStatistic & StatisticAccu
         assertCombine(this::create, values, expected, tol);
     }
 
+    /**
+     * Test the {@link DoubleStatistic#accept(double[], int, int) accept} method for a range
+     * of values is the same as calling {@link java.util.function.DoubleConsumer#accept(double) accept}
+     * for each value.
+     */
+    @ParameterizedTest
+    @MethodSource(value = "testAccept")
+    final void testAcceptRange(double[] values) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final double[] padded = new double[values.length + 2 * padding];
+        Arrays.fill(padded, Double.NaN);
+        System.arraycopy(values, 0, padded, padding, values.length);
+        final S expected = Statistics.add(create(), values);
+        final S actual = create();
+        actual.accept(padded, padding, padding + values.length);
+        Assertions.assertEquals(expected.getAsDouble(), actual.getAsDouble(),
+            () -> statisticName + " accept range");
+        // Update a non-empty instance
+        Statistics.add(expected, values);
+        actual.accept(padded, padding, padding + values.length);
+        Assertions.assertEquals(expected.getAsDouble(), actual.getAsDouble(),
+            () -> statisticName + " accept range (repeat)");
+    }
+
+    @Test
+    void testAcceptRangeThrows() {
+        final S s = create();
+        final double[] values = new double[3];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, -1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, 2, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, 0, 4));
+    }
+
     /**
      * Test the {@link StatisticAccumulator#combine(StatisticResult) combine} method
      * with an empty instance combined with a non-empty instance.
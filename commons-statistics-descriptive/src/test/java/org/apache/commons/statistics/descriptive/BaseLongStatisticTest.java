@@ -70,6 +70,7 @@ import org.junit.jupiter.params.provider.MethodSource;
  *      test tolerances are configured for {@code double} result types.
  *  <li>{@link #create()}: Create an empty statistic.
  *  <li>{@link #create(long...)}: Create a statistic from a set of values.
+ *  <li>{@link #create(long[], int, int)}: Create a statistic from a range of a set of values.
  *  <li>{@link #getEmptyValue()}: The expected value of a statistic when not enough values have
  *      been observed. The minimum number of values can be provided in {@link #getEmptySize()}.
  *  <li>{@link #getExpectedValue(long[])}: A method to compute an expected value for the
@@ -369,6 +370,16 @@ abstract class BaseLongStatisticTest<S extends LongStatistic & StatisticAccumula
      */
     protected abstract S create(long... values);
 
+    /**
+     * Creates the statistic from the specified range of {@code values}.
+     *
+     * @param values Values.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @return the statistic
+     */
+    protected abstract S create(long[] values, int from, int to);
+
     /**
      * Map the {@code value} to the valid domain of the statistic. This method is called
      * with the example data before {@link #getExpectedValue(long[])}. It can be used by
@@ -905,6 +916,21 @@ abstract class BaseLongStatisticTest<S extends LongStatistic & StatisticAccumula
         assertStatistic(this::create, values, expected, tol);
     }
 
+    /**
+     * Test the computation of the statistic using the {@link #create(long[], int, int)} method.
+     */
+    @ParameterizedTest
+    @MethodSource(value = "testArray")
+    final void testArrayRange(long[] values, StatisticResult expected, DoubleTolerance tol) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final long[] padded = new long[values.length + 2 * padding];
+        Arrays.fill(padded, 0, padding, Long.MIN_VALUE);
+        Arrays.fill(padded, padding + values.length, padded.length, Long.MAX_VALUE);
+        System.arraycopy(values, 0, padded, padding, values.length);
+        assertStatistic(v -> create(padded, padding, padding + v.length), values, expected, tol);
+    }
+
     /**
      * Test the computation of the statistic using the
      * {@link java.util.function.LongConsumer#accept(long) accept} method for each
@@ -929,6 +955,41 @@ abstract class BaseLongStatisticTest<S extends LongStatistic & StatisticAccumula
         assertCombine(this::create, values, expected, tol);
     }
 
+    /**
+     * Test the {@link LongStatistic#accept(long[], int, int) accept} method for a range
+     * of values is the same as calling {@link java.util.function.LongConsumer#accept(long) accept}
+     * for each value.
+     */
+    @ParameterizedTest
+    @MethodSource(value = "testAccept")
+    final void testAcceptRange(long[] values) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final long[] padded = new long[values.length + 2 * padding];
+        Arrays.fill(padded, 0, padding, Long.MIN_VALUE);
+        Arrays.fill(padded, padding + values.length, padded.length, Long.MAX_VALUE);
+        System.arraycopy(values, 0, padded, padding, values.length);
+        final S expected = Statistics.add(create(), values);
+        final S actual = create();
+        actual.accept(padded, padding, padding + values.length);
+        TestHelper.assertEquals(expected, actual, null,
+            () -> statisticName + " accept range");
+        // Update a non-empty instance
+        Statistics.add(expected, values);
+        actual.accept(padded, padding, padding + values.length);
+        TestHelper.assertEquals(expected, actual, null,
+            () -> statisticName + " accept range (repeat)");
+    }
+
+    @Test
+    void testAcceptRangeThrows() {
+        final S s = create();
+        final long[] values = new long[3];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, -1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, 2, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, 0, 4));
+    }
+
     /**
      * Test the {@link StatisticAccumulator#combine(StatisticResult) combine} method
      * with an empty instance combined with a non-empty instance.
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link ConcurrentDoubleStatistics}.
+ */
+class ConcurrentDoubleStatisticsTest {
+    @Test
+    void testNoStatisticsThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConcurrentDoubleStatistics.of());
+    }
+
+    @Test
+    void testUnsupportedStatisticThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ConcurrentDoubleStatistics.of(Statistic.DISTINCT_COUNT));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ConcurrentDoubleStatistics.collector((Double x) -> x, Statistic.DISTINCT_COUNT));
+    }
+
+    @Test
+    void testRangeThrows() {
+        final ConcurrentDoubleStatistics s = ConcurrentDoubleStatistics.of(Statistic.MIN);
+        final double[] values = {1, 2, 3};
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, 2, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, 0, 4));
+    }
+
+    @Test
+    void testEmpty() {
+        final ConcurrentDoubleStatistics s = ConcurrentDoubleStatistics.of(Statistic.MIN, Statistic.MEAN);
+        Assertions.assertEquals(0, s.getCount());
+        final DoubleStatistics stats = s.snapshot();
+        Assertions.assertEquals(0, stats.getCount());
+        Assertions.assertTrue(stats.isSupported(Statistic.MIN));
+        Assertions.assertFalse(stats.isSupported(Statistic.MAX));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, stats.getAsDouble(Statistic.MIN));
+        Assertions.assertEquals(Double.NaN, stats.getAsDouble(Statistic.MEAN));
+    }
+
+    @Test
+    void testSnapshot() {
+        final ConcurrentDoubleStatistics s = ConcurrentDoubleStatistics.of(Statistic.MIN, Statistic.MAX);
+        s.accept(3);
+        s.accept(new double[] {0, 1, 5, 0}, 1, 3);
+        final DoubleStatistics stats = s.snapshot();
+        Assertions.assertEquals(3, stats.getCount());
+        Assertions.assertEquals(1, stats.getAsDouble(Statistic.MIN));
+        Assertions.assertEquals(5, stats.getAsDouble(Statistic.MAX));
+        // The snapshot is not updated
+        s.accept(-1);
+        Assertions.assertEquals(4, s.getCount());
+        Assertions.assertEquals(3, stats.getCount());
+        Assertions.assertEquals(1, stats.getAsDouble(Statistic.MIN));
+        Assertions.assertEquals(-1, s.snapshot().getAsDouble(Statistic.MIN));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 100000})
+    void testConcurrent(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final double[] values = rng.doubles(n, -1, 1).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.VARIANCE};
+        final ConcurrentDoubleStatistics s = ConcurrentDoubleStatistics.of(statistics);
+        IntStream.range(0, n).parallel().forEach(i -> s.accept(values[i]));
+        // Ranges
+        IntStream.range(0, 10).parallel().forEach(i -> s.accept(values, 0, n));
+        final DoubleStatistics expected = DoubleStatistics.of(statistics);
+        for (int i = 0; i < 11; i++) {
+            expected.accept(values, 0, n);
+        }
+        final DoubleStatistics actual = s.snapshot();
+        Assertions.assertEquals(expected.getCount(), s.getCount());
+        Assertions.assertEquals(expected.getCount(), actual.getCount());
+        Assertions.assertEquals(expected.getAsDouble(Statistic.MIN), actual.getAsDouble(Statistic.MIN));
+        Assertions.assertEquals(expected.getAsDouble(Statistic.MAX), actual.getAsDouble(Statistic.MAX));
+        // Combination of partial results is within rounding error
+        final double v = expected.getAsDouble(Statistic.VARIANCE);
+        Assertions.assertEquals(expected.getAsDouble(Statistic.SUM), actual.getAsDouble(Statistic.SUM), 1e-10 * n);
+        Assertions.assertEquals(v, actual.getAsDouble(Statistic.VARIANCE), Math.abs(v) * 1e-10);
+    }
+
+    @Test
+    void testCollectorNoStatisticsThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ConcurrentDoubleStatistics.collector(Double::doubleValue));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 100000})
+    void testCollector(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final double[] values = rng.doubles(n, -1, 1).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.VARIANCE};
+        final DoubleStatistics expected = DoubleStatistics.of(statistics);
+        expected.accept(values, 0, n);
+        final List<Double> list = Arrays.stream(values).boxed().collect(Collectors.toList());
+        DoubleStatisticsTest.assertStatisticsEquals(expected, list.parallelStream().collect(
+            ConcurrentDoubleStatistics.collector(Double::doubleValue, statistics)), n);
+    }
+
+    @Test
+    void testCollectorGroupingBy() {
+        final int n = 10000;
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final double[] values = rng.doubles(n, -1, 1).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.VARIANCE};
+        final Map<Integer, DoubleStatistics> map = IntStream.range(0, n).boxed().parallel()
+            .collect(Collectors.groupingByConcurrent(i -> i % 3,
+                ConcurrentDoubleStatistics.collector(i -> values[i], statistics)));
+        Assertions.assertEquals(3, map.size());
+        for (int k = 0; k < 3; k++) {
+            final DoubleStatistics expected = DoubleStatistics.of(statistics);
+            for (int i = k; i < n; i += 3) {
+                expected.accept(values[i]);
+            }
+            DoubleStatisticsTest.assertStatisticsEquals(expected, map.get(k), n);
+        }
+    }
+}
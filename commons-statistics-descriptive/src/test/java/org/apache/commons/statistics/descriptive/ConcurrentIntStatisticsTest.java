@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link ConcurrentIntStatistics}.
+ */
+class ConcurrentIntStatisticsTest {
+    @Test
+    void testNoStatisticsThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConcurrentIntStatistics.of());
+    }
+
+    @Test
+    void testRangeThrows() {
+        final ConcurrentIntStatistics s = ConcurrentIntStatistics.of(Statistic.MIN);
+        final int[] values = {1, 2, 3};
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, 2, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, 0, 4));
+    }
+
+    @Test
+    void testSnapshot() {
+        final ConcurrentIntStatistics s = ConcurrentIntStatistics.of(Statistic.MIN, Statistic.MAX);
+        Assertions.assertEquals(0, s.snapshot().getCount());
+        s.accept(3);
+        s.accept(new int[] {0, 1, 5, 0}, 1, 3);
+        final IntStatistics stats = s.snapshot();
+        Assertions.assertEquals(3, stats.getCount());
+        Assertions.assertEquals(1, stats.getAsInt(Statistic.MIN));
+        Assertions.assertEquals(5, stats.getAsInt(Statistic.MAX));
+        // The snapshot is not updated
+        s.accept(-1);
+        Assertions.assertEquals(4, s.getCount());
+        Assertions.assertEquals(3, stats.getCount());
+        Assertions.assertEquals(-1, s.snapshot().getAsInt(Statistic.MIN));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 100000})
+    void testConcurrent(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final int[] values = rng.ints(n).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN};
+        final ConcurrentIntStatistics s = ConcurrentIntStatistics.of(statistics);
+        IntStream.range(0, n).parallel().forEach(i -> s.accept(values[i]));
+        IntStream.range(0, 10).parallel().forEach(i -> s.accept(values, 0, n));
+        final IntStatistics expected = IntStatistics.of(statistics);
+        for (int i = 0; i < 11; i++) {
+            expected.accept(values, 0, n);
+        }
+        // Integer statistics are exact
+        final IntStatistics actual = s.snapshot();
+        Assertions.assertEquals(expected.getCount(), s.getCount());
+        Assertions.assertEquals(expected.getCount(), actual.getCount());
+        for (final Statistic statistic : statistics) {
+            Assertions.assertEquals(expected.getAsDouble(statistic), actual.getAsDouble(statistic),
+                statistic::toString);
+        }
+    }
+
+    @Test
+    void testCollectorNoStatisticsThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ConcurrentIntStatistics.collector(Integer::intValue));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 100000})
+    void testCollector(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final int[] values = rng.ints(n).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN};
+        final IntStatistics expected = IntStatistics.of(statistics);
+        expected.accept(values, 0, n);
+        final List<Integer> list = Arrays.stream(values).boxed().collect(Collectors.toList());
+        IntStatisticsTest.assertStatisticsEquals(expected, list.parallelStream().collect(
+            ConcurrentIntStatistics.collector(Integer::intValue, statistics)));
+    }
+
+    @Test
+    void testCollectorGroupingBy() {
+        final int n = 10000;
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final int[] values = rng.ints(n).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN};
+        final Map<Integer, IntStatistics> map = IntStream.range(0, n).boxed().parallel()
+            .collect(Collectors.groupingByConcurrent(i -> i % 3,
+                ConcurrentIntStatistics.collector(i -> values[i], statistics)));
+        Assertions.assertEquals(3, map.size());
+        for (int k = 0; k < 3; k++) {
+            final IntStatistics expected = IntStatistics.of(statistics);
+            for (int i = k; i < n; i += 3) {
+                expected.accept(values[i]);
+            }
+            IntStatisticsTest.assertStatisticsEquals(expected, map.get(k));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link ConcurrentLongStatistics}.
+ */
+class ConcurrentLongStatisticsTest {
+    @Test
+    void testNoStatisticsThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConcurrentLongStatistics.of());
+    }
+
+    @Test
+    void testRangeThrows() {
+        final ConcurrentLongStatistics s = ConcurrentLongStatistics.of(Statistic.MIN);
+        final long[] values = {1, 2, 3};
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, 2, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, 0, 4));
+    }
+
+    @Test
+    void testSnapshot() {
+        final ConcurrentLongStatistics s = ConcurrentLongStatistics.of(Statistic.MIN, Statistic.MAX);
+        Assertions.assertEquals(0, s.snapshot().getCount());
+        s.accept(3);
+        s.accept(new long[] {0, 1, 5, 0}, 1, 3);
+        final LongStatistics stats = s.snapshot();
+        Assertions.assertEquals(3, stats.getCount());
+        Assertions.assertEquals(1, stats.getAsLong(Statistic.MIN));
+        Assertions.assertEquals(5, stats.getAsLong(Statistic.MAX));
+        // The snapshot is not updated
+        s.accept(-1);
+        Assertions.assertEquals(4, s.getCount());
+        Assertions.assertEquals(3, stats.getCount());
+        Assertions.assertEquals(-1, s.snapshot().getAsLong(Statistic.MIN));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 100000})
+    void testConcurrent(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final long[] values = rng.longs(n).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN};
+        final ConcurrentLongStatistics s = ConcurrentLongStatistics.of(statistics);
+        IntStream.range(0, n).parallel().forEach(i -> s.accept(values[i]));
+        IntStream.range(0, 10).parallel().forEach(i -> s.accept(values, 0, n));
+        final LongStatistics expected = LongStatistics.of(statistics);
+        for (int i = 0; i < 11; i++) {
+            expected.accept(values, 0, n);
+        }
+        // Integer statistics are exact
+        final LongStatistics actual = s.snapshot();
+        Assertions.assertEquals(expected.getCount(), s.getCount());
+        Assertions.assertEquals(expected.getCount(), actual.getCount());
+        for (final Statistic statistic : statistics) {
+            Assertions.assertEquals(expected.getAsDouble(statistic), actual.getAsDouble(statistic),
+                statistic::toString);
+        }
+    }
+
+    @Test
+    void testCollectorNoStatisticsThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ConcurrentLongStatistics.collector(Long::longValue));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 100000})
+    void testCollector(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final long[] values = rng.longs(n).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN};
+        final LongStatistics expected = LongStatistics.of(statistics);
+        expected.accept(values, 0, n);
+        final List<Long> list = Arrays.stream(values).boxed().collect(Collectors.toList());
+        LongStatisticsTest.assertStatisticsEquals(expected, list.parallelStream().collect(
+            ConcurrentLongStatistics.collector(Long::longValue, statistics)));
+    }
+
+    @Test
+    void testCollectorGroupingBy() {
+        final int n = 10000;
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final long[] values = rng.longs(n).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN};
+        final Map<Integer, LongStatistics> map = IntStream.range(0, n).boxed().parallel()
+            .collect(Collectors.groupingByConcurrent(i -> i % 3,
+                ConcurrentLongStatistics.collector(i -> values[i], statistics)));
+        Assertions.assertEquals(3, map.size());
+        for (int k = 0; k < 3; k++) {
+            final LongStatistics expected = LongStatistics.of(statistics);
+            for (int i = k; i < n; i += 3) {
+                expected.accept(values[i]);
+            }
+            LongStatisticsTest.assertStatisticsEquals(expected, map.get(k));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link Correlation}, {@link IntCorrelation} and {@link LongCorrelation}.
+ */
+class CorrelationTest {
+    @Test
+    void testLengthMismatchThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Correlation.of(new double[2], new double[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntCorrelation.of(new int[2], new int[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongCorrelation.of(new long[2], new long[3]));
+    }
+
+    @Test
+    void testUndefined() {
+        Assertions.assertEquals(Double.NaN, Correlation.create().getAsDouble());
+        Assertions.assertEquals(Double.NaN, IntCorrelation.create().getAsDouble());
+        Assertions.assertEquals(Double.NaN, LongCorrelation.create().getAsDouble());
+        Assertions.assertEquals(Double.NaN, Correlation.of(new double[] {1}, new double[] {2}).getAsDouble());
+        Assertions.assertEquals(Double.NaN, IntCorrelation.of(new int[] {1}, new int[] {2}).getAsDouble());
+        Assertions.assertEquals(Double.NaN, LongCorrelation.of(new long[] {1}, new long[] {2}).getAsDouble());
+        // Zero variance
+        Assertions.assertEquals(Double.NaN, Correlation.of(new double[] {1, 1, 1}, new double[] {1, 2, 3}).getAsDouble());
+        Assertions.assertEquals(Double.NaN, IntCorrelation.of(new int[] {1, 2, 3}, new int[] {4, 4, 4}).getAsDouble());
+        Assertions.assertEquals(Double.NaN, LongCorrelation.of(new long[] {5, 5}, new long[] {4, 4}).getAsDouble());
+        // Non-finite
+        Assertions.assertEquals(Double.NaN,
+            Correlation.of(new double[] {1, Double.NaN, 3}, new double[] {1, 2, 3}).getAsDouble());
+        Assertions.assertEquals(Double.NaN,
+            Correlation.of(new double[] {1, 2, 3}, new double[] {1, Double.POSITIVE_INFINITY, 3}).getAsDouble());
+    }
+
+    @Test
+    void testPerfectCorrelation() {
+        final double[] x = {1, 2, 3, 4, 5};
+        Assertions.assertEquals(1, Correlation.of(x, Arrays.stream(x).map(v -> 3 * v + 2).toArray()).getAsDouble(), 1e-15);
+        Assertions.assertEquals(-1, Correlation.of(x, Arrays.stream(x).map(v -> -0.25 * v).toArray()).getAsDouble(), 1e-15);
+        final int[] a = {Integer.MIN_VALUE, 0, Integer.MAX_VALUE};
+        Assertions.assertEquals(1, IntCorrelation.of(a, a).getAsDouble(), 1e-15);
+        Assertions.assertEquals(-1, IntCorrelation.of(a, new int[] {1, 0, -1}).getAsDouble(), 1e-15);
+        final long[] b = {Long.MIN_VALUE, 0, Long.MAX_VALUE};
+        Assertions.assertEquals(1, LongCorrelation.of(b, b).getAsDouble(), 1e-15);
+        Assertions.assertEquals(-1, LongCorrelation.of(b, new long[] {1, 0, -1}).getAsDouble(), 1e-15);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testCorrelation(long[] x, long[] y) {
+        final double expected = CovarianceTest.computeExpectedSumOfProducts(x, y).doubleValue() /
+            Math.sqrt(CovarianceTest.computeExpectedSumOfProducts(x, x).doubleValue()) /
+            Math.sqrt(CovarianceTest.computeExpectedSumOfProducts(y, y).doubleValue());
+        final int n = x.length;
+        final int half = n / 2;
+        final double eps = Math.ulp(1.0) * 8;
+        Assertions.assertEquals(expected, LongCorrelation.of(x, y).getAsDouble(), eps);
+        Assertions.assertEquals(expected, LongCorrelation.of(Arrays.copyOf(x, half), Arrays.copyOf(y, half))
+            .combine(LongCorrelation.of(Arrays.copyOfRange(x, half, n), Arrays.copyOfRange(y, half, n)))
+            .getAsDouble(), eps, "combine");
+        if (Arrays.stream(x).allMatch(v -> v == (int) v) && Arrays.stream(y).allMatch(v -> v == (int) v)) {
+            final int[] xi = Arrays.stream(x).mapToInt(v -> (int) v).toArray();
+            final int[] yi = Arrays.stream(y).mapToInt(v -> (int) v).toArray();
+            Assertions.assertEquals(expected, IntCorrelation.of(xi, yi).getAsDouble(), eps);
+            Assertions.assertEquals(expected, IntCorrelation.of(Arrays.copyOf(xi, half), Arrays.copyOf(yi, half))
+                .combine(IntCorrelation.of(Arrays.copyOfRange(xi, half, n), Arrays.copyOfRange(yi, half, n)))
+                .getAsDouble(), eps, "int combine");
+        }
+        // The double values must be exact
+        if (!isExactDouble(x) || !isExactDouble(y)) {
+            return;
+        }
+        final double[] xd = Arrays.stream(x).asDoubleStream().toArray();
+        final double[] yd = Arrays.stream(y).asDoubleStream().toArray();
+        final double tol = 1e-12;
+        Assertions.assertEquals(expected, Correlation.of(xd, yd).getAsDouble(), tol);
+        Assertions.assertEquals(expected, Correlation.of(Arrays.copyOf(xd, half), Arrays.copyOf(yd, half))
+            .combine(Correlation.of(Arrays.copyOfRange(xd, half, n), Arrays.copyOfRange(yd, half, n)))
+            .getAsDouble(), tol, "double combine");
+    }
+
+    /**
+     * Checks if the values can be represented exactly as a {@code double}.
+     *
+     * @param values Values.
+     * @return true if exact
+     */
+    private static boolean isExactDouble(long[] values) {
+        return Arrays.stream(values).allMatch(v -> (long) (double) v == v && v != Long.MAX_VALUE);
+    }
+
+    static Stream<?> testCorrelation() {
+        // Data with a range of correlations and no zero variance
+        return CovarianceTest.testCovariance().filter(a -> {
+            final Object[] args = a.get();
+            return LongVariance.of((long[]) args[0]).getAsDouble() != 0 &&
+                   LongVariance.of((long[]) args[1]).getAsDouble() != 0;
+        });
+    }
+}
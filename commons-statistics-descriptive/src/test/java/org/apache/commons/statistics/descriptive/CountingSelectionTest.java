@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link CountingSelection}.
+ */
+class CountingSelectionTest {
+    @Test
+    void testUnsupported() {
+        // Size is too small
+        final int[] small = new int[CountingSelection.MIN_SIZE];
+        Assertions.assertNull(CountingSelection.select(small, 1, small.length, 1));
+        Assertions.assertArrayEquals(new int[] {0}, CountingSelection.select(small, 0, small.length, 1));
+        // Range is equal to the number of values
+        small[0] = small.length - 1;
+        Assertions.assertArrayEquals(new int[] {0, small[0]},
+            CountingSelection.select(small, 0, small.length, 0, small.length - 1));
+        // Range is larger than the number of values
+        small[0] = small.length;
+        Assertions.assertNull(CountingSelection.select(small, 0, small.length, 1));
+        small[0] = Integer.MIN_VALUE;
+        small[1] = Integer.MAX_VALUE;
+        Assertions.assertNull(CountingSelection.select(small, 0, small.length, 1));
+        // Range is larger than the maximum range
+        final int n = CountingSelection.MAX_RANGE + 2;
+        final int[] x = new int[n];
+        x[0] = CountingSelection.MAX_RANGE;
+        Assertions.assertNull(CountingSelection.select(x, 0, n, 1));
+        x[0] = CountingSelection.MAX_RANGE - 1;
+        Assertions.assertArrayEquals(new int[] {0, x[0]}, CountingSelection.select(x, 0, n, 1, n - 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testSelect(int[] values) {
+        final int n = values.length;
+        // Padding is outside the range of the values
+        final int[] data = new int[n + 2];
+        data[0] = Integer.MIN_VALUE;
+        data[n + 1] = Integer.MAX_VALUE;
+        System.arraycopy(values, 0, data, 1, n);
+        final int[] original = data.clone();
+        final int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        final int[] k = {n >> 1, 0, n - 1, n >> 1, (n - 1) >> 1, n / 10};
+        final int[] actual = CountingSelection.select(data, 1, n + 1, Arrays.stream(k).map(i -> i + 1).toArray());
+        Assertions.assertNotNull(actual);
+        for (int i = 0; i < k.length; i++) {
+            Assertions.assertEquals(sorted[k[i]], actual[i]);
+        }
+        // Data is unchanged
+        Assertions.assertArrayEquals(original, data);
+    }
+
+    static Stream<Arguments> testSelect() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int n : new int[] {CountingSelection.MIN_SIZE, 100, 1000, 50000}) {
+            // Extreme values
+            builder.add(Arguments.of((Object) rng.ints(n, 0, 2).map(i -> Integer.MAX_VALUE - i).toArray()));
+            builder.add(Arguments.of((Object) rng.ints(n, 0, 2).map(i -> Integer.MIN_VALUE + i).toArray()));
+            builder.add(Arguments.of((Object) rng.ints(n, 0, n).toArray()));
+            builder.add(Arguments.of((Object) rng.ints(n, -5, 5).toArray()));
+            builder.add(Arguments.of((Object) rng.ints(n, 200, 205).toArray()));
+            // Sparse
+            builder.add(Arguments.of((Object) rng.ints(n, 0, 5).map(i -> i * (n / 5)).toArray()));
+        }
+        return builder.build();
+    }
+}
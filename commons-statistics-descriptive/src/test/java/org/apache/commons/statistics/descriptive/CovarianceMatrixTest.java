@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link CovarianceMatrix}.
+ */
+class CovarianceMatrixTest {
+    /** Relative tolerance for the floating-point results. */
+    private static final double EPS = 1e-12;
+
+    @Test
+    void testInvalidDimensionThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CovarianceMatrix.create(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CovarianceMatrix.create(-1));
+        // Packed storage is too large
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CovarianceMatrix.create(1 << 16));
+    }
+
+    @Test
+    void testDimensionMismatchThrows() {
+        final CovarianceMatrix s = CovarianceMatrix.create(3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s.accept(new double[2]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s.accept(new double[][] {new double[3], new double[4]}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s.combine(CovarianceMatrix.create(2)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CovarianceMatrix.of(2, new double[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CovarianceMatrix.ofParallel(2, new double[3]));
+        // Invalid batches do not change the state
+        Assertions.assertEquals(0, s.getCount());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(new double[2][3], 1, 3));
+    }
+
+    @Test
+    void testEmpty() {
+        final CovarianceMatrix s = CovarianceMatrix.create(2);
+        Assertions.assertEquals(0, s.getCount());
+        Assertions.assertEquals(2, s.getDimension());
+        Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN}, s.getMean());
+        for (final double[] row : s.getCovariance()) {
+            Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN}, row);
+        }
+        s.accept(new double[0][]);
+        s.combine(CovarianceMatrix.create(2));
+        Assertions.assertEquals(0, s.getCount());
+        Assertions.assertEquals(0, CovarianceMatrix.ofParallel(2).getCount());
+    }
+
+    @Test
+    void testSingleObservation() {
+        for (final boolean biased : new boolean[] {false, true}) {
+            final CovarianceMatrix s = CovarianceMatrix.of(2, new double[] {3, -1}).setBiased(biased);
+            Assertions.assertEquals(1, s.getCount());
+            Assertions.assertArrayEquals(new double[] {3, -1}, s.getMean());
+            for (final double[] row : s.getCovariance()) {
+                Assertions.assertArrayEquals(new double[2], row);
+            }
+        }
+    }
+
+    @Test
+    void testNonFinite() {
+        final double max = Double.MAX_VALUE;
+        final double[][] data = {
+            {1, Double.NaN, max, 2},
+            {2, 3, -max, 4},
+            {4, 1, max, 7},
+        };
+        final CovarianceMatrix s = CovarianceMatrix.of(4, data);
+        final double[][] c = s.getCovariance();
+        Assertions.assertEquals(Double.NaN, s.getMean()[1]);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertEquals(Double.NaN, c[1][i]);
+            Assertions.assertEquals(Double.NaN, c[i][1]);
+        }
+        // Finite mean for all finite input; the covariance of column 2 overflows
+        Assertions.assertEquals(max / 3, s.getMean()[2], Math.ulp(max / 3));
+        Assertions.assertEquals(Double.NaN, c[2][2]);
+        // Finite columns are not affected
+        Assertions.assertEquals(Covariance.of(column(data, 0), column(data, 3)).getAsDouble(), c[0][3], 1e-15);
+        // sum((x - mx) * (y - my)) = 2 max / 3
+        Assertions.assertEquals(max / 3, c[0][2], 2 * Math.ulp(max / 3));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testCovarianceMatrix(double[][] data) {
+        final int k = data[0].length;
+        final int n = data.length;
+        for (final boolean biased : new boolean[] {false, true}) {
+            final double[] mean = new double[k];
+            final double[][] expected = new double[k][k];
+            for (int i = 0; i < k; i++) {
+                final double[] x = column(data, i);
+                mean[i] = Mean.of(x).getAsDouble();
+                for (int j = 0; j < k; j++) {
+                    expected[i][j] = computeExpectedCovariance(x, column(data, j), biased);
+                }
+            }
+
+            // Single observations
+            final CovarianceMatrix s1 = CovarianceMatrix.create(k).setBiased(biased);
+            Arrays.stream(data).forEach(s1::accept);
+            assertCovariance(mean, expected, s1, "accept");
+
+            // Batch
+            assertCovariance(mean, expected, CovarianceMatrix.of(k, data).setBiased(biased), "of");
+            assertCovariance(mean, expected, CovarianceMatrix.ofParallel(k, data).setBiased(biased), "ofParallel");
+
+            // Mixed batches and single observations
+            final CovarianceMatrix s2 = CovarianceMatrix.create(k).setBiased(biased);
+            final int third = n / 3;
+            s2.accept(data, 0, third);
+            s2.accept(data[third]);
+            s2.accept(data, third + 1, n);
+            assertCovariance(mean, expected, s2, "batches");
+
+            // Combine
+            final int half = n / 2;
+            final CovarianceMatrix s3 = CovarianceMatrix.of(k, Arrays.copyOf(data, half))
+                .combine(CovarianceMatrix.of(k, Arrays.copyOfRange(data, half, n))).setBiased(biased);
+            assertCovariance(mean, expected, s3, "combine");
+            // Combine with empty
+            final CovarianceMatrix s4 = CovarianceMatrix.create(k).combine(CovarianceMatrix.of(k, data))
+                .combine(CovarianceMatrix.create(k)).setBiased(biased);
+            assertCovariance(mean, expected, s4, "combine empty");
+        }
+    }
+
+    static Stream<Arguments> testCovarianceMatrix() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        builder.add(Arguments.of((Object) new double[][] {{1, 2}, {2, 1}, {3, 5}}));
+        builder.add(Arguments.of((Object) new double[][] {{1, 2, 3}, {1, 2, 3}, {1, 2, 3}, {1, 2, 3}}));
+        for (final int k : new int[] {1, 2, 5, 17}) {
+            for (final int n : new int[] {2, 10, 100}) {
+                builder.add(Arguments.of((Object) createData(rng, n, k, 0)));
+                // Large offset
+                builder.add(Arguments.of((Object) createData(rng, n, k, 1e6)));
+            }
+        }
+        // Large enough to be split into parallel tasks
+        builder.add(Arguments.of((Object) createData(rng, 1 << 15, 3, 10)));
+        return builder.build();
+    }
+
+    /**
+     * Creates the observations. Each dimension is a linear combination of the previous
+     * dimension and a random deviate to create correlated data.
+     *
+     * @param rng Source of randomness.
+     * @param n Number of observations.
+     * @param k Dimension.
+     * @param offset Offset added to each value.
+     * @return the data
+     */
+    private static double[][] createData(UniformRandomProvider rng, int n, int k, double offset) {
+        final double[][] data = new double[n][k];
+        for (final double[] x : data) {
+            double v = rng.nextDouble();
+            for (int i = 0; i < k; i++) {
+                v = 0.5 * v + rng.nextDouble();
+                x[i] = v + offset;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Extract the column of the data.
+     *
+     * @param data Data.
+     * @param i Column index.
+     * @return the column
+     */
+    private static double[] column(double[][] data, int i) {
+        return Arrays.stream(data).mapToDouble(x -> x[i]).toArray();
+    }
+
+    /**
+     * Compute the expected covariance using exact arithmetic.
+     *
+     * @param x Values.
+     * @param y Values.
+     * @param biased Biased flag.
+     * @return the covariance
+     */
+    private static double computeExpectedCovariance(double[] x, double[] y, boolean biased) {
+        final int n = x.length;
+        if (n == 1) {
+            return 0;
+        }
+        final BigDecimal mx = mean(x);
+        final BigDecimal my = mean(y);
+        BigDecimal s = BigDecimal.ZERO;
+        for (int i = 0; i < n; i++) {
+            s = s.add(new BigDecimal(x[i]).subtract(mx).multiply(new BigDecimal(y[i]).subtract(my)));
+        }
+        return s.divide(BigDecimal.valueOf(biased ? n : n - 1), MathContext.DECIMAL128).doubleValue();
+    }
+
+    /**
+     * Compute the mean using exact arithmetic.
+     *
+     * @param x Values.
+     * @return the mean
+     */
+    private static BigDecimal mean(double[] x) {
+        return Arrays.stream(x).mapToObj(BigDecimal::new).reduce(BigDecimal.ZERO, BigDecimal::add)
+            .divide(BigDecimal.valueOf(x.length), MathContext.DECIMAL128);
+    }
+
+    /**
+     * Assert the mean and covariance of the statistic.
+     *
+     * @param mean Expected mean.
+     * @param expected Expected covariance.
+     * @param s Statistic.
+     * @param msg Message.
+     */
+    private static void assertCovariance(double[] mean, double[][] expected, CovarianceMatrix s, String msg) {
+        final int k = mean.length;
+        final double[] m = s.getMean();
+        final double[][] c = s.getCovariance();
+        Assertions.assertEquals(k, m.length);
+        Assertions.assertEquals(k, c.length);
+        for (int i = 0; i < k; i++) {
+            Assertions.assertEquals(mean[i], m[i], Math.abs(mean[i]) * EPS, () -> msg + " mean");
+            for (int j = 0; j < k; j++) {
+                final int ii = i;
+                final int jj = j;
+                // Tolerance relative to the variance scale for near zero covariance
+                final double tol = Math.sqrt(expected[i][i] * expected[j][j]) * EPS * 1e3 + 1e-15;
+                Assertions.assertEquals(expected[i][j], c[i][j], tol, () -> msg + " [" + ii + "][" + jj + "]");
+            }
+            // Symmetric
+            for (int j = 0; j < i; j++) {
+                Assertions.assertEquals(c[i][j], c[j][i]);
+            }
+        }
+    }
+}
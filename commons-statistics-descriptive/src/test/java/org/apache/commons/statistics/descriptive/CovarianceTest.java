@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link Covariance}, {@link IntCovariance} and {@link LongCovariance}.
+ */
+class CovarianceTest {
+    @Test
+    void testLengthMismatchThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Covariance.of(new double[2], new double[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntCovariance.of(new int[2], new int[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongCovariance.of(new long[2], new long[3]));
+    }
+
+    @Test
+    void testEmpty() {
+        Assertions.assertEquals(Double.NaN, Covariance.create().getAsDouble());
+        Assertions.assertEquals(Double.NaN, IntCovariance.create().getAsDouble());
+        Assertions.assertEquals(Double.NaN, LongCovariance.create().getAsDouble());
+        Assertions.assertEquals(0, Covariance.create().getCount());
+    }
+
+    @Test
+    void testSinglePair() {
+        for (final boolean biased : new boolean[] {false, true}) {
+            Assertions.assertEquals(0, Covariance.of(new double[] {3}, new double[] {-1}).setBiased(biased).getAsDouble());
+            Assertions.assertEquals(0, IntCovariance.of(new int[] {3}, new int[] {-1}).setBiased(biased).getAsDouble());
+            Assertions.assertEquals(0, LongCovariance.of(new long[] {3}, new long[] {-1}).setBiased(biased).getAsDouble());
+        }
+    }
+
+    @Test
+    void testNonFinite() {
+        final double[] y = {1, 2, 3};
+        Assertions.assertEquals(Double.NaN, Covariance.of(new double[] {1, Double.NaN, 3}, y).getAsDouble());
+        Assertions.assertEquals(Double.NaN, Covariance.of(new double[] {1, Double.POSITIVE_INFINITY, 3}, y).getAsDouble());
+        Assertions.assertEquals(Double.NaN, Covariance.of(y, new double[] {1, 2, Double.NEGATIVE_INFINITY}).getAsDouble());
+        Assertions.assertEquals(Double.NaN, Covariance.of(new double[] {Double.POSITIVE_INFINITY}, new double[] {1}).getAsDouble());
+        // Finite means for all finite input
+        final double max = Double.MAX_VALUE;
+        Assertions.assertEquals(-max, Covariance.of(new double[] {max, -max}, new double[] {1, 2}).getAsDouble());
+    }
+
+    @Test
+    void testCovarianceIsVariance() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final double[] x = rng.doubles(100).toArray();
+        for (final boolean biased : new boolean[] {false, true}) {
+            Assertions.assertEquals(Variance.of(x).setBiased(biased).getAsDouble(),
+                Covariance.of(x, x).setBiased(biased).getAsDouble(), 1e-15);
+        }
+        final int[] y = rng.ints(100).toArray();
+        Assertions.assertEquals(IntVariance.of(y).getAsDouble(), IntCovariance.of(y, y).getAsDouble());
+        final long[] z = rng.longs(100).toArray();
+        Assertions.assertEquals(LongVariance.of(z).getAsDouble(), LongCovariance.of(z, z).getAsDouble());
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testCovariance(long[] x, long[] y) {
+        final double[] xd = Arrays.stream(x).asDoubleStream().toArray();
+        final double[] yd = Arrays.stream(y).asDoubleStream().toArray();
+        final int n = x.length;
+        final int half = n / 2;
+        for (final boolean biased : new boolean[] {false, true}) {
+            final double expected = computeExpectedCovariance(x, y, biased);
+            // Exact sums: the only rounding is in the final division
+            final double eps = Math.ulp(expected) * 2;
+            Assertions.assertEquals(expected, LongCovariance.of(x, y).setBiased(biased).getAsDouble(), eps);
+            Assertions.assertEquals(expected, LongCovariance.of(Arrays.copyOf(x, half), Arrays.copyOf(y, half))
+                .combine(LongCovariance.of(Arrays.copyOfRange(x, half, n), Arrays.copyOfRange(y, half, n)))
+                .setBiased(biased).getAsDouble(), eps, "combine");
+            if (Arrays.stream(x).allMatch(v -> v == (int) v) && Arrays.stream(y).allMatch(v -> v == (int) v)) {
+                final int[] xi = Arrays.stream(x).mapToInt(v -> (int) v).toArray();
+                final int[] yi = Arrays.stream(y).mapToInt(v -> (int) v).toArray();
+                Assertions.assertEquals(expected, IntCovariance.of(xi, yi).setBiased(biased).getAsDouble(), eps);
+                Assertions.assertEquals(expected, IntCovariance.of(Arrays.copyOf(xi, half), Arrays.copyOf(yi, half))
+                    .combine(IntCovariance.of(Arrays.copyOfRange(xi, half, n), Arrays.copyOfRange(yi, half, n)))
+                    .setBiased(biased).getAsDouble(), eps, "int combine");
+            }
+            // Floating-point
+            final double tol = Math.abs(expected) * 1e-12 + 1e-12 * scale(xd) * scale(yd);
+            Assertions.assertEquals(expected, Covariance.of(xd, yd).setBiased(biased).getAsDouble(), tol);
+            Assertions.assertEquals(expected, Covariance.of(Arrays.copyOf(xd, half), Arrays.copyOf(yd, half))
+                .combine(Covariance.of(Arrays.copyOfRange(xd, half, n), Arrays.copyOfRange(yd, half, n)))
+                .setBiased(biased).getAsDouble(), tol, "double combine");
+        }
+    }
+
+    static Stream<Arguments> testCovariance() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        builder.add(Arguments.of(new long[] {1, 2, 3}, new long[] {3, 1, 2}));
+        builder.add(Arguments.of(new long[] {1, 2, 3, 4}, new long[] {-2, -4, -6, -8}));
+        builder.add(Arguments.of(new long[] {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE},
+                                 new long[] {Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE}));
+        builder.add(Arguments.of(new long[] {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE},
+                                 new long[] {Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE}));
+        for (final int n : new int[] {5, 50, 500}) {
+            final int[] a = rng.ints(n).toArray();
+            final int[] b = rng.ints(n).toArray();
+            builder.add(Arguments.of(toLongs(a), toLongs(b)));
+            // Correlated
+            builder.add(Arguments.of(toLongs(a), Arrays.stream(a).asLongStream().map(v -> v / 2 + rng.nextInt(1000)).toArray()));
+            builder.add(Arguments.of(rng.longs(n).toArray(), rng.longs(n).toArray()));
+            // Large offset
+            builder.add(Arguments.of(rng.longs(n, 1L << 60, (1L << 60) + 1000).toArray(),
+                                     rng.longs(n, -(1L << 60), -(1L << 60) + 1000).toArray()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Convert the values.
+     *
+     * @param values Values.
+     * @return the values
+     */
+    private static long[] toLongs(int[] values) {
+        return Arrays.stream(values).asLongStream().toArray();
+    }
+
+    /**
+     * Gets the maximum magnitude of the values.
+     *
+     * @param values Values.
+     * @return the scale
+     */
+    private static double scale(double[] values) {
+        return Arrays.stream(values).map(Math::abs).max().orElse(0);
+    }
+
+    /**
+     * Compute the expected covariance using exact arithmetic.
+     *
+     * @param x Values.
+     * @param y Values.
+     * @param biased Biased flag.
+     * @return the covariance
+     */
+    static double computeExpectedCovariance(long[] x, long[] y, boolean biased) {
+        final long n = x.length;
+        if (n == 1) {
+            return 0;
+        }
+        return computeExpectedSumOfProducts(x, y)
+            .divide(BigDecimal.valueOf(biased ? n : n - 1), MathContext.DECIMAL128).doubleValue();
+    }
+
+    /**
+     * Compute the expected sum of the products of the deviations from the means
+     * using exact arithmetic.
+     *
+     * @param x Values.
+     * @param y Values.
+     * @return the sum of the products
+     */
+    static BigDecimal computeExpectedSumOfProducts(long[] x, long[] y) {
+        final BigDecimal n = BigDecimal.valueOf(x.length);
+        final BigDecimal mx = Arrays.stream(x).mapToObj(BigDecimal::valueOf).reduce(BigDecimal.ZERO, BigDecimal::add)
+            .divide(n, MathContext.DECIMAL128);
+        final BigDecimal my = Arrays.stream(y).mapToObj(BigDecimal::valueOf).reduce(BigDecimal.ZERO, BigDecimal::add)
+            .divide(n, MathContext.DECIMAL128);
+        BigDecimal s = BigDecimal.ZERO;
+        for (int i = 0; i < x.length; i++) {
+            s = s.add(BigDecimal.valueOf(x[i]).subtract(mx).multiply(BigDecimal.valueOf(y[i]).subtract(my)));
+        }
+        return s;
+    }
+}
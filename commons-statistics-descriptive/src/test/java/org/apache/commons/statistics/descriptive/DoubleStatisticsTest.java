@@ -23,14 +23,20 @@ import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.statistics.distribution.DoubleTolerance;
 import org.apache.commons.statistics.distribution.DoubleTolerances;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -39,6 +45,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test for {@link DoubleStatistics}.
@@ -54,6 +61,11 @@ class DoubleStatisticsTest {
     /** Empty statistic array. */
     private static final Statistic[] EMPTY_STATISTIC_ARRAY = {};
 
+    /** The statistics supported for {@code double} values. This excludes the
+     * {@link Statistic#DISTINCT_COUNT} (see {@link #testBuilderThrows()}). */
+    private static final Statistic[] STATISTICS =
+        EnumSet.complementOf(EnumSet.of(Statistic.DISTINCT_COUNT)).toArray(EMPTY_STATISTIC_ARRAY);
+
     /** The test data. */
     private static List<TestData> testData;
 
@@ -239,7 +251,7 @@ class DoubleStatisticsTest {
 
     static Stream<Arguments> streamTestData() {
         final Stream.Builder<Arguments> builder = Stream.builder();
-        final Statistic[] statistics = Statistic.values();
+        final Statistic[] statistics = STATISTICS;
         for (int i = 0; i < statistics.length; i++) {
             // Single statistics
             final EnumSet<Statistic> s1 = EnumSet.of(statistics[i]);
@@ -275,6 +287,85 @@ class DoubleStatisticsTest {
         assertStatistics(stats, data, builder::build, ExpectedResult::getArray);
     }
 
+    /**
+     * Test the {@link DoubleStatistics} when data is passed as a range of a {@code double[]} of values.
+     */
+    @ParameterizedTest
+    @MethodSource(value = {"streamTestData"})
+    void testArrayRange(EnumSet<Statistic> stats, TestData data) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final DoubleStatistics.Builder builder = DoubleStatistics.builder(stats.toArray(EMPTY_STATISTIC_ARRAY));
+        assertStatistics(stats, data,
+            x -> builder.build(pad(x, padding), padding, padding + x.length), ExpectedResult::getArray);
+        assertStatistics(stats, data,
+            x -> DoubleStatistics.ofRange(stats, pad(x, padding), padding, padding + x.length), ExpectedResult::getArray);
+    }
+
+    /**
+     * Test the {@link DoubleStatistics} when data is passed as a range of a {@code double[]} of values
+     * using the {@link DoubleStatistics#accept(double[], int, int) accept} method.
+     */
+    @ParameterizedTest
+    @MethodSource(value = {"streamTestData"})
+    void testAcceptRange(EnumSet<Statistic> stats, TestData data) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final Statistic[] statistics = stats.toArray(EMPTY_STATISTIC_ARRAY);
+        assertStatistics(stats, data, x -> {
+            final DoubleStatistics s = DoubleStatistics.of(statistics);
+            s.accept(pad(x, padding), padding, padding + x.length);
+            return s;
+        }, ExpectedResult::getStream);
+    }
+
+    /**
+     * Create a copy of the data with padding at both ends.
+     *
+     * @param x Data.
+     * @param padding Padding length.
+     * @return the padded data
+     */
+    private static double[] pad(double[] x, int padding) {
+        final double[] data = new double[x.length + 2 * padding];
+        Arrays.fill(data, Double.NaN);
+        System.arraycopy(x, 0, data, padding, x.length);
+        return data;
+    }
+
+    /**
+     * Test the {@link DoubleStatistics} when data is passed as a {@code double[]} of values
+     * and computed in parallel.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 50000, 123457})
+    void testBuildParallel(int length) throws InterruptedException, ExecutionException {
+        final double[] values = ThreadLocalRandom.current().doubles(length, 2.25, 3.75).toArray();
+        final Statistic[] statistics = STATISTICS;
+        final DoubleStatistics.Builder builder = DoubleStatistics.builder(statistics);
+        final DoubleStatistics expected = builder.build(values);
+        final DoubleTolerance tol = TestHelper.equalsOrNonFinite(DoubleTolerances.relative(1e-12));
+        // Use a pool with a parallelism above 1 to ensure the data is divided
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final DoubleStatistics actual = pool.submit(() -> builder.buildParallel(values)).get();
+            Assertions.assertEquals(expected.getCount(), actual.getCount(), "Count");
+            for (final Statistic s : statistics) {
+                TestHelper.assertEquals(expected.getResult(s), actual.getResult(s),
+                    tol, () -> s + " length=" + length);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        // Common pool
+        final DoubleStatistics actual = builder.buildParallel(values);
+        Assertions.assertEquals(expected.getCount(), actual.getCount(), "Count");
+        for (final Statistic s : statistics) {
+            TestHelper.assertEquals(expected.getResult(s), actual.getResult(s),
+                tol, () -> s + " length=" + length);
+        }
+    }
+
     /**
      * Assert the computed statistics match the expected result.
      *
@@ -404,11 +495,39 @@ class DoubleStatisticsTest {
         Assertions.assertThrows(NullPointerException.class, () -> DoubleStatistics.of(s3, null));
     }
 
+    @Test
+    void testOfRangeThrows() {
+        final EnumSet<Statistic> s1 = EnumSet.noneOf(Statistic.class);
+        final double[] values = new double[3];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DoubleStatistics.ofRange(s1, values, 0, 3));
+        final EnumSet<Statistic> s2 = EnumSet.of(Statistic.MIN);
+        final DoubleStatistics.Builder builder = DoubleStatistics.builder(Statistic.MIN);
+        final DoubleStatistics stats = builder.build();
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> DoubleStatistics.ofRange(s2, values, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> builder.build(values, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> stats.accept(values, from, to));
+        }
+    }
+
     @Test
     void testBuilderThrows() {
         Assertions.assertThrows(IllegalArgumentException.class, () -> DoubleStatistics.builder());
         Assertions.assertThrows(IllegalArgumentException.class, () -> DoubleStatistics.builder(EMPTY_STATISTIC_ARRAY));
         Assertions.assertThrows(NullPointerException.class, () -> DoubleStatistics.builder(new Statistic[1]));
+        // The distinct count is not supported for double values
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DoubleStatistics.builder(Statistic.DISTINCT_COUNT));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DoubleStatistics.builder(Statistic.values()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DoubleStatistics.of(Statistic.values()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DoubleStatistics.of(EnumSet.allOf(Statistic.class), 1, 2, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DoubleStatistics.collector(Statistic.values()));
+        final DoubleStatistics.Builder builder = DoubleStatistics.builder(Statistic.MIN);
+        final double[] nullValues = null;
+        Assertions.assertThrows(NullPointerException.class, () -> builder.build(nullValues));
+        Assertions.assertThrows(NullPointerException.class, () -> builder.buildParallel(nullValues));
     }
 
     @Test
@@ -574,4 +693,57 @@ class DoubleStatisticsTest {
         builder.accept(Arguments.of(statistic, values, options, results));
         return all.size();
     }
+
+    @Test
+    void testCollectorNoStatisticsThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DoubleStatistics.collector());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 100000})
+    void testCollector(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final double[] values = rng.doubles(n, -1, 1).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.VARIANCE};
+        final DoubleStatistics expected = DoubleStatistics.of(statistics);
+        expected.accept(values, 0, n);
+        final List<Double> list = Arrays.stream(values).boxed().collect(Collectors.toList());
+        assertStatisticsEquals(expected, list.stream().collect(DoubleStatistics.collector(statistics)), n);
+        assertStatisticsEquals(expected, list.parallelStream().collect(DoubleStatistics.collector(statistics)), n);
+    }
+
+    @Test
+    void testCollectorGroupingBy() {
+        final int n = 10000;
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final double[] values = rng.doubles(n, -1, 1).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.VARIANCE};
+        final Map<Integer, DoubleStatistics> map = IntStream.range(0, n).boxed().parallel()
+            .collect(Collectors.groupingBy(i -> i % 3, DoubleStatistics.collector(i -> values[i], statistics)));
+        Assertions.assertEquals(3, map.size());
+        for (int k = 0; k < 3; k++) {
+            final DoubleStatistics expected = DoubleStatistics.of(statistics);
+            for (int i = k; i < n; i += 3) {
+                expected.accept(values[i]);
+            }
+            assertStatisticsEquals(expected, map.get(k), n);
+        }
+    }
+
+    /**
+     * Assert the statistics match within the rounding error of combining partial results.
+     *
+     * @param expected Expected statistics.
+     * @param actual Actual statistics.
+     * @param n Total number of values (used to scale the sum tolerance).
+     */
+    static void assertStatisticsEquals(DoubleStatistics expected, DoubleStatistics actual, int n) {
+        Assertions.assertEquals(expected.getCount(), actual.getCount());
+        Assertions.assertEquals(expected.getAsDouble(Statistic.MIN), actual.getAsDouble(Statistic.MIN));
+        Assertions.assertEquals(expected.getAsDouble(Statistic.MAX), actual.getAsDouble(Statistic.MAX));
+        // Combination of partial results is within rounding error
+        final double v = expected.getAsDouble(Statistic.VARIANCE);
+        Assertions.assertEquals(expected.getAsDouble(Statistic.SUM), actual.getAsDouble(Statistic.SUM), 1e-10 * n);
+        Assertions.assertEquals(v, actual.getAsDouble(Statistic.VARIANCE), Math.abs(v) * 1e-10);
+    }
 }
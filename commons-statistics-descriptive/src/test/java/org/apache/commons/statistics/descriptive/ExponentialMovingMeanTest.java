@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link ExponentialMovingMean}.
+ */
+final class ExponentialMovingMeanTest {
+    @ParameterizedTest
+    @ValueSource(doubles = {0, -0.5, 1.5, Double.NaN})
+    void testInvalidAlphaThrows(double alpha) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExponentialMovingMean.create(alpha));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, -1, Double.POSITIVE_INFINITY, Double.NaN})
+    void testInvalidHalfLifeThrows(double halfLife) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExponentialMovingMean.withHalfLife(halfLife));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.5, 1, 10, 1234.5})
+    void testHalfLife(double halfLife) {
+        final double alpha = ExponentialMovingMean.withHalfLife(halfLife).getAlpha();
+        Assertions.assertEquals(0.5, Math.pow(1 - alpha, halfLife), 1e-12);
+    }
+
+    @Test
+    void testEmpty() {
+        final ExponentialMovingMean m = ExponentialMovingMean.create(0.25);
+        Assertions.assertEquals(0, m.getCount());
+        Assertions.assertEquals(0.25, m.getAlpha());
+        Assertions.assertEquals(Double.NaN, m.getAsDouble());
+    }
+
+    @Test
+    void testNonFinite() {
+        final double inf = Double.POSITIVE_INFINITY;
+        Assertions.assertEquals(inf, mean(0.5, 1, inf, 2, 3));
+        Assertions.assertEquals(-inf, mean(0.5, -inf, 2, -inf));
+        Assertions.assertEquals(Double.NaN, mean(0.5, 1, inf, 2, -inf));
+        Assertions.assertEquals(Double.NaN, mean(0.5, 1, Double.NaN, 2));
+        // No overflow for finite values
+        final double max = Double.MAX_VALUE;
+        Assertions.assertEquals(max, mean(0.5, max, max, max));
+        Assertions.assertEquals(-max / 2, mean(0.25, -max, max));
+    }
+
+    /**
+     * Test the mean is the weighted sum of the values using geometrically decaying weights.
+     */
+    @ParameterizedTest
+    @MethodSource
+    void testMean(double[] values, double alpha) {
+        final ExponentialMovingMean m = ExponentialMovingMean.create(alpha);
+        Arrays.stream(values).forEach(m);
+        Assertions.assertEquals(values.length, m.getCount());
+        final double expected = weightedMean(values, alpha);
+        Assertions.assertEquals(expected, m.getAsDouble(), Math.abs(expected) * 1e-14);
+    }
+
+    static Stream<Arguments> testMean() {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final double alpha : new double[] {1, 0.5, 0.1, 0.01}) {
+            builder.add(Arguments.of(new double[] {42}, alpha));
+            for (final int n : new int[] {2, 10, 100}) {
+                builder.add(Arguments.of(rng.doubles(n, 5, 10).toArray(), alpha));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Compute the mean using an explicit weight for each value.
+     *
+     * @param values Values.
+     * @param alpha Smoothing factor.
+     * @return the mean
+     */
+    static double weightedMean(double[] values, double alpha) {
+        final int n = values.length;
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += weight(i, n, alpha) * values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Compute the weight of the value at the index.
+     *
+     * @param i Index.
+     * @param n Number of values.
+     * @param alpha Smoothing factor.
+     * @return the weight
+     */
+    static double weight(int i, int n, double alpha) {
+        // The first value initialises the mean
+        return (i == 0 ? 1 : alpha) * Math.pow(1 - alpha, n - 1 - i);
+    }
+
+    private static double mean(double alpha, double... values) {
+        final ExponentialMovingMean m = ExponentialMovingMean.create(alpha);
+        Arrays.stream(values).forEach(m);
+        return m.getAsDouble();
+    }
+}
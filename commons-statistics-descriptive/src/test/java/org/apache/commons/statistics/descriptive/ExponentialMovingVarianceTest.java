@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link ExponentialMovingVariance}.
+ */
+final class ExponentialMovingVarianceTest {
+    @ParameterizedTest
+    @ValueSource(doubles = {0, -0.5, 1.5, Double.NaN})
+    void testInvalidAlphaThrows(double alpha) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExponentialMovingVariance.create(alpha));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, -1, Double.POSITIVE_INFINITY, Double.NaN})
+    void testInvalidHalfLifeThrows(double halfLife) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExponentialMovingVariance.withHalfLife(halfLife));
+    }
+
+    @Test
+    void testHalfLife() {
+        Assertions.assertEquals(ExponentialMovingMean.withHalfLife(7).getAlpha(),
+            ExponentialMovingVariance.withHalfLife(7).getAlpha());
+    }
+
+    @Test
+    void testEmpty() {
+        final ExponentialMovingVariance v = ExponentialMovingVariance.create(0.25);
+        Assertions.assertEquals(0, v.getCount());
+        Assertions.assertEquals(0.25, v.getAlpha());
+        Assertions.assertEquals(Double.NaN, v.getAsDouble());
+        v.accept(42);
+        Assertions.assertEquals(1, v.getCount());
+        Assertions.assertEquals(0, v.getAsDouble());
+    }
+
+    @Test
+    void testNonFinite() {
+        final double inf = Double.POSITIVE_INFINITY;
+        Assertions.assertEquals(Double.NaN, variance(0.5, inf));
+        Assertions.assertEquals(Double.NaN, variance(0.5, 1, inf, 2, 3));
+        Assertions.assertEquals(Double.NaN, variance(0.5, 1, Double.NaN, 2));
+        // Mean does not overflow for finite values
+        final double max = Double.MAX_VALUE;
+        Assertions.assertEquals(0, variance(0.5, max, max, max));
+        Assertions.assertEquals(Double.NaN, variance(0.5, -max, max));
+    }
+
+    /**
+     * Test the variance is the weighted mean of the squared deviations from the
+     * weighted mean using geometrically decaying weights.
+     */
+    @ParameterizedTest
+    @MethodSource(value = "org.apache.commons.statistics.descriptive.ExponentialMovingMeanTest#testMean")
+    void testVariance(double[] values, double alpha) {
+        final ExponentialMovingVariance v = ExponentialMovingVariance.create(alpha);
+        Arrays.stream(values).forEach(v);
+        Assertions.assertEquals(values.length, v.getCount());
+        final int n = values.length;
+        final double mean = ExponentialMovingMeanTest.weightedMean(values, alpha);
+        double expected = 0;
+        for (int i = 0; i < n; i++) {
+            final double dx = values[i] - mean;
+            expected += ExponentialMovingMeanTest.weight(i, n, alpha) * dx * dx;
+        }
+        Assertions.assertEquals(expected, v.getAsDouble(), expected * 1e-13);
+    }
+
+    private static double variance(double alpha, double... values) {
+        final ExponentialMovingVariance v = ExponentialMovingVariance.create(alpha);
+        Arrays.stream(values).forEach(v);
+        return v.getAsDouble();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.statistics.descriptive.Quantile.EstimationMethod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link ExternalQuantile}.
+ */
+class ExternalQuantileTest {
+    /** Sample size. Small values force multiple passes through the data. */
+    private static final int SAMPLE_SIZE = 256;
+    /** Maximum number of values to hold in memory. */
+    private static final int MAX_SIZE = 512;
+    /** Probabilities used for testing. */
+    private static final double[] PROBABILITIES = {
+        0, 0.001, 0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999, 1,
+    };
+
+    @Test
+    void testNaNErrorThrows() {
+        final double[] values = new double[1000];
+        values[42] = Double.NaN;
+        final DoubleBuffer b = DoubleBuffer.wrap(values);
+        final ExternalQuantile q = new ExternalQuantile(EstimationMethod.HF8, NaNPolicy.ERROR, SAMPLE_SIZE, MAX_SIZE);
+        final IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+            () -> q.evaluate(b, PROBABILITIES));
+        Assertions.assertTrue(ex.getMessage().contains("42"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> q.median(b));
+    }
+
+    @Test
+    void testEmpty() {
+        final DoubleBuffer b = DoubleBuffer.wrap(new double[] {Double.NaN, Double.NaN});
+        for (final NaNPolicy policy : new NaNPolicy[] {NaNPolicy.INCLUDE, NaNPolicy.EXCLUDE}) {
+            final ExternalQuantile q = new ExternalQuantile(EstimationMethod.HF8, policy, SAMPLE_SIZE, MAX_SIZE);
+            Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN}, q.evaluate(b, new double[] {0, 1}));
+            Assertions.assertEquals(Double.NaN, q.median(b));
+            Assertions.assertEquals(Double.NaN, q.median(DoubleBuffer.allocate(0)));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testQuantile(double[] values) {
+        // Embed in a larger buffer
+        final int offset = 3;
+        final double[] data = new double[values.length + 2 * offset];
+        Arrays.fill(data, Double.NaN);
+        System.arraycopy(values, 0, data, offset, values.length);
+        final DoubleBuffer b = DoubleBuffer.wrap(data, offset, values.length);
+        for (final NaNPolicy policy : new NaNPolicy[] {NaNPolicy.INCLUDE, NaNPolicy.EXCLUDE}) {
+            for (final EstimationMethod method : EstimationMethod.values()) {
+                final double[] expected = Quantile.withDefaults().with(method).with(policy).withCopy(true)
+                    .evaluate(values, PROBABILITIES);
+                final ExternalQuantile q = new ExternalQuantile(method, policy, SAMPLE_SIZE, MAX_SIZE);
+                final double[] actual = q.evaluate(b, PROBABILITIES);
+                for (int i = 0; i < expected.length; i++) {
+                    // Binary equality for signed zeros
+                    final int j = i;
+                    Assertions.assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(actual[i]),
+                        () -> policy + " " + method + " p=" + PROBABILITIES[j] + ": " + expected[j] + " " + actual[j]);
+                }
+            }
+            final double median = Median.withDefaults().with(policy).withCopy(true).evaluate(values);
+            Assertions.assertEquals(median, new ExternalQuantile(null, policy, SAMPLE_SIZE, MAX_SIZE).median(b));
+        }
+        // Buffer is unchanged
+        Assertions.assertEquals(offset, b.position());
+        Assertions.assertEquals(offset + values.length, b.limit());
+        Assertions.assertEquals(Double.NaN, data[0]);
+    }
+
+    static Stream<Arguments> testQuantile() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int n : new int[] {1, 2, 10, 511, 512, 513, 2000, 50000}) {
+            builder.add(Arguments.of((Object) rng.doubles(n).toArray()));
+            // Long tailed
+            builder.add(Arguments.of((Object) rng.doubles(n).map(u -> Math.log(u / (1 - u))).toArray()));
+            // Duplicates
+            builder.add(Arguments.of((Object) rng.ints(n, 0, 5).asDoubleStream().toArray()));
+            builder.add(Arguments.of((Object) rng.ints(n, 0, 1000).asDoubleStream().toArray()));
+            // Sorted
+            final double[] x = rng.doubles(n).toArray();
+            Arrays.sort(x);
+            builder.add(Arguments.of((Object) x.clone()));
+            // Reverse sorted
+            for (int i = 0, j = n - 1; i < j; i++, j--) {
+                final double t = x[i];
+                x[i] = x[j];
+                x[j] = t;
+            }
+            builder.add(Arguments.of((Object) x));
+            // Constant
+            final double[] c = new double[n];
+            Arrays.fill(c, 42);
+            builder.add(Arguments.of((Object) c));
+            // Special values
+            final double[] special = {Double.NaN, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+            final double[] y = rng.doubles(n, -1, 1).toArray();
+            for (int i = 0; i < n; i += 4) {
+                y[i] = special[rng.nextInt(special.length)];
+            }
+            builder.add(Arguments.of((Object) y));
+            // Mostly NaN
+            final double[] z = rng.doubles(n).toArray();
+            for (int i = 0; i < n; i++) {
+                if (rng.nextInt(10) != 0) {
+                    z[i] = Double.NaN;
+                }
+            }
+            builder.add(Arguments.of((Object) z));
+            // Many repeats of a single value among distinct values
+            final double[] w = rng.doubles(n).toArray();
+            for (int i = 0; i < n; i += 2) {
+                w[i] = 0.5;
+            }
+            builder.add(Arguments.of((Object) w));
+        }
+        return builder.build();
+    }
+}
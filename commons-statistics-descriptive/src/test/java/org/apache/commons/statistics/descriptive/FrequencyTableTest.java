@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link FrequencyTable}.
+ */
+class FrequencyTableTest {
+    @Test
+    void testFullTable() {
+        final int capacity = 32;
+        final FrequencyTable t = new FrequencyTable(capacity);
+        for (int i = 0; i < capacity - 1; i++) {
+            t.add(i);
+        }
+        Assertions.assertEquals(capacity - 1, t.size());
+        // Existing keys can be updated
+        t.add(3, 2);
+        Assertions.assertEquals(3, t.get(3));
+        Assertions.assertEquals(capacity + 1, t.total());
+        // A missing key is not found
+        Assertions.assertEquals(0, t.get(-1));
+        // A new key cannot be added and the state is unchanged
+        Assertions.assertThrows(IllegalStateException.class, () -> t.add(-1));
+        Assertions.assertThrows(IllegalStateException.class, () -> t.add(-1));
+        Assertions.assertEquals(capacity - 1, t.size());
+        Assertions.assertEquals(capacity + 1, t.total());
+        Assertions.assertEquals(0, t.get(-1));
+        t.add(capacity - 2);
+        Assertions.assertEquals(2, t.get(capacity - 2));
+    }
+}
@@ -39,6 +39,11 @@ final class GeometricMeanTest extends BaseDoubleStatisticTest<GeometricMean> {
         return GeometricMean.of(values);
     }
 
+    @Override
+    protected GeometricMean create(double[] values, int from, int to) {
+        return GeometricMean.ofRange(values, from, to);
+    }
+
     @Override
     protected double getEmptyValue() {
         return Double.NaN;
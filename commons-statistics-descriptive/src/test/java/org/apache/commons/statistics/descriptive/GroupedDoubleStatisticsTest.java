@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link GroupedDoubleStatistics}.
+ */
+class GroupedDoubleStatisticsTest {
+    /** Supported statistics. */
+    private static final Statistic[] STATISTICS = {
+        Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN,
+        Statistic.VARIANCE, Statistic.STANDARD_DEVIATION,
+    };
+
+    @Test
+    void testInvalidStatisticsThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GroupedDoubleStatistics.of());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GroupedDoubleStatistics.of(Statistic.MIN, Statistic.PRODUCT));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GroupedDoubleStatistics.of(Statistic.DISTINCT_COUNT));
+        final GroupedDoubleStatistics s = GroupedDoubleStatistics.of(Statistic.MIN);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s.getAsDouble(Statistic.MAX, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s.getAsDoubleArray(Statistic.MEAN));
+    }
+
+    @Test
+    void testInvalidGroupThrows() {
+        final GroupedDoubleStatistics s = GroupedDoubleStatistics.of(Statistic.MIN);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s.accept(-1, 1.0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> s.accept(new int[] {0, -1}, new double[] {1, 2}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> s.accept(new int[] {0}, new double[] {1, 2}));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> s.accept(new int[] {0, 1}, new double[] {1, 2}, 1, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s.getCount(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s.getAsDouble(Statistic.MIN, -1));
+        // No state is modified by an invalid batch
+        Assertions.assertEquals(0, s.getGroupCount());
+    }
+
+    @Test
+    void testIsSupported() {
+        final GroupedDoubleStatistics s = GroupedDoubleStatistics.of(Statistic.MIN, Statistic.MEAN);
+        for (final Statistic statistic : Statistic.values()) {
+            Assertions.assertEquals(statistic == Statistic.MIN || statistic == Statistic.MEAN,
+                s.isSupported(statistic), statistic::toString);
+        }
+        final GroupedDoubleStatistics s2 = GroupedDoubleStatistics.of(Statistic.VARIANCE);
+        Assertions.assertTrue(s2.isSupported(Statistic.MEAN));
+        Assertions.assertTrue(s2.isSupported(Statistic.STANDARD_DEVIATION));
+        Assertions.assertFalse(s2.isSupported(Statistic.SUM));
+    }
+
+    @Test
+    void testEmptyGroup() {
+        final GroupedDoubleStatistics s = GroupedDoubleStatistics.of(STATISTICS);
+        s.accept(3, 1.5);
+        Assertions.assertEquals(4, s.getGroupCount());
+        Assertions.assertArrayEquals(new long[] {0, 0, 0, 1}, s.getCounts());
+        final DoubleStatistics expected = DoubleStatistics.of(STATISTICS);
+        for (final int g : new int[] {0, 100}) {
+            Assertions.assertEquals(0, s.getCount(g));
+            for (final Statistic statistic : STATISTICS) {
+                Assertions.assertEquals(expected.getAsDouble(statistic), s.getAsDouble(statistic, g),
+                    statistic::toString);
+            }
+        }
+        Assertions.assertEquals(Double.NaN, s.getAsDoubleArray(Statistic.MEAN)[1]);
+        Assertions.assertEquals(1.5, s.getAsDoubleArray(Statistic.MEAN)[3]);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 1000})
+    void testStatistics(int groups) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final int n = 10000;
+        final int[] g = rng.ints(n, 0, groups).toArray();
+        final double[] x = rng.doubles(n, -10, 10).toArray();
+        // Non-finite values
+        x[rng.nextInt(n)] = Double.POSITIVE_INFINITY;
+        x[rng.nextInt(n)] = Double.NaN;
+        final DoubleStatistics[] expected = new DoubleStatistics[groups];
+        for (int i = 0; i < groups; i++) {
+            expected[i] = DoubleStatistics.of(STATISTICS);
+        }
+        final GroupedDoubleStatistics s1 = GroupedDoubleStatistics.of(STATISTICS);
+        for (int i = 0; i < n; i++) {
+            expected[g[i]].accept(x[i]);
+            s1.accept(g[i], x[i]);
+        }
+        assertStatistics(expected, s1);
+        // Columnar batch
+        final GroupedDoubleStatistics s2 = GroupedDoubleStatistics.of(STATISTICS);
+        s2.accept(g, x, 0, n / 3);
+        s2.accept(g, x, n / 3, n);
+        assertStatistics(expected, s2);
+        // Combine
+        final GroupedDoubleStatistics s3 = GroupedDoubleStatistics.of(STATISTICS);
+        final GroupedDoubleStatistics s4 = GroupedDoubleStatistics.of(STATISTICS);
+        s3.accept(g, x, 0, n / 2);
+        s4.accept(g, x, n / 2, n);
+        assertStatistics(expected, s3.combine(s4));
+        // Subset of statistics
+        final GroupedDoubleStatistics s5 = GroupedDoubleStatistics.of(Statistic.MEAN);
+        s5.accept(g, x);
+        final double[] mean = s5.getAsDoubleArray(Statistic.MEAN);
+        for (int i = 0; i < mean.length; i++) {
+            Assertions.assertEquals(s1.getAsDouble(Statistic.MEAN, i), mean[i], 1e-12);
+        }
+    }
+
+    /**
+     * Assert the grouped statistics match the expected statistics of each group.
+     *
+     * @param expected Expected statistics.
+     * @param actual Actual statistics.
+     */
+    private static void assertStatistics(DoubleStatistics[] expected, GroupedDoubleStatistics actual) {
+        final long[] counts = actual.getCounts();
+        Assertions.assertEquals(counts.length, actual.getGroupCount());
+        for (int g = 0; g < expected.length; g++) {
+            final DoubleStatistics e = expected[g];
+            Assertions.assertEquals(e.getCount(), g < counts.length ? counts[g] : 0);
+            Assertions.assertEquals(e.getCount(), actual.getCount(g));
+            for (final Statistic statistic : STATISTICS) {
+                final double a = actual.getAsDouble(statistic, g);
+                if (g < counts.length) {
+                    Assertions.assertEquals(a, actual.getAsDoubleArray(statistic)[g]);
+                }
+                final double v = e.getAsDouble(statistic);
+                final int group = g;
+                if (Double.isFinite(v)) {
+                    // Allow cancellation when combining results close to zero
+                    Assertions.assertEquals(v, a, Math.max(Math.abs(v) * 1e-12, 1e-13),
+                        () -> statistic + " " + group);
+                } else {
+                    Assertions.assertEquals(v, a, () -> statistic + " " + group);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCombineIncompatibleThrows() {
+        final GroupedDoubleStatistics s1 = GroupedDoubleStatistics.of(Statistic.MIN, Statistic.MEAN);
+        final GroupedDoubleStatistics s2 = GroupedDoubleStatistics.of(Statistic.VARIANCE);
+        s1.accept(0, 1);
+        s2.accept(0, 2);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s1.combine(s2));
+        Assertions.assertEquals(1, s1.getAsDouble(Statistic.MEAN, 0));
+        // A superset is compatible
+        final GroupedDoubleStatistics s3 = GroupedDoubleStatistics.of(Statistic.MEAN);
+        s3.accept(0, 3);
+        s3.combine(s2);
+        Assertions.assertEquals(2.5, s3.getAsDouble(Statistic.MEAN, 0));
+    }
+
+    @Test
+    void testConfiguration() {
+        final GroupedDoubleStatistics s = GroupedDoubleStatistics.of(Statistic.VARIANCE);
+        s.accept(new int[] {0, 0, 0, 1}, new double[] {1, 2, 3, 4});
+        Assertions.assertEquals(1, s.getAsDouble(Statistic.VARIANCE, 0));
+        Assertions.assertEquals(0, s.getAsDouble(Statistic.VARIANCE, 1));
+        s.setConfiguration(StatisticsConfiguration.withDefaults().withBiased(true));
+        Assertions.assertEquals(2.0 / 3, s.getAsDouble(Statistic.VARIANCE, 0));
+        Assertions.assertEquals(Math.sqrt(2.0 / 3), s.getAsDouble(Statistic.STANDARD_DEVIATION, 0));
+    }
+
+    @Test
+    void testOverflow() {
+        final double max = Double.MAX_VALUE;
+        final GroupedDoubleStatistics s = GroupedDoubleStatistics.of(Statistic.SUM, Statistic.MEAN);
+        s.accept(new int[] {0, 0, 1, 1}, new double[] {max, max, max, -max});
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, s.getAsDouble(Statistic.SUM, 0));
+        Assertions.assertEquals(max, s.getAsDouble(Statistic.MEAN, 0));
+        Assertions.assertEquals(0, s.getAsDouble(Statistic.SUM, 1));
+        Assertions.assertEquals(0, s.getAsDouble(Statistic.MEAN, 1));
+        // Combine a non-finite sum
+        final GroupedDoubleStatistics s2 = GroupedDoubleStatistics.of(Statistic.SUM);
+        s2.accept(new int[] {0, 0}, new double[] {Double.POSITIVE_INFINITY, 1});
+        final GroupedDoubleStatistics s3 = GroupedDoubleStatistics.of(Statistic.SUM);
+        s3.accept(0, 2);
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, s3.combine(s2).getAsDouble(Statistic.SUM, 0));
+    }
+}
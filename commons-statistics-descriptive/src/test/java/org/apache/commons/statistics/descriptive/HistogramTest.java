@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.statistics.descriptive.Quantile.EstimationMethod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link Histogram}.
+ */
+class HistogramTest {
+    /** Probabilities used for testing. */
+    private static final double[] PROBABILITIES = {
+        0, 0.001, 0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999, 1,
+    };
+
+    @Test
+    void testInvalidParametersThrows() {
+        final double inf = Double.POSITIVE_INFINITY;
+        for (final double[] range : new double[][] {{1, 1}, {2, 1}, {Double.NaN, 1}, {0, Double.NaN},
+                                                    {-inf, 0}, {0, inf}}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Histogram.create(range[0], range[1], 10));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Histogram.create(0, 1, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Histogram.create(0, 1, -1));
+    }
+
+    @Test
+    void testInvalidProbabilityThrows() {
+        final Histogram h = Histogram.create(0, 1, 10);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantile(-0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantile(1.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantile(Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantiles());
+    }
+
+    @Test
+    void testIncompatibleCombineThrows() {
+        final Histogram h = Histogram.create(0, 1, 10);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.combine(Histogram.create(0, 2, 10)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.combine(Histogram.create(-1, 1, 10)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.combine(Histogram.create(0, 1, 11)));
+    }
+
+    @Test
+    void testEmpty() {
+        final Histogram h = Histogram.create(0, 1, 10);
+        Assertions.assertEquals(0, h.getCount());
+        Assertions.assertEquals(Double.NaN, h.getAsDouble());
+        Assertions.assertEquals(Double.NaN, h.getMean());
+        Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN}, h.getQuantiles(0, 1));
+        h.accept(Double.NaN);
+        Assertions.assertEquals(0, h.getCount());
+        Assertions.assertEquals(Double.NaN, h.getAsDouble());
+    }
+
+    @Test
+    void testCounts() {
+        final Histogram h = Histogram.create(-1, 3, 4);
+        Assertions.assertEquals(-1, h.getLowerBound());
+        Assertions.assertEquals(3, h.getUpperBound());
+        h.accept(new double[] {-1, -0.5, 0, 0.5, 0.75, 1, 2.5, 3, -1.5, 3.5, Double.NaN, -0.25}, 0, 12);
+        Assertions.assertArrayEquals(new long[] {3, 3, 1, 2}, h.getCounts());
+        Assertions.assertEquals(1, h.getUnderflowCount());
+        Assertions.assertEquals(1, h.getOverflowCount());
+        Assertions.assertEquals(11, h.getCount());
+        // The counts are a copy
+        h.getCounts()[0] = 42;
+        Assertions.assertEquals(3, h.getCounts()[0]);
+    }
+
+    @Test
+    void testExtremeRange() {
+        final double max = Double.MAX_VALUE;
+        final Histogram h = Histogram.create(-max, max, 4);
+        h.accept(-max);
+        h.accept(-max / 4);
+        h.accept(0);
+        h.accept(max / 4);
+        h.accept(max);
+        h.accept(Double.POSITIVE_INFINITY);
+        Assertions.assertArrayEquals(new long[] {1, 1, 2, 1}, h.getCounts());
+        Assertions.assertEquals(1, h.getOverflowCount());
+        Assertions.assertEquals(-max, h.getQuantile(0));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, h.getQuantile(1));
+    }
+
+    @Test
+    void testSetEstimationMethodThrows() {
+        final Histogram h = Histogram.create(0, 1, 10);
+        Assertions.assertThrows(NullPointerException.class, () -> h.setEstimationMethod(null));
+    }
+
+    @Test
+    void testQuantileSingleBin() {
+        // Uniform data within a bin is positioned at the centre of equal parts of the bin
+        final Histogram h = Histogram.create(0, 11, 1).setEstimationMethod(EstimationMethod.HF7);
+        for (int i = 0; i <= 10; i++) {
+            h.accept(i + 0.5);
+        }
+        for (final double p : PROBABILITIES) {
+            Assertions.assertEquals(0.5 + 10 * p, h.getQuantile(p), 1e-14);
+        }
+        // Clipped to the range of the data
+        final Histogram h2 = Histogram.create(0, 10, 1);
+        h2.accept(4);
+        h2.accept(6);
+        Assertions.assertEquals(4, h2.getQuantile(0));
+        Assertions.assertEquals(5, h2.getQuantile(0.5));
+        Assertions.assertEquals(6, h2.getQuantile(1));
+        Assertions.assertEquals(5, h2.getMean());
+    }
+
+    @Test
+    void testQuantileUnderflowOverflow() {
+        // Rank = (n - 1) p
+        final Histogram h = Histogram.create(0, 1, 10).setEstimationMethod(EstimationMethod.HF7);
+        h.accept(-10);
+        h.accept(-10);
+        h.accept(0.55);
+        h.accept(20);
+        h.accept(20);
+        // Interpolated between the min and the lower bound
+        Assertions.assertEquals(-10, h.getQuantile(0));
+        Assertions.assertEquals(-7.5, h.getQuantile(0.125));
+        Assertions.assertEquals(-5, h.getQuantile(0.25));
+        Assertions.assertEquals(0.55, h.getQuantile(0.5), 1e-15);
+        // Interpolated between the upper bound and the max
+        Assertions.assertEquals(10.5, h.getQuantile(0.75));
+        Assertions.assertEquals(20, h.getQuantile(1));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testQuantile(double[] values, double lower, double upper, int bins) {
+        final Histogram h = Histogram.create(lower, upper, bins);
+        Arrays.stream(values).forEach(h);
+        final double width = (upper - lower) / bins;
+        final double[] q = Quantile.withDefaults().evaluate(values, PROBABILITIES);
+        final double[] actual = h.getQuantiles(PROBABILITIES);
+        final double min = Arrays.stream(values).min().getAsDouble();
+        final double max = Arrays.stream(values).max().getAsDouble();
+        Assertions.assertEquals(min, actual[0]);
+        Assertions.assertEquals(max, actual[actual.length - 1]);
+        for (int i = 0; i < PROBABILITIES.length; i++) {
+            final double p = PROBABILITIES[i];
+            Assertions.assertEquals(actual[i], h.getQuantile(p), () -> "p=" + p);
+            if (i != 0) {
+                Assertions.assertTrue(actual[i - 1] <= actual[i], () -> "Not monotonic at p=" + p);
+            }
+            // Error is bounded by the bin width when the data is dense within the bins
+            if (values.length >= 10000 && q[i] >= lower + width && q[i] <= upper - width) {
+                Assertions.assertEquals(q[i], actual[i], width, () -> "p=" + p);
+            }
+        }
+        Assertions.assertEquals(actual[6], h.getAsDouble());
+        // The rolling mean has a larger rounding error than the mean computed from all values
+        Assertions.assertEquals(Mean.of(values).getAsDouble(), h.getMean(), 1e-12 * Math.abs(h.getMean()));
+        Assertions.assertEquals(values.length, h.getCount());
+        Assertions.assertEquals(values.length, h.getUnderflowCount() + h.getOverflowCount() +
+            Arrays.stream(h.getCounts()).sum());
+
+        // Combine
+        final int half = values.length / 2;
+        final Histogram h1 = Histogram.create(lower, upper, bins);
+        final Histogram h2 = Histogram.create(lower, upper, bins);
+        h1.accept(values, 0, half);
+        h2.accept(values, half, values.length);
+        final Histogram h3 = h1.combine(h2);
+        Assertions.assertSame(h1, h3);
+        Assertions.assertArrayEquals(h.getCounts(), h3.getCounts());
+        Assertions.assertEquals(h.getUnderflowCount(), h3.getUnderflowCount());
+        Assertions.assertEquals(h.getOverflowCount(), h3.getOverflowCount());
+        Assertions.assertArrayEquals(actual, h3.getQuantiles(PROBABILITIES));
+        Assertions.assertEquals(h.getMean(), h3.getMean(), 1e-14 * Math.abs(h.getMean()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(EstimationMethod.class)
+    void testQuantileTwoValues(EstimationMethod method) {
+        // All histograms use the same rank. The extreme values are exact
+        // so the result matches the quantile of the sorted values.
+        final double[] values = {3, 42};
+        final Histogram h = Histogram.create(0, 100, 10).setEstimationMethod(method);
+        final LogHistogram lh = LogHistogram.create(1, 100, 0.1).setEstimationMethod(method);
+        final LongHistogram h2 = LongHistogram.create(100, 0).setEstimationMethod(method);
+        for (final double x : values) {
+            h.accept(x);
+            lh.accept(x);
+            h2.accept((long) x);
+        }
+        final double[] expected = Quantile.withDefaults().with(method).evaluate(values, PROBABILITIES);
+        Assertions.assertArrayEquals(expected, h.getQuantiles(PROBABILITIES));
+        Assertions.assertArrayEquals(expected, lh.getQuantiles(PROBABILITIES));
+        Assertions.assertArrayEquals(expected, h2.getQuantiles(PROBABILITIES));
+    }
+
+    @ParameterizedTest
+    @EnumSource(EstimationMethod.class)
+    void testQuantileMatchesOtherHistograms(EstimationMethod method) {
+        // Integer data so that all the histograms can record the values
+        final long[] values = TestHelper.createRNG().longs(1000, 1, 1000).toArray();
+        final Histogram h = Histogram.create(0, 1000, 1000).setEstimationMethod(method);
+        final LogHistogram lh = LogHistogram.create(1, 1000, 1e-3).setEstimationMethod(method);
+        final LongHistogram h2 = LongHistogram.create(1000, 3).setEstimationMethod(method);
+        for (final long x : values) {
+            h.accept(x);
+            lh.accept(x);
+            h2.accept(x);
+        }
+        final double[] expected = Quantile.withDefaults().with(method).evaluate(values, PROBABILITIES);
+        final double[] q1 = h.getQuantiles(PROBABILITIES);
+        final double[] q2 = lh.getQuantiles(PROBABILITIES);
+        final double[] q3 = h2.getQuantiles(PROBABILITIES);
+        for (int i = 0; i < PROBABILITIES.length; i++) {
+            final double p = PROBABILITIES[i];
+            // Bin width 1
+            Assertions.assertEquals(expected[i], q1[i], 1, () -> "Histogram p=" + p);
+            // Relative accuracy; the long histogram is exact for 3 digits up to 1000
+            Assertions.assertEquals(expected[i], q2[i], expected[i] * 1e-3 * (1 + 1e-10), () -> "LogHistogram p=" + p);
+            Assertions.assertEquals(expected[i], q3[i], () -> "LongHistogram p=" + p);
+        }
+    }
+
+    static Stream<Arguments> testQuantile() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int n : new int[] {10, 100, 10000}) {
+            final double[] x = rng.doubles(n, 2, 7).toArray();
+            builder.add(Arguments.of(x, 2, 7, 50));
+            builder.add(Arguments.of(x, 0, 10, 1000));
+            // Data outside the range
+            builder.add(Arguments.of(x, 3, 6, 30));
+            final double[] y = rng.doubles(n).map(u -> -Math.log(u)).toArray();
+            builder.add(Arguments.of(y, 0, 5, 100));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link IntDistinctCount}.
+ */
+class IntDistinctCountTest {
+    @Test
+    void testInvalidPrecisionThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntDistinctCount.create(3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntDistinctCount.create(19));
+        Assertions.assertEquals(4, IntDistinctCount.create(4).getPrecision());
+        Assertions.assertEquals(18, IntDistinctCount.create(18).getPrecision());
+        Assertions.assertEquals(12, IntDistinctCount.create().getPrecision());
+    }
+
+    @Test
+    void testRangeThrows() {
+        final int[] values = {1, 2, 3};
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> IntDistinctCount.ofRange(values, 2, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> IntDistinctCount.create().accept(values, 0, 4));
+    }
+
+    @Test
+    void testEmpty() {
+        Assertions.assertEquals(0, IntDistinctCount.create().getAsDouble());
+        Assertions.assertEquals(0, IntDistinctCount.of().getAsLong());
+        Assertions.assertEquals(0, IntDistinctCount.create(4).getAsDouble());
+    }
+
+    @Test
+    void testDuplicates() {
+        final IntDistinctCount s = IntDistinctCount.of(1, 2, 3, 3, 2, 1, 1);
+        final double e = s.getAsDouble();
+        Assertions.assertEquals(3, s.getAsLong());
+        Assertions.assertEquals(3, e, 3 * 1e-2);
+        // Values already recorded do not change the sketch
+        s.accept(new int[] {0, 1, 2, 3}, 1, 4);
+        s.accept(2);
+        Assertions.assertEquals(e, s.getAsDouble());
+        Assertions.assertEquals(e, IntDistinctCount.ofRange(new int[] {1, 2, 3, 4}, 0, 3).getAsDouble());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 8, 12, 16})
+    void testAccuracy(int precision) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        // Relative standard error of the estimate
+        final double error = 1.04 / Math.sqrt(1 << precision);
+        for (final int n : new int[] {10, 1000, 100000}) {
+            final int[] values = rng.ints(n).toArray();
+            final IntDistinctCount s = IntDistinctCount.create(precision);
+            s.accept(values, 0, n);
+            // Duplicates
+            s.accept(values, 0, n / 2);
+            final double e = s.getAsDouble();
+            Assertions.assertEquals(n, e, n * 5 * error, () -> precision + " " + n);
+        }
+    }
+
+    @Test
+    void testCombine() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final int n = 50000;
+        final int[] values = rng.ints(n).toArray();
+        final IntDistinctCount s1 = IntDistinctCount.of(values);
+        final IntDistinctCount s2 = IntDistinctCount.ofRange(values, 0, n / 3);
+        final IntDistinctCount s3 = IntDistinctCount.ofRange(values, n / 4, n);
+        // Merge is exact
+        Assertions.assertEquals(s1.getAsDouble(), s2.combine(s3).getAsDouble());
+        Assertions.assertEquals(s1.getAsDouble(), s2.combine(s1).getAsDouble());
+        // Incompatible precision
+        final IntDistinctCount s4 = IntDistinctCount.create(10);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s1.combine(s4));
+    }
+
+    @Test
+    void testSameAsLong() {
+        final int[] values = TestHelper.createRNG().ints(10000, 0, 5000).toArray();
+        final LongDistinctCount s = LongDistinctCount.create();
+        for (final int x : values) {
+            s.accept(x);
+        }
+        Assertions.assertEquals(s.getAsDouble(), IntDistinctCount.of(values).getAsDouble());
+    }
+}
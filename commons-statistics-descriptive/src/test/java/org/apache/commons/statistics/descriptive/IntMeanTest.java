@@ -39,6 +39,11 @@ final class IntMeanTest extends BaseIntStatisticTest<IntMean> {
         return IntMean.of(values);
     }
 
+    @Override
+    protected IntMean create(int[] values, int from, int to) {
+        return IntMean.ofRange(values, from, to);
+    }
+
     @Override
     protected DoubleStatistic createAsDoubleStatistic(int... values) {
         return Mean.of(Arrays.stream(values).asDoubleStream().toArray());
@@ -36,6 +36,11 @@ final class IntSkewnessTest extends BaseIntStatisticTest<DoubleAsIntStatistic> {
         return DoubleAsIntStatistic.from(Skewness.of(values));
     }
 
+    @Override
+    protected DoubleAsIntStatistic create(int[] values, int from, int to) {
+        return DoubleAsIntStatistic.from(Skewness.ofRange(values, from, to));
+    }
+
     @Override
     protected DoubleStatistic createAsDoubleStatistic(int... values) {
         return Skewness.of(Arrays.stream(values).asDoubleStream().toArray());
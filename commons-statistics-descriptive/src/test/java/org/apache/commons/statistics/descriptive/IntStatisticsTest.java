@@ -26,13 +26,18 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
 import java.util.function.DoubleSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.statistics.distribution.DoubleTolerance;
 import org.apache.commons.statistics.distribution.DoubleTolerances;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -41,6 +46,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test for {@link IntStatistics}.
@@ -188,6 +194,7 @@ class IntStatisticsTest {
         addExpected(Statistic.GEOMETRIC_MEAN,
             () -> DoubleAsIntStatistic.from(GeometricMean.create()),
             x -> DoubleAsIntStatistic.from(GeometricMean.of(x)));
+        addExpected(Statistic.DISTINCT_COUNT, IntDistinctCount::create, IntDistinctCount::of);
         // Create co-computed statistics
         coComputed = new EnumMap<>(Statistic.class);
         Arrays.stream(Statistic.values()).forEach(s -> coComputed.put(s, EnumSet.of(s)));
@@ -308,6 +315,88 @@ class IntStatisticsTest {
         assertStatistics(stats, data, builder::build, ExpectedResult::getArray);
     }
 
+    /**
+     * Test the {@link IntStatistics} when data is passed as a range of a {@code int[]} of values.
+     */
+    @ParameterizedTest
+    @MethodSource(value = {"streamTestData"})
+    void testArrayRange(EnumSet<Statistic> stats, TestData data) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final IntStatistics.Builder builder = IntStatistics.builder(stats.toArray(EMPTY_STATISTIC_ARRAY));
+        assertStatistics(stats, data,
+            x -> builder.build(pad(x, padding), padding, padding + x.length), ExpectedResult::getArray);
+        assertStatistics(stats, data,
+            x -> IntStatistics.ofRange(stats, pad(x, padding), padding, padding + x.length), ExpectedResult::getArray);
+    }
+
+    /**
+     * Test the {@link IntStatistics} when data is passed as a range of a {@code int[]} of values
+     * using the {@link IntStatistics#accept(int[], int, int) accept} method.
+     */
+    @ParameterizedTest
+    @MethodSource(value = {"streamTestData"})
+    void testAcceptRange(EnumSet<Statistic> stats, TestData data) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final Statistic[] statistics = stats.toArray(EMPTY_STATISTIC_ARRAY);
+        assertStatistics(stats, data, x -> {
+            final IntStatistics s = IntStatistics.of(statistics);
+            s.accept(pad(x, padding), padding, padding + x.length);
+            return s;
+        }, ExpectedResult::getStream);
+    }
+
+    /**
+     * Create a copy of the data with padding at both ends.
+     *
+     * @param x Data.
+     * @param padding Padding length.
+     * @return the padded data
+     */
+    private static int[] pad(int[] x, int padding) {
+        final int[] data = new int[x.length + 2 * padding];
+        Arrays.fill(data, 0, padding, Integer.MIN_VALUE);
+        Arrays.fill(data, padding + x.length, data.length, Integer.MAX_VALUE);
+        System.arraycopy(x, 0, data, padding, x.length);
+        return data;
+    }
+
+    /**
+     * Test the {@link IntStatistics} when data is passed as a {@code int[]} of values
+     * and computed in parallel.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 50000, 123457})
+    void testBuildParallel(int length) throws InterruptedException, ExecutionException {
+        final int[] values = ThreadLocalRandom.current().ints(length, 1, Integer.MAX_VALUE).toArray();
+        final Statistic[] statistics = Statistic.values();
+        final IntStatistics.Builder builder = IntStatistics.builder(statistics);
+        final IntStatistics expected = builder.build(values);
+        final EnumSet<Statistic> exact = EnumSet.of(Statistic.MIN, Statistic.MAX, Statistic.MEAN,
+            Statistic.STANDARD_DEVIATION, Statistic.VARIANCE, Statistic.SUM, Statistic.SUM_OF_SQUARES);
+        final DoubleTolerance tol = TestHelper.equalsOrNonFinite(DoubleTolerances.relative(1e-12));
+        // Use a pool with a parallelism above 1 to ensure the data is divided
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final IntStatistics actual = pool.submit(() -> builder.buildParallel(values)).get();
+            Assertions.assertEquals(expected.getCount(), actual.getCount(), "Count");
+            for (final Statistic s : statistics) {
+                TestHelper.assertEquals(expected.getResult(s), actual.getResult(s),
+                    exact.contains(s) ? DoubleTolerances.equals() : tol, () -> s + " length=" + length);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        // Common pool
+        final IntStatistics actual = builder.buildParallel(values);
+        Assertions.assertEquals(expected.getCount(), actual.getCount(), "Count");
+        for (final Statistic s : statistics) {
+            TestHelper.assertEquals(expected.getResult(s), actual.getResult(s),
+                exact.contains(s) ? DoubleTolerances.equals() : tol, () -> s + " length=" + length);
+        }
+    }
+
     /**
      * Assert the computed statistics match the expected result.
      *
@@ -457,11 +546,51 @@ class IntStatisticsTest {
         Assertions.assertThrows(NullPointerException.class, () -> IntStatistics.of(s3, nullValues));
     }
 
+    @Test
+    void testOfRangeThrows() {
+        final EnumSet<Statistic> s1 = EnumSet.noneOf(Statistic.class);
+        final int[] values = new int[3];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntStatistics.ofRange(s1, values, 0, 3));
+        final EnumSet<Statistic> s2 = EnumSet.of(Statistic.MIN);
+        final IntStatistics.Builder builder = IntStatistics.builder(Statistic.MIN);
+        final IntStatistics stats = builder.build();
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> IntStatistics.ofRange(s2, values, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> builder.build(values, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> stats.accept(values, from, to));
+        }
+    }
+
     @Test
     void testBuilderThrows() {
         Assertions.assertThrows(IllegalArgumentException.class, () -> IntStatistics.builder());
         Assertions.assertThrows(IllegalArgumentException.class, () -> IntStatistics.builder(EMPTY_STATISTIC_ARRAY));
         Assertions.assertThrows(NullPointerException.class, () -> IntStatistics.builder(new Statistic[1]));
+        final IntStatistics.Builder builder = IntStatistics.builder(Statistic.MIN);
+        final int[] nullValues = null;
+        Assertions.assertThrows(NullPointerException.class, () -> builder.build(nullValues));
+        Assertions.assertThrows(NullPointerException.class, () -> builder.buildParallel(nullValues));
+    }
+
+    @Test
+    void testDistinctCountPrecision() {
+        final IntStatistics.Builder builder = IntStatistics.builder(Statistic.DISTINCT_COUNT);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.setDistinctCountPrecision(3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.setDistinctCountPrecision(19));
+        final int[] values = IntStream.range(0, 1000).toArray();
+        final IntStatistics s1 = builder.build(values);
+        Assertions.assertEquals(IntDistinctCount.of(values).getAsDouble(), s1.getAsDouble(Statistic.DISTINCT_COUNT));
+        builder.setDistinctCountPrecision(6);
+        final IntStatistics s2 = builder.build(values);
+        final IntDistinctCount expected = IntDistinctCount.create(6);
+        expected.accept(values, 0, values.length);
+        Assertions.assertEquals(expected.getAsDouble(), s2.getAsDouble(Statistic.DISTINCT_COUNT));
+        // A different precision cannot be combined
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s1.combine(s2));
+        Assertions.assertEquals(values.length, s1.getCount());
+        Assertions.assertEquals(2 * values.length, s2.combine(builder.build(values)).getCount());
     }
 
     @Test
@@ -635,4 +764,55 @@ class IntStatisticsTest {
         Assertions.assertTrue(s.isSupported(Statistic.KURTOSIS));
         Assertions.assertTrue(s.isSupported(Statistic.SKEWNESS));
     }
+
+    @Test
+    void testCollectorNoStatisticsThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntStatistics.collector());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 100000})
+    void testCollector(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final int[] values = rng.ints(n).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN};
+        final IntStatistics expected = IntStatistics.of(statistics);
+        expected.accept(values, 0, n);
+        final List<Integer> list = Arrays.stream(values).boxed().collect(Collectors.toList());
+        assertStatisticsEquals(expected, list.stream().collect(IntStatistics.collector(statistics)));
+        assertStatisticsEquals(expected, list.parallelStream().collect(IntStatistics.collector(statistics)));
+    }
+
+    @Test
+    void testCollectorGroupingBy() {
+        final int n = 10000;
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final int[] values = rng.ints(n).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN};
+        final Map<Integer, IntStatistics> map = IntStream.range(0, n).boxed().parallel()
+            .collect(Collectors.groupingBy(i -> i % 3, IntStatistics.collector(i -> values[i], statistics)));
+        Assertions.assertEquals(3, map.size());
+        for (int k = 0; k < 3; k++) {
+            final IntStatistics expected = IntStatistics.of(statistics);
+            for (int i = k; i < n; i += 3) {
+                expected.accept(values[i]);
+            }
+            assertStatisticsEquals(expected, map.get(k));
+        }
+    }
+
+    /**
+     * Assert the statistics match exactly.
+     *
+     * @param expected Expected statistics.
+     * @param actual Actual statistics.
+     */
+    static void assertStatisticsEquals(IntStatistics expected, IntStatistics actual) {
+        // Integer statistics are exact
+        Assertions.assertEquals(expected.getCount(), actual.getCount());
+        for (final Statistic statistic : new Statistic[] {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN}) {
+            Assertions.assertEquals(expected.getAsDouble(statistic), actual.getAsDouble(statistic),
+                statistic::toString);
+        }
+    }
 }
@@ -76,6 +76,53 @@ class InterpolationTest {
         return builder.build();
     }
 
+    @ParameterizedTest
+    @MethodSource
+    void testLongMean(long x, long y, double expected) {
+        Assertions.assertEquals(expected, Interpolation.mean(x, y));
+    }
+
+    static Stream<Arguments> testLongMean() {
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        builder.add(Arguments.of(2L, 3L, 2.5));
+        builder.add(Arguments.of(-4L, 3L, -0.5));
+        builder.add(Arguments.of(-4L, 4L, 0));
+        builder.add(Arguments.of(-4L, 5L, 0.5));
+        builder.add(Arguments.of(0L, 0L, 0));
+        // Beyond the precision of a double
+        builder.add(Arguments.of((1L << 53) + 1, (1L << 53) + 3, (1L << 53) + 2));
+        builder.add(Arguments.of(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE));
+        builder.add(Arguments.of(Long.MAX_VALUE, Long.MAX_VALUE - 2, Long.MAX_VALUE - 1));
+        builder.add(Arguments.of(-Long.MAX_VALUE, Long.MAX_VALUE, 0));
+        builder.add(Arguments.of(Long.MAX_VALUE, -Long.MAX_VALUE, 0));
+        builder.add(Arguments.of(Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE));
+        builder.add(Arguments.of(Long.MIN_VALUE, Long.MIN_VALUE + 2, Long.MIN_VALUE + 1));
+        builder.add(Arguments.of(Long.MIN_VALUE, Long.MAX_VALUE, -0.5));
+        builder.add(Arguments.of(Long.MAX_VALUE, Long.MIN_VALUE, -0.5));
+        return builder.build();
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testLongInterpolate(long a, long b, double t, double expected) {
+        Assertions.assertEquals(expected, Interpolation.interpolate(a, b, t));
+    }
+
+    static Stream<Arguments> testLongInterpolate() {
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        builder.add(Arguments.of(2L, 3L, 0.25, 2.25));
+        builder.add(Arguments.of(-4L, 4L, 0.75, 2));
+        builder.add(Arguments.of(5L, 5L, 0.5, 5));
+        // The difference is computed exactly
+        final long x = 1L << 60;
+        builder.add(Arguments.of(x + 1, x + 1025, 0.5, x + 513));
+        builder.add(Arguments.of(-x - 1025, -x - 1, 0.5, -x - 513));
+        // Overflow of the difference
+        builder.add(Arguments.of(Long.MIN_VALUE, Long.MAX_VALUE, 0.5, 0));
+        builder.add(Arguments.of(Long.MIN_VALUE, Long.MAX_VALUE, 0.25, Long.MIN_VALUE * 0.5));
+        return builder.build();
+    }
+
     @ParameterizedTest
     @MethodSource
     void testInterpolate(double a, double b, double t, double expected) {
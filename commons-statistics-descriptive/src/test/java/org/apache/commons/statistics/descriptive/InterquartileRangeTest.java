@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.statistics.descriptive.Quantile.EstimationMethod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link InterquartileRange}.
+ */
+class InterquartileRangeTest {
+    @Test
+    void testNullPropertyThrows() {
+        final InterquartileRange m = InterquartileRange.withDefaults();
+        Assertions.assertThrows(NullPointerException.class, () -> m.with((NaNPolicy) null));
+        Assertions.assertThrows(NullPointerException.class, () -> m.with((EstimationMethod) null));
+    }
+
+    @Test
+    void testRangeThrows() {
+        final InterquartileRange m = InterquartileRange.withDefaults();
+        final double[] values1 = {1, 2, 3};
+        final int[] values2 = {1, 2, 3};
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values1, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values2, from, to));
+        }
+    }
+
+    @Test
+    void testInterquartileRange() {
+        final InterquartileRange m = InterquartileRange.withDefaults();
+        Assertions.assertEquals(Double.NaN, m.evaluate(new double[0]));
+        Assertions.assertEquals(Double.NaN, m.evaluate(new int[0]));
+        Assertions.assertEquals(0, m.evaluate(new double[] {3}));
+        Assertions.assertEquals(0, m.evaluate(new int[] {3}));
+        // HF7 (the default in R): Q1 = 3.25, Q3 = 7.75
+        final InterquartileRange m7 = m.with(EstimationMethod.HF7);
+        Assertions.assertEquals(4.5, m7.evaluate(new double[] {10, 1, 9, 2, 8, 3, 7, 4, 6, 5}));
+        Assertions.assertEquals(4.5, m7.evaluate(new int[] {10, 1, 9, 2, 8, 3, 7, 4, 6, 5}));
+    }
+
+    @Test
+    void testNaN() {
+        final double[] values = {Double.NaN, 1, 2, 3, 4, 5};
+        Assertions.assertEquals(Double.NaN, InterquartileRange.withDefaults().evaluate(values.clone()));
+        final InterquartileRange m = InterquartileRange.withDefaults().with(EstimationMethod.HF7);
+        Assertions.assertEquals(2, m.with(NaNPolicy.EXCLUDE).evaluate(values.clone()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> m.with(NaNPolicy.ERROR).evaluate(values.clone()));
+    }
+
+    @Test
+    void testWithCopy() {
+        final double[] x = {5, 4, 3, 2, 1, 0};
+        final int[] y = {5, 4, 3, 2, 1, 0};
+        final InterquartileRange m = InterquartileRange.withDefaults().with(EstimationMethod.HF7).withCopy(true);
+        Assertions.assertEquals(2.5, m.evaluate(x));
+        Assertions.assertEquals(2.5, m.evaluate(y));
+        Assertions.assertArrayEquals(new double[] {5, 4, 3, 2, 1, 0}, x);
+        Assertions.assertArrayEquals(new int[] {5, 4, 3, 2, 1, 0}, y);
+        Assertions.assertEquals(2.5, m.withCopy(false).evaluate(x));
+        Assertions.assertFalse(Arrays.equals(new double[] {5, 4, 3, 2, 1, 0}, x));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 10, 51, 100, 1000})
+    void testRandom(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final double[] x = rng.doubles(n, -10, 10).toArray();
+        // Large range to avoid selection using counts
+        final int[] y = rng.ints(n).toArray();
+        for (final EstimationMethod method : EstimationMethod.values()) {
+            final Quantile q = Quantile.withDefaults().with(method).withCopy(true);
+            final InterquartileRange m = InterquartileRange.withDefaults().with(method).withCopy(true);
+            final double[] qx = q.evaluate(x, 0.25, 0.75);
+            final double[] qy = q.evaluate(y, 0.25, 0.75);
+            Assertions.assertEquals(qx[1] - qx[0], m.evaluate(x));
+            Assertions.assertEquals(qy[1] - qy[0], m.evaluate(y));
+            final int[] y2 = new int[n + 2];
+            System.arraycopy(y, 0, y2, 1, n);
+            Assertions.assertEquals(qy[1] - qy[0], m.evaluateRange(y2, 1, n + 1));
+        }
+    }
+}
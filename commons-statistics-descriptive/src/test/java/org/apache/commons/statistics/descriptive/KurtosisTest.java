@@ -42,6 +42,11 @@ final class KurtosisTest extends BaseDoubleStatisticTest<Kurtosis> {
         return Kurtosis.of(values);
     }
 
+    @Override
+    protected Kurtosis create(double[] values, int from, int to) {
+        return Kurtosis.ofRange(values, from, to);
+    }
+
     @Override
     protected double getEmptyValue() {
         return Double.NaN;
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.statistics.descriptive.Quantile.EstimationMethod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link LogHistogram}.
+ */
+class LogHistogramTest {
+    /** Probabilities used for testing. */
+    private static final double[] PROBABILITIES = {
+        0, 0.001, 0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999, 1,
+    };
+
+    @Test
+    void testInvalidParametersThrows() {
+        final double inf = Double.POSITIVE_INFINITY;
+        for (final double[] range : new double[][] {{1, 1}, {2, 1}, {0, 1}, {-1, 1}, {Double.NaN, 1},
+                                                    {1, Double.NaN}, {1, inf}}) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> LogHistogram.create(range[0], range[1], 0.01));
+        }
+        for (final double a : new double[] {0, 1, -0.1, Double.NaN}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> LogHistogram.create(1, 10, a));
+        }
+        // Too many buckets
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LogHistogram.create(Double.MIN_VALUE, Double.MAX_VALUE, 1e-6));
+    }
+
+    @Test
+    void testInvalidProbabilityThrows() {
+        final LogHistogram h = LogHistogram.create(1, 10, 0.01);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantile(-0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantile(1.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantile(Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantiles());
+    }
+
+    @Test
+    void testIncompatibleCombineThrows() {
+        final LogHistogram h = LogHistogram.create(1, 10, 0.01);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.combine(LogHistogram.create(1, 20, 0.01)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.combine(LogHistogram.create(2, 10, 0.01)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.combine(LogHistogram.create(1, 10, 0.02)));
+    }
+
+    @Test
+    void testEmpty() {
+        final LogHistogram h = LogHistogram.create(1, 10, 0.01);
+        Assertions.assertEquals(0, h.getCount());
+        Assertions.assertEquals(Double.NaN, h.getAsDouble());
+        Assertions.assertEquals(Double.NaN, h.getMean());
+        Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN}, h.getQuantiles(0, 1));
+        h.accept(Double.NaN);
+        Assertions.assertEquals(0, h.getCount());
+        Assertions.assertEquals(Double.NaN, h.getAsDouble());
+    }
+
+    @Test
+    void testCounts() {
+        // gamma = 3
+        final LogHistogram h = LogHistogram.create(1, 100, 0.5);
+        Assertions.assertEquals(1, h.getLowerBound());
+        Assertions.assertEquals(100, h.getUpperBound());
+        Assertions.assertEquals(0.5, h.getRelativeAccuracy());
+        Assertions.assertEquals(5, h.getCounts().length);
+        h.accept(new double[] {0, -1, 0.5, 1, 2, 4, 8, 26, 28, 82, 100, 101, Double.NaN}, 0, 13);
+        Assertions.assertArrayEquals(new long[] {2, 2, 1, 1, 2}, h.getCounts());
+        Assertions.assertEquals(3, h.getUnderflowCount());
+        Assertions.assertEquals(1, h.getOverflowCount());
+        Assertions.assertEquals(12, h.getCount());
+        // The counts are a copy
+        h.getCounts()[0] = 42;
+        Assertions.assertEquals(2, h.getCounts()[0]);
+    }
+
+    @Test
+    void testSetEstimationMethodThrows() {
+        final LogHistogram h = LogHistogram.create(1, 10, 0.01);
+        Assertions.assertThrows(NullPointerException.class, () -> h.setEstimationMethod(null));
+    }
+
+    @Test
+    void testQuantileUnderflowOverflow() {
+        // Rank = (n - 1) p
+        final LogHistogram h = LogHistogram.create(1, 10, 0.01).setEstimationMethod(EstimationMethod.HF7);
+        h.accept(-9);
+        h.accept(0);
+        h.accept(5);
+        h.accept(20);
+        h.accept(30);
+        Assertions.assertEquals(-9, h.getQuantile(0));
+        // Interpolated between the min and the lower bound
+        Assertions.assertEquals(-4, h.getQuantile(0.25));
+        Assertions.assertEquals(5, h.getQuantile(0.5), 5 * 0.01);
+        Assertions.assertEquals(20, h.getQuantile(0.75));
+        Assertions.assertEquals(30, h.getQuantile(1));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testQuantile(double[] values, double lower, double upper, double alpha) {
+        final LogHistogram h = LogHistogram.create(lower, upper, alpha);
+        Arrays.stream(values).forEach(h);
+        final double[] x = values.clone();
+        Arrays.sort(x);
+        final int n = x.length;
+        final double[] actual = h.getQuantiles(PROBABILITIES);
+        Assertions.assertEquals(x[0], actual[0]);
+        Assertions.assertEquals(x[n - 1], actual[actual.length - 1]);
+        for (int i = 0; i < PROBABILITIES.length; i++) {
+            final double p = PROBABILITIES[i];
+            Assertions.assertEquals(actual[i], h.getQuantile(p), () -> "p=" + p);
+            if (i != 0) {
+                Assertions.assertTrue(actual[i - 1] <= actual[i], () -> "Not monotonic at p=" + p);
+            }
+            // Both values used for interpolation must be within the buckets
+            final double pos = EstimationMethod.HF8.index(p, n);
+            final int k = (int) pos;
+            if (x[k] >= lower && x[Math.min(k + 1, n - 1)] <= upper) {
+                final double expected = x[k] + (pos - k) * (x[Math.min(k + 1, n - 1)] - x[k]);
+                // Allow rounding at the bucket boundary
+                Assertions.assertEquals(expected, actual[i], expected * alpha * (1 + 1e-10), () -> "p=" + p);
+            }
+        }
+        Assertions.assertEquals(actual[6], h.getAsDouble());
+        // The rolling mean has a larger rounding error than the mean computed from all values
+        Assertions.assertEquals(Mean.of(values).getAsDouble(), h.getMean(), 1e-12 * Math.abs(h.getMean()));
+        Assertions.assertEquals(n, h.getCount());
+        Assertions.assertEquals(n, h.getUnderflowCount() + h.getOverflowCount() +
+            Arrays.stream(h.getCounts()).sum());
+
+        // Combine
+        final int half = n / 2;
+        final LogHistogram h1 = LogHistogram.create(lower, upper, alpha);
+        final LogHistogram h2 = LogHistogram.create(lower, upper, alpha);
+        h1.accept(values, 0, half);
+        h2.accept(values, half, n);
+        final LogHistogram h3 = h1.combine(h2);
+        Assertions.assertSame(h1, h3);
+        Assertions.assertArrayEquals(h.getCounts(), h3.getCounts());
+        Assertions.assertEquals(h.getUnderflowCount(), h3.getUnderflowCount());
+        Assertions.assertEquals(h.getOverflowCount(), h3.getOverflowCount());
+        Assertions.assertArrayEquals(actual, h3.getQuantiles(PROBABILITIES));
+        Assertions.assertEquals(h.getMean(), h3.getMean(), 1e-14 * Math.abs(h.getMean()));
+    }
+
+    static Stream<Arguments> testQuantile() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int n : new int[] {10, 100, 10000}) {
+            // Log-normal latency data
+            final double[] x = rng.doubles(n).map(u -> Math.exp(3 * inverseLogistic(u))).toArray();
+            builder.add(Arguments.of(x, 1e-9, 1e9, 0.01));
+            builder.add(Arguments.of(x, 1e-9, 1e9, 0.05));
+            // Data outside the range
+            builder.add(Arguments.of(x, 0.5, 2, 0.001));
+            final double[] y = rng.doubles(n, 1, 1000).toArray();
+            builder.add(Arguments.of(y, 1, 1000, 0.02));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Compute the inverse of the standard logistic distribution function. This is used to
+     * create a long-tailed distribution.
+     *
+     * @param u Probability.
+     * @return the value
+     */
+    private static double inverseLogistic(double u) {
+        return Math.log(u / (1 - u));
+    }
+}
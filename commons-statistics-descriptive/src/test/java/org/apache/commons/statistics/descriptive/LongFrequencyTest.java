@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link LongFrequency}.
+ */
+class LongFrequencyTest {
+    @Test
+    void testEmpty() {
+        final LongFrequency f = LongFrequency.create();
+        Assertions.assertEquals(0, f.getCount());
+        Assertions.assertEquals(0, f.getCount(0));
+        Assertions.assertEquals(0, f.getDistinctCount());
+        Assertions.assertEquals(0, f.getModeCount());
+        Assertions.assertArrayEquals(new long[0], f.getModes());
+        Assertions.assertArrayEquals(new long[0], f.getMostFrequent(2));
+    }
+
+    @Test
+    void testInvalidArgumentsThrows() {
+        final LongFrequency f = LongFrequency.of(1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.getMostFrequent(-1));
+        final long[] values = {1, 1};
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> f.accept(values, 1, 3));
+    }
+
+    @Test
+    void testModes() {
+        final LongFrequency f = LongFrequency.of(3, 1, -2, 1, 3, 5, 0);
+        Assertions.assertEquals(7, f.getCount());
+        Assertions.assertEquals(5, f.getDistinctCount());
+        Assertions.assertEquals(2, f.getModeCount());
+        Assertions.assertArrayEquals(new long[] {1, 3}, f.getModes());
+        Assertions.assertArrayEquals(new long[] {1, 3}, f.getMostFrequent(2));
+        Assertions.assertArrayEquals(new long[] {1, 3, -2, 0, 5}, f.getMostFrequent(10));
+        Assertions.assertArrayEquals(new long[0], f.getMostFrequent(0));
+    }
+
+    @Test
+    void testExtremeValues() {
+        final LongFrequency f = LongFrequency.of(Long.MAX_VALUE, Long.MIN_VALUE, 0, Long.MIN_VALUE, -1);
+        Assertions.assertArrayEquals(new long[] {Long.MIN_VALUE}, f.getModes());
+        Assertions.assertArrayEquals(new long[] {Long.MIN_VALUE, -1, 0, Long.MAX_VALUE}, f.getMostFrequent(4));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1000, 100000})
+    void testFrequency(int range) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final int n = 20000;
+        final long[] values = rng.longs(n, 0, range).map(x -> (x - range / 2) * 0x12345678901L).toArray();
+        final Map<Long, Long> expected = new HashMap<>();
+        for (final long x : values) {
+            expected.merge(x, 1L, Long::sum);
+        }
+        final LongFrequency f1 = LongFrequency.of(values);
+        final LongFrequency f2 = LongFrequency.create();
+        final LongFrequency f3 = LongFrequency.create();
+        f2.accept(values, 0, n / 3);
+        f3.accept(values, n / 3, n);
+        for (final LongFrequency f : new LongFrequency[] {f1, f2.combine(f3)}) {
+            Assertions.assertEquals(n, f.getCount());
+            Assertions.assertEquals(expected.size(), f.getDistinctCount());
+            expected.forEach((k, v) -> Assertions.assertEquals(v.longValue(), f.getCount(k)));
+            // Expected order: descending count; ascending value
+            final Long[] sorted = expected.keySet().toArray(new Long[0]);
+            final Comparator<Long> byCount = (x, y) -> Long.compare(expected.get(y), expected.get(x));
+            Arrays.sort(sorted, byCount.thenComparing(Comparator.naturalOrder()));
+            final long max = expected.get(sorted[0]);
+            Assertions.assertEquals(max, f.getModeCount());
+            Assertions.assertArrayEquals(Arrays.stream(sorted).filter(k -> expected.get(k) == max)
+                .mapToLong(Long::longValue).toArray(), f.getModes());
+            for (final int k : new int[] {1, 5, 50, sorted.length, sorted.length + 1}) {
+                Assertions.assertArrayEquals(Arrays.stream(sorted).limit(k).mapToLong(Long::longValue).toArray(),
+                    f.getMostFrequent(k));
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.statistics.descriptive.Quantile.EstimationMethod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link LongHistogram}.
+ */
+class LongHistogramTest {
+    /** Probabilities used for testing. */
+    private static final double[] PROBABILITIES = {
+        0, 0.001, 0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999, 1,
+    };
+
+    @Test
+    void testInvalidParametersThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongHistogram.create(0, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongHistogram.create(-1, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongHistogram.create(100, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongHistogram.create(100, 6));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongHistogram.create(100, 3, new Statistic[0]));
+    }
+
+    @Test
+    void testInvalidProbabilityThrows() {
+        final LongHistogram h = LongHistogram.create(100, 2);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantile(-0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantile(1.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantile(Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.getQuantiles());
+    }
+
+    @Test
+    void testIncompatibleCombineThrows() {
+        final LongHistogram h = LongHistogram.create(100, 2);
+        h.accept(42);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.combine(LongHistogram.create(1000, 2)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.combine(LongHistogram.create(100, 3)));
+        final LongHistogram h2 = LongHistogram.create(100, 2, Statistic.MIN);
+        h2.accept(13);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> h.combine(h2));
+        // State is unchanged
+        Assertions.assertEquals(1, h.getCount());
+        Assertions.assertEquals(1, h.getStatistics().getCount());
+        Assertions.assertEquals(0, h.getCountAtValue(13));
+    }
+
+    @Test
+    void testStatisticsAreCopied() {
+        final LongHistogram h = LongHistogram.create(100, 2);
+        h.accept(42);
+        final LongStatistics stats = h.getStatistics();
+        Assertions.assertEquals(1, stats.getCount());
+        Assertions.assertEquals(42, stats.getAsDouble(Statistic.MEAN));
+        // Updates to the copy do not change the histogram
+        stats.accept(13);
+        stats.combine(h.getStatistics());
+        Assertions.assertEquals(1, h.getCount());
+        Assertions.assertEquals(1, h.getStatistics().getCount());
+        Assertions.assertEquals(42, h.getStatistics().getAsDouble(Statistic.MEAN));
+        // Updates to the histogram do not change the copy
+        h.accept(44);
+        Assertions.assertEquals(3, stats.getCount());
+        Assertions.assertEquals(43, h.getStatistics().getAsDouble(Statistic.MEAN));
+    }
+
+    @Test
+    void testEmpty() {
+        final LongHistogram h = LongHistogram.create(100, 2);
+        Assertions.assertEquals(0, h.getCount());
+        Assertions.assertEquals(100, h.getHighestTrackableValue());
+        Assertions.assertEquals(2, h.getSignificantDigits());
+        Assertions.assertEquals(Double.NaN, h.getAsDouble());
+        Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN}, h.getQuantiles(0, 1));
+        Assertions.assertEquals(Double.NaN, h.getStatistics().getAsDouble(Statistic.MEAN));
+    }
+
+    @Test
+    void testCounts() {
+        // 1 digit: 32 sub-buckets
+        final LongHistogram h = LongHistogram.create(1000, 1);
+        h.accept(new long[] {-5, 0, 1, 31, 32, 33, 34, 64, 67, 68, 999, 1000, 1001, Long.MAX_VALUE}, 0, 14);
+        Assertions.assertEquals(14, h.getCount());
+        Assertions.assertEquals(1, h.getUnderflowCount());
+        Assertions.assertEquals(2, h.getOverflowCount());
+        Assertions.assertEquals(0, h.getCountAtValue(-5));
+        Assertions.assertEquals(0, h.getCountAtValue(1001));
+        Assertions.assertEquals(1, h.getCountAtValue(0));
+        Assertions.assertEquals(1, h.getCountAtValue(1));
+        Assertions.assertEquals(0, h.getCountAtValue(2));
+        Assertions.assertEquals(1, h.getCountAtValue(31));
+        // Width 2
+        Assertions.assertEquals(2, h.getCountAtValue(32));
+        Assertions.assertEquals(2, h.getCountAtValue(33));
+        Assertions.assertEquals(1, h.getCountAtValue(35));
+        // Width 4
+        Assertions.assertEquals(2, h.getCountAtValue(65));
+        Assertions.assertEquals(1, h.getCountAtValue(68));
+        // Width 32
+        Assertions.assertEquals(2, h.getCountAtValue(992));
+        Assertions.assertEquals(2, h.getCountAtValue(1000));
+    }
+
+    @Test
+    void testSetEstimationMethodThrows() {
+        final LongHistogram h = LongHistogram.create(100, 2);
+        Assertions.assertThrows(NullPointerException.class, () -> h.setEstimationMethod(null));
+    }
+
+    @Test
+    void testQuantileUnderflowOverflow() {
+        // Rank = ceil(n p) - 1
+        final LongHistogram h = LongHistogram.create(100, 3).setEstimationMethod(EstimationMethod.HF1);
+        h.accept(-21);
+        h.accept(-11);
+        h.accept(-1);
+        h.accept(50);
+        h.accept(201);
+        h.accept(301);
+        h.accept(401);
+        Assertions.assertEquals(-21, h.getQuantile(0));
+        // Interpolated between the min and -1
+        Assertions.assertEquals(-11, h.getQuantile(1.5 / 7));
+        Assertions.assertEquals(-1, h.getQuantile(2.5 / 7));
+        Assertions.assertEquals(50, h.getQuantile(0.5));
+        // Interpolated between the highest trackable value + 1 and the max
+        Assertions.assertEquals(101, h.getQuantile(4.5 / 7));
+        Assertions.assertEquals(251, h.getQuantile(5.5 / 7));
+        Assertions.assertEquals(401, h.getQuantile(1));
+    }
+
+    @Test
+    void testExtremeValues() {
+        final long max = Long.MAX_VALUE;
+        for (int d = 0; d <= 5; d++) {
+            final LongHistogram h = LongHistogram.create(max, d);
+            h.accept(max);
+            h.accept(max - 1);
+            h.accept(0);
+            Assertions.assertEquals(2, h.getCountAtValue(max));
+            Assertions.assertEquals(0, h.getOverflowCount());
+            Assertions.assertEquals(0, h.getQuantile(0));
+            Assertions.assertEquals(max, h.getQuantile(0.5));
+            Assertions.assertEquals(max, h.getQuantile(1));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testQuantile(long[] values, long highest, int digits) {
+        final LongHistogram h = LongHistogram.create(highest, digits);
+        Arrays.stream(values).forEach(h);
+        final long[] x = values.clone();
+        Arrays.sort(x);
+        final int n = x.length;
+        final double[] actual = h.getQuantiles(PROBABILITIES);
+        Assertions.assertEquals(x[0], actual[0]);
+        Assertions.assertEquals(x[n - 1], actual[actual.length - 1]);
+        final double precision = Math.pow(10, -digits);
+        for (int i = 0; i < PROBABILITIES.length; i++) {
+            final double p = PROBABILITIES[i];
+            Assertions.assertEquals(actual[i], h.getQuantile(p), () -> "p=" + p);
+            if (i != 0) {
+                Assertions.assertTrue(actual[i - 1] <= actual[i], () -> "Not monotonic at p=" + p);
+            }
+            // Both values used for interpolation must be within the buckets
+            final double pos = EstimationMethod.HF8.index(p, n);
+            final int k = (int) pos;
+            if (x[k] >= 0 && x[Math.min(k + 1, n - 1)] <= highest) {
+                final double expected = x[k] + (pos - k) * (x[Math.min(k + 1, n - 1)] - (double) x[k]);
+                // The highest equivalent value is above the value
+                Assertions.assertTrue(expected <= actual[i] * (1 + 1e-15), () -> "p=" + p);
+                Assertions.assertEquals(expected, actual[i], expected * precision * (1 + 1e-10), () -> "p=" + p);
+            }
+        }
+        Assertions.assertEquals(actual[6], h.getAsDouble());
+        Assertions.assertEquals(n, h.getCount());
+
+        // Exact statistics
+        final LongStatistics stats = h.getStatistics();
+        final LongStatistics expected = LongStatistics.of(Statistic.MIN, Statistic.MAX, Statistic.MEAN,
+            Statistic.STANDARD_DEVIATION, Statistic.VARIANCE, Statistic.SUM);
+        expected.accept(values, 0, n);
+        Assertions.assertEquals(n, stats.getCount());
+        for (final Statistic s : new Statistic[] {Statistic.MIN, Statistic.MAX}) {
+            Assertions.assertEquals(expected.getAsLong(s), stats.getAsLong(s));
+        }
+        for (final Statistic s : new Statistic[] {Statistic.MEAN, Statistic.STANDARD_DEVIATION, Statistic.VARIANCE}) {
+            Assertions.assertEquals(expected.getAsDouble(s), stats.getAsDouble(s));
+        }
+        Assertions.assertEquals(expected.getAsBigInteger(Statistic.SUM), stats.getAsBigInteger(Statistic.SUM));
+
+        // Combine
+        final int half = n / 2;
+        final LongHistogram h1 = LongHistogram.create(highest, digits);
+        final LongHistogram h2 = LongHistogram.create(highest, digits);
+        h1.accept(values, 0, half);
+        h2.accept(values, half, n);
+        final LongHistogram h3 = h1.combine(h2);
+        Assertions.assertSame(h1, h3);
+        Assertions.assertEquals(n, h3.getCount());
+        Assertions.assertEquals(h.getUnderflowCount(), h3.getUnderflowCount());
+        Assertions.assertEquals(h.getOverflowCount(), h3.getOverflowCount());
+        Assertions.assertArrayEquals(actual, h3.getQuantiles(PROBABILITIES));
+        Assertions.assertEquals(stats.getAsDouble(Statistic.MEAN), h3.getStatistics().getAsDouble(Statistic.MEAN));
+    }
+
+    static Stream<Arguments> testQuantile() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int n : new int[] {10, 100, 10000}) {
+            // Log-normal nanosecond latencies
+            final long[] x = rng.doubles(n).mapToLong(u -> (long) Math.exp(12 + 2 * Math.log(u / (1 - u)))).toArray();
+            for (int d = 0; d <= 4; d++) {
+                builder.add(Arguments.of(x, 3_600_000_000_000L, d));
+            }
+            builder.add(Arguments.of(x, Long.MAX_VALUE, 3));
+            // Data outside the range
+            builder.add(Arguments.of(x, 100_000, 2));
+            builder.add(Arguments.of(rng.longs(n, -1000, 1000).toArray(), 500, 3));
+            builder.add(Arguments.of(rng.longs(n, 0, Long.MAX_VALUE).toArray(), Long.MAX_VALUE, 5));
+        }
+        return builder.build();
+    }
+}
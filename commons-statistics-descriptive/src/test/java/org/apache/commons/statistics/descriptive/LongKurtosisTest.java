@@ -36,6 +36,11 @@ final class LongKurtosisTest extends BaseLongStatisticTest<DoubleAsLongStatistic
         return DoubleAsLongStatistic.from(Kurtosis.of(values));
     }
 
+    @Override
+    protected DoubleAsLongStatistic create(long[] values, int from, int to) {
+        return DoubleAsLongStatistic.from(Kurtosis.ofRange(values, from, to));
+    }
+
     @Override
     protected DoubleStatistic createAsDoubleStatistic(long... values) {
         return Kurtosis.of(Arrays.stream(values).asDoubleStream().toArray());
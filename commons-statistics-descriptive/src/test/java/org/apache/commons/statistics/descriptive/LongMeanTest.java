@@ -42,6 +42,11 @@ final class LongMeanTest extends BaseLongStatisticTest<LongMean> {
         return LongMean.of(values);
     }
 
+    @Override
+    protected LongMean create(long[] values, int from, int to) {
+        return LongMean.ofRange(values, from, to);
+    }
+
     @Override
     protected StatisticResult getEmptyValue() {
         return createStatisticResult(Double.NaN);
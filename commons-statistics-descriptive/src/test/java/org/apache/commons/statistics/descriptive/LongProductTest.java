@@ -36,6 +36,11 @@ final class LongProductTest extends BaseLongStatisticTest<DoubleAsLongStatistic>
         return DoubleAsLongStatistic.from(Product.of(values));
     }
 
+    @Override
+    protected DoubleAsLongStatistic create(long[] values, int from, int to) {
+        return DoubleAsLongStatistic.from(Product.ofRange(values, from, to));
+    }
+
     @Override
     protected DoubleStatistic createAsDoubleStatistic(long... values) {
         return Product.of(Arrays.stream(values).asDoubleStream().toArray());
@@ -36,6 +36,11 @@ final class LongSkewnessTest extends BaseLongStatisticTest<DoubleAsLongStatistic
         return DoubleAsLongStatistic.from(Skewness.of(values));
     }
 
+    @Override
+    protected DoubleAsLongStatistic create(long[] values, int from, int to) {
+        return DoubleAsLongStatistic.from(Skewness.ofRange(values, from, to));
+    }
+
     @Override
     protected DoubleStatistic createAsDoubleStatistic(long... values) {
         return Skewness.of(Arrays.stream(values).asDoubleStream().toArray());
@@ -26,13 +26,19 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
 import java.util.function.DoubleSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.statistics.distribution.DoubleTolerance;
 import org.apache.commons.statistics.distribution.DoubleTolerances;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -41,6 +47,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test for {@link LongStatistics}.
@@ -188,6 +195,7 @@ class LongStatisticsTest {
         addExpected(Statistic.GEOMETRIC_MEAN,
             () -> DoubleAsLongStatistic.from(GeometricMean.create()),
             x -> DoubleAsLongStatistic.from(GeometricMean.of(x)));
+        addExpected(Statistic.DISTINCT_COUNT, LongDistinctCount::create, LongDistinctCount::of);
         // Create co-computed statistics
         coComputed = new EnumMap<>(Statistic.class);
         Arrays.stream(Statistic.values()).forEach(s -> coComputed.put(s, EnumSet.of(s)));
@@ -308,6 +316,88 @@ class LongStatisticsTest {
         assertStatistics(stats, data, builder::build, ExpectedResult::getArray);
     }
 
+    /**
+     * Test the {@link LongStatistics} when data is passed as a range of a {@code long[]} of values.
+     */
+    @ParameterizedTest
+    @MethodSource(value = {"streamTestData"})
+    void testArrayRange(EnumSet<Statistic> stats, TestData data) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final LongStatistics.Builder builder = LongStatistics.builder(stats.toArray(EMPTY_STATISTIC_ARRAY));
+        assertStatistics(stats, data,
+            x -> builder.build(pad(x, padding), padding, padding + x.length), ExpectedResult::getArray);
+        assertStatistics(stats, data,
+            x -> LongStatistics.ofRange(stats, pad(x, padding), padding, padding + x.length), ExpectedResult::getArray);
+    }
+
+    /**
+     * Test the {@link LongStatistics} when data is passed as a range of a {@code long[]} of values
+     * using the {@link LongStatistics#accept(long[], int, int) accept} method.
+     */
+    @ParameterizedTest
+    @MethodSource(value = {"streamTestData"})
+    void testAcceptRange(EnumSet<Statistic> stats, TestData data) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final Statistic[] statistics = stats.toArray(EMPTY_STATISTIC_ARRAY);
+        assertStatistics(stats, data, x -> {
+            final LongStatistics s = LongStatistics.of(statistics);
+            s.accept(pad(x, padding), padding, padding + x.length);
+            return s;
+        }, ExpectedResult::getStream);
+    }
+
+    /**
+     * Create a copy of the data with padding at both ends.
+     *
+     * @param x Data.
+     * @param padding Padding length.
+     * @return the padded data
+     */
+    private static long[] pad(long[] x, int padding) {
+        final long[] data = new long[x.length + 2 * padding];
+        Arrays.fill(data, 0, padding, Long.MIN_VALUE);
+        Arrays.fill(data, padding + x.length, data.length, Long.MAX_VALUE);
+        System.arraycopy(x, 0, data, padding, x.length);
+        return data;
+    }
+
+    /**
+     * Test the {@link LongStatistics} when data is passed as a {@code long[]} of values
+     * and computed in parallel.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 50000, 123457})
+    void testBuildParallel(int length) throws InterruptedException, ExecutionException {
+        final long[] values = ThreadLocalRandom.current().longs(length, 1, Long.MAX_VALUE).toArray();
+        final Statistic[] statistics = Statistic.values();
+        final LongStatistics.Builder builder = LongStatistics.builder(statistics);
+        final LongStatistics expected = builder.build(values);
+        final EnumSet<Statistic> exact = EnumSet.of(Statistic.MIN, Statistic.MAX, Statistic.MEAN,
+            Statistic.STANDARD_DEVIATION, Statistic.VARIANCE, Statistic.SUM, Statistic.SUM_OF_SQUARES);
+        final DoubleTolerance tol = TestHelper.equalsOrNonFinite(DoubleTolerances.relative(1e-12));
+        // Use a pool with a parallelism above 1 to ensure the data is divided
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final LongStatistics actual = pool.submit(() -> builder.buildParallel(values)).get();
+            Assertions.assertEquals(expected.getCount(), actual.getCount(), "Count");
+            for (final Statistic s : statistics) {
+                TestHelper.assertEquals(expected.getResult(s), actual.getResult(s),
+                    exact.contains(s) ? DoubleTolerances.equals() : tol, () -> s + " length=" + length);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        // Common pool
+        final LongStatistics actual = builder.buildParallel(values);
+        Assertions.assertEquals(expected.getCount(), actual.getCount(), "Count");
+        for (final Statistic s : statistics) {
+            TestHelper.assertEquals(expected.getResult(s), actual.getResult(s),
+                exact.contains(s) ? DoubleTolerances.equals() : tol, () -> s + " length=" + length);
+        }
+    }
+
     /**
      * Assert the computed statistics match the expected result.
      *
@@ -457,11 +547,51 @@ class LongStatisticsTest {
         Assertions.assertThrows(NullPointerException.class, () -> LongStatistics.of(s3, nullValues));
     }
 
+    @Test
+    void testOfRangeThrows() {
+        final EnumSet<Statistic> s1 = EnumSet.noneOf(Statistic.class);
+        final long[] values = new long[3];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongStatistics.ofRange(s1, values, 0, 3));
+        final EnumSet<Statistic> s2 = EnumSet.of(Statistic.MIN);
+        final LongStatistics.Builder builder = LongStatistics.builder(Statistic.MIN);
+        final LongStatistics stats = builder.build();
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> LongStatistics.ofRange(s2, values, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> builder.build(values, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> stats.accept(values, from, to));
+        }
+    }
+
     @Test
     void testBuilderThrows() {
         Assertions.assertThrows(IllegalArgumentException.class, () -> LongStatistics.builder());
         Assertions.assertThrows(IllegalArgumentException.class, () -> LongStatistics.builder(EMPTY_STATISTIC_ARRAY));
         Assertions.assertThrows(NullPointerException.class, () -> LongStatistics.builder(new Statistic[1]));
+        final LongStatistics.Builder builder = LongStatistics.builder(Statistic.MIN);
+        final long[] nullValues = null;
+        Assertions.assertThrows(NullPointerException.class, () -> builder.build(nullValues));
+        Assertions.assertThrows(NullPointerException.class, () -> builder.buildParallel(nullValues));
+    }
+
+    @Test
+    void testDistinctCountPrecision() {
+        final LongStatistics.Builder builder = LongStatistics.builder(Statistic.DISTINCT_COUNT);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.setDistinctCountPrecision(3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.setDistinctCountPrecision(19));
+        final long[] values = LongStream.range(0, 1000).toArray();
+        final LongStatistics s1 = builder.build(values);
+        Assertions.assertEquals(LongDistinctCount.of(values).getAsDouble(), s1.getAsDouble(Statistic.DISTINCT_COUNT));
+        builder.setDistinctCountPrecision(6);
+        final LongStatistics s2 = builder.build(values);
+        final LongDistinctCount expected = LongDistinctCount.create(6);
+        expected.accept(values, 0, values.length);
+        Assertions.assertEquals(expected.getAsDouble(), s2.getAsDouble(Statistic.DISTINCT_COUNT));
+        // A different precision cannot be combined
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s1.combine(s2));
+        Assertions.assertEquals(values.length, s1.getCount());
+        Assertions.assertEquals(2 * values.length, s2.combine(builder.build(values)).getCount());
     }
 
     @Test
@@ -635,4 +765,55 @@ class LongStatisticsTest {
         Assertions.assertTrue(s.isSupported(Statistic.KURTOSIS));
         Assertions.assertTrue(s.isSupported(Statistic.SKEWNESS));
     }
+
+    @Test
+    void testCollectorNoStatisticsThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongStatistics.collector());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 100000})
+    void testCollector(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final long[] values = rng.longs(n).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN};
+        final LongStatistics expected = LongStatistics.of(statistics);
+        expected.accept(values, 0, n);
+        final List<Long> list = Arrays.stream(values).boxed().collect(Collectors.toList());
+        assertStatisticsEquals(expected, list.stream().collect(LongStatistics.collector(statistics)));
+        assertStatisticsEquals(expected, list.parallelStream().collect(LongStatistics.collector(statistics)));
+    }
+
+    @Test
+    void testCollectorGroupingBy() {
+        final int n = 10000;
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final long[] values = rng.longs(n).toArray();
+        final Statistic[] statistics = {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN};
+        final Map<Integer, LongStatistics> map = IntStream.range(0, n).boxed().parallel()
+            .collect(Collectors.groupingBy(i -> i % 3, LongStatistics.collector(i -> values[i], statistics)));
+        Assertions.assertEquals(3, map.size());
+        for (int k = 0; k < 3; k++) {
+            final LongStatistics expected = LongStatistics.of(statistics);
+            for (int i = k; i < n; i += 3) {
+                expected.accept(values[i]);
+            }
+            assertStatisticsEquals(expected, map.get(k));
+        }
+    }
+
+    /**
+     * Assert the statistics match exactly.
+     *
+     * @param expected Expected statistics.
+     * @param actual Actual statistics.
+     */
+    static void assertStatisticsEquals(LongStatistics expected, LongStatistics actual) {
+        // Integer statistics are exact
+        Assertions.assertEquals(expected.getCount(), actual.getCount());
+        for (final Statistic statistic : new Statistic[] {Statistic.MIN, Statistic.MAX, Statistic.SUM, Statistic.MEAN}) {
+            Assertions.assertEquals(expected.getAsDouble(statistic), actual.getAsDouble(statistic),
+                statistic::toString);
+        }
+    }
 }
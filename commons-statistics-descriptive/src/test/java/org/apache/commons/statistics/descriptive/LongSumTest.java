@@ -47,6 +47,11 @@ final class LongSumTest extends BaseLongStatisticTest<LongSum> {
         return LongSum.of(values);
     }
 
+    @Override
+    protected LongSum create(long[] values, int from, int to) {
+        return LongSum.ofRange(values, from, to);
+    }
+
     @Override
     protected DoubleStatistic createAsDoubleStatistic(long... values) {
         return Sum.of(Arrays.stream(values).asDoubleStream().toArray());
@@ -44,6 +44,11 @@ final class LongVarianceTest extends BaseLongStatisticTest<LongVariance> {
         return LongVariance.of(values);
     }
 
+    @Override
+    protected LongVariance create(long[] values, int from, int to) {
+        return LongVariance.ofRange(values, from, to);
+    }
+
     @Override
     protected DoubleStatistic createAsDoubleStatistic(long... values) {
         if (values.length == 0) {
@@ -36,6 +36,11 @@ final class MaxTest extends BaseDoubleStatisticTest<Max> {
         return Max.of(values);
     }
 
+    @Override
+    protected Max create(double[] values, int from, int to) {
+        return Max.ofRange(values, from, to);
+    }
+
     @Override
     protected double getEmptyValue() {
         return Double.NEGATIVE_INFINITY;
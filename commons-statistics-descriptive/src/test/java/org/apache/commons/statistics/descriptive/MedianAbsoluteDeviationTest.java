@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link MedianAbsoluteDeviation}.
+ */
+class MedianAbsoluteDeviationTest {
+    @Test
+    void testNullPropertyThrows() {
+        final MedianAbsoluteDeviation m = MedianAbsoluteDeviation.withDefaults();
+        Assertions.assertThrows(NullPointerException.class, () -> m.with((NaNPolicy) null));
+    }
+
+    @Test
+    void testRangeThrows() {
+        final MedianAbsoluteDeviation m = MedianAbsoluteDeviation.withDefaults();
+        final double[] values1 = {1, 2, 3};
+        final int[] values2 = {1, 2, 3};
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values1, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values2, from, to));
+        }
+    }
+
+    @Test
+    void testMedianAbsoluteDeviation() {
+        final MedianAbsoluteDeviation m = MedianAbsoluteDeviation.withDefaults();
+        Assertions.assertEquals(Double.NaN, m.evaluate(new double[0]));
+        Assertions.assertEquals(Double.NaN, m.evaluate(new int[0]));
+        Assertions.assertEquals(0, m.evaluate(new double[] {3}));
+        Assertions.assertEquals(0, m.evaluate(new int[] {3}));
+        // Median = 2; deviations {1, 1, 0, 0, 2, 4, 7}
+        Assertions.assertEquals(1, m.evaluate(new double[] {1, 1, 2, 2, 4, 6, 9}));
+        Assertions.assertEquals(1, m.evaluate(new int[] {1, 1, 2, 2, 4, 6, 9}));
+        // Median = 2.5; deviations {1.5, 0.5, 0.5, 1.5}
+        Assertions.assertEquals(1, m.evaluate(new double[] {4, 1, 3, 2}));
+        Assertions.assertEquals(1, m.evaluate(new int[] {4, 1, 3, 2}));
+    }
+
+    @Test
+    void testNaN() {
+        final double[] values = {Double.NaN, 1, 2, 3, 4, 5};
+        // Median = 3.5; deviations {NaN, 2.5, 1.5, 0.5, 0.5, 1.5}
+        Assertions.assertEquals(1.5, MedianAbsoluteDeviation.withDefaults().evaluate(values.clone()));
+        Assertions.assertEquals(1, MedianAbsoluteDeviation.withDefaults().with(NaNPolicy.EXCLUDE)
+            .evaluate(values.clone()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MedianAbsoluteDeviation.withDefaults().with(NaNPolicy.ERROR).evaluate(values.clone()));
+        Assertions.assertEquals(Double.NaN, MedianAbsoluteDeviation.withDefaults()
+            .evaluate(new double[] {Double.NaN, Double.NaN, 1}));
+    }
+
+    @Test
+    void testWithCopy() {
+        final double[] x = {5, 4, 3, 2, 1, 0};
+        final int[] y = {5, 4, 3, 2, 1, 0};
+        final MedianAbsoluteDeviation m = MedianAbsoluteDeviation.withDefaults().withCopy(true);
+        Assertions.assertEquals(1.5, m.evaluate(x));
+        Assertions.assertEquals(1.5, m.evaluate(y));
+        Assertions.assertArrayEquals(new double[] {5, 4, 3, 2, 1, 0}, x);
+        Assertions.assertArrayEquals(new int[] {5, 4, 3, 2, 1, 0}, y);
+        Assertions.assertEquals(1.5, m.withCopy(false).evaluate(x));
+        Assertions.assertFalse(Arrays.equals(new double[] {5, 4, 3, 2, 1, 0}, x));
+        // Input data is partially sorted; it is not overwritten with deviations
+        Arrays.sort(x);
+        Assertions.assertArrayEquals(new double[] {0, 1, 2, 3, 4, 5}, x);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 10, 51, 100, 1000})
+    void testRandom(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final double[] x = rng.doubles(n, -10, 10).toArray();
+        final int[] y = rng.ints(n, -100, 100).toArray();
+        final MedianAbsoluteDeviation m = MedianAbsoluteDeviation.withDefaults().withCopy(true);
+        Assertions.assertEquals(mad(x), m.evaluate(x));
+        Assertions.assertEquals(mad(Arrays.stream(y).asDoubleStream().toArray()), m.evaluate(y));
+        final double[] x2 = new double[n + 2];
+        System.arraycopy(x, 0, x2, 1, n);
+        Assertions.assertEquals(mad(x), m.withCopy(false).evaluateRange(x2, 1, n + 1));
+        Assertions.assertEquals(0, x2[0]);
+        Assertions.assertEquals(0, x2[n + 1]);
+    }
+
+    private static double mad(double[] values) {
+        final double[] x = values.clone();
+        Arrays.sort(x);
+        final double m = median(x);
+        for (int i = 0; i < x.length; i++) {
+            x[i] = Math.abs(x[i] - m);
+        }
+        Arrays.sort(x);
+        return median(x);
+    }
+
+    private static double median(double[] sorted) {
+        final int n = sorted.length;
+        return (n & 1) == 1 ? sorted[n >> 1] : Interpolation.mean(sorted[(n >> 1) - 1], sorted[n >> 1]);
+    }
+}
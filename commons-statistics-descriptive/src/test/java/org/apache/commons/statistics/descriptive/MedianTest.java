@@ -17,6 +17,7 @@
 
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.stream.Stream;
 import org.apache.commons.rng.UniformRandomProvider;
@@ -55,6 +56,20 @@ class MedianTest {
         Assertions.assertArrayEquals(values, copy);
     }
 
+    @ParameterizedTest
+    @MethodSource(value = {"testDoubleMedian"})
+    void testDoubleMedianRange(double[] values, double expected) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final double[] data = new double[values.length + 2 * padding];
+        Arrays.fill(data, Double.NaN);
+        for (final boolean copy : new boolean[] {false, true}) {
+            System.arraycopy(values, 0, data, padding, values.length);
+            Assertions.assertEquals(expected,
+                Median.withDefaults().withCopy(copy).evaluateRange(data, padding, padding + values.length));
+        }
+    }
+
     @ParameterizedTest
     @MethodSource(value = {"testDoubleMedian"})
     void testDoubleMedianExcludeNaN(double[] values, double expected) {
@@ -232,6 +247,21 @@ class MedianTest {
         return Interpolation.mean(x[m - 1], x[m]);
     }
 
+    @ParameterizedTest
+    @MethodSource(value = {"testIntMedian"})
+    void testIntMedianRange(int[] values, double expected) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        final int[] data = new int[values.length + 2 * padding];
+        Arrays.fill(data, 0, padding, Integer.MIN_VALUE);
+        Arrays.fill(data, padding + values.length, data.length, Integer.MAX_VALUE);
+        for (final boolean copy : new boolean[] {false, true}) {
+            System.arraycopy(values, 0, data, padding, values.length);
+            Assertions.assertEquals(expected,
+                Median.withDefaults().withCopy(copy).evaluateRange(data, padding, padding + values.length));
+        }
+    }
+
     @Test
     void testIntMedianWithCopy() {
         assertMedianWithCopy(new int[] {2, 1}, 1.5);
@@ -247,4 +277,215 @@ class MedianTest {
         Assertions.assertEquals(expected, Median.withDefaults().withCopy(false).evaluate(values));
         Assertions.assertFalse(Arrays.equals(original, values));
     }
+
+    @ParameterizedTest
+    @MethodSource(value = {"testLongMedian"})
+    void testLongMedian(long[] values, double expected) {
+        final long[] copy = values.clone();
+        Assertions.assertEquals(expected, Median.withDefaults().evaluate(values));
+        Assertions.assertEquals(expected, Quantile.withDefaults().evaluate(copy, 0.5));
+        Assertions.assertArrayEquals(values, copy);
+    }
+
+    static Stream<Arguments> testLongMedian() {
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        final long big = 1L << 60;
+        for (final long[] x : new long[][] {
+            {1},
+            {1, 2},
+            {2, 1},
+            {1, 2, 3, 4},
+            {Long.MAX_VALUE, Long.MAX_VALUE / 2},
+            {Long.MIN_VALUE, Long.MIN_VALUE / 2},
+            // Values are not distinct as a double
+            {big + 3, big + 1, big + 2},
+            {big + 1027, big + 1, big + 2, big + 2049},
+            {Long.MAX_VALUE, Long.MAX_VALUE - 2, Long.MAX_VALUE - 1},
+        }) {
+            builder.add(Arguments.of(x, evaluate(x)));
+        }
+
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        long[] x;
+        for (final int size : new int[] {5, 6, 50, 51}) {
+            final long[] values = rng.longs(size, -4500, 1500).toArray();
+            final double expected = evaluate(values);
+            for (int i = 0; i < 20; i++) {
+                x = ArraySampler.shuffle(rng, values.clone());
+                builder.add(Arguments.of(x, expected));
+            }
+            for (final long y : new long[] {0, 1, Long.MAX_VALUE, Long.MIN_VALUE}) {
+                x = new long[size];
+                Arrays.fill(x, y);
+                builder.add(Arguments.of(x, y));
+            }
+        }
+        builder.add(Arguments.of(new long[] {}, Double.NaN));
+        builder.add(Arguments.of(new long[] {-Long.MAX_VALUE, Long.MAX_VALUE}, 0));
+        builder.add(Arguments.of(new long[] {big + 1, big + 2}, big + 1.5));
+        return builder.build();
+    }
+
+    /**
+     * Evaluate the median using a full sort on a copy of the data.
+     *
+     * @param values Value.
+     * @return the median
+     */
+    private static double evaluate(long[] values) {
+        final long[] x = values.clone();
+        Arrays.sort(x);
+        final int m = x.length >> 1;
+        if ((x.length & 0x1) == 1) {
+            // odd
+            return x[m];
+        }
+        return Interpolation.mean(x[m - 1], x[m]);
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = {"testLongMedian"})
+    void testLongMedianRange(long[] values, double expected) {
+        final int padding = 3;
+        final long[] data = new long[values.length + 2 * padding];
+        Arrays.fill(data, 0, padding, Long.MIN_VALUE);
+        Arrays.fill(data, padding + values.length, data.length, Long.MAX_VALUE);
+        for (final boolean copy : new boolean[] {false, true}) {
+            System.arraycopy(values, 0, data, padding, values.length);
+            Assertions.assertEquals(expected,
+                Median.withDefaults().withCopy(copy).evaluateRange(data, padding, padding + values.length));
+        }
+    }
+
+    @Test
+    void testLongMedianWithCopy() {
+        final long[] values = {4, 3, 2, 1};
+        final long[] original = values.clone();
+        Assertions.assertEquals(2.5, Median.withDefaults().withCopy(true).evaluate(values));
+        Assertions.assertArrayEquals(original, values);
+        Assertions.assertEquals(2.5, Median.withDefaults().withCopy(false).evaluate(values));
+        Assertions.assertFalse(Arrays.equals(original, values));
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = {"testDoubleMedian"})
+    void testFloatMedian(double[] values, double expected) {
+        // Test data is representable as a float
+        final float[] x = toFloat(values);
+        Assumptions.assumeTrue(Arrays.equals(values, toDouble(x)));
+        final float[] copy = x.clone();
+        Assertions.assertEquals(expected, Median.withDefaults().evaluate(x));
+        Assertions.assertEquals(expected, Quantile.withDefaults().evaluate(copy, 0.5));
+    }
+
+    @Test
+    void testFloatMedianNaNPolicy() {
+        final float nan = Float.NaN;
+        final float[] values = {nan, 3, 1, nan, 2};
+        final Median m = Median.withDefaults();
+        // NaN is sorted to the end
+        Assertions.assertEquals(3, m.with(NaNPolicy.INCLUDE).evaluate(values.clone()));
+        Assertions.assertEquals(Double.NaN, m.with(NaNPolicy.INCLUDE).evaluate(new float[] {nan, 1, nan}));
+        Assertions.assertEquals(2, m.with(NaNPolicy.EXCLUDE).evaluate(values.clone()));
+        Assertions.assertEquals(2, m.with(NaNPolicy.INCLUDE).evaluateRange(values.clone(), 1, 3));
+        Assertions.assertEquals(2, m.with(NaNPolicy.ERROR).evaluateRange(values.clone(), 1, 3));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> m.with(NaNPolicy.ERROR).evaluate(values));
+        Assertions.assertEquals(Double.NaN, m.with(NaNPolicy.EXCLUDE).evaluate(new float[] {nan, nan}));
+        // Signed zeros
+        Assertions.assertEquals(-0.0, m.evaluate(new float[] {0.0f, -0.0f, -0.0f}));
+        // Special case for 2 values with signed zeros (must be unordered)
+        Assertions.assertEquals(0.0, m.evaluate(new float[] {0.0f, -0.0f}));
+        // Copy
+        final float[] original = values.clone();
+        Assertions.assertEquals(2, m.with(NaNPolicy.EXCLUDE).withCopy(true).evaluate(values));
+        Assertions.assertArrayEquals(original, values);
+    }
+
+    private static float[] toFloat(double[] values) {
+        final float[] x = new float[values.length];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = (float) values[i];
+        }
+        return x;
+    }
+
+    private static double[] toDouble(float[] values) {
+        final double[] x = new double[values.length];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = values[i];
+        }
+        return x;
+    }
+
+    @Test
+    void testDoubleBufferMedian() {
+        final double[] values = {9, 3, 4, 2, 1, 0, -9};
+        final DoubleBuffer b = DoubleBuffer.wrap(values, 1, 4);
+        Assertions.assertEquals(2.5, Median.withDefaults().evaluate(b));
+        Assertions.assertArrayEquals(new double[] {9, 3, 4, 2, 1, 0, -9}, values);
+        Assertions.assertEquals(1, b.position());
+        Assertions.assertEquals(Double.NaN, Median.withDefaults().evaluate(DoubleBuffer.allocate(0)));
+    }
+
+    @Test
+    void testRangeThrows() {
+        final Median m = Median.withDefaults();
+        final double[] values1 = {1, 2, 3};
+        final int[] values2 = {1, 2, 3};
+        final long[] values3 = {1, 2, 3};
+        final float[] values4 = {1, 2, 3};
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values1, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values2, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values3, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values4, from, to));
+        }
+    }
+
+    @Test
+    void testParallelMedian() {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        for (final int n : new int[] {ParallelSelection.MIN_PARALLEL_SIZE, ParallelSelection.MIN_PARALLEL_SIZE + 1}) {
+            final double[] x = rng.doubles(n).toArray();
+            final int[] y = rng.ints(n).toArray();
+            final double[] xs = x.clone();
+            Arrays.sort(xs);
+            final int[] ys = y.clone();
+            Arrays.sort(ys);
+            final Median m = Median.withDefaults().withParallel(true);
+            final double expected1 = (n & 1) == 1 ? xs[n >> 1] : Interpolation.mean(xs[(n >> 1) - 1], xs[n >> 1]);
+            final double expected2 = (n & 1) == 1 ? ys[n >> 1] : Interpolation.mean(ys[(n >> 1) - 1], ys[n >> 1]);
+            final double[] x0 = x.clone();
+            final int[] y0 = y.clone();
+            Assertions.assertEquals(expected1, m.evaluate(x));
+            Assertions.assertEquals(expected2, m.evaluate(y));
+            // Parallel selection does not modify the input
+            Assertions.assertArrayEquals(x0, x);
+            Assertions.assertArrayEquals(y0, y);
+        }
+    }
+
+    @Test
+    void testParallelMedianDoesNotModifyInput() {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        for (final int n : new int[] {ParallelSelection.MIN_PARALLEL_SIZE + 1, ParallelSelection.MIN_PARALLEL_SIZE + 2}) {
+            final double[] x = rng.doubles(n).toArray();
+            x[42] = Double.NaN;
+            final double[] x0 = x.clone();
+            for (final boolean copy : new boolean[] {false, true}) {
+                for (final NaNPolicy policy : new NaNPolicy[] {NaNPolicy.INCLUDE, NaNPolicy.EXCLUDE}) {
+                    final Median m = Median.withDefaults().with(policy).withCopy(true);
+                    final Median mp = Median.withDefaults().with(policy).withCopy(copy).withParallel(true);
+                    Assertions.assertEquals(m.evaluate(x), mp.evaluate(x));
+                    Assertions.assertArrayEquals(x0, x, "Input was modified");
+                }
+                final Median mp = Median.withDefaults().with(NaNPolicy.ERROR).withCopy(copy).withParallel(true);
+                Assertions.assertThrows(IllegalArgumentException.class, () -> mp.evaluate(x));
+                Assertions.assertArrayEquals(x0, x, "Input was modified");
+            }
+        }
+    }
 }
@@ -30,11 +30,11 @@ class NaNTransformersTest {
     @ParameterizedTest
     @MethodSource(value = {"nanData"})
     void testNaNErrorWithNaN(double[] a) {
-        final int[] bound = new int[1];
+        final int[] bound = new int[2];
         final NaNTransformer t1 = NaNTransformers.createNaNTransformer(NaNPolicy.ERROR, false);
-        Assertions.assertThrows(IllegalArgumentException.class, () -> t1.apply(a, bound));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> t1.apply(a, 0, a.length, bound));
         final NaNTransformer t2 = NaNTransformers.createNaNTransformer(NaNPolicy.ERROR, true);
-        Assertions.assertThrows(IllegalArgumentException.class, () -> t2.apply(a, bound));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> t2.apply(a, 0, a.length, bound));
     }
 
     @ParameterizedTest
@@ -58,8 +58,39 @@ class NaNTransformersTest {
         assertNaNTransformer(a, NaNTransformers.createNaNTransformer(NaNPolicy.EXCLUDE, true), false, true);
     }
 
+    @ParameterizedTest
+    @MethodSource(value = {"nanData", "nonNanData"})
+    void testFloatMatchesDouble(double[] a) {
+        final float[] f = new float[a.length];
+        for (int i = 0; i < a.length; i++) {
+            f[i] = (float) a[i];
+        }
+        final boolean hasNaN = Arrays.stream(a).anyMatch(Double::isNaN);
+        final int[] b1 = new int[2];
+        final int[] b2 = new int[2];
+        for (final NaNPolicy policy : NaNPolicy.values()) {
+            for (final boolean copy : new boolean[] {false, true}) {
+                final NaNTransformer t = NaNTransformers.createNaNTransformer(policy, copy);
+                if (policy == NaNPolicy.ERROR && hasNaN) {
+                    Assertions.assertThrows(IllegalArgumentException.class, () -> t.apply(f, 0, f.length, b2));
+                    continue;
+                }
+                final float[] x = f.clone();
+                final double[] y = t.apply(a.clone(), 0, a.length, b1);
+                final float[] z = t.apply(x, 0, x.length, b2);
+                Assertions.assertArrayEquals(b1, b2, () -> policy + " " + copy);
+                Assertions.assertEquals(copy, x != z);
+                for (int i = b2[0]; i < b2[1]; i++) {
+                    Assertions.assertEquals(y[i], z[i]);
+                }
+            }
+        }
+    }
+
     /**
      * Assert the NaN transformer allows including or excluding NaN.
+     * The transformer is applied to the data and to the data embedded within
+     * a range of a larger array.
      *
      * @param a Data.
      * @param t Transformer.
@@ -68,22 +99,54 @@ class NaNTransformersTest {
      */
     private static void assertNaNTransformer(double[] a, NaNTransformer t,
             boolean includeNaN, boolean copy) {
-        final int[] bounds = new int[1];
-        final double[] b = t.apply(a, bounds);
+        assertNaNTransformer(a.clone(), 0, a.length, t, includeNaN, copy);
+        // Padding must be ignored, including NaN if using the error policy
+        final int padding = 2;
+        final double[] b = new double[a.length + 2 * padding];
+        Arrays.fill(b, Double.NaN);
+        System.arraycopy(a, 0, b, padding, a.length);
+        assertNaNTransformer(b, padding, padding + a.length, t, includeNaN, copy);
+    }
+
+    /**
+     * Assert the NaN transformer allows including or excluding NaN in the range {@code [from, to)}.
+     *
+     * @param a Data.
+     * @param from Inclusive start of the range.
+     * @param to Exclusive end of the range.
+     * @param t Transformer.
+     * @param includeNaN True if the size should include NaN.
+     * @param copy True if the pre-processed data should be a copy.
+     */
+    private static void assertNaNTransformer(double[] a, int from, int to, NaNTransformer t,
+            boolean includeNaN, boolean copy) {
+        final double[] original = a.clone();
+        final int[] bounds = new int[2];
+        final double[] b = t.apply(a, from, to, bounds);
         if (copy) {
             Assertions.assertNotSame(a, b);
+            Assertions.assertArrayEquals(original, a, "Data was modified");
+            Assertions.assertEquals(0, bounds[0], "Start of copied data");
         } else {
             Assertions.assertSame(a, b);
+            Assertions.assertEquals(from, bounds[0], "Start of data");
+            for (int i = 0; i < from; i++) {
+                Assertions.assertEquals(original[i], a[i], "Data below range was modified");
+            }
+            for (int i = to; i < a.length; i++) {
+                Assertions.assertEquals(original[i], a[i], "Data above range was modified");
+            }
         }
         // Count NaN
-        final int nanCount = (int) Arrays.stream(a).filter(Double::isNaN).count();
-        final int size = a.length - (includeNaN ? 0 : nanCount);
-        Assertions.assertEquals(size, bounds[0], "Size of data");
+        final int nanCount = (int) Arrays.stream(a, from, to).filter(Double::isNaN).count();
+        final int size = to - from - (includeNaN ? 0 : nanCount);
+        final int lo = bounds[0];
+        Assertions.assertEquals(size, bounds[1] - lo, "Size of data");
         if (!includeNaN) {
-            for (int i = 0; i < size; i++) {
+            for (int i = lo; i < lo + size; i++) {
                 Assertions.assertNotEquals(Double.NaN, b[i], "NaN in unsorted range");
             }
-            for (int i = size; i < b.length; i++) {
+            for (int i = lo + size; i < lo + to - from; i++) {
                 Assertions.assertEquals(Double.NaN, b[i], "non-NaN in upper range");
             }
         }
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link PSquareQuantile} and {@link PSquareQuantiles}.
+ */
+class PSquareQuantileTest {
+    /** Probabilities used for testing. */
+    private static final double[] PROBABILITIES = {
+        0, 0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 1,
+    };
+
+    @Test
+    void testInvalidProbabilityThrows() {
+        for (final double p : new double[] {-0.5, 1.5, Double.NaN}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> PSquareQuantile.create(p));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> PSquareQuantiles.create(0.5, p));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PSquareQuantiles.create());
+    }
+
+    @Test
+    void testRangeThrows() {
+        final double[] values = {1, 2, 3};
+        final PSquareQuantile s = PSquareQuantile.create(0.5);
+        final PSquareQuantiles m = PSquareQuantiles.create(0.5);
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.accept(values, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.accept(values, from, to));
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        final PSquareQuantile s = PSquareQuantile.create(0.75);
+        Assertions.assertEquals(0, s.getCount());
+        Assertions.assertEquals(0.75, s.getProbability());
+        Assertions.assertEquals(Double.NaN, s.getAsDouble());
+        final PSquareQuantiles m = PSquareQuantiles.create(0.25, 0.5);
+        Assertions.assertEquals(0, m.getCount());
+        Assertions.assertArrayEquals(new double[] {0.25, 0.5}, m.getProbabilities());
+        Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN}, m.getQuantiles());
+    }
+
+    @Test
+    void testProbabilitiesAreCopied() {
+        final double[] p = {0.25, 0.5};
+        final PSquareQuantiles m = PSquareQuantiles.create(p);
+        p[0] = 0.75;
+        Assertions.assertArrayEquals(new double[] {0.25, 0.5}, m.getProbabilities());
+        m.getProbabilities()[1] = 0.75;
+        Assertions.assertArrayEquals(new double[] {0.25, 0.5}, m.getProbabilities());
+    }
+
+    @Test
+    void testNaN() {
+        final PSquareQuantile s = PSquareQuantile.create(0.5);
+        final PSquareQuantiles m = PSquareQuantiles.create(0.5, 1);
+        for (final double x : new double[] {1, 2, Double.NaN, 3, 4, 5, 6, 7}) {
+            s.accept(x);
+            m.accept(x);
+        }
+        Assertions.assertEquals(8, s.getCount());
+        Assertions.assertEquals(8, m.getCount());
+        Assertions.assertEquals(Double.NaN, s.getAsDouble());
+        Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN}, m.getQuantiles());
+    }
+
+    /**
+     * Test the result is exact while all values are stored by the markers.
+     */
+    @ParameterizedTest
+    @MethodSource
+    void testExact(double[] values) {
+        final Quantile q = Quantile.withDefaults().withCopy(true);
+        final double[] expected = q.evaluate(values, PROBABILITIES);
+        for (int i = 0; i < PROBABILITIES.length; i++) {
+            final PSquareQuantile s = PSquareQuantile.create(PROBABILITIES[i]);
+            Arrays.stream(values).forEach(s);
+            Assertions.assertEquals(expected[i], s.getAsDouble());
+        }
+        final PSquareQuantiles m = PSquareQuantiles.create(0, 0.25, 0.5, 1);
+        Arrays.stream(values).forEach(m);
+        Assertions.assertArrayEquals(q.evaluate(values, 0, 0.25, 0.5, 1), m.getQuantiles());
+    }
+
+    static Stream<Arguments> testExact() {
+        return Stream.of(
+            Arguments.of(new double[] {42}),
+            Arguments.of(new double[] {2, 1}),
+            Arguments.of(new double[] {3, 1, 2}),
+            Arguments.of(new double[] {1, 1, 2, 2}),
+            Arguments.of(new double[] {5, 4, 3, 2, 1})
+        );
+    }
+
+    /**
+     * Test the minimum and maximum are exact.
+     */
+    @Test
+    void testMinMax() {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final double[] values = rng.doubles(1000).toArray();
+        final PSquareQuantile min = PSquareQuantile.create(0);
+        final PSquareQuantile max = PSquareQuantile.create(1);
+        final PSquareQuantiles m = PSquareQuantiles.create(1, 0.5, 0);
+        Arrays.stream(values).forEach(min.andThen(max).andThen(m));
+        final double lo = Arrays.stream(values).min().getAsDouble();
+        final double hi = Arrays.stream(values).max().getAsDouble();
+        Assertions.assertEquals(lo, min.getAsDouble());
+        Assertions.assertEquals(hi, max.getAsDouble());
+        final double[] q = m.getQuantiles();
+        Assertions.assertEquals(hi, q[0]);
+        Assertions.assertEquals(lo, q[2]);
+    }
+
+    /**
+     * Test the estimate of a single probability is the same using the single
+     * and multiple quantile implementations.
+     */
+    @ParameterizedTest
+    @ValueSource(doubles = {0.01, 0.5, 0.99})
+    void testSingleMatchesMultiple(double p) {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final PSquareQuantile s = PSquareQuantile.create(p);
+        final PSquareQuantiles m = PSquareQuantiles.create(p, p);
+        final double[] values = rng.doubles(2000).toArray();
+        s.accept(values, 0, values.length);
+        m.accept(values, 0, values.length);
+        Assertions.assertEquals(values.length, s.getCount());
+        Assertions.assertEquals(values.length, m.getCount());
+        final double[] q = m.getQuantiles();
+        Assertions.assertEquals(s.getAsDouble(), q[0]);
+        Assertions.assertEquals(s.getAsDouble(), q[1]);
+    }
+
+    /**
+     * Test the rank error of the quantiles for a large data set.
+     */
+    @ParameterizedTest
+    @MethodSource
+    void testAccuracy(double[] values) {
+        final double[] x = values.clone();
+        Arrays.sort(x);
+        final PSquareQuantiles m = PSquareQuantiles.create(PROBABILITIES);
+        Arrays.stream(values).forEach(m);
+        final double[] q = m.getQuantiles();
+        for (int i = 0; i < q.length; i++) {
+            final PSquareQuantile s = PSquareQuantile.create(PROBABILITIES[i]);
+            Arrays.stream(values).forEach(s);
+            final double p = PROBABILITIES[i];
+            Assertions.assertEquals(p, rank(x, s.getAsDouble()), 0.01, () -> "single p=" + p);
+            Assertions.assertEquals(p, rank(x, q[i]), 0.01, () -> "multiple p=" + p);
+        }
+    }
+
+    static Stream<Arguments> testAccuracy() {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final int n = 50000;
+        return Stream.of(
+            Arguments.of(rng.doubles(n).toArray()),
+            Arguments.of(rng.doubles(n).map(x -> Math.exp(5 * x)).toArray()),
+            Arguments.of(rng.doubles(n).map(x -> -Math.log(x)).toArray())
+        );
+    }
+
+    /**
+     * Compute the relative rank of the value in the sorted data.
+     *
+     * @param x Sorted data.
+     * @param value Value.
+     * @return the relative rank
+     */
+    private static double rank(double[] x, double value) {
+        int rank = Arrays.binarySearch(x, value);
+        if (rank < 0) {
+            rank = -rank - 1;
+        }
+        return (double) rank / x.length;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link ParallelSelection}.
+ */
+class ParallelSelectionTest {
+    /** Offset of the range within the data. */
+    private static final int OFFSET = 3;
+
+    @ParameterizedTest
+    @MethodSource
+    void testSelectDouble(double[] values) {
+        final int n = values.length;
+        final double[] data = new double[n + 2 * OFFSET];
+        Arrays.fill(data, Double.NaN);
+        System.arraycopy(values, 0, data, OFFSET, n);
+        final double[] original = data.clone();
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        final int[] k = indices(n);
+        final double[] actual = ParallelSelection.select(data, OFFSET, OFFSET + n, k);
+        Assertions.assertEquals(k.length, actual.length);
+        for (int i = 0; i < k.length; i++) {
+            // Binary equality for signed zeros
+            Assertions.assertEquals(Double.doubleToLongBits(sorted[k[i] - OFFSET]),
+                Double.doubleToLongBits(actual[i]), "k=" + k[i]);
+        }
+        // Data is unchanged
+        Assertions.assertArrayEquals(original, data);
+    }
+
+    static Stream<Arguments> testSelectDouble() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int n : new int[] {1, 2, 10, 5000, 100000}) {
+            builder.add(Arguments.of((Object) rng.doubles(n).toArray()));
+            // Long tailed
+            builder.add(Arguments.of((Object) rng.doubles(n).map(u -> Math.log(u / (1 - u))).toArray()));
+            // Duplicates
+            builder.add(Arguments.of((Object) rng.ints(n, 0, 5).asDoubleStream().toArray()));
+            // Sorted
+            final double[] x = rng.doubles(n).toArray();
+            Arrays.sort(x);
+            builder.add(Arguments.of((Object) x));
+            // Constant
+            final double[] c = new double[n];
+            Arrays.fill(c, 42);
+            builder.add(Arguments.of((Object) c));
+            // Special values
+            final double[] special = {Double.NaN, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+            final double[] y = rng.doubles(n, -1, 1).toArray();
+            for (int i = 0; i < n; i += 3) {
+                y[i] = special[rng.nextInt(special.length)];
+            }
+            builder.add(Arguments.of((Object) y));
+            // Many repeats of a single value among distinct values
+            final double[] w = rng.doubles(n).toArray();
+            for (int i = 0; i < n; i += 2) {
+                w[i] = 0.5;
+            }
+            builder.add(Arguments.of((Object) w));
+        }
+        return builder.build();
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testSelectInt(int[] values) {
+        final int n = values.length;
+        final int[] data = new int[n + 2 * OFFSET];
+        Arrays.fill(data, Integer.MIN_VALUE);
+        System.arraycopy(values, 0, data, OFFSET, n);
+        final int[] original = data.clone();
+        final int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        final int[] k = indices(n);
+        final int[] actual = ParallelSelection.select(data, OFFSET, OFFSET + n, k);
+        Assertions.assertEquals(k.length, actual.length);
+        for (int i = 0; i < k.length; i++) {
+            Assertions.assertEquals(sorted[k[i] - OFFSET], actual[i], "k=" + k[i]);
+        }
+        // Data is unchanged
+        Assertions.assertArrayEquals(original, data);
+    }
+
+    static Stream<Arguments> testSelectInt() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int n : new int[] {1, 2, 10, 5000, 100000}) {
+            builder.add(Arguments.of((Object) rng.ints(n).toArray()));
+            // Duplicates
+            builder.add(Arguments.of((Object) rng.ints(n, 0, 5).toArray()));
+            builder.add(Arguments.of((Object) rng.ints(n, 0, 1000).toArray()));
+            // Sorted
+            final int[] x = rng.ints(n).toArray();
+            Arrays.sort(x);
+            builder.add(Arguments.of((Object) x));
+            // Constant
+            final int[] c = new int[n];
+            Arrays.fill(c, 42);
+            builder.add(Arguments.of((Object) c));
+            // Extreme values
+            final int[] special = {Integer.MIN_VALUE, Integer.MAX_VALUE, 0};
+            final int[] y = rng.ints(n).toArray();
+            for (int i = 0; i < n; i += 3) {
+                y[i] = special[rng.nextInt(special.length)];
+            }
+            builder.add(Arguments.of((Object) y));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create indices to select from data of size {@code n}, offset by {@link #OFFSET}.
+     * Indices are unordered and contain duplicates.
+     *
+     * @param n Size of the data.
+     * @return the indices
+     */
+    private static int[] indices(int n) {
+        final double[] p = {0.5, 0, 1, 0.25, 0.001, 0.999, 0.75, 0.5, 0.1, 0.9};
+        final int[] k = new int[p.length + 2];
+        for (int i = 0; i < p.length; i++) {
+            k[i] = OFFSET + (int) Math.min(n - 1, (long) (p[i] * n));
+        }
+        // Adjacent pair
+        k[p.length] = OFFSET + n / 2;
+        k[p.length + 1] = OFFSET + Math.max(0, n / 2 - 1);
+        return k;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.statistics.descriptive.Quantile.EstimationMethod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link PreparedQuantile}.
+ */
+class PreparedQuantileTest {
+    @Test
+    void testInvalidProbabilityThrows() {
+        final PreparedQuantile q = Quantile.withDefaults().prepare(new double[] {1, 2, 3});
+        Assertions.assertThrows(IllegalArgumentException.class, () -> q.evaluate(-0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> q.evaluate(1.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> q.evaluate(Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> q.evaluate(0.5, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> q.evaluate(new double[0]));
+    }
+
+    @Test
+    void testRangeThrows() {
+        final Quantile m = Quantile.withDefaults();
+        final double[] values = {1, 2, 3};
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.prepareRange(values, from, to));
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        final PreparedQuantile q = Quantile.withDefaults().prepare(new double[0]);
+        Assertions.assertEquals(0, q.size());
+        Assertions.assertTrue(q.isSorted());
+        Assertions.assertEquals(Double.NaN, q.evaluate(0.5));
+        Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN}, q.evaluate(0, 1));
+    }
+
+    @Test
+    void testNaNPolicy() {
+        final double nan = Double.NaN;
+        final double[] values = {nan, 4, 1, nan, 2};
+        final Quantile m = Quantile.withDefaults().with(EstimationMethod.HF7).withCopy(true);
+        final PreparedQuantile q1 = m.with(NaNPolicy.INCLUDE).prepare(values);
+        Assertions.assertEquals(5, q1.size());
+        Assertions.assertEquals(4, q1.evaluate(0.5));
+        final PreparedQuantile q2 = m.with(NaNPolicy.EXCLUDE).prepare(values);
+        Assertions.assertEquals(3, q2.size());
+        Assertions.assertEquals(2, q2.evaluate(0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.with(NaNPolicy.ERROR).prepare(values));
+        Assertions.assertEquals(2.5, m.with(NaNPolicy.ERROR).prepareRange(values, 1, 3).evaluate(0.5));
+    }
+
+    @Test
+    void testCopy() {
+        final double[] values = {5, 4, 3, 2, 1};
+        final double[] original = values.clone();
+        final PreparedQuantile q1 = Quantile.withDefaults().withCopy(true).prepare(values);
+        Assertions.assertEquals(3, q1.evaluate(0.5));
+        Assertions.assertArrayEquals(original, values);
+        final PreparedQuantile q2 = Quantile.withDefaults().withCopy(false).prepareRange(values, 1, 4);
+        Assertions.assertEquals(3, q2.evaluate(0.5));
+        Assertions.assertFalse(Arrays.equals(original, values));
+        // Data outside the range is unchanged
+        Assertions.assertEquals(original[0], values[0]);
+        Assertions.assertEquals(original[4], values[4]);
+    }
+
+    @Test
+    void testSorted() {
+        final double[] values = {1, 2, 3, 4, 5};
+        final PreparedQuantile q = Quantile.withDefaults().prepare(values);
+        Assertions.assertTrue(q.isSorted());
+        Assertions.assertEquals(5, q.size());
+        Assertions.assertEquals(1, q.evaluate(0));
+        Assertions.assertEquals(5, q.evaluate(1));
+        // Small unsorted data becomes sorted on the first query
+        final PreparedQuantile q2 = Quantile.withDefaults().prepare(new double[] {3, 2, 1});
+        Assertions.assertFalse(q2.isSorted());
+        Assertions.assertEquals(2, q2.evaluate(0.5));
+        Assertions.assertTrue(q2.isSorted());
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testQuantile(double[] values, double[] p) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        for (final EstimationMethod method : EstimationMethod.values()) {
+            final Quantile m = Quantile.withDefaults().with(method).withCopy(true);
+            final double[] expected = m.evaluate(values, p);
+            final PreparedQuantile q = m.prepare(values);
+            Assertions.assertEquals(values.length, q.size());
+            // Random order of single queries
+            final int[] order = rng.ints(p.length * 2L, 0, p.length).toArray();
+            for (final int i : order) {
+                Assertions.assertEquals(expected[i], q.evaluate(p[i]), () -> method + " p=" + p[i]);
+            }
+            Assertions.assertArrayEquals(expected, q.evaluate(p), () -> method.toString());
+            Assertions.assertArrayEquals(expected, m.prepare(values).evaluate(p), () -> method.toString());
+        }
+    }
+
+    static Stream<Arguments> testQuantile() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        final double[] p = {0, 0.001, 0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999, 1};
+        for (final int n : new int[] {1, 2, 10, 65, 100, 1000, 10000}) {
+            builder.add(Arguments.of(rng.doubles(n).toArray(), p));
+            // Duplicates
+            builder.add(Arguments.of(rng.ints(n, 0, 10).asDoubleStream().toArray(), p));
+            // Sorted
+            final double[] x = rng.doubles(n).toArray();
+            Arrays.sort(x);
+            builder.add(Arguments.of(x, p));
+            builder.add(Arguments.of(rng.doubles(n).toArray(), rng.doubles(20).toArray()));
+        }
+        return builder.build();
+    }
+}
@@ -36,6 +36,11 @@ final class ProductTest extends BaseDoubleStatisticTest<Product> {
         return Product.of(values);
     }
 
+    @Override
+    protected Product create(double[] values, int from, int to) {
+        return Product.ofRange(values, from, to);
+    }
+
     @Override
     protected double getEmptyValue() {
         return 1;
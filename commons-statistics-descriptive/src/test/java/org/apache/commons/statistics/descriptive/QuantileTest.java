@@ -17,9 +17,13 @@
 
 package org.apache.commons.statistics.descriptive;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.apache.commons.statistics.descriptive.Quantile.EstimationMethod;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
@@ -27,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test for {@link Quantile}.
@@ -174,6 +179,32 @@ class QuantileTest {
             });
     }
 
+    @ParameterizedTest
+    @MethodSource(value = {"testDoubleQuantile"})
+    void testDoubleQuantileRange(double[] values, double[] p, double[][] expected, double delta) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        for (final boolean copy : new boolean[] {false, true}) {
+            assertQuantile(Quantile.withDefaults().withCopy(copy), values, p, expected, delta,
+                (m, x, q) -> m.evaluateRange(pad(x, padding), padding, padding + x.length, q),
+                (m, x, q) -> m.evaluateRange(pad(x, padding), padding, padding + x.length, q));
+        }
+    }
+
+    /**
+     * Create a copy of the data with {@code NaN} padding at both ends.
+     *
+     * @param x Data.
+     * @param padding Padding length.
+     * @return the padded data
+     */
+    private static double[] pad(double[] x, int padding) {
+        final double[] data = new double[x.length + 2 * padding];
+        Arrays.fill(data, Double.NaN);
+        System.arraycopy(x, 0, data, padding, x.length);
+        return data;
+    }
+
     private static void assertQuantile(Quantile m, double[] values, double[] p,
         double[][] expected, double delta,
         DoubleQuantileFunction f1, DoubleQuantileFunctionN fn) {
@@ -438,6 +469,148 @@ class QuantileTest {
             });
     }
 
+    @ParameterizedTest
+    @MethodSource(value = {"testIntQuantile"})
+    void testIntQuantileRange(int[] values, double[] p, double[][] expected, double delta) {
+        // Embed the values within padding that will corrupt the result if included
+        final int padding = 3;
+        for (final boolean copy : new boolean[] {false, true}) {
+            assertQuantile(Quantile.withDefaults().withCopy(copy), values, p, expected, delta,
+                (m, x, q) -> m.evaluateRange(pad(x, padding), padding, padding + x.length, q),
+                (m, x, q) -> m.evaluateRange(pad(x, padding), padding, padding + x.length, q));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = {"testIntQuantile"})
+    void testLongQuantile(int[] values, double[] p, double[][] expected, double delta) {
+        assertQuantile(Quantile.withDefaults(), values, p, expected, delta,
+            (m, x, q) -> m.evaluate(toLong(x), q),
+            (m, x, q) -> m.evaluate(toLong(x), q));
+        final int padding = 3;
+        for (final boolean copy : new boolean[] {false, true}) {
+            assertQuantile(Quantile.withDefaults().withCopy(copy), values, p, expected, delta,
+                (m, x, q) -> m.evaluateRange(pad(toLong(x), padding), padding, padding + x.length, q),
+                (m, x, q) -> m.evaluateRange(pad(toLong(x), padding), padding, padding + x.length, q));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = {"testIntQuantile"})
+    void testFloatQuantile(int[] values, double[] p, double[][] expected, double delta) {
+        // Test data is representable as a float
+        Assumptions.assumeTrue(Arrays.stream(values).allMatch(x -> (int) (float) x == x));
+        assertQuantile(Quantile.withDefaults(), values, p, expected, delta,
+            (m, x, q) -> m.evaluate(toFloat(x), q),
+            (m, x, q) -> m.evaluate(toFloat(x), q));
+        final int padding = 3;
+        for (final boolean copy : new boolean[] {false, true}) {
+            assertQuantile(Quantile.withDefaults().withCopy(copy), values, p, expected, delta,
+                (m, x, q) -> m.evaluateRange(pad(toFloat(x), padding), padding, padding + x.length, q),
+                (m, x, q) -> m.evaluateRange(pad(toFloat(x), padding), padding, padding + x.length, q));
+        }
+    }
+
+    private static long[] toLong(int[] x) {
+        return Arrays.stream(x).asLongStream().toArray();
+    }
+
+    private static float[] toFloat(int[] x) {
+        final float[] y = new float[x.length];
+        for (int i = 0; i < x.length; i++) {
+            y[i] = x[i];
+        }
+        return y;
+    }
+
+    private static long[] pad(long[] x, int padding) {
+        final long[] data = new long[x.length + 2 * padding];
+        Arrays.fill(data, 0, padding, Long.MIN_VALUE);
+        Arrays.fill(data, padding + x.length, data.length, Long.MAX_VALUE);
+        System.arraycopy(x, 0, data, padding, x.length);
+        return data;
+    }
+
+    private static float[] pad(float[] x, int padding) {
+        final float[] data = new float[x.length + 2 * padding];
+        Arrays.fill(data, Float.NaN);
+        System.arraycopy(x, 0, data, padding, x.length);
+        return data;
+    }
+
+    @Test
+    void testDoubleBufferQuantile() {
+        final double[] values = {9, 3, 4, 2, 1, 0, -9};
+        final DoubleBuffer b = DoubleBuffer.wrap(values, 1, 5);
+        final Quantile m = Quantile.withDefaults();
+        Assertions.assertEquals(2, m.evaluate(b, 0.5));
+        Assertions.assertArrayEquals(new double[] {0, 2, 4}, m.evaluate(b, 0, 0.5, 1));
+        // Buffer is unchanged
+        Assertions.assertArrayEquals(new double[] {9, 3, 4, 2, 1, 0, -9}, values);
+        Assertions.assertEquals(1, b.position());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.evaluate(b, 1.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.evaluate(b, new double[0]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> m.with(NaNPolicy.ERROR).evaluate(DoubleBuffer.wrap(new double[] {1, Double.NaN}), 0.5));
+    }
+
+    @Test
+    void testLongQuantilePrecision() {
+        // Values are not distinct as a double
+        final long x = 1L << 60;
+        final long[] values = {x + 2048, x + 1, x + 1024, x + 3072};
+        final Quantile m = Quantile.withDefaults().with(EstimationMethod.HF7);
+        // Index 1.5: interpolate between the exact values x+1024 and x+2048
+        Assertions.assertEquals(x + 1536, m.evaluate(values.clone(), 0.5));
+        Assertions.assertArrayEquals(new double[] {x + 1, x + 3072},
+            m.evaluate(values.clone(), 0, 1));
+        final long max = Long.MAX_VALUE;
+        Assertions.assertEquals(max - 1, m.evaluate(new long[] {max, max - 2, max - 1}, 0.5));
+        Assertions.assertEquals(0, m.evaluate(new long[] {max, Long.MIN_VALUE}, 0.5), 1);
+    }
+
+    @Test
+    void testFloatQuantileNaNPolicy() {
+        final float nan = Float.NaN;
+        final float[] values = {nan, 4, 1, nan, 2};
+        final Quantile m = Quantile.withDefaults().with(EstimationMethod.HF7);
+        // NaN is sorted to the end
+        Assertions.assertEquals(4, m.with(NaNPolicy.INCLUDE).evaluate(values.clone(), 0.5));
+        Assertions.assertArrayEquals(new double[] {1, nan},
+            m.with(NaNPolicy.INCLUDE).evaluate(values.clone(), 0, 1));
+        Assertions.assertEquals(2, m.with(NaNPolicy.EXCLUDE).evaluate(values.clone(), 0.5));
+        Assertions.assertArrayEquals(new double[] {1, 4},
+            m.with(NaNPolicy.EXCLUDE).evaluate(values.clone(), 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> m.with(NaNPolicy.ERROR).evaluate(values, 0.5));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> m.with(NaNPolicy.ERROR).evaluate(values, 0.5, 0.75));
+        Assertions.assertEquals(2.5, m.with(NaNPolicy.ERROR).evaluateRange(values.clone(), 1, 3, 0.5));
+        // Copy
+        final float[] original = values.clone();
+        Assertions.assertEquals(2, m.with(NaNPolicy.EXCLUDE).withCopy(true).evaluate(values, 0.5));
+        Assertions.assertArrayEquals(original, values);
+        // Signed zeros
+        Assertions.assertEquals(-0.0, m.evaluate(new float[] {0.0f, -0.0f, -0.0f}, 0.5));
+        Assertions.assertEquals(0.0, m.evaluate(new float[] {0.0f, -0.0f, 0.0f}, 0.5));
+    }
+
+    /**
+     * Create a copy of the data with padding at both ends using the minimum
+     * value below the data and the maximum value above the data.
+     *
+     * @param x Data.
+     * @param padding Padding length.
+     * @return the padded data
+     */
+    private static int[] pad(int[] x, int padding) {
+        final int[] data = new int[x.length + 2 * padding];
+        Arrays.fill(data, 0, padding, Integer.MIN_VALUE);
+        Arrays.fill(data, padding + x.length, data.length, Integer.MAX_VALUE);
+        System.arraycopy(x, 0, data, padding, x.length);
+        return data;
+    }
+
     private static void assertQuantile(Quantile m, int[] values, double[] p,
         double[][] expected, double delta,
         IntQuantileFunction f1, IntQuantileFunctionN fn) {
@@ -605,4 +778,220 @@ class QuantileTest {
         Assertions.assertEquals(2, Quantile.withDefaults().withCopy(false).evaluate(values, new double[] {0.5})[0]);
         Assertions.assertFalse(Arrays.equals(original, values));
     }
+
+    @Test
+    void testRangeThrows() {
+        final Quantile m = Quantile.withDefaults();
+        final double[] values1 = {1, 2, 3};
+        final int[] values2 = {1, 2, 3};
+        final long[] values3 = {1, 2, 3};
+        final float[] values4 = {1, 2, 3};
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values1, from, to, 0.5));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values1, from, to, 0.5, 0.75));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values2, from, to, 0.5));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values2, from, to, 0.5, 0.75));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values3, from, to, 0.5));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values3, from, to, 0.5, 0.75));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values4, from, to, 0.5));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values4, from, to, 0.5, 0.75));
+        }
+    }
+
+    @Test
+    void testRangeWithCopy() {
+        final double[] values1 = {9, 3, 4, 2, 1, 0, -9};
+        final int[] values2 = {9, 3, 4, 2, 1, 0, -9};
+        final double[] original1 = values1.clone();
+        final int[] original2 = values2.clone();
+        final Quantile m = Quantile.withDefaults();
+        Assertions.assertEquals(2, m.withCopy(true).evaluateRange(values1, 1, 6, 0.5));
+        Assertions.assertEquals(2, m.withCopy(true).evaluateRange(values2, 1, 6, 0.5));
+        Assertions.assertArrayEquals(original1, values1);
+        Assertions.assertArrayEquals(original2, values2);
+        Assertions.assertEquals(2, m.withCopy(false).evaluateRange(values1, 1, 6, 0.5));
+        Assertions.assertEquals(2, m.withCopy(false).evaluateRange(values2, 1, 6, 0.5));
+        Assertions.assertFalse(Arrays.equals(original1, values1));
+        Assertions.assertFalse(Arrays.equals(original2, values2));
+        // Data outside the range is unchanged
+        Assertions.assertEquals(original1[0], values1[0]);
+        Assertions.assertEquals(original1[6], values1[6]);
+        Assertions.assertEquals(original2[0], values2[0]);
+        Assertions.assertEquals(original2[6], values2[6]);
+    }
+
+    @Test
+    void testWeightedThrows() {
+        final Quantile m = Quantile.withDefaults();
+        final double[] values = {1, 2, 3};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.evaluateWeighted(values, new double[2], 0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.evaluateWeighted(values, new double[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.evaluateWeighted(values, new double[3], 1.5));
+        for (final double w : new double[] {-1, Double.NaN, Double.POSITIVE_INFINITY}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> m.evaluateWeighted(values, new double[] {1, w, 1}, 0.5));
+        }
+        final double[] nan = {1, Double.NaN, 3};
+        final double[] w = {1, 1, 1};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.with(NaNPolicy.ERROR).evaluateWeighted(nan, w, 0.5));
+        // NaN with zero weight is ignored
+        Assertions.assertEquals(3, m.with(NaNPolicy.ERROR).evaluateWeighted(nan, new double[] {1, 0, 3}, 0.5)[0]);
+    }
+
+    @Test
+    void testWeightedEmpty() {
+        final Quantile m = Quantile.withDefaults();
+        Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN},
+            m.evaluateWeighted(new double[0], new double[0], 0.25, 0.5));
+        Assertions.assertArrayEquals(new double[] {Double.NaN},
+            m.evaluateWeighted(new double[] {1, 2}, new double[2], 0.5));
+        Assertions.assertArrayEquals(new double[] {Double.NaN},
+            m.with(NaNPolicy.EXCLUDE).evaluateWeighted(new double[] {Double.NaN}, new double[] {1}, 0.5));
+    }
+
+    @Test
+    void testWeightedDoesNotModifyInput() {
+        final double[] values = {5, 3, 1, 4};
+        final double[] weights = {1, 2, 3, 4};
+        final double[] v = values.clone();
+        final double[] w = weights.clone();
+        Quantile.withDefaults().withCopy(false).evaluateWeighted(v, w, 0.5);
+        Assertions.assertArrayEquals(values, v);
+        Assertions.assertArrayEquals(weights, w);
+    }
+
+    /**
+     * Test the weighted quantile with integer weights is the same as the quantile
+     * of the values repeated by their weight.
+     */
+    @ParameterizedTest
+    @MethodSource
+    void testWeightedQuantile(double[] values, double[] weights) {
+        final double[] p = {0, 0.01, 0.1, 0.25, 1.0 / 3, 0.5, 0.75, 0.9, 0.99, 1};
+        final double[] expanded = IntStream.range(0, values.length)
+            .flatMap(i -> IntStream.range(0, (int) weights[i]).map(j -> i))
+            .mapToDouble(i -> values[i]).toArray();
+        for (final EstimationMethod e : TYPES) {
+            for (final NaNPolicy policy : new NaNPolicy[] {NaNPolicy.INCLUDE, NaNPolicy.EXCLUDE}) {
+                final Quantile m = Quantile.withDefaults().withCopy(true).with(e).with(policy);
+                Assertions.assertArrayEquals(m.evaluate(expanded, p), m.evaluateWeighted(values, weights, p),
+                    () -> e + " " + policy);
+            }
+        }
+    }
+
+    static Stream<Arguments> testWeightedQuantile() {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        builder.add(Arguments.of(new double[] {1}, new double[] {1}));
+        builder.add(Arguments.of(new double[] {1}, new double[] {3}));
+        builder.add(Arguments.of(new double[] {3, 1, 2}, new double[] {1, 2, 3}));
+        builder.add(Arguments.of(new double[] {3, 1, 3, 2, 1}, new double[] {1, 0, 3, 2, 1}));
+        builder.add(Arguments.of(new double[] {3, Double.NaN, 2}, new double[] {1, 2, 3}));
+        builder.add(Arguments.of(new double[] {-0.0, 0.0, 1}, new double[] {2, 3, 1}));
+        for (final int n : new int[] {5, 20, 100}) {
+            builder.add(Arguments.of(rng.doubles(n).toArray(), rng.ints(n, 0, 10).asDoubleStream().toArray()));
+            builder.add(Arguments.of(rng.ints(n, 0, 10).asDoubleStream().toArray(),
+                rng.ints(n, 0, 10).asDoubleStream().toArray()));
+        }
+        return builder.build();
+    }
+
+    @Test
+    void testWeightedQuantileNonIntegerWeights() {
+        final Quantile m = Quantile.withDefaults().with(EstimationMethod.HF1);
+        final double[] values = {4, 1, 3, 2};
+        final double[] weights = {1, 2, 3, 4};
+        final double[] p = {0.05, 0.25, 0.5, 0.75, 1};
+        Assertions.assertArrayEquals(new double[] {1, 2, 2, 3, 4}, m.evaluateWeighted(values, weights, p));
+        // The total weight is the sample size
+        final double[] scaled = Arrays.stream(weights).map(x -> x * 0.125).toArray();
+        Assertions.assertArrayEquals(new double[] {1, 1, 1.25, 1.5, 1.5},
+            Quantile.withDefaults().evaluateWeighted(values, scaled, p));
+        // Total weight below 1 is smaller than a single observation
+        final double[] small = Arrays.stream(weights).map(x -> x * 0.01).toArray();
+        Assertions.assertArrayEquals(new double[] {1, 1, 1, 1, 1},
+            Quantile.withDefaults().evaluateWeighted(values, small, p));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, ParallelSelection.MIN_PARALLEL_SIZE, ParallelSelection.MIN_PARALLEL_SIZE + 1})
+    void testParallelQuantile(int n) {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final double[] p = {0, 0.001, 0.1, 0.25, 0.5, 0.75, 0.9, 0.999, 1};
+        final double[] x = rng.doubles(n).toArray();
+        x[42] = Double.NaN;
+        final int[] y = rng.ints(n, -1000, 1000).toArray();
+        for (final EstimationMethod method : new EstimationMethod[] {EstimationMethod.HF1, EstimationMethod.HF8}) {
+            for (final NaNPolicy policy : new NaNPolicy[] {NaNPolicy.INCLUDE, NaNPolicy.EXCLUDE}) {
+                final Quantile m = Quantile.withDefaults().with(method).with(policy).withCopy(true);
+                final Quantile mp = m.withParallel(true);
+                Assertions.assertArrayEquals(m.evaluate(x, p), mp.evaluate(x, p));
+                Assertions.assertArrayEquals(m.evaluateRange(x, 1, n, p), mp.evaluateRange(x, 1, n, p));
+                Assertions.assertEquals(m.evaluate(x, 0.3), mp.evaluate(x, 0.3));
+            }
+            final Quantile m = Quantile.withDefaults().with(method);
+            final Quantile mp = m.withParallel(true);
+            Assertions.assertArrayEquals(m.withCopy(true).evaluate(y, p), mp.evaluate(y, p));
+            Assertions.assertEquals(m.withCopy(true).evaluate(y, 0.3), mp.evaluate(y, 0.3));
+        }
+    }
+
+    @Test
+    void testParallelQuantileDoesNotModifyInput() {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final int n = ParallelSelection.MIN_PARALLEL_SIZE + 1;
+        final double[] p = {0.1, 0.5, 0.75};
+        final double[] x = rng.doubles(n).toArray();
+        x[42] = Double.NaN;
+        final double[] x0 = x.clone();
+        for (final boolean copy : new boolean[] {false, true}) {
+            for (final NaNPolicy policy : new NaNPolicy[] {NaNPolicy.INCLUDE, NaNPolicy.EXCLUDE}) {
+                final Quantile m = Quantile.withDefaults().with(policy).withCopy(true);
+                final Quantile mp = Quantile.withDefaults().with(policy).withCopy(copy).withParallel(true);
+                Assertions.assertArrayEquals(m.evaluate(x, p), mp.evaluate(x, p));
+                Assertions.assertArrayEquals(x0, x, "Input was modified");
+                Assertions.assertEquals(m.evaluate(x, 0.3), mp.evaluate(x, 0.3));
+                Assertions.assertArrayEquals(x0, x, "Input was modified");
+            }
+            final Quantile mp = Quantile.withDefaults().with(NaNPolicy.ERROR).withCopy(copy).withParallel(true);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> mp.evaluate(x, p));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> mp.evaluate(x, 0.3));
+            Assertions.assertArrayEquals(x0, x, "Input was modified");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 255, 256, 1000, 10000})
+    void testManyProbabilities(int n) {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final double[] p = Quantile.probabilities(1000);
+        final double[] x = rng.doubles(n, -1, 1).toArray();
+        final double[] special = {Double.NaN, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (int i = 0; i < n; i += 7) {
+            x[i] = special[i % special.length];
+        }
+        final int[] y = rng.ints(n).toArray();
+        final long[] z = rng.longs(n).toArray();
+        for (final EstimationMethod method : EstimationMethod.values()) {
+            for (final NaNPolicy policy : new NaNPolicy[] {NaNPolicy.INCLUDE, NaNPolicy.EXCLUDE}) {
+                final Quantile m = Quantile.withDefaults().with(method).with(policy).withCopy(true);
+                final double[] q = m.evaluate(x, p);
+                for (int i = 0; i < p.length; i++) {
+                    // Binary equality for signed zeros
+                    final int j = i;
+                    Assertions.assertEquals(Double.doubleToLongBits(m.evaluate(x, p[i])),
+                        Double.doubleToLongBits(q[i]), () -> method + " " + policy + " p=" + p[j]);
+                }
+            }
+            final Quantile m = Quantile.withDefaults().with(method).withCopy(true);
+            final double[] q1 = m.evaluate(y, p);
+            final double[] q2 = m.evaluate(z, p);
+            for (int i = 0; i < p.length; i++) {
+                Assertions.assertEquals(m.evaluate(y, p[i]), q1[i]);
+                Assertions.assertEquals(m.evaluate(z, p[i]), q2[i]);
+            }
+        }
+    }
 }
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link QuickSelect}.
+ */
+class QuickSelectTest {
+    @ParameterizedTest
+    @MethodSource
+    void testSelectLong(long[] values) {
+        final long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        final int n = values.length;
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        // Padding is not modified
+        final int from = 1;
+        final int to = from + n;
+        final long[] data = new long[n + 2];
+        data[0] = Long.MAX_VALUE;
+        data[n + 1] = Long.MIN_VALUE;
+        for (final int k : new int[] {0, n >> 1, n - 1, rng.nextInt(n)}) {
+            System.arraycopy(values, 0, data, from, n);
+            QuickSelect.select(data, from, to, from + k);
+            Assertions.assertEquals(sorted[k], data[from + k], () -> "k=" + k);
+            assertPartitioned(data, from, to, from + k);
+            Assertions.assertEquals(Long.MAX_VALUE, data[0]);
+            Assertions.assertEquals(Long.MIN_VALUE, data[n + 1]);
+        }
+        for (final int m : new int[] {2, 5, 50}) {
+            final int[] k = rng.ints(m, 0, n).map(i -> i + from).toArray();
+            final int[] indices = k.clone();
+            System.arraycopy(values, 0, data, from, n);
+            QuickSelect.select(data, from, to, indices);
+            for (final int i : k) {
+                Assertions.assertEquals(sorted[i - from], data[i], () -> "k=" + i);
+                assertPartitioned(data, from, to, i);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testSelectFloat(float[] values) {
+        final float[] sorted = values.clone();
+        Arrays.sort(sorted);
+        final int n = values.length;
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final int from = 1;
+        final int to = from + n;
+        final float[] data = new float[n + 2];
+        data[0] = Float.NaN;
+        data[n + 1] = Float.NEGATIVE_INFINITY;
+        for (final int k : new int[] {0, n >> 1, n - 1, rng.nextInt(n)}) {
+            System.arraycopy(values, 0, data, from, n);
+            QuickSelect.select(data, from, to, from + k);
+            // Binary equality for signed zeros and NaN
+            Assertions.assertEquals(Float.floatToIntBits(sorted[k]), Float.floatToIntBits(data[from + k]),
+                () -> "k=" + k);
+            assertPartitioned(data, from, to, from + k);
+            Assertions.assertEquals(Float.NaN, data[0]);
+            Assertions.assertEquals(Float.NEGATIVE_INFINITY, data[n + 1]);
+        }
+        for (final int m : new int[] {2, 5, 50}) {
+            final int[] k = rng.ints(m, 0, n).map(i -> i + from).toArray();
+            final int[] indices = k.clone();
+            System.arraycopy(values, 0, data, from, n);
+            QuickSelect.select(data, from, to, indices);
+            for (final int i : k) {
+                Assertions.assertEquals(Float.floatToIntBits(sorted[i - from]), Float.floatToIntBits(data[i]),
+                    () -> "k=" + i);
+                assertPartitioned(data, from, to, i);
+            }
+        }
+    }
+
+    @Test
+    void testSelectDoubleRecordsPivots() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        for (final int n : new int[] {1, 20, 50, 300, 5000}) {
+            final double[] values = rng.doubles(n, -3, 3).toArray();
+            // Duplicates, signed zeros and NaN
+            for (int i = 0; i < n; i += 7) {
+                values[i] = new double[] {1.5, -0.0, 0.0, Double.NaN}[(i / 7) & 3];
+            }
+            final double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            final int from = 1;
+            final int to = from + n;
+            final double[] data = new double[n + 2];
+            for (final int k : new int[] {0, n >> 1, n - 1, rng.nextInt(n)}) {
+                System.arraycopy(values, 0, data, from, n);
+                final BitSet pivots = new BitSet();
+                QuickSelect.select(data, from, to, from + k, pivots, from);
+                Assertions.assertTrue(pivots.get(k), () -> "k=" + k);
+                Assertions.assertTrue(pivots.length() <= n);
+                // All recorded indices are in their sorted position
+                for (int i = pivots.nextSetBit(0); i >= 0; i = pivots.nextSetBit(i + 1)) {
+                    final int j = i;
+                    Assertions.assertEquals(Double.doubleToLongBits(sorted[i]),
+                        Double.doubleToLongBits(data[from + i]), () -> "i=" + j);
+                }
+                Assertions.assertEquals(0, data[0]);
+                Assertions.assertEquals(0, data[n + 1]);
+            }
+        }
+    }
+
+    static Stream<Arguments> testSelectLong() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int n : new int[] {1, 2, 5, 19, 20, 21, 50, 300, 5000}) {
+            builder.add(Arguments.of((Object) rng.longs(n).toArray()));
+            // Many duplicates
+            builder.add(Arguments.of((Object) rng.longs(n, -3, 3).toArray()));
+            // Large values that are not distinct as a double
+            builder.add(Arguments.of((Object) rng.longs(n, Long.MAX_VALUE - 10, Long.MAX_VALUE).toArray()));
+            // Sorted, reverse sorted and constant
+            final long[] x = rng.longs(n).toArray();
+            Arrays.sort(x);
+            builder.add(Arguments.of((Object) x.clone()));
+            for (int i = 0, j = n - 1; i < j; i++, j--) {
+                final long t = x[i];
+                x[i] = x[j];
+                x[j] = t;
+            }
+            builder.add(Arguments.of((Object) x));
+            final long[] c = new long[n];
+            Arrays.fill(c, 42);
+            builder.add(Arguments.of((Object) c));
+            // Organ pipe
+            final long[] o = new long[n];
+            for (int i = 0; i < n; i++) {
+                o[i] = Math.min(i, n - i);
+            }
+            builder.add(Arguments.of((Object) o));
+        }
+        return builder.build();
+    }
+
+    static Stream<Arguments> testSelectFloat() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        final float[] special = {Float.NaN, -0.0f, 0.0f, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY};
+        for (final int n : new int[] {1, 2, 5, 19, 20, 21, 50, 300, 5000}) {
+            builder.add(Arguments.of((Object) randomFloats(rng, n, 1000)));
+            // Many duplicates
+            builder.add(Arguments.of((Object) randomFloats(rng, n, 3)));
+            // Special values
+            final float[] x = randomFloats(rng, n, 3);
+            for (int i = 0; i < n; i += 3) {
+                x[i] = special[rng.nextInt(special.length)];
+            }
+            builder.add(Arguments.of((Object) x));
+            // Signed zeros and NaN only
+            final float[] z = new float[n];
+            for (int i = 0; i < n; i++) {
+                z[i] = special[rng.nextInt(3)];
+            }
+            builder.add(Arguments.of((Object) z));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create random integer valued floats in {@code [-m, m)}.
+     *
+     * @param rng Source of randomness.
+     * @param n Size.
+     * @param m Magnitude.
+     * @return the values
+     */
+    private static float[] randomFloats(UniformRandomProvider rng, int n, int m) {
+        final float[] x = new float[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = rng.nextInt(2 * m) - m;
+        }
+        return x;
+    }
+
+    private static void assertPartitioned(long[] a, int from, int to, int k) {
+        final long v = a[k];
+        for (int i = from; i < k; i++) {
+            Assertions.assertTrue(a[i] <= v);
+        }
+        for (int i = k + 1; i < to; i++) {
+            Assertions.assertTrue(a[i] >= v);
+        }
+    }
+
+    private static void assertPartitioned(float[] a, int from, int to, int k) {
+        final float v = a[k];
+        for (int i = from; i < k; i++) {
+            Assertions.assertTrue(Float.compare(a[i], v) <= 0);
+        }
+        for (int i = k + 1; i < to; i++) {
+            Assertions.assertTrue(Float.compare(a[i], v) >= 0);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link RadixSort}.
+ */
+class RadixSortTest {
+    /** Sizes of data used for testing. */
+    private static final int[] SIZES = {0, 1, 10, RadixSort.MIN_SIZE - 1, RadixSort.MIN_SIZE, 1000, 50000};
+
+    @ParameterizedTest
+    @MethodSource
+    void testSortDouble(double[] values) {
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        final int n = values.length;
+        // Padding is not modified
+        final double[] data = new double[n + 2];
+        data[0] = Double.MAX_VALUE;
+        data[n + 1] = -Double.MAX_VALUE;
+        System.arraycopy(values, 0, data, 1, n);
+        RadixSort.sort(data, 1, n + 1);
+        for (int i = 0; i < n; i++) {
+            // Binary equality for signed zeros
+            Assertions.assertEquals(Double.doubleToLongBits(sorted[i]), Double.doubleToLongBits(data[i + 1]));
+        }
+        Assertions.assertEquals(Double.MAX_VALUE, data[0]);
+        Assertions.assertEquals(-Double.MAX_VALUE, data[n + 1]);
+    }
+
+    static Stream<Arguments> testSortDouble() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int n : SIZES) {
+            builder.add(Arguments.of((Object) rng.doubles(n, -1, 1).toArray()));
+            // Wide range of exponents
+            builder.add(Arguments.of((Object) rng.longs(n).mapToDouble(Double::longBitsToDouble)
+                .filter(x -> !Double.isNaN(x)).toArray()));
+            // Duplicates
+            builder.add(Arguments.of((Object) rng.ints(n, -5, 5).asDoubleStream().toArray()));
+            // Constant
+            final double[] c = new double[n];
+            Arrays.fill(c, -42);
+            builder.add(Arguments.of((Object) c));
+            // Special values
+            final double[] special = {Double.NaN, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE};
+            final double[] y = rng.doubles(n, -1, 1).toArray();
+            for (int i = 0; i < n; i += 3) {
+                y[i] = special[rng.nextInt(special.length)];
+            }
+            builder.add(Arguments.of((Object) y));
+        }
+        return builder.build();
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testSortLong(long[] values) {
+        final long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        final int n = values.length;
+        final long[] data = new long[n + 2];
+        data[0] = Long.MAX_VALUE;
+        data[n + 1] = Long.MIN_VALUE;
+        System.arraycopy(values, 0, data, 1, n);
+        RadixSort.sort(data, 1, n + 1);
+        Assertions.assertArrayEquals(sorted, Arrays.copyOfRange(data, 1, n + 1));
+        Assertions.assertEquals(Long.MAX_VALUE, data[0]);
+        Assertions.assertEquals(Long.MIN_VALUE, data[n + 1]);
+    }
+
+    static Stream<Arguments> testSortLong() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int n : SIZES) {
+            builder.add(Arguments.of((Object) rng.longs(n).toArray()));
+            // Small magnitude: high digits are constant
+            builder.add(Arguments.of((Object) rng.longs(n, -1000, 1000).toArray()));
+            builder.add(Arguments.of((Object) rng.longs(n, 0, 5).toArray()));
+            final long[] special = {Long.MIN_VALUE, Long.MAX_VALUE, 0, -1};
+            final long[] y = rng.longs(n).toArray();
+            for (int i = 0; i < n; i += 3) {
+                y[i] = special[rng.nextInt(special.length)];
+            }
+            builder.add(Arguments.of((Object) y));
+        }
+        return builder.build();
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testSortInt(int[] values) {
+        final int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        final int n = values.length;
+        final int[] data = new int[n + 2];
+        data[0] = Integer.MAX_VALUE;
+        data[n + 1] = Integer.MIN_VALUE;
+        System.arraycopy(values, 0, data, 1, n);
+        RadixSort.sort(data, 1, n + 1);
+        Assertions.assertArrayEquals(sorted, Arrays.copyOfRange(data, 1, n + 1));
+        Assertions.assertEquals(Integer.MAX_VALUE, data[0]);
+        Assertions.assertEquals(Integer.MIN_VALUE, data[n + 1]);
+    }
+
+    static Stream<Arguments> testSortInt() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int n : SIZES) {
+            builder.add(Arguments.of((Object) rng.ints(n).toArray()));
+            builder.add(Arguments.of((Object) rng.ints(n, -1000, 1000).toArray()));
+            builder.add(Arguments.of((Object) rng.ints(n, 0, 5).toArray()));
+            final int[] special = {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1};
+            final int[] y = rng.ints(n).toArray();
+            for (int i = 0; i < n; i += 3) {
+                y[i] = special[rng.nextInt(special.length)];
+            }
+            builder.add(Arguments.of((Object) y));
+        }
+        return builder.build();
+    }
+}
@@ -42,6 +42,11 @@ final class SkewnessTest extends BaseDoubleStatisticTest<Skewness> {
         return Skewness.of(values);
     }
 
+    @Override
+    protected Skewness create(double[] values, int from, int to) {
+        return Skewness.ofRange(values, from, to);
+    }
+
     @Override
     protected double getEmptyValue() {
         return Double.NaN;
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.EnumSet;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link SlidingWindowStatistics}.
+ */
+class SlidingWindowStatisticsTest {
+    /** Supported statistics. */
+    private static final EnumSet<Statistic> SUPPORTED = EnumSet.of(
+        Statistic.MIN, Statistic.MAX, Statistic.MEAN, Statistic.VARIANCE, Statistic.STANDARD_DEVIATION);
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, Integer.MIN_VALUE})
+    void testInvalidWindowSizeThrows(int size) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SlidingWindowStatistics.create(size));
+    }
+
+    @Test
+    void testRangeThrows() {
+        final double[] values = {1, 2, 3};
+        final SlidingWindowStatistics w = SlidingWindowStatistics.create(2);
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> w.accept(values, from, to));
+        }
+    }
+
+    @Test
+    void testSupported() {
+        final SlidingWindowStatistics w = SlidingWindowStatistics.create(3);
+        for (final Statistic s : Statistic.values()) {
+            Assertions.assertEquals(SUPPORTED.contains(s), w.isSupported(s), s::toString);
+            if (!SUPPORTED.contains(s)) {
+                Assertions.assertThrows(IllegalArgumentException.class, () -> w.getAsDouble(s), s::toString);
+            }
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        final SlidingWindowStatistics w = SlidingWindowStatistics.create(3);
+        Assertions.assertEquals(0, w.getCount());
+        Assertions.assertEquals(3, w.getWindowSize());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, w.getAsDouble(Statistic.MIN));
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, w.getAsDouble(Statistic.MAX));
+        Assertions.assertEquals(Double.NaN, w.getAsDouble(Statistic.MEAN));
+        Assertions.assertEquals(Double.NaN, w.getAsDouble(Statistic.VARIANCE));
+        Assertions.assertEquals(Double.NaN, w.getAsDouble(Statistic.STANDARD_DEVIATION));
+    }
+
+    @Test
+    void testWindow() {
+        final SlidingWindowStatistics w = SlidingWindowStatistics.create(3);
+        w.accept(1);
+        w.accept(5);
+        Assertions.assertEquals(2, w.getCount());
+        Assertions.assertEquals(1, w.getAsDouble(Statistic.MIN));
+        Assertions.assertEquals(5, w.getAsDouble(Statistic.MAX));
+        Assertions.assertEquals(3, w.getAsDouble(Statistic.MEAN));
+        Assertions.assertEquals(8, w.getAsDouble(Statistic.VARIANCE));
+        w.accept(3);
+        w.accept(4);
+        // Window: 5, 3, 4
+        Assertions.assertEquals(3, w.getCount());
+        Assertions.assertEquals(3, w.getAsDouble(Statistic.MIN));
+        Assertions.assertEquals(5, w.getAsDouble(Statistic.MAX));
+        Assertions.assertEquals(4, w.getAsDouble(Statistic.MEAN));
+        Assertions.assertEquals(1, w.getAsDouble(Statistic.VARIANCE));
+        Assertions.assertEquals(1, w.getAsDouble(Statistic.STANDARD_DEVIATION));
+        w.accept(4);
+        // Window: 3, 4, 4
+        Assertions.assertEquals(4, w.getAsDouble(Statistic.MAX));
+    }
+
+    /**
+     * Test the window statistics match the statistics computed from the values in the window.
+     */
+    @ParameterizedTest
+    @MethodSource
+    void testRollingWindow(double[] values, int size) {
+        final SlidingWindowStatistics w = SlidingWindowStatistics.create(size);
+        final SlidingWindowStatistics w2 = SlidingWindowStatistics.create(size);
+        for (int i = 0; i < values.length; i++) {
+            w.accept(values[i]);
+            final int from = Math.max(0, i + 1 - size);
+            final int to = i + 1;
+            Assertions.assertEquals(to - from, w.getCount());
+            final int index = i;
+            final double scale = Math.max(Math.abs(Min.ofRange(values, from, to).getAsDouble()),
+                                          Math.abs(Max.ofRange(values, from, to).getAsDouble()));
+            final double sd = StandardDeviation.ofRange(values, from, to).getAsDouble();
+            // Round-off in the deviations from the mean is proportional to the magnitude of the values
+            final double eps = 16 * Math.ulp(scale);
+            assertEquals(Min.ofRange(values, from, to), w.getAsDouble(Statistic.MIN), 0, 0, index);
+            assertEquals(Max.ofRange(values, from, to), w.getAsDouble(Statistic.MAX), 0, 0, index);
+            assertEquals(Mean.ofRange(values, from, to), w.getAsDouble(Statistic.MEAN), 1e-10, eps, index);
+            assertEquals(Variance.ofRange(values, from, to), w.getAsDouble(Statistic.VARIANCE), 1e-8, eps * sd, index);
+            assertEquals(StandardDeviation.ofRange(values, from, to),
+                w.getAsDouble(Statistic.STANDARD_DEVIATION), 1e-8, eps, index);
+        }
+        w2.accept(values, 0, values.length);
+        for (final Statistic s : SUPPORTED) {
+            Assertions.assertEquals(w.getAsDouble(s), w2.getAsDouble(s), s::toString);
+        }
+    }
+
+    static Stream<Arguments> testRollingWindow() {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (final int size : new int[] {1, 2, 5, 17}) {
+            builder.add(Arguments.of(rng.doubles(100).toArray(), size));
+            builder.add(Arguments.of(rng.doubles(100, 1e6, 1e6 + 1).toArray(), size));
+            builder.add(Arguments.of(rng.ints(100, -5, 5).asDoubleStream().toArray(), size));
+            // Sorted data
+            builder.add(Arguments.of(rng.doubles(100).sorted().toArray(), size));
+            final double[] x = rng.doubles(100).toArray();
+            // Non-finite values
+            x[10] = Double.NaN;
+            x[40] = Double.POSITIVE_INFINITY;
+            x[43] = Double.NEGATIVE_INFINITY;
+            x[70] = Double.POSITIVE_INFINITY;
+            x[80] = -0.0;
+            x[81] = 0.0;
+            builder.add(Arguments.of(x, size));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Test a long sequence does not accumulate round-off error.
+     */
+    @Test
+    void testNoDrift() {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final int size = 50;
+        final double[] values = rng.doubles(200000).map(x -> x * 1e8).toArray();
+        final SlidingWindowStatistics w = SlidingWindowStatistics.create(size);
+        w.accept(values, 0, values.length);
+        final int from = values.length - size;
+        final int to = values.length;
+        Assertions.assertEquals(Mean.ofRange(values, from, to).getAsDouble(),
+            w.getAsDouble(Statistic.MEAN), Math.ulp(1e8) * 4);
+        Assertions.assertEquals(1.0, Variance.ofRange(values, from, to).getAsDouble() /
+            w.getAsDouble(Statistic.VARIANCE), 1e-10);
+    }
+
+    /**
+     * Assert the window statistic is equal to the expected statistic to within
+     * a relative and absolute tolerance.
+     *
+     * @param expected Expected.
+     * @param actual Actual.
+     * @param relativeError Relative error.
+     * @param absoluteError Absolute error.
+     * @param index Index of the last value in the window.
+     */
+    private static void assertEquals(DoubleStatistic expected, double actual,
+            double relativeError, double absoluteError, int index) {
+        final double e = expected.getAsDouble();
+        if (relativeError == 0 || !Double.isFinite(e)) {
+            Assertions.assertEquals(e, actual, () -> "index " + index);
+        } else {
+            Assertions.assertEquals(e, actual, Math.abs(e) * relativeError + absoluteError,
+                () -> "index " + index);
+        }
+    }
+}
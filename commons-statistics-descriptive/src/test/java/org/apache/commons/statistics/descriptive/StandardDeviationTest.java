@@ -43,6 +43,11 @@ final class StandardDeviationTest extends BaseDoubleStatisticTest<StandardDeviat
         return StandardDeviation.of(values);
     }
 
+    @Override
+    protected StandardDeviation create(double[] values, int from, int to) {
+        return StandardDeviation.ofRange(values, from, to);
+    }
+
     @Override
     protected double getEmptyValue() {
         return Double.NaN;
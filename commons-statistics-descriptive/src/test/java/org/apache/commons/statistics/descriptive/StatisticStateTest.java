@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for the binary state of the statistics written using {@code writeState}
+ * and restored using {@code readState}.
+ */
+class StatisticStateTest {
+    /** Size of the buffer for the state. */
+    private static final int SIZE = 8192;
+
+    @Test
+    void testInvalidHeaderThrows() {
+        final ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+        Min.of(1, 2, 3).writeState(buffer);
+        buffer.flip();
+        // Wrong type
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Max.readState(buffer.duplicate()));
+        // Wrong version
+        buffer.put(0, (byte) (StatisticState.VERSION + 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Min.readState(buffer.duplicate()));
+        // Truncated
+        final ByteBuffer empty = ByteBuffer.allocate(0);
+        Assertions.assertThrows(BufferUnderflowException.class, () -> Min.readState(empty));
+    }
+
+    @Test
+    void testInvalidMomentThrows() {
+        final ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+        Mean.of(1, 2, 3).writeState(buffer);
+        buffer.flip();
+        // A variance requires the second moment
+        buffer.put(1, (byte) StatisticState.VARIANCE);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Variance.readState(buffer.duplicate()));
+        // Invalid order
+        buffer.put(2, (byte) 5);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Variance.readState(buffer.duplicate()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource
+    <T extends StatisticResult & StatisticAccumulator<T>> void testRoundTrip(String name,
+            Supplier<T> a, Supplier<T> b, BiConsumer<T, ByteBuffer> writer, Function<ByteBuffer, T> reader) {
+        for (final ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            final T s1 = a.get();
+            final byte[] state = write(s1, writer, order);
+            final T s2 = reader.apply(ByteBuffer.wrap(state).order(order));
+            assertEquals(s1, s2);
+            // The restored state is identical
+            Assertions.assertArrayEquals(state, write(s2, writer, order));
+            // Combine with another instance
+            Assertions.assertArrayEquals(write(s1.combine(b.get()), writer, order),
+                write(s2.combine(b.get()), writer, order));
+            assertEquals(s1, s2);
+            // Combine with a restored instance
+            final T s3 = a.get();
+            final T s4 = reader.apply(ByteBuffer.wrap(write(b.get(), writer, order)).order(order));
+            Assertions.assertArrayEquals(write(s3.combine(b.get()), writer, order),
+                write(a.get().combine(s4), writer, order));
+        }
+    }
+
+    static Stream<Arguments> testRoundTrip() {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final double[] x = rng.doubles(100, -1, 1).map(v -> v * 1e10).toArray();
+        final double[] y = rng.doubles(51, 0.5, 2).toArray();
+        final int[] i1 = rng.ints(100).toArray();
+        final int[] i2 = rng.ints(51).toArray();
+        final long[] l1 = rng.longs(100).toArray();
+        final long[] l2 = rng.longs(51).toArray();
+        return Stream.of(
+            of("Min", () -> Min.of(x), () -> Min.of(y), Min::writeState, Min::readState),
+            of("Max", () -> Max.of(x), () -> Max.of(y), Max::writeState, Max::readState),
+            of("Sum", () -> Sum.of(x), () -> Sum.of(y), Sum::writeState, Sum::readState),
+            of("Product", () -> Product.of(y), () -> Product.of(x), Product::writeState, Product::readState),
+            of("SumOfSquares", () -> SumOfSquares.of(x), () -> SumOfSquares.of(y),
+                SumOfSquares::writeState, SumOfSquares::readState),
+            of("SumOfLogs", () -> SumOfLogs.of(y), () -> SumOfLogs.of(x),
+                SumOfLogs::writeState, SumOfLogs::readState),
+            of("GeometricMean", () -> GeometricMean.of(y), () -> GeometricMean.of(y),
+                GeometricMean::writeState, GeometricMean::readState),
+            of("Mean", () -> Mean.of(x), () -> Mean.of(y), Mean::writeState, Mean::readState),
+            of("Variance", () -> Variance.of(x), () -> Variance.of(y), Variance::writeState, Variance::readState),
+            of("Variance biased", () -> Variance.of(x).setBiased(true), () -> Variance.of(y),
+                Variance::writeState, Variance::readState),
+            of("StandardDeviation", () -> StandardDeviation.of(x).setBiased(true), () -> StandardDeviation.of(y),
+                StandardDeviation::writeState, StandardDeviation::readState),
+            of("Skewness", () -> Skewness.of(x), () -> Skewness.of(y).setBiased(true),
+                Skewness::writeState, Skewness::readState),
+            of("Kurtosis", () -> Kurtosis.of(x).setBiased(true), () -> Kurtosis.of(y),
+                Kurtosis::writeState, Kurtosis::readState),
+            of("Empty Kurtosis", Kurtosis::create, () -> Kurtosis.of(y),
+                Kurtosis::writeState, Kurtosis::readState),
+            of("Non-finite Mean", () -> Mean.of(Double.POSITIVE_INFINITY, 1), () -> Mean.of(y),
+                Mean::writeState, Mean::readState),
+            of("IntMin", () -> IntMin.of(i1), () -> IntMin.of(i2), IntMin::writeState, IntMin::readState),
+            of("IntMax", () -> IntMax.of(i1), () -> IntMax.of(i2), IntMax::writeState, IntMax::readState),
+            of("IntSum", () -> IntSum.of(i1), () -> IntSum.of(i2), IntSum::writeState, IntSum::readState),
+            of("IntSumOfSquares", () -> IntSumOfSquares.of(i1), () -> IntSumOfSquares.of(i2),
+                IntSumOfSquares::writeState, IntSumOfSquares::readState),
+            of("IntMean", () -> IntMean.of(i1), () -> IntMean.of(i2), IntMean::writeState, IntMean::readState),
+            of("IntVariance", () -> IntVariance.of(i1).setBiased(true), () -> IntVariance.of(i2),
+                IntVariance::writeState, IntVariance::readState),
+            of("IntStandardDeviation", () -> IntStandardDeviation.of(i1), () -> IntStandardDeviation.of(i2),
+                IntStandardDeviation::writeState, IntStandardDeviation::readState),
+            of("LongMin", () -> LongMin.of(l1), () -> LongMin.of(l2), LongMin::writeState, LongMin::readState),
+            of("LongMax", () -> LongMax.of(l1), () -> LongMax.of(l2), LongMax::writeState, LongMax::readState),
+            of("LongSum", () -> LongSum.of(l1), () -> LongSum.of(l2), LongSum::writeState, LongSum::readState),
+            of("LongSumOfSquares", () -> LongSumOfSquares.of(l1), () -> LongSumOfSquares.of(l2),
+                LongSumOfSquares::writeState, LongSumOfSquares::readState),
+            of("LongMean", () -> LongMean.of(l1), () -> LongMean.of(l2), LongMean::writeState, LongMean::readState),
+            of("LongVariance", () -> LongVariance.of(l1), () -> LongVariance.of(l2).setBiased(true),
+                LongVariance::writeState, LongVariance::readState),
+            of("LongStandardDeviation", () -> LongStandardDeviation.of(l1).setBiased(true),
+                () -> LongStandardDeviation.of(l2),
+                LongStandardDeviation::writeState, LongStandardDeviation::readState),
+            of("IntDistinctCount", () -> IntDistinctCount.of(i1), () -> IntDistinctCount.of(i2),
+                IntDistinctCount::writeState, IntDistinctCount::readState),
+            of("LongDistinctCount", () -> LongDistinctCount.create(6), () -> {
+                final LongDistinctCount s = LongDistinctCount.create(6);
+                s.accept(l2, 0, l2.length);
+                return s;
+            }, LongDistinctCount::writeState, LongDistinctCount::readState)
+        );
+    }
+
+    /**
+     * Create the arguments for a round-trip test.
+     *
+     * @param <T> the type of the statistic
+     * @param name Name.
+     * @param a Supplier of the statistic.
+     * @param b Supplier of another statistic.
+     * @param writer State writer.
+     * @param reader State reader.
+     * @return the arguments
+     */
+    private static <T extends StatisticResult & StatisticAccumulator<T>> Arguments of(String name,
+            Supplier<T> a, Supplier<T> b, BiConsumer<T, ByteBuffer> writer, Function<ByteBuffer, T> reader) {
+        return Arguments.of(name, a, b, writer, reader);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testDoubleStatistics(EnumSet<Statistic> statistics) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final double[] x = rng.doubles(100, 0.5, 2).toArray();
+        final double[] y = rng.doubles(51, 0.5, 2).toArray();
+        final DoubleStatistics s1 = DoubleStatistics.of(statistics, x)
+            .setConfiguration(StatisticsConfiguration.withDefaults().withBiased(true));
+        final byte[] state = write(s1, DoubleStatistics::writeState);
+        final DoubleStatistics s2 = DoubleStatistics.readState(ByteBuffer.wrap(state));
+        Assertions.assertArrayEquals(state, write(s2, DoubleStatistics::writeState));
+        assertEquals(s1, s2, s1::getAsDouble, s2::getAsDouble);
+        s1.combine(DoubleStatistics.of(statistics, y));
+        s2.combine(DoubleStatistics.of(statistics, y));
+        assertEquals(s1, s2, s1::getAsDouble, s2::getAsDouble);
+        Assertions.assertArrayEquals(write(s1, DoubleStatistics::writeState), write(s2, DoubleStatistics::writeState));
+    }
+
+    static Stream<EnumSet<Statistic>> testDoubleStatistics() {
+        // Distinct count is not supported for double values
+        return statistics(EnumSet.complementOf(EnumSet.of(Statistic.DISTINCT_COUNT)));
+    }
+
+    static Stream<EnumSet<Statistic>> testIntStatistics() {
+        return statistics(EnumSet.allOf(Statistic.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testIntStatistics(EnumSet<Statistic> statistics) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final int[] x = rng.ints(100, 1, Integer.MAX_VALUE).toArray();
+        final int[] y = rng.ints(51, 1, Integer.MAX_VALUE).toArray();
+        final IntStatistics s1 = IntStatistics.of(statistics, x);
+        final byte[] state = write(s1, IntStatistics::writeState);
+        final IntStatistics s2 = IntStatistics.readState(ByteBuffer.wrap(state));
+        Assertions.assertArrayEquals(state, write(s2, IntStatistics::writeState));
+        assertEquals(s1, s2, s1::getAsDouble, s2::getAsDouble);
+        s1.combine(IntStatistics.of(statistics, y));
+        s2.combine(IntStatistics.of(statistics, y));
+        assertEquals(s1, s2, s1::getAsDouble, s2::getAsDouble);
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = {"testIntStatistics"})
+    void testLongStatistics(EnumSet<Statistic> statistics) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final long[] x = rng.longs(100, 1, Long.MAX_VALUE).toArray();
+        final long[] y = rng.longs(51, 1, Long.MAX_VALUE).toArray();
+        final LongStatistics s1 = LongStatistics.of(statistics, x);
+        final byte[] state = write(s1, LongStatistics::writeState);
+        final LongStatistics s2 = LongStatistics.readState(ByteBuffer.wrap(state));
+        Assertions.assertArrayEquals(state, write(s2, LongStatistics::writeState));
+        assertEquals(s1, s2, s1::getAsDouble, s2::getAsDouble);
+        s1.combine(LongStatistics.of(statistics, y));
+        s2.combine(LongStatistics.of(statistics, y));
+        assertEquals(s1, s2, s1::getAsDouble, s2::getAsDouble);
+    }
+
+    /**
+     * Create sets of statistics: each single statistic, and all statistics.
+     *
+     * @param all All statistics.
+     * @return the statistics
+     */
+    private static Stream<EnumSet<Statistic>> statistics(EnumSet<Statistic> all) {
+        return Stream.concat(
+            all.stream().map(EnumSet::of),
+            Stream.of(all));
+    }
+
+    /**
+     * Write the state of the statistic.
+     *
+     * @param <T> the type of the statistic
+     * @param s Statistic.
+     * @param writer State writer.
+     * @param order Byte order.
+     * @return the state
+     */
+    private static <T> byte[] write(T s, BiConsumer<T, ByteBuffer> writer, ByteOrder order) {
+        final ByteBuffer buffer = ByteBuffer.allocate(SIZE).order(order);
+        writer.accept(s, buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Write the state of the statistic.
+     *
+     * @param <T> the type of the statistic
+     * @param s Statistic.
+     * @param writer State writer.
+     * @return the state
+     */
+    private static <T> byte[] write(T s, BiConsumer<T, ByteBuffer> writer) {
+        return write(s, writer, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Assert the results are binary equal.
+     *
+     * @param expected Expected.
+     * @param actual Actual.
+     */
+    private static void assertEquals(StatisticResult expected, StatisticResult actual) {
+        final double e = expected.getAsDouble();
+        Assertions.assertEquals(Double.doubleToLongBits(e), Double.doubleToLongBits(actual.getAsDouble()));
+        // Integer statistics may have an exact result
+        if (Double.isFinite(e)) {
+            Assertions.assertEquals(expected.getAsBigInteger(), actual.getAsBigInteger());
+        }
+    }
+
+    /**
+     * Assert the count and the results of each supported statistic are binary equal.
+     *
+     * @param <T> the type of the statistics
+     * @param expected Expected.
+     * @param actual Actual.
+     * @param f1 Expected result function.
+     * @param f2 Actual result function.
+     */
+    private static <T> void assertEquals(T expected, T actual,
+            Function<Statistic, Double> f1, Function<Statistic, Double> f2) {
+        for (final Statistic s : Statistic.values()) {
+            Double e;
+            try {
+                e = f1.apply(s);
+            } catch (IllegalArgumentException ex) {
+                // Not supported
+                Assertions.assertThrows(IllegalArgumentException.class, () -> f2.apply(s), s::toString);
+                continue;
+            }
+            Assertions.assertEquals(Double.doubleToLongBits(e), Double.doubleToLongBits(f2.apply(s)), s::toString);
+        }
+    }
+}
@@ -17,11 +17,19 @@
 
 package org.apache.commons.statistics.descriptive;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleConsumer;
 import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test for {@link Statistics} utilities.
@@ -113,4 +121,74 @@ class StatisticsTest {
         Assertions.assertEquals(y, v1[0]);
         Assertions.assertEquals(y, v2[0]);
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0, 0",
+        "0, 0, 10",
+        "0, 10, 10",
+        "3, 7, 10",
+        "10, 10, 10",
+    })
+    void testCheckFromToIndex(int from, int to, int length) {
+        Assertions.assertEquals(from, Statistics.checkFromToIndex(from, to, length));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "-1, 0, 10",
+        "0, -1, 10",
+        "5, 4, 10",
+        "0, 11, 10",
+        "11, 11, 10",
+        "0, 0, -1",
+    })
+    void testCheckFromToIndexThrows(int from, int to, int length) {
+        final IndexOutOfBoundsException ex = Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> Statistics.checkFromToIndex(from, to, length));
+        final String msg = ex.getMessage();
+        Assertions.assertTrue(msg.contains(Integer.toString(from)), "from");
+        Assertions.assertTrue(msg.contains(Integer.toString(to)), "to");
+        Assertions.assertTrue(msg.contains(Integer.toString(length)), "length");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100, 8192, 8193, 50000, 123457})
+    void testEvaluateInParallel(int length) throws InterruptedException, ExecutionException {
+        final int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = i;
+        }
+        final long expected = (long) length * (length - 1) / 2;
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<int[]> ranges = Collections.synchronizedList(new ArrayList<>());
+            final Statistics.RangeFunction<int[], Long> sum = (x, from, to) -> {
+                ranges.add(new int[] {from, to});
+                long s = 0;
+                for (int i = from; i < to; i++) {
+                    s += x[i];
+                }
+                return s;
+            };
+            final long actual = pool.submit(
+                () -> Statistics.evaluateInParallel(values, 0, length, sum, Long::sum)).get();
+            Assertions.assertEquals(expected, actual);
+            // Check the ranges partition the data
+            ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+            int from = 0;
+            for (final int[] r : ranges) {
+                Assertions.assertEquals(from, r[0], "Range start");
+                from = r[1];
+            }
+            Assertions.assertEquals(length, from, "Range end");
+            if (length > (1 << 13)) {
+                Assertions.assertTrue(ranges.size() > 1, "Range was not divided");
+            } else {
+                Assertions.assertEquals(1, ranges.size(), "Range was divided");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
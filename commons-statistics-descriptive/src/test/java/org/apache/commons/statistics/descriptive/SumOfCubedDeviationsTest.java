@@ -48,6 +48,11 @@ final class SumOfCubedDeviationsTest extends BaseDoubleStatisticTest<SumOfCubedD
         return new SumOfCubedDeviationsWrapper(SumOfCubedDeviations.of(values));
     }
 
+    @Override
+    protected SumOfCubedDeviationsWrapper create(double[] values, int from, int to) {
+        return new SumOfCubedDeviationsWrapper(SumOfCubedDeviations.ofRange(values, from, to));
+    }
+
     @Override
     protected double getEmptyValue() {
         return Double.NaN;
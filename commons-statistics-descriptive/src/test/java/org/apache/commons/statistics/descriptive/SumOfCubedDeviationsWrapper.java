@@ -38,6 +38,12 @@ final class SumOfCubedDeviationsWrapper implements
         delegate.accept(value);
     }
 
+    @Override
+    public void accept(double[] values, int from, int to) {
+        Statistics.checkFromToIndex(from, to, values.length);
+        delegate.accept(values, from, to);
+    }
+
     @Override
     public double getAsDouble() {
         return delegate.getSumOfCubedDeviations();
@@ -55,6 +55,11 @@ final class SumOfFourthDeviationsTest extends BaseDoubleStatisticTest<SumOfFourt
         return new SumOfFourthDeviationsWrapper(SumOfFourthDeviations.of(values));
     }
 
+    @Override
+    protected SumOfFourthDeviationsWrapper create(double[] values, int from, int to) {
+        return new SumOfFourthDeviationsWrapper(SumOfFourthDeviations.ofRange(values, from, to));
+    }
+
     @Override
     protected double getEmptyValue() {
         return Double.NaN;
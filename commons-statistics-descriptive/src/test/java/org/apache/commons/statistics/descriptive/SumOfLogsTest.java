@@ -37,6 +37,11 @@ final class SumOfLogsTest extends BaseDoubleStatisticTest<SumOfLogs> {
         return SumOfLogs.of(values);
     }
 
+    @Override
+    protected SumOfLogs create(double[] values, int from, int to) {
+        return SumOfLogs.ofRange(values, from, to);
+    }
+
     @Override
     protected double getEmptyValue() {
         return 0;
@@ -36,6 +36,11 @@ final class SumOfSquaresTest extends BaseDoubleStatisticTest<SumOfSquares> {
         return SumOfSquares.of(values);
     }
 
+    @Override
+    protected SumOfSquares create(double[] values, int from, int to) {
+        return SumOfSquares.ofRange(values, from, to);
+    }
+
     @Override
     protected double getEmptyValue() {
         return 0;
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.apache.commons.statistics.descriptive.Quantile.EstimationMethod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link TDigest}.
+ */
+class TDigestTest {
+    /** Probabilities used for testing. */
+    private static final double[] PROBABILITIES = {
+        0, 0.001, 0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999, 1,
+    };
+
+    @Test
+    void testInvalidCompressionThrows() {
+        for (final double c : new double[] {9.5, Double.NaN, (1 << 20) + 1, Double.POSITIVE_INFINITY}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> TDigest.create(c));
+        }
+    }
+
+    @Test
+    void testInvalidProbabilityThrows() {
+        final TDigest t = TDigest.of(1, 2, 3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> t.getQuantile(-0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> t.getQuantile(1.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> t.getQuantile(Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> t.getQuantiles());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> t.getQuantiles(0.5, 2));
+    }
+
+    @Test
+    void testNullPropertyThrows() {
+        final TDigest t = TDigest.create();
+        Assertions.assertThrows(NullPointerException.class, () -> t.setEstimationMethod(null));
+    }
+
+    @Test
+    void testRangeThrows() {
+        final double[] values = {1, 2, 3};
+        final TDigest t = TDigest.create();
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> TDigest.ofRange(values, from, to));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> t.accept(values, from, to));
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        final TDigest t = TDigest.create();
+        Assertions.assertEquals(0, t.getCount());
+        Assertions.assertEquals(Double.NaN, t.getAsDouble());
+        Assertions.assertEquals(Double.NaN, t.getQuantile(0.25));
+        Assertions.assertArrayEquals(new double[] {Double.NaN, Double.NaN}, t.getQuantiles(0, 1));
+        Assertions.assertEquals(100, t.getCompression());
+        Assertions.assertEquals(50, TDigest.create(50).getCompression());
+    }
+
+    /**
+     * Test small data sets where each centroid represents a single value compute
+     * the same result as {@link Quantile}.
+     */
+    @ParameterizedTest
+    @MethodSource
+    void testExact(double[] values) {
+        final Quantile q = Quantile.withDefaults().withCopy(true);
+        for (final EstimationMethod m : EstimationMethod.values()) {
+            final double[] expected = q.with(m).evaluate(values, PROBABILITIES);
+            final TDigest t1 = TDigest.of(values).setEstimationMethod(m);
+            final TDigest t2 = TDigest.create().setEstimationMethod(m);
+            Arrays.stream(values).forEach(t2);
+            Assertions.assertEquals(values.length, t1.getCount());
+            Assertions.assertEquals(values.length, t2.getCount());
+            Assertions.assertArrayEquals(expected, t1.getQuantiles(PROBABILITIES), () -> m + " of");
+            Assertions.assertArrayEquals(expected, t2.getQuantiles(PROBABILITIES), () -> m + " accept");
+            for (int i = 0; i < expected.length; i++) {
+                Assertions.assertEquals(expected[i], t1.getQuantile(PROBABILITIES[i]), m::toString);
+            }
+            Assertions.assertEquals(q.with(m).evaluate(values, 0.5), t1.getAsDouble(), () -> m + " median");
+        }
+    }
+
+    static Stream<Arguments> testExact() {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        builder.add(Arguments.of(new double[] {42}));
+        builder.add(Arguments.of(new double[] {1, 2}));
+        builder.add(Arguments.of(new double[] {3, 2, 1}));
+        builder.add(Arguments.of(new double[] {1, 1, 1, 2, 2, 3}));
+        builder.add(Arguments.of(new double[] {-0.0, 0.0, -0.0, 0.0}));
+        builder.add(Arguments.of(new double[] {Double.NEGATIVE_INFINITY, 1, 2, Double.POSITIVE_INFINITY}));
+        builder.add(Arguments.of(new double[] {-Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE}));
+        for (final int n : new int[] {5, 10, 31, 50}) {
+            builder.add(Arguments.of(rng.doubles(n).toArray()));
+            builder.add(Arguments.of(rng.ints(n, -10, 10).asDoubleStream().toArray()));
+        }
+        return builder.build();
+    }
+
+    @Test
+    void testNaN() {
+        final double nan = Double.NaN;
+        final double[] values = {3, nan, 1, 2};
+        final TDigest t = TDigest.of(values);
+        Assertions.assertEquals(4, t.getCount());
+        // Same as the quantile using the NaN include policy
+        final double[] expected = Quantile.withDefaults().withCopy(true).evaluate(values, PROBABILITIES);
+        Assertions.assertArrayEquals(expected, t.getQuantiles(PROBABILITIES));
+        Assertions.assertEquals(nan, TDigest.of(nan, nan).getAsDouble());
+    }
+
+    /**
+     * Test the rank error of the quantiles for a large data set.
+     */
+    @ParameterizedTest
+    @ValueSource(doubles = {50, 100, 200})
+    void testAccuracy(double compression) {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        // Skewed data
+        final double[] values = rng.doubles(100000).map(x -> Math.exp(5 * x)).toArray();
+        final TDigest t = TDigest.create(compression);
+        Arrays.stream(values).forEach(t);
+        assertRankError(values, t, 1 / compression);
+    }
+
+    /**
+     * Test the rank error of the quantiles for combined instances.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 7, 32})
+    void testCombine(int parts) {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final double[] values = rng.doubles(50000).map(x -> Math.log(x)).toArray();
+        final TDigest t = TDigest.create();
+        final int size = values.length / parts;
+        for (int i = 0; i < parts; i++) {
+            final int to = i == parts - 1 ? values.length : (i + 1) * size;
+            t.combine(TDigest.ofRange(values, i * size, to));
+        }
+        Assertions.assertEquals(values.length, t.getCount());
+        assertRankError(values, t, 0.01);
+    }
+
+    @Test
+    void testCombineExact() {
+        final double[] values = {5, 2, 7, 1, Double.NaN, 9, 3, 4};
+        final TDigest t1 = TDigest.ofRange(values, 0, 3);
+        final TDigest t2 = TDigest.ofRange(values, 3, values.length);
+        Assertions.assertSame(t1, t1.combine(t2));
+        Assertions.assertEquals(values.length, t1.getCount());
+        final double[] expected = Quantile.withDefaults().withCopy(true).evaluate(values, PROBABILITIES);
+        Assertions.assertArrayEquals(expected, t1.getQuantiles(PROBABILITIES));
+        // Combine with empty
+        Assertions.assertArrayEquals(expected, t1.combine(TDigest.create()).getQuantiles(PROBABILITIES));
+        Assertions.assertArrayEquals(expected, TDigest.create().combine(t1).getQuantiles(PROBABILITIES));
+    }
+
+    @ParameterizedTest
+    @EnumSource
+    void testAcceptRange(EstimationMethod m) {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final double[] values = rng.doubles(3000).toArray();
+        final TDigest t1 = TDigest.create().setEstimationMethod(m);
+        final TDigest t2 = TDigest.create().setEstimationMethod(m);
+        Arrays.stream(values, 10, 2000).forEach(t1);
+        t2.accept(values, 10, 2000);
+        Assertions.assertEquals(t1.getCount(), t2.getCount());
+        Assertions.assertArrayEquals(t1.getQuantiles(PROBABILITIES), t2.getQuantiles(PROBABILITIES));
+    }
+
+    /**
+     * Assert the rank of each estimated quantile in the sorted data is within the
+     * {@code tolerance} of the probability.
+     *
+     * @param values Values.
+     * @param t Digest.
+     * @param tolerance Tolerance.
+     */
+    private static void assertRankError(double[] values, TDigest t, double tolerance) {
+        final double[] x = values.clone();
+        Arrays.sort(x);
+        final double[] q = t.getQuantiles(PROBABILITIES);
+        for (int i = 0; i < q.length; i++) {
+            // Exact min and max
+            if (PROBABILITIES[i] == 0) {
+                Assertions.assertEquals(x[0], q[i]);
+            } else if (PROBABILITIES[i] == 1) {
+                Assertions.assertEquals(x[x.length - 1], q[i]);
+            } else {
+                int rank = Arrays.binarySearch(x, q[i]);
+                if (rank < 0) {
+                    rank = -rank - 1;
+                }
+                final double p = PROBABILITIES[i];
+                Assertions.assertEquals(p, (double) rank / x.length, tolerance, () -> "p=" + p);
+            }
+            // Monotonic
+            if (i > 0) {
+                Assertions.assertTrue(q[i - 1] <= q[i], "Not monotonic");
+            }
+        }
+    }
+}
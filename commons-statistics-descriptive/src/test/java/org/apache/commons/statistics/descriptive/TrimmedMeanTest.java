@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link TrimmedMean}.
+ */
+class TrimmedMeanTest {
+    @Test
+    void testInvalidProportionThrows() {
+        final TrimmedMean m = TrimmedMean.withDefaults();
+        Assertions.assertThrows(NullPointerException.class, () -> m.with((NaNPolicy) null));
+        for (final double p : new double[] {-0.1, 0.51, Double.NaN}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> m.evaluate(new double[] {1, 2}, p));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> m.evaluate(new int[] {1, 2}, p));
+        }
+    }
+
+    @Test
+    void testRangeThrows() {
+        final TrimmedMean m = TrimmedMean.withDefaults();
+        final double[] values1 = {1, 2, 3};
+        final int[] values2 = {1, 2, 3};
+        for (final int[] range : new int[][] {{-1, 2}, {2, 1}, {0, 4}}) {
+            final int from = range[0];
+            final int to = range[1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values1, from, to, 0.1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.evaluateRange(values2, from, to, 0.1));
+        }
+    }
+
+    @Test
+    void testTrimmedMean() {
+        final TrimmedMean m = TrimmedMean.withDefaults();
+        Assertions.assertEquals(Double.NaN, m.evaluate(new double[0], 0.1));
+        Assertions.assertEquals(Double.NaN, m.evaluate(new int[0], 0.1));
+        Assertions.assertEquals(3, m.evaluate(new double[] {3}, 0.5));
+        Assertions.assertEquals(3, m.evaluate(new int[] {3}, 0.5));
+        // g = 1: {1, 2, 2, 3, 4, 5}
+        Assertions.assertEquals(17.0 / 6, m.evaluate(new double[] {5, 100, 1, 2, 3, 4, -50, 2}, 0.125));
+        Assertions.assertEquals(17.0 / 6, m.evaluate(new int[] {5, 100, 1, 2, 3, 4, -50, 2}, 0.125));
+        // g = 0
+        Assertions.assertEquals(2, m.evaluate(new double[] {1, 2, 3}, 0.3));
+        // p = 0.5 is the median
+        Assertions.assertEquals(2.5, m.evaluate(new double[] {4, 1, 3, 2}, 0.5));
+        Assertions.assertEquals(2.5, m.evaluate(new int[] {4, 1, 3, 2}, 0.5));
+        Assertions.assertEquals(3, m.evaluate(new int[] {5, 4, 1, 3, 2}, 0.5));
+    }
+
+    @Test
+    void testNaN() {
+        final double[] values = {Double.NaN, 1, 2, 3, 4, 5};
+        Assertions.assertEquals(3.5, TrimmedMean.withDefaults().evaluate(values.clone(), 0.2));
+        Assertions.assertEquals(Double.NaN, TrimmedMean.withDefaults().evaluate(values.clone(), 0.1));
+        Assertions.assertEquals(3, TrimmedMean.withDefaults().with(NaNPolicy.EXCLUDE).evaluate(values.clone(), 0.1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> TrimmedMean.withDefaults().with(NaNPolicy.ERROR).evaluate(values.clone(), 0.1));
+    }
+
+    @Test
+    void testWithCopy() {
+        final double[] x = {5, 4, 3, 2, 1, 0};
+        final int[] y = {5, 4, 3, 2, 1, 0};
+        final TrimmedMean m = TrimmedMean.withDefaults().withCopy(true);
+        Assertions.assertEquals(2.5, m.evaluate(x, 0.2));
+        Assertions.assertEquals(2.5, m.evaluate(y, 0.2));
+        Assertions.assertArrayEquals(new double[] {5, 4, 3, 2, 1, 0}, x);
+        Assertions.assertArrayEquals(new int[] {5, 4, 3, 2, 1, 0}, y);
+        Assertions.assertEquals(2.5, m.withCopy(false).evaluate(x, 0.2));
+        Assertions.assertFalse(Arrays.equals(new double[] {5, 4, 3, 2, 1, 0}, x));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 10, 51, 100, 1000})
+    void testRandom(int n) {
+        final UniformRandomProvider rng = TestHelper.createRNG();
+        final double[] x = rng.doubles(n, -10, 10).toArray();
+        final int[] y = rng.ints(n, -100, 100).toArray();
+        final double[] xs = x.clone();
+        final int[] ys = y.clone();
+        Arrays.sort(xs);
+        Arrays.sort(ys);
+        final TrimmedMean m = TrimmedMean.withDefaults();
+        for (final double p : new double[] {0, 0.05, 0.1, 0.25, 0.4, 0.5}) {
+            final int g = Math.min((int) (n * p), (n - 1) / 2);
+            Assertions.assertEquals(Mean.ofRange(xs, g, n - g).getAsDouble(), m.evaluate(x, p), 1e-14);
+            Assertions.assertEquals(IntMean.ofRange(ys, g, n - g).getAsDouble(), m.evaluate(y, p), 1e-14);
+            // Range
+            final double[] x2 = new double[n + 2];
+            System.arraycopy(x, 0, x2, 1, n);
+            Assertions.assertEquals(m.evaluate(x.clone(), p), m.evaluateRange(x2, 1, n + 1, p));
+            Assertions.assertEquals(0, x2[0]);
+            Assertions.assertEquals(0, x2[n + 1]);
+        }
+    }
+}
@@ -61,6 +61,25 @@ class UInt192Test {
         return builder.build();
     }
 
+    @ParameterizedTest
+    @MethodSource(value = "testAddSquareLong")
+    void testAddUnsignedProduct(long a, long b) {
+        final BigInteger x = IntMathTest.toUnsignedBigInteger(a);
+        final BigInteger y = IntMathTest.toUnsignedBigInteger(b);
+        final BigInteger expected = x.multiply(y).add(y.multiply(y)).add(x.multiply(x)).mod(TWO_POW_192);
+        final UInt192 v = UInt192.create();
+        v.addUnsignedProduct(a, b);
+        v.addUnsignedProduct(b, b);
+        v.addUnsignedProduct(a, a);
+        Assertions.assertEquals(expected, v.toBigInteger());
+        // Unsigned negative values
+        final UInt192 w = UInt192.create();
+        w.addUnsignedProduct(-a, b);
+        w.addUnsignedProduct(Long.MIN_VALUE, -b);
+        Assertions.assertEquals(IntMathTest.toUnsignedBigInteger(-a).multiply(y)
+            .add(IntMathTest.toUnsignedBigInteger(Long.MIN_VALUE).multiply(IntMathTest.toUnsignedBigInteger(-b))), w.toBigInteger());
+    }
+
     @ParameterizedTest
     @MethodSource
     void testAddSquareLongs(long[] a) {
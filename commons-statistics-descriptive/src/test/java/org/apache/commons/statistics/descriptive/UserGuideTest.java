@@ -189,4 +189,16 @@ class UserGuideTest {
         Assertions.assertEquals(50.0, q[1], 0.5);
         Assertions.assertEquals(75.0, q[2], 0.5);
     }
+
+    @Test
+    void testTDigest() {
+        TDigest t = new SplittableRandom(123)
+            .doubles(1000000, 0, 100)
+            .collect(TDigest::create, TDigest::accept, TDigest::combine);
+        double median = t.getAsDouble();
+        double[] q = t.getQuantiles(0.01, 0.99);
+        Assertions.assertEquals(50.0, median, 0.5);
+        Assertions.assertEquals(1.0, q[0], 0.1);
+        Assertions.assertEquals(99.0, q[1], 0.1);
+    }
 }
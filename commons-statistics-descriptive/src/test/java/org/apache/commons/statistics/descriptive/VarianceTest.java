@@ -44,6 +44,11 @@ final class VarianceTest extends BaseDoubleStatisticTest<Variance> {
         return Variance.of(values);
     }
 
+    @Override
+    protected Variance create(double[] values, int from, int to) {
+        return Variance.ofRange(values, from, to);
+    }
+
     @Override
     protected double getEmptyValue() {
         return Double.NaN;
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.statistics.descriptive;
+
+import java.util.Arrays;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for {@link WeightedMean}, {@link WeightedVariance}, {@link WeightedSkewness}
+ * and {@link WeightedKurtosis}.
+ */
+class WeightedStatisticsTest {
+    /** Relative error for a comparison with the unweighted statistic. */
+    private static final double EPS = 1e-12;
+
+    /**
+     * Define a weighted statistic and the corresponding unweighted statistic.
+     *
+     * @param name Name.
+     * @param biased Biased flag.
+     * @param weighted Factory for the weighted statistic.
+     * @param unweighted Factory for the unweighted statistic.
+     * @return the arguments
+     */
+    private static Arguments stat(String name, boolean biased,
+            BiFunction<double[], double[], WeightedDoubleStatistic> weighted,
+            Function<double[], DoubleStatistic> unweighted) {
+        return Arguments.of(name + " biased=" + biased, weighted, unweighted);
+    }
+
+    static Stream<Arguments> statistics() {
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        builder.add(stat("mean", false, WeightedMean::of, Mean::of));
+        for (final boolean biased : new boolean[] {false, true}) {
+            builder.add(stat("variance", biased,
+                (x, w) -> WeightedVariance.of(x, w).setBiased(biased),
+                x -> Variance.of(x).setBiased(biased)));
+            builder.add(stat("skewness", biased,
+                (x, w) -> WeightedSkewness.of(x, w).setBiased(biased),
+                x -> Skewness.of(x).setBiased(biased)));
+            builder.add(stat("kurtosis", biased,
+                (x, w) -> WeightedKurtosis.of(x, w).setBiased(biased),
+                x -> Kurtosis.of(x).setBiased(biased)));
+        }
+        return builder.build();
+    }
+
+    @Test
+    void testInvalidWeightsThrows() {
+        final double[] values = {1, 2, 3};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> WeightedMean.of(values, new double[2]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> WeightedVariance.of(values, new double[4]));
+        for (final double w : new double[] {-1, -0.5, Double.NaN, Double.POSITIVE_INFINITY}) {
+            final double[] weights = {1, w, 1};
+            Assertions.assertThrows(IllegalArgumentException.class, () -> WeightedMean.of(values, weights));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> WeightedVariance.of(values, weights));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> WeightedSkewness.of(values, weights));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> WeightedKurtosis.of(values, weights));
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        Assertions.assertEquals(Double.NaN, WeightedMean.create().getAsDouble());
+        Assertions.assertEquals(Double.NaN, WeightedVariance.create().getAsDouble());
+        Assertions.assertEquals(Double.NaN, WeightedSkewness.create().getAsDouble());
+        Assertions.assertEquals(Double.NaN, WeightedKurtosis.create().getAsDouble());
+        Assertions.assertEquals(0, WeightedMean.create().getSumOfWeights());
+        // Zero weights are ignored
+        final double[] values = {1, 2};
+        final double[] weights = {0, 0};
+        Assertions.assertEquals(Double.NaN, WeightedMean.of(values, weights).getAsDouble());
+        Assertions.assertEquals(Double.NaN, WeightedVariance.of(values, weights).getAsDouble());
+    }
+
+    @Test
+    void testFractionalWeights() {
+        final double[] values = {1, 2, 4};
+        final double[] weights = {0.25, 0.5, 0.25};
+        Assertions.assertEquals(2.25, WeightedMean.of(values, weights).getAsDouble());
+        Assertions.assertEquals(1, WeightedMean.of(values, weights).getSumOfWeights());
+        // Sum of weights <= 1: the unbiased variance is undefined
+        Assertions.assertEquals(0, WeightedVariance.of(values, weights).getAsDouble());
+        Assertions.assertEquals((1.5625 * 0.25 + 0.0625 * 0.5 + 3.0625 * 0.25),
+            WeightedVariance.of(values, weights).setBiased(true).getAsDouble(), 1e-15);
+        // Scaling the weights has no effect on the mean
+        Assertions.assertEquals(2.25, WeightedMean.of(values, new double[] {1e300, 2e300, 1e300}).getAsDouble());
+    }
+
+    @Test
+    void testNonFinite() {
+        final double[] w = {1, 2, 3};
+        Assertions.assertEquals(Double.POSITIVE_INFINITY,
+            WeightedMean.of(new double[] {1, Double.POSITIVE_INFINITY, 3}, w).getAsDouble());
+        Assertions.assertEquals(Double.NaN,
+            WeightedMean.of(new double[] {Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 3}, w).getAsDouble());
+        Assertions.assertEquals(Double.NaN,
+            WeightedVariance.of(new double[] {1, Double.POSITIVE_INFINITY, 3}, w).getAsDouble());
+        Assertions.assertEquals(Double.NaN,
+            WeightedKurtosis.of(new double[] {1, Double.NaN, 3, 4, 5}, new double[] {1, 2, 3, 4, 5}).getAsDouble());
+        // No overflow of the mean for finite values
+        Assertions.assertEquals(Double.MAX_VALUE,
+            WeightedMean.of(new double[] {Double.MAX_VALUE, Double.MAX_VALUE}, new double[] {1, 2}).getAsDouble());
+    }
+
+    /**
+     * Test the weighted statistic with integer weights is the same as the statistic
+     * of the values repeated by their weight.
+     */
+    @ParameterizedTest
+    @MethodSource(value = "statistics")
+    void testIntegerWeights(String name,
+            BiFunction<double[], double[], WeightedDoubleStatistic> weighted,
+            Function<double[], DoubleStatistic> unweighted) {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        for (final int n : new int[] {1, 2, 3, 5, 20, 100}) {
+            final double[] values = rng.doubles(n, -3, 7).toArray();
+            final double[] weights = rng.ints(n, 0, 5).asDoubleStream().toArray();
+            final double[] expanded = IntStream.range(0, n)
+                .flatMap(i -> IntStream.range(0, (int) weights[i]).map(j -> i))
+                .mapToDouble(i -> values[i]).toArray();
+            final double expected = unweighted.apply(expanded).getAsDouble();
+            final double actual = weighted.apply(values, weights).getAsDouble();
+            if (Double.isNaN(expected)) {
+                Assertions.assertEquals(expected, actual, () -> name + " n=" + n);
+            } else {
+                Assertions.assertEquals(expected, actual, Math.abs(expected) * EPS + 1e-12,
+                    () -> name + " n=" + n);
+            }
+        }
+    }
+
+    /**
+     * Test the unit weighted statistic is the same as the unweighted statistic.
+     */
+    @ParameterizedTest
+    @MethodSource(value = "statistics")
+    void testUnitWeights(String name,
+            BiFunction<double[], double[], WeightedDoubleStatistic> weighted,
+            Function<double[], DoubleStatistic> unweighted) {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final double[] values = rng.doubles(50).map(x -> x * x * 1e10).toArray();
+        final double[] weights = new double[values.length];
+        Arrays.fill(weights, 1);
+        final double expected = unweighted.apply(values).getAsDouble();
+        Assertions.assertEquals(expected, weighted.apply(values, weights).getAsDouble(),
+            Math.abs(expected) * EPS, name);
+    }
+
+    @Test
+    void testCombine() {
+        final UniformRandomProvider rng = RandomSource.XO_SHI_RO_128_PP.create();
+        final double[] values = rng.doubles(60, -2, 5).toArray();
+        final double[] weights = rng.doubles(60, 0, 3).toArray();
+        final double[][] x = {Arrays.copyOf(values, 25), Arrays.copyOfRange(values, 25, 60)};
+        final double[][] w = {Arrays.copyOf(weights, 25), Arrays.copyOfRange(weights, 25, 60)};
+        assertCombine(WeightedMean.of(values, weights), WeightedMean.of(x[0], w[0]).combine(WeightedMean.of(x[1], w[1])));
+        assertCombine(WeightedVariance.of(values, weights),
+            WeightedVariance.of(x[0], w[0]).combine(WeightedVariance.of(x[1], w[1])));
+        assertCombine(WeightedSkewness.of(values, weights),
+            WeightedSkewness.of(x[0], w[0]).combine(WeightedSkewness.of(x[1], w[1])));
+        assertCombine(WeightedKurtosis.of(values, weights),
+            WeightedKurtosis.of(x[0], w[0]).combine(WeightedKurtosis.of(x[1], w[1])));
+        // Combine with empty
+        assertCombine(WeightedKurtosis.of(values, weights),
+            WeightedKurtosis.create().combine(WeightedKurtosis.of(values, weights)));
+        assertCombine(WeightedKurtosis.of(values, weights),
+            WeightedKurtosis.of(values, weights).combine(WeightedKurtosis.create()));
+    }
+
+    /**
+     * Assert the statistics are equal to within a relative tolerance.
+     *
+     * @param expected Expected.
+     * @param actual Actual.
+     */
+    private static void assertCombine(StatisticResult expected, StatisticResult actual) {
+        final double e = expected.getAsDouble();
+        Assertions.assertEquals(e, actual.getAsDouble(), Math.abs(e) * EPS);
+    }
+}